@@ -239,6 +239,54 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The execution time above which search queries are logged at the WARN level
+	 * in the "org.hibernate.search.query.slow" log category.
+	 * <p>
+	 * Expects a positive or zero Long value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to no value, meaning slow queries are never logged at the WARN level.
+	 */
+	public static final String QUERY_SLOW_LOG_WARN_THRESHOLD = "query.slow_log.warn_threshold";
+
+	/**
+	 * The execution time above which search queries are logged at the INFO level
+	 * in the "org.hibernate.search.query.slow" log category.
+	 * <p>
+	 * Queries exceeding the {@link #QUERY_SLOW_LOG_WARN_THRESHOLD warn threshold} are only logged at the WARN level.
+	 * <p>
+	 * Expects a positive or zero Long value in milliseconds, such as {@code 200},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to no value, meaning slow queries are never logged at the INFO level.
+	 */
+	public static final String QUERY_SLOW_LOG_INFO_THRESHOLD = "query.slow_log.info_threshold";
+
+	/**
+	 * The proportion of slow queries that are actually logged.
+	 * <p>
+	 * Useful to limit the volume of logs when many queries exceed the thresholds.
+	 * <p>
+	 * Expects a Double value between 0 and 1, inclusive, such as {@code 0.1},
+	 * or a String that can be parsed into such Double value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_SLOW_LOG_SAMPLING_RATE}.
+	 */
+	public static final String QUERY_SLOW_LOG_SAMPLING_RATE = "query.slow_log.sampling_rate";
+
+	/**
+	 * The maximum length of queries rendered in the slow query log.
+	 * <p>
+	 * Longer queries are truncated.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_SLOW_LOG_MAX_QUERY_LENGTH}.
+	 */
+	public static final String QUERY_SLOW_LOG_MAX_QUERY_LENGTH = "query.slow_log.max_query_length";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -260,5 +308,7 @@ private Defaults() {
 		public static final boolean VERSION_CHECK_ENABLED = true;
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
 		public static final TypeNameMappingStrategyName MAPPING_TYPE_NAME_STRATEGY = TypeNameMappingStrategyName.DISCRIMINATOR;
+		public static final double QUERY_SLOW_LOG_SAMPLING_RATE = 1.0;
+		public static final int QUERY_SLOW_LOG_MAX_QUERY_LENGTH = 1000;
 	}
 }
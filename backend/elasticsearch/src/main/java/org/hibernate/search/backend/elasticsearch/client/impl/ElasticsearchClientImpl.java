@@ -76,11 +76,11 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	@Override
 	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
+		long startTime = System.nanoTime();
 		CompletableFuture<ElasticsearchResponse> result = Futures.create( () -> send( request ) )
-				.thenApply( this::convertResponse );
+				.thenApply( response -> convertResponse( response, startTime ) );
 		if ( requestLog.isDebugEnabled() ) {
-			long startTime = System.nanoTime();
-			result.thenAccept( response -> log( request, startTime, response ) );
+			result.thenAccept( response -> log( request, response ) );
 		}
 		return result;
 	}
@@ -169,13 +169,14 @@ private static Request toRequest(ElasticsearchRequest elasticsearchRequest, Http
 		return request;
 	}
 
-	private ElasticsearchResponse convertResponse(Response response) {
+	private ElasticsearchResponse convertResponse(Response response, long startTime) {
 		try {
 			JsonObject body = parseBody( response );
 			return new ElasticsearchResponse(
 					response.getStatusLine().getStatusCode(),
 					response.getStatusLine().getReasonPhrase(),
-					body );
+					body,
+					Duration.ofNanos( System.nanoTime() - startTime ) );
 		}
 		catch (IOException | RuntimeException e) {
 			throw log.failedToParseElasticsearchResponse(
@@ -204,9 +205,8 @@ private static Charset getCharset(HttpEntity entity) {
 		return charset != null ? charset : StandardCharsets.UTF_8;
 	}
 
-	private void log(ElasticsearchRequest request, long start, ElasticsearchResponse response) {
-		long executionTimeNs = System.nanoTime() - start;
-		long executionTimeMs = TimeUnit.NANOSECONDS.toMillis( executionTimeNs );
+	private void log(ElasticsearchRequest request, ElasticsearchResponse response) {
+		long executionTimeMs = response.getExecutionTime().toMillis();
 		if ( requestLog.isTraceEnabled() ) {
 			requestLog.executedRequest( request.getMethod(), request.getPath(), request.getParameters(),
 					request.getBodyParts().size(), executionTimeMs,
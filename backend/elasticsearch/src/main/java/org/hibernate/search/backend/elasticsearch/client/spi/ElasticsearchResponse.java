@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.spi;
 
+import java.time.Duration;
+
 import com.google.gson.JsonObject;
 
 
@@ -17,11 +19,18 @@ public final class ElasticsearchResponse {
 
 	private final JsonObject body;
 
+	private final Duration executionTime;
+
 	public ElasticsearchResponse(int statusCode, String statusMessage, JsonObject body) {
+		this( statusCode, statusMessage, body, null );
+	}
+
+	public ElasticsearchResponse(int statusCode, String statusMessage, JsonObject body, Duration executionTime) {
 		super();
 		this.statusCode = statusCode;
 		this.statusMessage = statusMessage;
 		this.body = body;
+		this.executionTime = executionTime;
 	}
 
 	public int getStatusCode() {
@@ -36,4 +45,12 @@ public JsonObject getBody() {
 		return body;
 	}
 
+	/**
+	 * @return The time elapsed between sending the request and parsing the response,
+	 * or {@code null} if unknown.
+	 */
+	public Duration getExecutionTime() {
+		return executionTime;
+	}
+
 }
@@ -42,6 +42,7 @@
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
+import org.hibernate.search.engine.search.query.spi.SearchSlowQueryLog;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -100,6 +101,28 @@ public class ElasticsearchBackendFactory implements BackendFactory {
 					.withDefault( BeanReference.of( DefaultIndexLayoutStrategy.class ) )
 					.build();
 
+	private static final OptionalConfigurationProperty<Long> QUERY_SLOW_LOG_WARN_THRESHOLD =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.QUERY_SLOW_LOG_WARN_THRESHOLD )
+					.asLong()
+					.build();
+
+	private static final OptionalConfigurationProperty<Long> QUERY_SLOW_LOG_INFO_THRESHOLD =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.QUERY_SLOW_LOG_INFO_THRESHOLD )
+					.asLong()
+					.build();
+
+	private static final ConfigurationProperty<Double> QUERY_SLOW_LOG_SAMPLING_RATE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.QUERY_SLOW_LOG_SAMPLING_RATE )
+					.as( Double.class, Double::valueOf )
+					.withDefault( ElasticsearchBackendSettings.Defaults.QUERY_SLOW_LOG_SAMPLING_RATE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_SLOW_LOG_MAX_QUERY_LENGTH =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.QUERY_SLOW_LOG_MAX_QUERY_LENGTH )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.QUERY_SLOW_LOG_MAX_QUERY_LENGTH )
+					.build();
+
 	@Override
 	public BackendImplementor create(String name, BackendBuildContext buildContext, ConfigurationPropertySource propertySource) {
 		boolean logPrettyPrinting = LOG_JSON_PRETTY_PRINTING.get( propertySource );
@@ -163,6 +186,7 @@ public BackendImplementor create(String name, BackendBuildContext buildContext,
 					getMultiTenancyStrategy( name, propertySource ),
 					indexLayoutStrategyHolder,
 					createTypeNameMapping( name, propertySource, indexLayoutStrategyHolder.get() ),
+					getSlowQueryLog( propertySource ),
 					buildContext.getFailureHandler()
 			);
 		}
@@ -176,6 +200,15 @@ public BackendImplementor create(String name, BackendBuildContext buildContext,
 		}
 	}
 
+	private SearchSlowQueryLog getSlowQueryLog(ConfigurationPropertySource propertySource) {
+		return new SearchSlowQueryLog(
+				QUERY_SLOW_LOG_WARN_THRESHOLD.get( propertySource ).orElse( null ),
+				QUERY_SLOW_LOG_INFO_THRESHOLD.get( propertySource ).orElse( null ),
+				QUERY_SLOW_LOG_SAMPLING_RATE.get( propertySource ),
+				QUERY_SLOW_LOG_MAX_QUERY_LENGTH.get( propertySource )
+		);
+	}
+
 	private boolean getVersionCheckEnabled(ConfigurationPropertySource propertySource) {
 		Optional<ElasticsearchVersion> configuredVersionOptional = VERSION.get( propertySource );
 		boolean versionCheckEnabled = VERSION_CHECK_ENABLED.get( propertySource );
@@ -36,6 +36,7 @@
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.query.spi.SearchSlowQueryLog;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -76,6 +77,7 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 			MultiTenancyStrategy multiTenancyStrategy,
 			BeanHolder<? extends IndexLayoutStrategy> indexLayoutStrategyHolder,
 			TypeNameMapping typeNameMapping,
+			SearchSlowQueryLog slowQueryLog,
 			FailureHandler failureHandler) {
 		this.name = name;
 		this.threads = threads;
@@ -99,6 +101,7 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 				indexLayoutStrategyHolder.get(),
 				typeNameMapping,
 				failureHandler,
+				slowQueryLog,
 				generalPurposeOrchestrator
 		);
 		this.indexNamesRegistry = new IndexNamesRegistry();
@@ -23,6 +23,7 @@
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionBackendContext;
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchMultiQueryExecutor;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchQueryBuilder;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.elasticsearch.work.execution.impl.ElasticsearchIndexIndexer;
@@ -40,6 +41,7 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
+import org.hibernate.search.engine.search.query.spi.SearchSlowQueryLog;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import com.google.gson.Gson;
@@ -53,7 +55,9 @@ public class IndexManagerBackendContext implements SearchBackendContext, WorkExe
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final IndexLayoutStrategy indexLayoutStrategy;
 	private final FailureHandler failureHandler;
+	private final SearchSlowQueryLog slowQueryLog;
 	private final ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator;
+	private final ElasticsearchSearchMultiQueryExecutor multiQueryExecutor;
 
 	private final SearchProjectionBackendContext searchProjectionBackendContext;
 
@@ -63,6 +67,7 @@ public IndexManagerBackendContext(EventContext eventContext,
 			IndexLayoutStrategy indexLayoutStrategy,
 			TypeNameMapping typeNameMapping,
 			FailureHandler failureHandler,
+			SearchSlowQueryLog slowQueryLog,
 			ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator) {
 		this.eventContext = eventContext;
 		this.threads = threads;
@@ -71,7 +76,9 @@ public IndexManagerBackendContext(EventContext eventContext,
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.indexLayoutStrategy = indexLayoutStrategy;
 		this.failureHandler = failureHandler;
+		this.slowQueryLog = slowQueryLog;
 		this.generalPurposeOrchestrator = generalPurposeOrchestrator;
+		this.multiQueryExecutor = new ElasticsearchSearchMultiQueryExecutor( link, generalPurposeOrchestrator );
 
 		this.searchProjectionBackendContext = new SearchProjectionBackendContext(
 				typeNameMapping.getTypeNameExtractionHelper(),
@@ -135,6 +142,7 @@ public ElasticsearchSearchContext createSearchContext(BackendMappingContext mapp
 				mappingContext,
 				userFacingGson, link.getSearchSyntax(),
 				multiTenancyStrategy,
+				slowQueryLog,
 				scopeModel
 		);
 	}
@@ -148,7 +156,7 @@ public <H> ElasticsearchSearchQueryBuilder<H> createSearchQueryBuilder(
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 		return new ElasticsearchSearchQueryBuilder<>(
 				link.getWorkBuilderFactory(), link.getSearchResultExtractorFactory(),
-				generalPurposeOrchestrator,
+				generalPurposeOrchestrator, multiQueryExecutor,
 				searchContext, sessionContext, loadingContextBuilder, rootProjection
 		);
 	}
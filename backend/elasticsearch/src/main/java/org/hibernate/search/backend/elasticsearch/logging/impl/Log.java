@@ -651,4 +651,8 @@ SearchException elasticsearchIndexNameAndAliasesMatchMultipleIndexes(URLEncodedS
 	@Message(id = ID_OFFSET_3 + 103,
 			value = "Cannot compute the sum for a distance sort. Only min, max, avg and median are supported.")
 	SearchException cannotComputeSumForDistanceSort(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 104,
+			value = "Elasticsearch multi-search request failed for one of the queries.\nQuery: %1$s\nResponse: %2$s")
+	SearchException elasticsearchMultiSearchItemFailed(JsonObject query, JsonObject response);
 }
@@ -18,6 +18,7 @@
 import org.hibernate.search.engine.backend.types.converter.runtime.spi.ToDocumentFieldValueConvertContextImpl;
 import org.hibernate.search.engine.backend.types.converter.runtime.spi.ToDocumentIdentifierValueConvertContextImpl;
 import org.hibernate.search.engine.backend.mapping.spi.BackendMappingContext;
+import org.hibernate.search.engine.search.query.spi.SearchSlowQueryLog;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
@@ -32,6 +33,7 @@ public final class ElasticsearchSearchContext {
 	private final Gson userFacingGson;
 	private final ElasticsearchSearchSyntax searchSyntax;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final SearchSlowQueryLog slowQueryLog;
 
 	// Targeted indexes
 	private final ElasticsearchScopeModel scopeModel;
@@ -39,12 +41,14 @@ public final class ElasticsearchSearchContext {
 	public ElasticsearchSearchContext(BackendMappingContext mappingContext,
 			Gson userFacingGson, ElasticsearchSearchSyntax searchSyntax,
 			MultiTenancyStrategy multiTenancyStrategy,
+			SearchSlowQueryLog slowQueryLog,
 			ElasticsearchScopeModel scopeModel) {
 		this.toDocumentIdentifierValueConvertContext = new ToDocumentIdentifierValueConvertContextImpl( mappingContext );
 		this.toDocumentFieldValueConvertContext = new ToDocumentFieldValueConvertContextImpl( mappingContext );
 		this.userFacingGson = userFacingGson;
 		this.searchSyntax = searchSyntax;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.slowQueryLog = slowQueryLog;
 		this.scopeModel = scopeModel;
 	}
 
@@ -64,6 +68,10 @@ public ElasticsearchSearchSyntax getSearchSyntax() {
 		return searchSyntax;
 	}
 
+	public SearchSlowQueryLog getSlowQueryLog() {
+		return slowQueryLog;
+	}
+
 	public String toElasticsearchId(String tenantId, String id) {
 		return multiTenancyStrategy.toElasticsearchId( tenantId, id );
 	}
@@ -21,6 +21,7 @@
  * Compared to ES7:
  * <ul>
  *     <li>The total hit count is retrieved from hits.total instead of hits.total.value</li>
+ *     <li>The total hit count is always exact</li>
  * </ul>
  */
 class Elasticsearch56SearchResultExtractor<H> extends Elasticsearch7SearchResultExtractor<H> {
@@ -40,4 +41,9 @@ protected long extractHitCount(JsonObject responseBody) {
 		return HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
 	}
 
+	@Override
+	protected boolean extractHitCountExact(JsonObject responseBody) {
+		return true;
+	}
+
 }
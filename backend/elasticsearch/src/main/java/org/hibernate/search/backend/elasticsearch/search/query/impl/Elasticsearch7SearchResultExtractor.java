@@ -20,6 +20,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchProfile;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -36,6 +37,11 @@
 	private static final JsonAccessor<Long> HITS_TOTAL_ACCESSOR =
 			HITS_ACCESSOR.property( "total" ).property( "value" ).asLong();
 
+	private static final JsonAccessor<String> HITS_TOTAL_RELATION_ACCESSOR =
+			HITS_ACCESSOR.property( "total" ).property( "relation" ).asString();
+
+	private static final String HITS_TOTAL_RELATION_EXACT = "eq";
+
 	private static final JsonObjectAccessor AGGREGATIONS_ACCESSOR =
 			JsonAccessor.root().property( "aggregations" ).asObject();
 
@@ -65,13 +71,25 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody) {
 				responseBody
 		);
 
+		SimpleSearchProfile.Builder profileBuilder = ElasticsearchSearchProfileExtractor.extract( responseBody );
+		if ( profileBuilder != null ) {
+			profileBuilder.startPhase();
+		}
+
 		long hitCount = extractHitCount( responseBody );
+		boolean hitCountExact = extractHitCountExact( responseBody );
 
 		final List<Object> extractedHits = hitCount > 0 ?
 				extractHits( extractContext ) : Collections.emptyList();
+		if ( profileBuilder != null ) {
+			profileBuilder.endPhase( ElasticsearchSearchProfileExtractor.PHASE_HIT_EXTRACTION );
+		}
 
 		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
 				Collections.emptyMap() : extractAggregations( extractContext, responseBody );
+		if ( profileBuilder != null && !aggregations.isEmpty() ) {
+			profileBuilder.endPhase( ElasticsearchSearchProfileExtractor.PHASE_AGGREGATION_EXTRACTION );
+		}
 
 		Integer took = TOOK_ACCESSOR.get( responseBody ).get();
 		Boolean timedOut = TIMED_OUT_ACCESSOR.get( responseBody ).get();
@@ -79,10 +97,11 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody) {
 		return new ElasticsearchLoadableSearchResult<>(
 				extractContext,
 				rootProjection,
-				hitCount,
+				hitCount, hitCountExact,
 				extractedHits,
 				extractedAggregations,
-				took, timedOut
+				took, timedOut,
+				profileBuilder
 		);
 	}
 
@@ -90,6 +109,11 @@ protected long extractHitCount(JsonObject responseBody) {
 		return HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
 	}
 
+	protected boolean extractHitCountExact(JsonObject responseBody) {
+		// "gte" means Elasticsearch stopped counting hits after reaching "track_total_hits"
+		return HITS_TOTAL_RELATION_ACCESSOR.get( responseBody ).map( HITS_TOTAL_RELATION_EXACT::equals ).orElse( true );
+	}
+
 	private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractContext) {
 		JsonObject responseBody = extractContext.getResponseBody();
 		ProjectionHitMapper<?, ?> hitMapper = extractContext.getProjectionHitMapper();
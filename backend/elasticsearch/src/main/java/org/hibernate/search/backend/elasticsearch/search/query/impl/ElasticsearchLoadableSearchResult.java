@@ -17,6 +17,7 @@
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchProfile;
 
 /**
  * A search result from the backend that offers a method to load data from the mapper.
@@ -34,27 +35,35 @@
 	private final ElasticsearchSearchProjection<?, H> rootProjection;
 
 	private final long hitCount;
+	private final boolean hitCountExact;
 	private List<Object> extractedHits;
 	private final Map<AggregationKey<?>, ?> extractedAggregations;
 	private final Integer took;
 	private final Boolean timedOut;
+	private final SimpleSearchProfile.Builder profileBuilder;
 
 	ElasticsearchLoadableSearchResult(ElasticsearchSearchQueryExtractContext extractContext,
 			ElasticsearchSearchProjection<?, H> rootProjection,
-			long hitCount,
+			long hitCount, boolean hitCountExact,
 			List<Object> extractedHits,
 			Map<AggregationKey<?>, ?> extractedAggregations,
-			Integer took, Boolean timedOut) {
+			Integer took, Boolean timedOut, SimpleSearchProfile.Builder profileBuilder) {
 		this.extractContext = extractContext;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
+		this.hitCountExact = hitCountExact;
 		this.extractedHits = extractedHits;
 		this.extractedAggregations = extractedAggregations;
 		this.took = took;
 		this.timedOut = timedOut;
+		this.profileBuilder = profileBuilder;
 	}
 
 	ElasticsearchSearchResult<H> loadBlocking() {
+		if ( profileBuilder != null ) {
+			profileBuilder.startPhase();
+		}
+
 		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
 
 		LoadingResult<?> loadingResult = extractContext.getProjectionHitMapper().loadBlocking();
@@ -88,9 +97,15 @@ ElasticsearchSearchResult<H> loadBlocking() {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedHits = null;
 
+		SimpleSearchProfile profile = null;
+		if ( profileBuilder != null ) {
+			profileBuilder.endPhase( ElasticsearchSearchProfileExtractor.PHASE_LOADING );
+			profile = profileBuilder.build();
+		}
+
 		return new ElasticsearchSearchResultImpl<>(
 				extractContext.getResponseBody(),
-				hitCount, loadedHits, extractedAggregations
-		, took, timedOut );
+				hitCount, hitCountExact, loadedHits, extractedAggregations
+		, took, timedOut, profile );
 	}
 }
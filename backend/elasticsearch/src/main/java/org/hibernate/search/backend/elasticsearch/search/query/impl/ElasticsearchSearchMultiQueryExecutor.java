@@ -0,0 +1,62 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.spi.SearchMultiQueryElement;
+import org.hibernate.search.engine.search.query.spi.SearchMultiQueryExecutor;
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * Executes multiple queries targeting the same backend in a single multi-search request.
+ */
+public class ElasticsearchSearchMultiQueryExecutor implements SearchMultiQueryExecutor {
+
+	private final ElasticsearchLink link;
+	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+
+	public ElasticsearchSearchMultiQueryExecutor(ElasticsearchLink link,
+			ElasticsearchParallelWorkOrchestrator queryOrchestrator) {
+		this.link = link;
+		this.queryOrchestrator = queryOrchestrator;
+	}
+
+	@Override
+	public List<SearchResult<?>> fetch(List<SearchMultiQueryElement> elements) {
+		if ( elements.size() == 1 ) {
+			// No need for a multi-search request
+			SearchMultiQueryElement element = elements.get( 0 );
+			return Collections.singletonList( element.getQuery().fetch( element.getOffset(), element.getLimit() ) );
+		}
+
+		List<SearchWork<? extends ElasticsearchLoadableSearchResult<?>>> works = new ArrayList<>( elements.size() );
+		for ( SearchMultiQueryElement element : elements ) {
+			ElasticsearchSearchQueryImpl<?> query = (ElasticsearchSearchQueryImpl<?>) element.getQuery();
+			works.add( query.createSearchWork( element.getOffset(), element.getLimit() ) );
+		}
+
+		NonBulkableWork<MultiSearchResult> work = link.getWorkBuilderFactory().multiSearch( works ).build();
+		MultiSearchResult multiSearchResult = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+
+		List<SearchResult<?>> results = new ArrayList<>( works.size() );
+		for ( int i = 0; i < works.size(); i++ ) {
+			// WARNING: loading must run in the user thread.
+			results.add( multiSearchResult.extract( works.get( i ), i ).loadBlocking() );
+		}
+		return results;
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.time.Duration;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchProfile;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Maps the "profile" section of an Elasticsearch search response to search phases.
+ * <p>
+ * Elasticsearch reports timings per shard: timings of all shards are added up,
+ * so the reported durations are the total time spent in each phase across shards,
+ * which may be larger than the time the query took if shards were searched in parallel.
+ */
+final class ElasticsearchSearchProfileExtractor {
+
+	static final String PHASE_QUERY_REWRITE = "query_rewrite";
+	static final String PHASE_QUERY = "query";
+	static final String PHASE_COLLECTION = "collection";
+	static final String PHASE_AGGREGATION = "aggregation";
+	static final String PHASE_HIT_EXTRACTION = "hit_extraction";
+	static final String PHASE_AGGREGATION_EXTRACTION = "aggregation_extraction";
+	static final String PHASE_LOADING = "loading";
+
+	private static final JsonAccessor<JsonArray> PROFILE_SHARDS_ACCESSOR =
+			JsonAccessor.root().property( "profile" ).property( "shards" ).asArray();
+
+	private static final JsonAccessor<JsonArray> SHARD_SEARCHES_ACCESSOR =
+			JsonAccessor.root().property( "searches" ).asArray();
+
+	private static final JsonAccessor<JsonArray> SHARD_AGGREGATIONS_ACCESSOR =
+			JsonAccessor.root().property( "aggregations" ).asArray();
+
+	private static final JsonAccessor<Long> SEARCH_REWRITE_TIME_ACCESSOR =
+			JsonAccessor.root().property( "rewrite_time" ).asLong();
+
+	private static final JsonAccessor<JsonArray> SEARCH_QUERY_ACCESSOR =
+			JsonAccessor.root().property( "query" ).asArray();
+
+	private static final JsonAccessor<JsonArray> SEARCH_COLLECTOR_ACCESSOR =
+			JsonAccessor.root().property( "collector" ).asArray();
+
+	private static final JsonAccessor<Long> TIME_IN_NANOS_ACCESSOR =
+			JsonAccessor.root().property( "time_in_nanos" ).asLong();
+
+	private ElasticsearchSearchProfileExtractor() {
+	}
+
+	/**
+	 * @param responseBody The body of a search response.
+	 * @return A profile builder initialized with the timings reported by Elasticsearch,
+	 * or {@code null} if the response does not include a profile.
+	 */
+	static SimpleSearchProfile.Builder extract(JsonObject responseBody) {
+		JsonArray shards = PROFILE_SHARDS_ACCESSOR.get( responseBody ).orElse( null );
+		if ( shards == null ) {
+			return null;
+		}
+
+		long rewriteNanos = 0L;
+		long queryNanos = 0L;
+		long collectionNanos = 0L;
+		long aggregationNanos = 0L;
+		boolean hasAggregations = false;
+		for ( JsonElement shard : shards ) {
+			JsonObject shardObject = shard.getAsJsonObject();
+			for ( JsonElement search : SHARD_SEARCHES_ACCESSOR.get( shardObject ).orElseGet( JsonArray::new ) ) {
+				JsonObject searchObject = search.getAsJsonObject();
+				rewriteNanos += SEARCH_REWRITE_TIME_ACCESSOR.get( searchObject ).orElse( 0L );
+				queryNanos += sumTopLevelTimes( SEARCH_QUERY_ACCESSOR.get( searchObject ).orElse( null ) );
+				collectionNanos += sumTopLevelTimes( SEARCH_COLLECTOR_ACCESSOR.get( searchObject ).orElse( null ) );
+			}
+			JsonArray aggregations = SHARD_AGGREGATIONS_ACCESSOR.get( shardObject ).orElse( null );
+			if ( aggregations != null && aggregations.size() > 0 ) {
+				hasAggregations = true;
+				aggregationNanos += sumTopLevelTimes( aggregations );
+			}
+		}
+
+		SimpleSearchProfile.Builder builder = new SimpleSearchProfile.Builder();
+		builder.addPhase( PHASE_QUERY_REWRITE, Duration.ofNanos( rewriteNanos ) );
+		builder.addPhase( PHASE_QUERY, Duration.ofNanos( queryNanos ) );
+		builder.addPhase( PHASE_COLLECTION, Duration.ofNanos( collectionNanos ) );
+		if ( hasAggregations ) {
+			builder.addPhase( PHASE_AGGREGATION, Duration.ofNanos( aggregationNanos ) );
+		}
+		return builder;
+	}
+
+	private static long sumTopLevelTimes(JsonArray nodes) {
+		if ( nodes == null ) {
+			return 0L;
+		}
+		// Children's timings are already included in their parent's timing: only consider top-level nodes.
+		long sum = 0L;
+		for ( JsonElement node : nodes ) {
+			sum += TIME_IN_NANOS_ACCESSOR.get( node.getAsJsonObject() ).orElse( 0L );
+		}
+		return sum;
+	}
+
+}
@@ -54,6 +54,7 @@
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchSearchMultiQueryExecutor multiQueryExecutor;
 
 	private final ElasticsearchSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
@@ -70,12 +71,15 @@
 	private Long timeoutValue;
 	private TimeUnit timeoutUnit;
 	private boolean exceptionOnTimeout;
+	private Long totalHitCountThreshold;
+	private boolean profile;
 	private ElasticsearchSearchRequestTransformer requestTransformer;
 
 	public ElasticsearchSearchQueryBuilder(
 			ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory,
 			ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			ElasticsearchSearchMultiQueryExecutor multiQueryExecutor,
 			ElasticsearchSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContextBuilder<?, ?, ?> loadingContextBuilder,
@@ -83,6 +87,7 @@ public ElasticsearchSearchQueryBuilder(
 		this.workFactory = workFactory;
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.multiQueryExecutor = multiQueryExecutor;
 
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
@@ -119,6 +124,16 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 		this.exceptionOnTimeout = true;
 	}
 
+	@Override
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		this.totalHitCountThreshold = totalHitCountThreshold;
+	}
+
+	@Override
+	public void profile() {
+		this.profile = true;
+	}
+
 	@Override
 	public ElasticsearchSearchPredicateContext getRootPredicateContext() {
 		return rootPredicateContext;
@@ -205,6 +220,10 @@ public ElasticsearchSearchQuery<H> build() {
 			payload.add( "aggregations", jsonAggregations );
 		}
 
+		if ( profile ) {
+			payload.addProperty( "profile", true );
+		}
+
 		if ( !REQUEST_SOURCE_ACCESSOR.get( payload ).isPresent() ) {
 			REQUEST_SOURCE_ACCESSOR.set( payload, new JsonPrimitive( Boolean.FALSE ) );
 		}
@@ -220,8 +239,9 @@ public ElasticsearchSearchQuery<H> build() {
 				workFactory, queryOrchestrator,
 				searchContext, sessionContext, loadingContext, routingKeys,
 				payload, requestTransformer,
-				searchResultExtractor,
-				timeoutValue, timeoutUnit, exceptionOnTimeout
+				rootProjection, searchResultExtractor, multiQueryExecutor,
+				timeoutValue, timeoutUnit, exceptionOnTimeout,
+				totalHitCountThreshold
 		);
 	}
 }
@@ -10,6 +10,8 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
@@ -17,17 +19,21 @@
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.ExplainResult;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchMultiQueryExecutor;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
@@ -56,7 +62,10 @@
 	private final Set<String> routingKeys;
 	private final JsonObject payload;
 	private final ElasticsearchSearchRequestTransformer requestTransformer;
+	private final ElasticsearchSearchProjection<?, H> rootProjection;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
+	private final ElasticsearchSearchMultiQueryExecutor multiQueryExecutor;
+	private final Long totalHitCountThreshold;
 
 	private Long timeoutValue;
 	private TimeUnit timeoutUnit;
@@ -70,8 +79,11 @@
 			Set<String> routingKeys,
 			JsonObject payload,
 			ElasticsearchSearchRequestTransformer requestTransformer,
+			ElasticsearchSearchProjection<?, H> rootProjection,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
-			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout) {
+			ElasticsearchSearchMultiQueryExecutor multiQueryExecutor,
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout,
+			Long totalHitCountThreshold) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.searchContext = searchContext;
@@ -80,10 +92,13 @@
 		this.routingKeys = routingKeys;
 		this.payload = payload;
 		this.requestTransformer = requestTransformer;
+		this.rootProjection = rootProjection;
 		this.searchResultExtractor = searchResultExtractor;
+		this.multiQueryExecutor = multiQueryExecutor;
 		this.timeoutValue = timeoutValue;
 		this.timeoutUnit = timeoutUnit;
 		this.exceptionOnTimeout = exceptionOnTimeout;
+		this.totalHitCountThreshold = totalHitCountThreshold;
 	}
 
 	@Override
@@ -106,44 +121,34 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 	@Override
 	public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
 		// TODO restore scrolling support. See HSEARCH-3323
-		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = workFactory.search( payload, searchResultExtractor )
-				.indexes( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
-				.paging( defaultedLimit( limit, offset ), offset )
-				.routingKeys( routingKeys )
-				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
-				.requestTransformer(
-						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
-				)
-				.build();
-
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) )
+		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( createSearchWork( offset, limit ) ) )
 				/*
 				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * Use fetchAsync() for asynchronous loading.
 				 */
 				.loadBlocking();
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		// Retrieve the executor first: the mapper may refuse asynchronous loading.
+		Executor loadingExecutor = loadingContext.getLoadingExecutor();
+		return queryOrchestrator.submit( createSearchWork( offset, limit ) )
+				/*
+				 * Do not load in the thread that completed the work:
+				 * loading may block, for example on database accesses.
+				 */
+				.thenApplyAsync( ElasticsearchLoadableSearchResult::loadBlocking, loadingExecutor );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
-		JsonObject filteredPayload = new JsonObject();
-		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
-		if ( querySubTree.isPresent() ) {
-			filteredPayload.add( "query", querySubTree.get() );
-		}
+		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( createCountWork() ) );
+	}
 
-		NonBulkableWork<Long> work = workFactory.count( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
-				.query( filteredPayload )
-				.routingKeys( routingKeys )
-				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
-				.requestTransformer(
-						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
-				)
-				.build();
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return queryOrchestrator.submit( createCountWork() );
 	}
 
 	@Override
@@ -172,6 +177,50 @@ public JsonObject explain(String indexName, String id) {
 		return doExplain( indexReadName, id );
 	}
 
+	@Override
+	public SearchMultiQueryExecutor getMultiQueryExecutor() {
+		if ( requestTransformer != null || exceptionOnTimeout ) {
+			/*
+			 * Request transformers and client-side timeouts apply to a whole HTTP request,
+			 * so they cannot be applied to a single query within a multi-search request.
+			 */
+			return null;
+		}
+		return multiQueryExecutor;
+	}
+
+	SearchWork<ElasticsearchLoadableSearchResult<H>> createSearchWork(Integer offset, Integer limit) {
+		return workFactory.search( payload, searchResultExtractor )
+				.indexes( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
+				.paging( defaultedLimit( limit, offset ), offset )
+				.routingKeys( routingKeys )
+				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
+				.totalHitCountThreshold( totalHitCountThreshold )
+				.slowQueryLog( searchContext.getSlowQueryLog(), searchContext.getHibernateSearchIndexNames(),
+						rootProjection )
+				.requestTransformer(
+						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+				)
+				.build();
+	}
+
+	private NonBulkableWork<Long> createCountWork() {
+		JsonObject filteredPayload = new JsonObject();
+		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
+		if ( querySubTree.isPresent() ) {
+			filteredPayload.add( "query", querySubTree.get() );
+		}
+
+		return workFactory.count( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
+				.query( filteredPayload )
+				.routingKeys( routingKeys )
+				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
+				.requestTransformer(
+						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+				)
+				.build();
+	}
+
 	private Integer defaultedLimit(Integer limit, Integer offset) {
 		/*
 		 * If the user has given a 'size' value, take it as is, let ES itself complain if it's too high;
@@ -12,6 +12,7 @@
 
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchProfile;
 import org.hibernate.search.engine.search.query.spi.SimpleSearchResult;
 
 import com.google.gson.JsonObject;
@@ -22,8 +23,10 @@
 	private final JsonObject responseBody;
 
 	ElasticsearchSearchResultImpl(JsonObject responseBody,
-			long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults, Integer took, Boolean timedOut) {
-		super( hitCount, hits, aggregationResults, ( took == null ) ? null : Duration.ofMillis( took ), timedOut );
+			long hitCount, boolean hitCountExact, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
+			Integer took, Boolean timedOut, SearchProfile profile) {
+		super( hitCount, hitCountExact, hits, aggregationResults, ( took == null ) ? null : Duration.ofMillis( took ), timedOut,
+				profile );
 		this.responseBody = responseBody;
 	}
 
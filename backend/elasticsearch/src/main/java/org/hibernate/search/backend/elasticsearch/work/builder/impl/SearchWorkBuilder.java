@@ -14,6 +14,8 @@
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.engine.search.query.spi.SearchSlowQueryLog;
 
 
 public interface SearchWorkBuilder<R> extends ElasticsearchWorkBuilder<NonBulkableWork<R>> {
@@ -29,4 +31,11 @@
 	SearchWorkBuilder<R> requestTransformer(Function<ElasticsearchRequest, ElasticsearchRequest> requestTransformer);
 
 	SearchWorkBuilder<R> timeout(Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout);
+
+	SearchWorkBuilder<R> totalHitCountThreshold(Long totalHitCountThreshold);
+
+	SearchWorkBuilder<R> slowQueryLog(SearchSlowQueryLog slowQueryLog, Collection<String> indexNames, Object projection);
+
+	@Override
+	SearchWork<R> build();
 }
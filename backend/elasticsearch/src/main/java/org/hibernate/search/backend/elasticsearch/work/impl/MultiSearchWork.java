@@ -0,0 +1,98 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+
+/**
+ * A work executing multiple search requests in a single round-trip, using the {@code _msearch} API.
+ */
+public class MultiSearchWork extends AbstractNonBulkableWork<MultiSearchResult> {
+
+	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
+
+	private static final JsonAccessor<JsonArray> RESPONSES = JsonAccessor.root().property( "responses" ).asArray();
+
+	protected MultiSearchWork(Builder builder) {
+		super( builder );
+	}
+
+	@Override
+	protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext executionContext, ElasticsearchRequest request) {
+		queryLog.executingElasticsearchQuery(
+				request.getPath(),
+				request.getParameters(),
+				executionContext.getGsonProvider().getLogHelper().toString( request.getBodyParts() )
+				);
+		return super.beforeExecute( executionContext, request );
+	}
+
+	@Override
+	protected MultiSearchResult generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		JsonArray responses = RESPONSES.get( response.getBody() ).orElseGet( JsonArray::new );
+		return new MultiSearchResultImpl( responses, response.getExecutionTime() );
+	}
+
+	public static class Builder extends AbstractNonBulkableWork.AbstractBuilder<Builder>
+			implements MultiSearchWorkBuilder {
+		private final List<? extends SearchWork<?>> searchWorks;
+
+		public Builder(List<? extends SearchWork<?>> searchWorks) {
+			super( DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
+			this.searchWorks = searchWorks;
+		}
+
+		@Override
+		protected ElasticsearchRequest buildRequest() {
+			ElasticsearchRequest.Builder builder =
+					ElasticsearchRequest.post()
+					.pathComponent( Paths._MSEARCH );
+
+			for ( SearchWork<?> work : searchWorks ) {
+				builder.body( work.getMultiSearchHeader() );
+				builder.body( work.getMultiSearchBody() );
+			}
+
+			return builder.build();
+		}
+
+		@Override
+		public MultiSearchWork build() {
+			return new MultiSearchWork( this );
+		}
+	}
+
+	private static class MultiSearchResultImpl implements MultiSearchResult {
+		private final JsonArray responses;
+		private final Duration executionTime;
+
+		private MultiSearchResultImpl(JsonArray responses, Duration executionTime) {
+			this.responses = responses;
+			this.executionTime = executionTime;
+		}
+
+		@Override
+		public <T> T extract(SearchWork<T> work, int index) {
+			return work.handleMultiSearchResult( responses.get( index ).getAsJsonObject(), executionTime );
+		}
+	}
+
+}
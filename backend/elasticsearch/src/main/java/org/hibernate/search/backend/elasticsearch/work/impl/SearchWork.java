@@ -6,33 +6,72 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
+import org.hibernate.search.engine.search.query.spi.SearchSlowQueryLog;
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 
 public class SearchWork<R> extends AbstractNonBulkableWork<R> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
 
+	private static final JsonAccessor<JsonElement> ERROR = JsonAccessor.root().property( "error" );
+
+	// An object in ES7+ ("value" and "relation"), a number in ES6 and below
+	private static final JsonAccessor<JsonElement> HITS_TOTAL = JsonAccessor.root().property( "hits" ).property( "total" );
+
+	private static final String HITS_TOTAL_RELATION_EXACT = "eq";
+
 	private final ElasticsearchSearchResultExtractor<R> resultExtractor;
+	// Only used when this work is executed as part of a multi-search
+	private final Builder<R> multiSearchSource;
+
+	private final SearchSlowQueryLog slowQueryLog;
+	private final Collection<String> slowQueryLogIndexNames;
+	private final Object slowQueryLogProjection;
 
 	protected SearchWork(Builder<R> builder) {
 		super( builder );
 		this.resultExtractor = builder.resultExtractor;
+		this.multiSearchSource = builder;
+		this.slowQueryLog = builder.slowQueryLog;
+		this.slowQueryLogIndexNames = builder.slowQueryLogIndexNames;
+		this.slowQueryLogProjection = builder.slowQueryLogProjection;
+	}
+
+	/**
+	 * @return The header line to use for this work in a multi-search request.
+	 */
+	public JsonObject getMultiSearchHeader() {
+		return multiSearchSource.buildMultiSearchHeader();
+	}
+
+	/**
+	 * @return The body line to use for this work in a multi-search request.
+	 */
+	public JsonObject getMultiSearchBody() {
+		return multiSearchSource.buildMultiSearchBody();
 	}
 
 	@Override
@@ -48,7 +87,43 @@ protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext e
 	@Override
 	protected R generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
 		JsonObject body = response.getBody();
-		return resultExtractor.extract( body );
+		R result = resultExtractor.extract( body );
+		logIfSlow( response.getExecutionTime(), body, request.getBodyParts() );
+		return result;
+	}
+
+	/**
+	 * @param itemResponse The response to this work in a multi-search response.
+	 * @param executionTime The execution time of the whole multi-search request.
+	 * @return The result of this work.
+	 */
+	R handleMultiSearchResult(JsonObject itemResponse, Duration executionTime) {
+		Optional<JsonElement> error = ERROR.get( itemResponse );
+		if ( error.isPresent() ) {
+			throw log.elasticsearchMultiSearchItemFailed( getMultiSearchBody(), itemResponse );
+		}
+		R result = resultExtractor.extract( itemResponse );
+		logIfSlow( executionTime, itemResponse, getMultiSearchBody() );
+		return result;
+	}
+
+	private void logIfSlow(Duration executionTime, JsonObject responseBody, Object renderedQuery) {
+		if ( slowQueryLog == null || !slowQueryLog.isEnabled() || executionTime == null ) {
+			return;
+		}
+		long hitCount = 0L;
+		boolean hitCountExact = true;
+		JsonElement total = HITS_TOTAL.get( responseBody ).orElse( null );
+		if ( total != null && total.isJsonObject() ) {
+			JsonObject totalObject = total.getAsJsonObject();
+			hitCount = totalObject.get( "value" ).getAsLong();
+			hitCountExact = HITS_TOTAL_RELATION_EXACT.equals( totalObject.get( "relation" ).getAsString() );
+		}
+		else if ( total != null ) {
+			hitCount = total.getAsLong();
+		}
+		slowQueryLog.onQueryExecuted( executionTime, slowQueryLogIndexNames, renderedQuery,
+				hitCount, hitCountExact, slowQueryLogProjection );
 	}
 
 	public static class Builder<R>
@@ -59,22 +134,21 @@ public static <T> Builder<T> forElasticsearch62AndBelow(JsonObject payload, Elas
 			// No "track_total_hits": this parameter does not exist in ES6 and below, and total hits are always tracked
 			// No "allow_partial_search_results": this parameter does not exist in ES6 and below, and total hits are always tracked
 			// See https://github.com/elastic/elasticsearch/pull/27906
-			return new Builder<>( payload, resultExtractor, null, false );
+			return new Builder<>( payload, resultExtractor, false, false );
 		}
 
 		public static <T> Builder<T> forElasticsearch63to68(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
 			// No "track_total_hits": this parameter does not exist in ES6 and below, and total hits are always tracked
-			return new Builder<>( payload, resultExtractor, null, false );
+			return new Builder<>( payload, resultExtractor, false, false );
 		}
 
 		public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
-			// TODO HSEARCH-3517 disable track_total_hits when possible
 			return new Builder<>( payload, resultExtractor, true, false );
 		}
 
 		private final JsonObject payload;
 		private final ElasticsearchSearchResultExtractor<R> resultExtractor;
-		private final Boolean trackTotalHits;
+		private final boolean trackTotalHitsSupported;
 		private final boolean allowPartialSearchResultsSupported;
 		private final Set<URLEncodedString> indexes = new HashSet<>();
 
@@ -86,13 +160,17 @@ public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, Elast
 		private Long timeoutValue;
 		private TimeUnit timeoutUnit;
 		private boolean exceptionOnTimeout;
+		private Long totalHitCountThreshold;
+		private SearchSlowQueryLog slowQueryLog;
+		private Collection<String> slowQueryLogIndexNames;
+		private Object slowQueryLogProjection;
 
-		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, Boolean trackTotalHits,
+		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, boolean trackTotalHitsSupported,
 				boolean allowPartialSearchResultsSupported) {
 			super( DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
 			this.payload = payload;
 			this.resultExtractor = resultExtractor;
-			this.trackTotalHits = trackTotalHits;
+			this.trackTotalHitsSupported = trackTotalHitsSupported;
 			this.allowPartialSearchResultsSupported = allowPartialSearchResultsSupported;
 		}
 
@@ -130,6 +208,21 @@ public SearchWorkBuilder<R> timeout(Long timeoutValue, TimeUnit timeoutUnit, boo
 			return this;
 		}
 
+		@Override
+		public SearchWorkBuilder<R> totalHitCountThreshold(Long totalHitCountThreshold) {
+			this.totalHitCountThreshold = totalHitCountThreshold;
+			return this;
+		}
+
+		@Override
+		public SearchWorkBuilder<R> slowQueryLog(SearchSlowQueryLog slowQueryLog, Collection<String> indexNames,
+				Object projection) {
+			this.slowQueryLog = slowQueryLog;
+			this.slowQueryLogIndexNames = indexNames;
+			this.slowQueryLogProjection = projection;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
@@ -155,8 +248,13 @@ protected ElasticsearchRequest buildRequest() {
 				builder.multiValuedParam( "routing", routingKeys );
 			}
 
-			if ( trackTotalHits != null ) {
-				builder.param( "track_total_hits", trackTotalHits );
+			if ( trackTotalHitsSupported ) {
+				if ( totalHitCountThreshold != null ) {
+					builder.param( "track_total_hits", totalHitCountThreshold );
+				}
+				else {
+					builder.param( "track_total_hits", true );
+				}
 			}
 
 			if ( timeoutValue != null && timeoutUnit != null ) {
@@ -188,6 +286,39 @@ protected ElasticsearchRequest buildRequest() {
 			return builder.build();
 		}
 
+		private JsonObject buildMultiSearchHeader() {
+			JsonObject header = new JsonObject();
+			header.addProperty( "index", indexes.stream().map( index -> index.original )
+					.collect( Collectors.joining( "," ) ) );
+			if ( routingKeys != null && !routingKeys.isEmpty() ) {
+				header.addProperty( "routing", String.join( ",", routingKeys ) );
+			}
+			return header;
+		}
+
+		private JsonObject buildMultiSearchBody() {
+			// Parameters that would be passed in the URL of a single search go into the body of a multi-search.
+			JsonObject body = payload.deepCopy();
+			if ( from != null ) {
+				body.addProperty( "from", from );
+			}
+			if ( size != null ) {
+				body.addProperty( "size", size );
+			}
+			if ( trackTotalHitsSupported ) {
+				if ( totalHitCountThreshold != null ) {
+					body.addProperty( "track_total_hits", totalHitCountThreshold );
+				}
+				else {
+					body.addProperty( "track_total_hits", true );
+				}
+			}
+			if ( timeoutValue != null && timeoutUnit != null ) {
+				body.addProperty( "timeout", getTimeoutString( timeoutValue, timeoutUnit ) );
+			}
+			return body;
+		}
+
 		@Override
 		public SearchWork<R> build() {
 			return new SearchWork<>( this );
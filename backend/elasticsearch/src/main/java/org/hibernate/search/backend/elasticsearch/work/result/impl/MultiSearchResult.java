@@ -0,0 +1,16 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.result.impl;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+
+
+public interface MultiSearchResult {
+
+	<T> T extract(SearchWork<T> work, int index);
+
+}
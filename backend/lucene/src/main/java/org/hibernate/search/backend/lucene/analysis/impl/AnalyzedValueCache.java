@@ -0,0 +1,261 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.analysis.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.IndexableFieldType;
+import org.apache.lucene.util.AttributeImpl;
+import org.apache.lucene.util.AttributeSource;
+import org.apache.lucene.util.RamUsageEstimator;
+
+/**
+ * A bounded cache of the tokens produced by the analysis of field values.
+ * <p>
+ * Analyzing text is usually the most expensive part of indexing a document,
+ * but when documents are reindexed most of their text fields generally hold the same value as before.
+ * This cache records the tokens produced for recently analyzed values,
+ * and hands pre-analyzed token streams to the index writer when the same value is indexed again in the same field,
+ * so that the analyzer does not run again.
+ * <p>
+ * Entries are evicted in least-recently-used order,
+ * as soon as either the number of entries or their estimated memory usage exceeds its limit.
+ * Values whose tokens alone would use more than 1/16th of the memory budget
+ * are analyzed but not cached, so that a few large values cannot evict the rest of the cache.
+ * Cached tokens are never mutated once recorded, so they can be replayed concurrently from multiple threads.
+ */
+public final class AnalyzedValueCache {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	static final int MAX_ENTRY_RAM_FRACTION = 16;
+
+	private static final long STATE_RAM_BYTES = RamUsageEstimator.shallowSizeOfInstance( AttributeSource.State.class );
+	private static final long ENTRY_RAM_BYTES = RamUsageEstimator.LINKED_HASHTABLE_RAM_BYTES_PER_ENTRY
+			+ RamUsageEstimator.shallowSizeOfInstance( Key.class )
+			+ RamUsageEstimator.shallowSizeOfInstance( AnalyzedValue.class );
+
+	private final Analyzer analyzer;
+	private final int maxSize;
+	private final long maxRamBytes;
+	private final long maxEntryRamBytes;
+	// Access-ordered: iteration starts with the least recently used entry
+	private final Map<Key, AnalyzedValue> entries = new LinkedHashMap<>( 16, 0.75f, true );
+	private long ramBytesUsed;
+
+	/**
+	 * @param analyzer The analyzer to use for values that are not in the cache.
+	 * @param maxSize The maximum number of cached values.
+	 * @param maxRamBytes The maximum amount of memory, in bytes, that cached values may use, as estimated.
+	 */
+	public AnalyzedValueCache(Analyzer analyzer, int maxSize, long maxRamBytes) {
+		this.analyzer = analyzer;
+		this.maxSize = maxSize;
+		this.maxRamBytes = maxRamBytes;
+		this.maxEntryRamBytes = maxRamBytes / MAX_ENTRY_RAM_FRACTION;
+	}
+
+	/**
+	 * Assign a pre-analyzed token stream to every analyzed field of the given document.
+	 * @param document The document, before it is passed to the index writer.
+	 */
+	public void preAnalyze(Iterable<? extends IndexableField> document) {
+		for ( IndexableField field : document ) {
+			if ( !( field instanceof Field ) || !isAnalyzed( field.fieldType() ) ) {
+				continue;
+			}
+			Field analyzedField = (Field) field;
+			String value = analyzedField.stringValue();
+			if ( value == null || analyzedField.tokenStreamValue() != null ) {
+				continue;
+			}
+			analyzedField.setTokenStream( tokenStream( analyzedField.name(), value ) );
+		}
+	}
+
+	TokenStream tokenStream(String absoluteFieldPath, String value) {
+		Key key = new Key( absoluteFieldPath, value );
+		AnalyzedValue analyzedValue;
+		synchronized ( entries ) {
+			analyzedValue = entries.get( key );
+		}
+		if ( analyzedValue == null ) {
+			// Analyze outside of the lock: the analyzer reuses its components per thread anyway
+			analyzedValue = analyze( absoluteFieldPath, value );
+			if ( analyzedValue.ramBytesUsed <= maxEntryRamBytes ) {
+				put( key, analyzedValue );
+			}
+		}
+		return analyzedValue.replay();
+	}
+
+	int size() {
+		synchronized ( entries ) {
+			return entries.size();
+		}
+	}
+
+	long ramBytesUsed() {
+		synchronized ( entries ) {
+			return ramBytesUsed;
+		}
+	}
+
+	private void put(Key key, AnalyzedValue analyzedValue) {
+		synchronized ( entries ) {
+			AnalyzedValue previous = entries.put( key, analyzedValue );
+			if ( previous != null ) {
+				// Another thread analyzed the same value concurrently
+				ramBytesUsed -= previous.ramBytesUsed;
+			}
+			ramBytesUsed += analyzedValue.ramBytesUsed;
+			Iterator<AnalyzedValue> iterator = entries.values().iterator();
+			while ( entries.size() > maxSize || ramBytesUsed > maxRamBytes ) {
+				ramBytesUsed -= iterator.next().ramBytesUsed;
+				iterator.remove();
+			}
+		}
+	}
+
+	private AnalyzedValue analyze(String absoluteFieldPath, String value) {
+		try ( TokenStream stream = analyzer.tokenStream( absoluteFieldPath, value ) ) {
+			List<AttributeSource.State> tokens = new ArrayList<>();
+			// Each captured state holds a copy of every attribute of the stream, plus the term itself
+			long stateRamBytes = 0L;
+			for ( Iterator<AttributeImpl> iterator = stream.getAttributeImplsIterator(); iterator.hasNext(); ) {
+				stateRamBytes += STATE_RAM_BYTES + RamUsageEstimator.shallowSizeOf( iterator.next() );
+			}
+			CharTermAttribute termAttribute = stream.hasAttribute( CharTermAttribute.class )
+					? stream.getAttribute( CharTermAttribute.class ) : null;
+			// The attribute template and the end state
+			long ramBytesUsed = ENTRY_RAM_BYTES + RamUsageEstimator.sizeOf( value ) + 2 * stateRamBytes;
+			stream.reset();
+			while ( stream.incrementToken() ) {
+				tokens.add( stream.captureState() );
+				ramBytesUsed += stateRamBytes;
+				if ( termAttribute != null ) {
+					ramBytesUsed += RamUsageEstimator.alignObjectSize(
+							RamUsageEstimator.NUM_BYTES_ARRAY_HEADER + (long) Character.BYTES * termAttribute.length() );
+				}
+			}
+			stream.end();
+			AttributeSource.State[] tokenArray = tokens.toArray( new AttributeSource.State[0] );
+			ramBytesUsed += RamUsageEstimator.shallowSizeOf( tokenArray );
+			return new AnalyzedValue(
+					stream.cloneAttributes(),
+					tokenArray,
+					stream.captureState(),
+					ramBytesUsed
+			);
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToAnalyzeValue( absoluteFieldPath, e.getMessage(), e );
+		}
+	}
+
+	private static boolean isAnalyzed(IndexableFieldType fieldType) {
+		return fieldType.tokenized() && fieldType.indexOptions() != IndexOptions.NONE;
+	}
+
+	private static final class Key {
+		private final String absoluteFieldPath;
+		private final String value;
+		private final int hash;
+
+		private Key(String absoluteFieldPath, String value) {
+			this.absoluteFieldPath = absoluteFieldPath;
+			this.value = value;
+			this.hash = 31 * absoluteFieldPath.hashCode() + value.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( !( obj instanceof Key ) ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return hash == other.hash
+					&& absoluteFieldPath.equals( other.absoluteFieldPath )
+					&& value.equals( other.value );
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	private static final class AnalyzedValue {
+		private final AttributeSource attributesTemplate;
+		private final AttributeSource.State[] tokens;
+		private final AttributeSource.State endState;
+		private final long ramBytesUsed;
+
+		private AnalyzedValue(AttributeSource attributesTemplate, AttributeSource.State[] tokens,
+				AttributeSource.State endState, long ramBytesUsed) {
+			this.attributesTemplate = attributesTemplate;
+			this.tokens = tokens;
+			this.endState = endState;
+			this.ramBytesUsed = ramBytesUsed;
+		}
+
+		TokenStream replay() {
+			return new PreAnalyzedTokenStream( attributesTemplate.cloneAttributes(), tokens, endState );
+		}
+	}
+
+	private static final class PreAnalyzedTokenStream extends TokenStream {
+		private final AttributeSource.State[] tokens;
+		private final AttributeSource.State endState;
+		private int nextTokenIndex;
+
+		private PreAnalyzedTokenStream(AttributeSource attributes, AttributeSource.State[] tokens,
+				AttributeSource.State endState) {
+			super( attributes );
+			this.tokens = tokens;
+			this.endState = endState;
+		}
+
+		@Override
+		public boolean incrementToken() {
+			if ( nextTokenIndex >= tokens.length ) {
+				return false;
+			}
+			clearAttributes();
+			restoreState( tokens[nextTokenIndex++] );
+			return true;
+		}
+
+		@Override
+		public void end() {
+			restoreState( endState );
+		}
+
+		@Override
+		public void reset() {
+			nextTokenIndex = 0;
+		}
+	}
+}
@@ -102,6 +102,24 @@ private LuceneBackendSettings() {
 	 */
 	public static final String MULTI_TENANCY_STRATEGY = "multi_tenancy.strategy";
 
+	/**
+	 * The time after which the dedicated index of a tenant is closed if it was not accessed,
+	 * in milliseconds.
+	 * <p>
+	 * Only relevant when the {@link #MULTI_TENANCY_STRATEGY multi-tenancy strategy} is
+	 * {@link MultiTenancyStrategyName#DEDICATED_INDEX}.
+	 * Closed indexes are re-opened transparently on the next access;
+	 * closing idle indexes caps the number of file handles held open for tenants that are rarely accessed.
+	 * Ignored with the "local-heap" directory type, since closing an index would lose its content.
+	 * <p>
+	 * Expects a positive Long value in milliseconds, such as {@code 300000},
+	 * or a String that can be parsed into such Long value,
+	 * or {@code 0} to never close tenant indexes.
+	 * <p>
+	 * Defaults to {@link Defaults#MULTI_TENANCY_TENANT_IDLE_TIMEOUT}.
+	 */
+	public static final String MULTI_TENANCY_TENANT_IDLE_TIMEOUT = "multi_tenancy.tenant_idle_timeout";
+
 	/**
 	 * The analysis configurer to use.
 	 * <p>
@@ -127,6 +145,142 @@ private LuceneBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The size of the thread pool used to search multiple shards or indexes in parallel.
+	 * <p>
+	 * When strictly positive, search queries targeting multiple shards or indexes
+	 * will search each shard in a separate thread, then merge the top hits of each shard.
+	 * Queries requiring aggregations are always executed in a single thread.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed to such integer value.
+	 * {@code 0} means shards are searched sequentially, in the thread executing the query.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_THREAD_POOL_SIZE}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Threads",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String SEARCH_THREAD_POOL_SIZE = "search.thread_pool.size";
+
+	/**
+	 * The maximum number of pinned search contexts that can be open at the same time in the backend.
+	 * <p>
+	 * Each pinned search context keeps index readers open, and thus prevents index files from being deleted:
+	 * this limit protects against applications forgetting to close pinned search contexts.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 100},
+	 * or a String that can be parsed into such Integer value.
+	 * {@code 0} means pinned search contexts cannot be opened.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_PINNED_CONTEXT_MAX_COUNT}.
+	 *
+	 * @see org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery#openPinnedContext()
+	 */
+	public static final String SEARCH_PINNED_CONTEXT_MAX_COUNT = "search.pinned_context.max_count";
+
+	/**
+	 * How long pinned search contexts are kept open after their last use,
+	 * when no keep-alive is passed explicitly when opening them.
+	 * <p>
+	 * Expects a strictly positive Long value in milliseconds, such as {@code 60000},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_PINNED_CONTEXT_KEEP_ALIVE}.
+	 *
+	 * @see org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery#openPinnedContext(java.time.Duration)
+	 */
+	public static final String SEARCH_PINNED_CONTEXT_KEEP_ALIVE = "search.pinned_context.keep_alive";
+
+	/**
+	 * The maximum amount of memory, in bytes, used to cache the filters identifying parent documents
+	 * when joining nested documents with their parent,
+	 * i.e. for nested predicates, and for sorts and aggregations on fields of nested objects.
+	 * <p>
+	 * Expects a positive or zero Long value, such as {@code 33554432},
+	 * or a String that can be parsed into such Long value.
+	 * {@code 0} disables the cache.
+	 * <p>
+	 * Defaults to the same budget as the default query cache of Lucene:
+	 * 5% of the maximum heap size, but no more than 32MB.
+	 */
+	public static final String SEARCH_NESTED_CACHE_MAX_SIZE = "search.nested_cache.max_size";
+
+	/**
+	 * The execution time above which search queries are logged at the WARN level
+	 * in the "org.hibernate.search.query.slow" log category.
+	 * <p>
+	 * Expects a positive or zero Long value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to no value, meaning slow queries are never logged at the WARN level.
+	 */
+	public static final String QUERY_SLOW_LOG_WARN_THRESHOLD = "query.slow_log.warn_threshold";
+
+	/**
+	 * The execution time above which search queries are logged at the INFO level
+	 * in the "org.hibernate.search.query.slow" log category.
+	 * <p>
+	 * Queries exceeding the {@link #QUERY_SLOW_LOG_WARN_THRESHOLD warn threshold} are only logged at the WARN level.
+	 * <p>
+	 * Expects a positive or zero Long value in milliseconds, such as {@code 200},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to no value, meaning slow queries are never logged at the INFO level.
+	 */
+	public static final String QUERY_SLOW_LOG_INFO_THRESHOLD = "query.slow_log.info_threshold";
+
+	/**
+	 * The proportion of slow queries that are actually logged.
+	 * <p>
+	 * Useful to limit the volume of logs when many queries exceed the thresholds.
+	 * <p>
+	 * Expects a Double value between 0 and 1, inclusive, such as {@code 0.1},
+	 * or a String that can be parsed into such Double value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_SLOW_LOG_SAMPLING_RATE}.
+	 */
+	public static final String QUERY_SLOW_LOG_SAMPLING_RATE = "query.slow_log.sampling_rate";
+
+	/**
+	 * The maximum length of queries rendered in the slow query log.
+	 * <p>
+	 * Longer queries are truncated.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_SLOW_LOG_MAX_QUERY_LENGTH}.
+	 */
+	public static final String QUERY_SLOW_LOG_MAX_QUERY_LENGTH = "query.slow_log.max_query_length";
+
+	/**
+	 * Whether write-path metrics of each index and shard (queue depth, batch sizes, commit, refresh and merge times)
+	 * should be collected in memory and exposed as JMX MBeans.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#METRICS_JMX_ENABLED}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Metrics",
+	 * for more information about this setting and the exposed MBeans.
+	 */
+	public static final String METRICS_JMX_ENABLED = "metrics.jmx_enabled";
+
+	/**
+	 * A factory of write-path metrics collectors, to report metrics of each index and shard to a custom metrics library.
+	 * <p>
+	 * Expects a reference to a bean of type {@link org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetricsFactory}.
+	 * <p>
+	 * Defaults to no value.
+	 * May be used in conjunction with {@link #METRICS_JMX_ENABLED}.
+	 *
+	 * @see org.hibernate.search.engine.cfg The core documentation of configuration properties,
+	 * which includes a description of the "bean reference" properties and accepted values.
+	 */
+	public static final String METRICS_FACTORY = "metrics.factory";
+
 	/**
 	 * Configuration property keys for directories without the {@link #DIRECTORY_PREFIX prefix}.
 	 */
@@ -159,5 +313,19 @@ private Defaults() {
 				FileSystemAccessStrategyName.AUTO;
 
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+
+		public static final long MULTI_TENANCY_TENANT_IDLE_TIMEOUT = 300_000L;
+
+		public static final int SEARCH_THREAD_POOL_SIZE = 0;
+
+		public static final int SEARCH_PINNED_CONTEXT_MAX_COUNT = 100;
+
+		public static final long SEARCH_PINNED_CONTEXT_KEEP_ALIVE = 60_000L;
+
+		public static final double QUERY_SLOW_LOG_SAMPLING_RATE = 1.0;
+
+		public static final int QUERY_SLOW_LOG_MAX_QUERY_LENGTH = 1000;
+
+		public static final boolean METRICS_JMX_ENABLED = false;
 	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.cfg;
 
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
 
 /**
  * Configuration properties for Lucene indexes.
@@ -86,6 +87,48 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * Whether index changes should be recorded in a write-ahead translog
+	 * before they are committed to the index.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy,
+	 * and only effective when the index is stored on the file system (not in the local heap).
+	 * <p>
+	 * When enabled, each change applied to the index writer is also appended to a translog file
+	 * located in the index directory. Changes that were not committed yet are replayed from the translog
+	 * the next time the index is opened, for example after a crash.
+	 * This makes it possible to use a long {@link #IO_COMMIT_INTERVAL commit interval}:
+	 * a forced commit (for example with the "committed" and "searchable" automatic indexing synchronization
+	 * strategies in the ORM mapper) will only require the translog to be synced to disk,
+	 * which is cheaper than a full commit.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_TRANSLOG_ENABLED}.
+	 */
+	public static final String IO_TRANSLOG_ENABLED = IO_PREFIX + IORadicals.TRANSLOG_ENABLED;
+
+	/**
+	 * How long, in milliseconds, changes recorded in the translog
+	 * may remain unsynced to disk when no commit is forced.
+	 * <p>
+	 * Only effective if the {@link #IO_TRANSLOG_ENABLED translog is enabled}.
+	 * <p>
+	 * Changes recorded in the translog are written to the translog file at the end of each batch of works,
+	 * so that they survive a crash of the JVM.
+	 * They only survive a crash of the operating system once the translog file is synced to disk,
+	 * which happens when a commit is forced, and at most this many milliseconds after the changes were recorded.
+	 * Setting the interval to 0 disables periodic syncing:
+	 * changes that were not explicitly committed are then only synced to disk on the next commit.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_TRANSLOG_SYNC_INTERVAL}.
+	 */
+	public static final String IO_TRANSLOG_SYNC_INTERVAL = IO_PREFIX + IORadicals.TRANSLOG_SYNC_INTERVAL;
+
 	/**
 	 * The prefix for sharding-related property keys.
 	 */
@@ -158,6 +201,90 @@ private LuceneIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * Whether indexing queues that run out of works should take works from busier queues of the same index (or shard).
+	 * <p>
+	 * Works relative to the same document are still executed in the order they were submitted in.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_WORK_STEALING}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_WORK_STEALING = INDEXING_PREFIX + IndexingRadicals.WORK_STEALING;
+
+	/**
+	 * The maximum number of analyzed field values whose tokens are kept in memory for reuse.
+	 * <p>
+	 * When a value that is still cached is indexed again in the same field,
+	 * for example when a document is reindexed but only some of its fields changed,
+	 * the cached tokens are replayed instead of analyzing the value again.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed to such integer value.
+	 * {@code 0} disables the cache.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_ANALYSIS_CACHE_SIZE}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_ANALYSIS_CACHE_SIZE = INDEXING_PREFIX + IndexingRadicals.ANALYSIS_CACHE_SIZE;
+
+	/**
+	 * The maximum amount of memory, in bytes, used by the analyzed value cache,
+	 * see {@link #INDEXING_ANALYSIS_CACHE_SIZE}.
+	 * <p>
+	 * The memory used by each cached value is estimated from its text and the tokens produced by its analysis.
+	 * Least recently used values are evicted as soon as this limit is exceeded,
+	 * and values that would use more than 1/16th of this limit on their own are not cached at all.
+	 * <p>
+	 * Expects a positive or zero Long value, such as {@code 16777216},
+	 * or a String that can be parsed into such Long value.
+	 * {@code 0} disables the cache.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_ANALYSIS_CACHE_MAX_MEMORY}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_ANALYSIS_CACHE_MAX_MEMORY = INDEXING_PREFIX + IndexingRadicals.ANALYSIS_CACHE_MAX_MEMORY;
+
+	/**
+	 * The prefix for index-sorting-related property keys.
+	 */
+	public static final String INDEX_SORTING_PREFIX = "index_sorting.";
+
+	/**
+	 * The path of the field used to sort documents within each segment of the index.
+	 * <p>
+	 * Expects a String representing the absolute path of a sortable numeric or date/time field
+	 * that is not part of a nested object, e.g. "publicationDate".
+	 * <p>
+	 * When set, queries sorted on this field only, in the same order,
+	 * can stop collecting hits early in each segment
+	 * as long as a total hit count threshold is set on the query.
+	 * <p>
+	 * Changing this setting on an existing index requires reindexing.
+	 * <p>
+	 * Defaults to no value, meaning documents are not sorted within segments.
+	 */
+	public static final String INDEX_SORTING_FIELD = INDEX_SORTING_PREFIX + IndexSortingRadicals.FIELD;
+
+	/**
+	 * The order in which documents are sorted within each segment of the index.
+	 * <p>
+	 * Only effective if {@link #INDEX_SORTING_FIELD} is set.
+	 * <p>
+	 * Expects a {@link SortOrder} value, or a String representation of such value: "asc" or "desc".
+	 * <p>
+	 * Defaults to {@link Defaults#INDEX_SORTING_ORDER}.
+	 */
+	public static final String INDEX_SORTING_ORDER = INDEX_SORTING_PREFIX + IndexSortingRadicals.ORDER;
+
 	/**
 	 * Configuration property keys for I/O, without the {@link #IO_PREFIX prefix}.
 	 */
@@ -169,6 +296,8 @@ private IORadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String COMMIT_INTERVAL = "commit_interval";
 		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String TRANSLOG_ENABLED = "translog.enabled";
+		public static final String TRANSLOG_SYNC_INTERVAL = "translog.sync_interval";
 	}
 
 	/**
@@ -194,6 +323,21 @@ private IndexingRadicals() {
 
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
+		public static final String WORK_STEALING = "work_stealing";
+		public static final String ANALYSIS_CACHE_SIZE = "analysis_cache_size";
+		public static final String ANALYSIS_CACHE_MAX_MEMORY = "analysis_cache_max_memory";
+	}
+
+	/**
+	 * Configuration property keys for index sorting, without the {@link #INDEX_SORTING_PREFIX prefix}.
+	 */
+	public static final class IndexSortingRadicals {
+
+		private IndexSortingRadicals() {
+		}
+
+		public static final String FIELD = "field";
+		public static final String ORDER = "order";
 	}
 
 	/**
@@ -208,7 +352,13 @@ private Defaults() {
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 1000;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final boolean IO_TRANSLOG_ENABLED = false;
+		public static final int IO_TRANSLOG_SYNC_INTERVAL = 1000;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final boolean INDEXING_WORK_STEALING = false;
+		public static final int INDEXING_ANALYSIS_CACHE_SIZE = 0;
+		public static final long INDEXING_ANALYSIS_CACHE_MAX_MEMORY = 16L * 1024L * 1024L;
+		public static final SortOrder INDEX_SORTING_ORDER = SortOrder.ASC;
 	}
 }
@@ -72,7 +72,7 @@ void contribute(MultiTenancyStrategy multiTenancyStrategy, String tenantId, Stri
 			) );
 		}
 
-		multiTenancyStrategy.contributeToIndexedDocument( document, tenantId );
+		multiTenancyStrategy.contributeToIndexedDocument( document, tenantId, rootId );
 
 		super.contribute( multiTenancyStrategy, tenantId, routingKey, rootId, nestedDocuments );
 	}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.document.impl;
 
+import org.hibernate.search.backend.lucene.analysis.impl.AnalyzedValueCache;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
 
@@ -16,18 +17,20 @@ public class LuceneIndexEntryFactory {
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final String indexName;
 	private final FacetsConfig facetsConfig;
+	private final AnalyzedValueCache analyzedValueCache;
 
 	public LuceneIndexEntryFactory(MultiTenancyStrategy multiTenancyStrategy, String indexName,
-			FacetsConfig facetsConfig) {
+			FacetsConfig facetsConfig, AnalyzedValueCache analyzedValueCache) {
 		this.indexName = indexName;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.facetsConfig = facetsConfig;
+		this.analyzedValueCache = analyzedValueCache;
 	}
 
 	public LuceneIndexEntry create(String tenantId, String id, String routingKey,
 			DocumentContributor documentContributor) {
 		LuceneRootDocumentBuilder builder = new LuceneRootDocumentBuilder(
-				multiTenancyStrategy, indexName, facetsConfig
+				multiTenancyStrategy, indexName, facetsConfig, analyzedValueCache
 		);
 		documentContributor.contribute( builder );
 		return builder.build( tenantId, id, routingKey );
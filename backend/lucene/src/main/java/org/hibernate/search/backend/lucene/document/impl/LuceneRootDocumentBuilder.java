@@ -14,6 +14,7 @@
 import org.apache.lucene.document.Document;
 import org.apache.lucene.facet.FacetsConfig;
 
+import org.hibernate.search.backend.lucene.analysis.impl.AnalyzedValueCache;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaObjectNode;
@@ -28,13 +29,15 @@ public class LuceneRootDocumentBuilder extends AbstractLuceneNonFlattenedDocumen
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final String indexName;
 	private final FacetsConfig facetsConfig;
+	private final AnalyzedValueCache analyzedValueCache;
 
 	LuceneRootDocumentBuilder(MultiTenancyStrategy multiTenancyStrategy, String indexName,
-			FacetsConfig facetsConfig) {
+			FacetsConfig facetsConfig, AnalyzedValueCache analyzedValueCache) {
 		super( LuceneIndexSchemaObjectNode.root() );
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.indexName = indexName;
 		this.facetsConfig = facetsConfig;
+		this.analyzedValueCache = analyzedValueCache;
 	}
 
 	public LuceneIndexEntry build(String tenantId, String id, String routingKey) {
@@ -55,6 +58,12 @@ private List<Document> assembleDocuments(MultiTenancyStrategy multiTenancyStrate
 
 		documents.add( document );
 
+		if ( analyzedValueCache != null ) {
+			for ( Document document : documents ) {
+				analyzedValueCache.preAnalyze( document );
+			}
+		}
+
 		if ( facetsConfig != null ) {
 			for ( int i = 0; i < documents.size(); i++ ) {
 				Document document = documents.get( i );
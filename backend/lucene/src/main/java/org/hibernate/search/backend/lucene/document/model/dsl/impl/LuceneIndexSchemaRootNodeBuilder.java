@@ -6,11 +6,14 @@
  */
 package org.hibernate.search.backend.lucene.document.model.dsl.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
@@ -18,6 +21,7 @@
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaNodeCollector;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaObjectNode;
 import org.hibernate.search.backend.lucene.analysis.impl.ScopedAnalyzer;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.types.dsl.LuceneIndexFieldTypeFactory;
 import org.hibernate.search.backend.lucene.types.dsl.impl.LuceneIndexFieldTypeFactoryImpl;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaBuildContext;
@@ -26,11 +30,15 @@
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexFieldTypeDefaultsProvider;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 public class LuceneIndexSchemaRootNodeBuilder extends AbstractLuceneIndexSchemaObjectNodeBuilder
 		implements IndexSchemaRootNodeBuilder, IndexSchemaBuildContext {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final EventContext indexEventContext;
 	private final String mappedTypeName;
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
@@ -69,7 +77,7 @@ public LuceneIndexSchemaRootNodeBuilder getRootNodeBuilder() {
 		return this;
 	}
 
-	public LuceneIndexModel build(String indexName) {
+	public LuceneIndexModel build(String indexName, String indexSortFieldPath, SortOrder indexSortOrder) {
 		Map<String, LuceneIndexSchemaObjectNode> objectNodesBuilder = new HashMap<>();
 		Map<String, LuceneIndexSchemaFieldNode<?>> fieldNodesBuilder = new HashMap<>();
 		ScopedAnalyzer.Builder scopedAnalyzerBuilder = new ScopedAnalyzer.Builder();
@@ -100,6 +108,8 @@ public void collectFacetConfig(String absoluteFieldPath, boolean multiValued) {
 		LuceneIndexSchemaObjectNode rootNode = LuceneIndexSchemaObjectNode.root();
 		contributeChildren( rootNode, collector );
 
+		Sort indexSort = createIndexSort( fieldNodesBuilder, indexSortFieldPath, indexSortOrder );
+
 		return new LuceneIndexModel(
 				indexName,
 				mappedTypeName,
@@ -107,10 +117,30 @@ public void collectFacetConfig(String absoluteFieldPath, boolean multiValued) {
 				objectNodesBuilder,
 				fieldNodesBuilder,
 				scopedAnalyzerBuilder.build(),
-				facetsConfig.getDimConfigs().isEmpty() ? null : facetsConfig
+				facetsConfig.getDimConfigs().isEmpty() ? null : facetsConfig,
+				indexSort
 		);
 	}
 
+	private Sort createIndexSort(Map<String, LuceneIndexSchemaFieldNode<?>> fieldNodes,
+			String indexSortFieldPath, SortOrder indexSortOrder) {
+		if ( indexSortFieldPath == null ) {
+			return null;
+		}
+		LuceneIndexSchemaFieldNode<?> fieldNode = fieldNodes.get( indexSortFieldPath );
+		if ( fieldNode == null ) {
+			throw log.unknownFieldForIndexSort( indexSortFieldPath, indexEventContext );
+		}
+		SortField sortField = null;
+		if ( fieldNode.getNestedDocumentPath() == null ) {
+			sortField = fieldNode.getCodec().createIndexSortField( indexSortFieldPath, SortOrder.DESC == indexSortOrder );
+		}
+		if ( sortField == null ) {
+			throw log.invalidFieldForIndexSort( indexSortFieldPath, indexEventContext );
+		}
+		return new Sort( sortField );
+	}
+
 	@Override
 	String getAbsolutePath() {
 		return null;
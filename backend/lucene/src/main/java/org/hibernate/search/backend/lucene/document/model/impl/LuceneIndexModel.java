@@ -15,6 +15,7 @@
 import org.hibernate.search.util.common.impl.CollectionHelper;
 
 import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.search.Sort;
 
 
 public class LuceneIndexModel implements AutoCloseable {
@@ -33,13 +34,16 @@ public class LuceneIndexModel implements AutoCloseable {
 
 	private final FacetsConfig facetsConfig;
 
+	private final Sort indexSort;
+
 	public LuceneIndexModel(String indexName,
 			String mappedTypeName,
 			ToDocumentIdentifierValueConverter<?> idDslConverter,
 			Map<String, LuceneIndexSchemaObjectNode> objectNodesBuilder,
 			Map<String, LuceneIndexSchemaFieldNode<?>> fieldNodesBuilder,
 			ScopedAnalyzer scopedAnalyzer,
-			FacetsConfig facetsConfig) {
+			FacetsConfig facetsConfig,
+			Sort indexSort) {
 		this.indexName = indexName;
 		this.mappedTypeName = mappedTypeName;
 		this.idDslConverter = idDslConverter;
@@ -47,6 +51,7 @@ public LuceneIndexModel(String indexName,
 		this.objectNodes = CollectionHelper.toImmutableMap( objectNodesBuilder );
 		this.scopedAnalyzer = scopedAnalyzer;
 		this.facetsConfig = facetsConfig;
+		this.indexSort = indexSort;
 	}
 
 	@Override
@@ -86,6 +91,13 @@ public FacetsConfig getFacetsConfig() {
 		return facetsConfig;
 	}
 
+	/**
+	 * @return The sort applied to documents within each segment of this index, or {@code null} if none.
+	 */
+	public Sort getIndexSort() {
+		return indexSort;
+	}
+
 	@Override
 	public String toString() {
 		return new StringBuilder( getClass().getSimpleName() )
@@ -15,6 +15,7 @@
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneFieldPredicateBuilderFactory;
 import org.hibernate.search.backend.lucene.types.projection.impl.LuceneFieldProjectionBuilderFactory;
 import org.hibernate.search.backend.lucene.types.sort.impl.LuceneFieldSortBuilderFactory;
+import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -88,6 +89,24 @@ public boolean isMultiValued() {
 		return multiValued;
 	}
 
+	/**
+	 * @return {@code true} if this node may have multiple values in the Lucene document holding it,
+	 * i.e. if this node or one of its flattened parent objects is multi-valued.
+	 */
+	public boolean isMultiValuedInDocument() {
+		if ( multiValued ) {
+			return true;
+		}
+		for ( LuceneIndexSchemaObjectNode object = parent;
+				object != null && !ObjectFieldStorage.NESTED.equals( object.getStorage() );
+				object = object.getParent() ) {
+			if ( object.isMultiValued() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	public LuceneFieldPredicateBuilderFactory getPredicateBuilderFactory() {
 		if ( predicateBuilderFactory == null ) {
 			throw log.unsupportedDSLPredicates( getEventContext() );
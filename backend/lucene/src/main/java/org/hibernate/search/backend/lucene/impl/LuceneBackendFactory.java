@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.text.ParseException;
+import java.time.Duration;
 import java.util.Locale;
 import java.util.Optional;
 
@@ -19,7 +20,12 @@
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryProviderInitializationContextImpl;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.ParentBitSetCache;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.PinnedIndexReaderRegistry;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.metrics.impl.LuceneWriteMetricsProvider;
+import org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetricsFactory;
+import org.hibernate.search.backend.lucene.multitenancy.impl.DedicatedIndexMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
@@ -37,6 +43,7 @@
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.query.spi.SearchSlowQueryLog;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -59,11 +66,67 @@ public class LuceneBackendFactory implements BackendFactory {
 					.withDefault( LuceneBackendSettings.Defaults.MULTI_TENANCY_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<Long> MULTI_TENANCY_TENANT_IDLE_TIMEOUT =
+			ConfigurationProperty.forKey( LuceneBackendSettings.MULTI_TENANCY_TENANT_IDLE_TIMEOUT )
+					.asLong()
+					.withDefault( LuceneBackendSettings.Defaults.MULTI_TENANCY_TENANT_IDLE_TIMEOUT )
+					.build();
+
 	private static final OptionalConfigurationProperty<BeanReference<? extends LuceneAnalysisConfigurer>> ANALYSIS_CONFIGURER =
 			ConfigurationProperty.forKey( LuceneBackendSettings.ANALYSIS_CONFIGURER )
 					.asBeanReference( LuceneAnalysisConfigurer.class )
 					.build();
 
+	private static final ConfigurationProperty<Integer> SEARCH_PINNED_CONTEXT_MAX_COUNT =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_PINNED_CONTEXT_MAX_COUNT )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_PINNED_CONTEXT_MAX_COUNT )
+					.build();
+
+	private static final ConfigurationProperty<Long> SEARCH_PINNED_CONTEXT_KEEP_ALIVE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_PINNED_CONTEXT_KEEP_ALIVE )
+					.asLong()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_PINNED_CONTEXT_KEEP_ALIVE )
+					.build();
+
+	private static final OptionalConfigurationProperty<Long> SEARCH_NESTED_CACHE_MAX_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_NESTED_CACHE_MAX_SIZE )
+					.asLong()
+					.build();
+
+	private static final OptionalConfigurationProperty<Long> QUERY_SLOW_LOG_WARN_THRESHOLD =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_SLOW_LOG_WARN_THRESHOLD )
+					.asLong()
+					.build();
+
+	private static final OptionalConfigurationProperty<Long> QUERY_SLOW_LOG_INFO_THRESHOLD =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_SLOW_LOG_INFO_THRESHOLD )
+					.asLong()
+					.build();
+
+	private static final ConfigurationProperty<Double> QUERY_SLOW_LOG_SAMPLING_RATE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_SLOW_LOG_SAMPLING_RATE )
+					.as( Double.class, Double::valueOf )
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_SLOW_LOG_SAMPLING_RATE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_SLOW_LOG_MAX_QUERY_LENGTH =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_SLOW_LOG_MAX_QUERY_LENGTH )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_SLOW_LOG_MAX_QUERY_LENGTH )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> METRICS_JMX_ENABLED =
+			ConfigurationProperty.forKey( LuceneBackendSettings.METRICS_JMX_ENABLED )
+					.asBoolean()
+					.withDefault( LuceneBackendSettings.Defaults.METRICS_JMX_ENABLED )
+					.build();
+
+	private static final OptionalConfigurationProperty<BeanReference<? extends LuceneWriteMetricsFactory>> METRICS_FACTORY =
+			ConfigurationProperty.forKey( LuceneBackendSettings.METRICS_FACTORY )
+					.asBeanReference( LuceneWriteMetricsFactory.class )
+					.build();
+
 	@Override
 	public BackendImplementor create(String name, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -89,7 +152,12 @@ public BackendImplementor create(String name, BackendBuildContext buildContext,
 				new LuceneWorkFactoryImpl( multiTenancyStrategy ),
 				analysisDefinitionRegistry,
 				multiTenancyStrategy,
+				getParentBitSetCache( propertySource ),
+				getTenantIndexIdleTimeout( propertySource ),
 				new DefaultTimingSource(),
+				getSlowQueryLog( propertySource ),
+				getPinnedIndexReaderRegistry( backendContext, propertySource ),
+				getWriteMetricsProvider( name, buildContext, propertySource ),
 				buildContext.getFailureHandler()
 		);
 	}
@@ -133,6 +201,8 @@ private MultiTenancyStrategy getMultiTenancyStrategy(ConfigurationPropertySource
 				return new NoMultiTenancyStrategy();
 			case DISCRIMINATOR:
 				return new DiscriminatorMultiTenancyStrategy();
+			case DEDICATED_INDEX:
+				return new DedicatedIndexMultiTenancyStrategy();
 			default:
 				throw new AssertionFailure( String.format(
 						Locale.ROOT, "Unsupported multi-tenancy strategy '%1$s'.",
@@ -141,6 +211,51 @@ private MultiTenancyStrategy getMultiTenancyStrategy(ConfigurationPropertySource
 		}
 	}
 
+	private Duration getTenantIndexIdleTimeout(ConfigurationPropertySource propertySource) {
+		long idleTimeout = MULTI_TENANCY_TENANT_IDLE_TIMEOUT.get( propertySource );
+		return idleTimeout <= 0L ? null : Duration.ofMillis( idleTimeout );
+	}
+
+	private ParentBitSetCache getParentBitSetCache(ConfigurationPropertySource propertySource) {
+		long maxRamBytes = SEARCH_NESTED_CACHE_MAX_SIZE.getAndMap( propertySource, maxSize -> {
+			if ( maxSize < 0L ) {
+				throw log.invalidNestedCacheMaxSize( maxSize );
+			}
+			return maxSize;
+		} )
+				.orElseGet( ParentBitSetCache::defaultMaxRamBytes );
+		return new ParentBitSetCache( maxRamBytes );
+	}
+
+	private SearchSlowQueryLog getSlowQueryLog(ConfigurationPropertySource propertySource) {
+		return new SearchSlowQueryLog(
+				QUERY_SLOW_LOG_WARN_THRESHOLD.get( propertySource ).orElse( null ),
+				QUERY_SLOW_LOG_INFO_THRESHOLD.get( propertySource ).orElse( null ),
+				QUERY_SLOW_LOG_SAMPLING_RATE.get( propertySource ),
+				QUERY_SLOW_LOG_MAX_QUERY_LENGTH.get( propertySource )
+		);
+	}
+
+	private PinnedIndexReaderRegistry getPinnedIndexReaderRegistry(EventContext backendContext,
+			ConfigurationPropertySource propertySource) {
+		return new PinnedIndexReaderRegistry(
+				backendContext,
+				SEARCH_PINNED_CONTEXT_MAX_COUNT.get( propertySource ),
+				SEARCH_PINNED_CONTEXT_MAX_COUNT.resolveOrRaw( propertySource ),
+				Duration.ofMillis( SEARCH_PINNED_CONTEXT_KEEP_ALIVE.get( propertySource ) )
+		);
+	}
+
+	private LuceneWriteMetricsProvider getWriteMetricsProvider(String backendName,
+			BackendBuildContext buildContext, ConfigurationPropertySource propertySource) {
+		BeanResolver beanResolver = buildContext.getBeanResolver();
+		BeanHolder<? extends LuceneWriteMetricsFactory> factoryHolder = METRICS_FACTORY.getAndMap(
+				propertySource, beanResolver::resolve
+		)
+				.orElse( null );
+		return new LuceneWriteMetricsProvider( backendName, METRICS_JMX_ENABLED.get( propertySource ), factoryHolder );
+	}
+
 	private LuceneAnalysisDefinitionRegistry getAnalysisDefinitionRegistry(
 			BackendBuildContext buildContext, ConfigurationPropertySource propertySource,
 			Version luceneVersion) {
@@ -7,11 +7,15 @@
 package org.hibernate.search.backend.lucene.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.SortedSetDocValuesReaderStateCache;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.ParentBitSetCache;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.PinnedIndexReaderRegistry;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
 import org.hibernate.search.engine.backend.Backend;
@@ -20,6 +24,7 @@
 import org.hibernate.search.backend.lucene.index.impl.IndexManagerBackendContext;
 import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerBuilder;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.metrics.impl.LuceneWriteMetricsProvider;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
@@ -31,6 +36,7 @@
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.query.spi.SearchSlowQueryLog;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -47,8 +53,12 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 
 	private final LuceneSyncWorkOrchestratorImpl readOrchestrator;
+	private final PinnedIndexReaderRegistry pinnedIndexReaderRegistry;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final SortedSetDocValuesReaderStateCache facetStateCache;
+	private final ParentBitSetCache parentBitSetCache;
 	private final TimingSource timingSource;
+	private final LuceneWriteMetricsProvider writeMetricsProvider;
 
 	private final EventContext eventContext;
 	private final IndexManagerBackendContext indexManagerBackendContext;
@@ -59,7 +69,12 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 			LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			MultiTenancyStrategy multiTenancyStrategy,
+			ParentBitSetCache parentBitSetCache,
+			Duration tenantIndexIdleTimeout,
 			TimingSource timingSource,
+			SearchSlowQueryLog slowQueryLog,
+			PinnedIndexReaderRegistry pinnedIndexReaderRegistry,
+			LuceneWriteMetricsProvider writeMetricsProvider,
 			FailureHandler failureHandler) {
 		this.name = name;
 		this.threads = threads;
@@ -68,18 +83,25 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 
 		this.readOrchestrator = new LuceneSyncWorkOrchestratorImpl(
-				"Lucene read work orchestrator for backend " + name
+				"Lucene read work orchestrator for backend " + name,
+				threads
 		);
+		this.pinnedIndexReaderRegistry = pinnedIndexReaderRegistry;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.facetStateCache = new SortedSetDocValuesReaderStateCache();
+		this.parentBitSetCache = parentBitSetCache;
 		this.timingSource = timingSource;
+		this.writeMetricsProvider = writeMetricsProvider;
 
 		this.eventContext = EventContexts.fromBackendName( name );
 		this.indexManagerBackendContext = new IndexManagerBackendContext(
 				eventContext, threads, directoryProviderHolder.get(),
-				workFactory, multiTenancyStrategy,
-				timingSource, analysisDefinitionRegistry,
+				workFactory, multiTenancyStrategy, facetStateCache, parentBitSetCache, tenantIndexIdleTimeout,
+				timingSource, slowQueryLog, analysisDefinitionRegistry,
 				failureHandler,
-				readOrchestrator
+				readOrchestrator,
+				pinnedIndexReaderRegistry,
+				writeMetricsProvider
 		);
 	}
 
@@ -96,6 +118,7 @@ public String toString() {
 	@Override
 	public void start(BackendStartContext context) {
 		threads.onStart( context.getConfigurationPropertySource(), context.getThreadPoolProvider() );
+		pinnedIndexReaderRegistry.start( threads.getMaintenanceExecutor() );
 	}
 
 	@Override
@@ -107,10 +130,14 @@ public CompletableFuture<?> preStop() {
 	@Override
 	public void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( PinnedIndexReaderRegistry::stop, pinnedIndexReaderRegistry );
 			closer.push( LuceneSyncWorkOrchestratorImpl::stop, readOrchestrator );
+			closer.push( SortedSetDocValuesReaderStateCache::clear, facetStateCache );
+			closer.push( ParentBitSetCache::clear, parentBitSetCache );
 			closer.push( holder -> holder.get().close(), directoryProviderHolder );
 			closer.push( BeanHolder::close, directoryProviderHolder );
 			closer.push( TimingSource::stop, timingSource );
+			closer.push( LuceneWriteMetricsProvider::close, writeMetricsProvider );
 			closer.push( BackendThreads::onStop, threads );
 		}
 	}
@@ -151,7 +178,7 @@ public IndexManagerBuilder createIndexManagerBuilder(
 		 */
 		return new LuceneIndexManagerBuilder(
 				indexManagerBackendContext,
-				indexName, indexSchemaRootNodeBuilder
+				indexName, indexSchemaRootNodeBuilder, propertySource
 		);
 	}
 }
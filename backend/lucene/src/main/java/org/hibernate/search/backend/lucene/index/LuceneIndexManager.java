@@ -6,10 +6,32 @@
  */
 package org.hibernate.search.backend.lucene.index;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.hibernate.search.engine.backend.index.IndexManager;
 
 public interface LuceneIndexManager extends IndexManager {
 
-	// No Lucene-specific index manager APIs yet.
+	/**
+	 * Splits the shards of this index into more shards, while the index remains available for searching and indexing.
+	 * <p>
+	 * Only indexes using the {@code hash} sharding strategy can be split,
+	 * and the new number of shards must be a multiple of the current number of shards.
+	 * Each current shard keeps the documents that are still routed to it,
+	 * while the others are copied to the new shards in the background.
+	 * Indexing is paused briefly at the end of the split, while the last changes are copied;
+	 * searches are never paused, but may return moved documents twice for a brief moment after the split.
+	 * <p>
+	 * Purging, flushing, refreshing or merging the index while it is being split is not supported
+	 * and fails with an exception.
+	 * <p>
+	 * The configuration property {@code hibernate.search.backends.<backend name>.indexes.<index name>.sharding.number_of_shards}
+	 * must be set to the new number of shards before the next start of the application,
+	 * otherwise the application will fail to start.
+	 *
+	 * @param numberOfShards The new number of shards.
+	 * @return A future that completes when the split is complete and the new shards are in use.
+	 */
+	CompletableFuture<?> splitShards(int numberOfShards);
 
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -38,14 +39,8 @@ public void initialize(ShardingStrategyInitializationContext context) {
 				context.getConfigurationPropertySource(),
 				key -> log.missingPropertyValueForShardingStrategy( NAME, key )
 		);
-		this.shardIds = new String[numberOfShards];
-		Set<String> shardIdSet = new LinkedHashSet<>();
-		for ( int i = 0; i < numberOfShards; i++ ) {
-			String shardId = String.valueOf( i );
-			shardIds[i] = shardId;
-			shardIdSet.add( shardId );
-		}
-		context.setShardIdentifiers( shardIdSet );
+		this.shardIds = createShardIds( numberOfShards );
+		context.setShardIdentifiers( new LinkedHashSet<>( Arrays.asList( shardIds ) ) );
 	}
 
 	@Override
@@ -62,8 +57,43 @@ public Set<String> toShardIdentifiers(Set<String> routingKeys) {
 		return shardIds;
 	}
 
+	int getNumberOfShards() {
+		return shardIds.length;
+	}
+
+	/**
+	 * @param numberOfShards The number of shards of the new strategy.
+	 * @return A strategy routing documents to {@code numberOfShards} shards,
+	 * for use after a shard split.
+	 * When {@code numberOfShards} is a multiple of the current number of shards,
+	 * documents routed to shard {@code j} by the new strategy
+	 * are routed to shard {@code j % getNumberOfShards()} by this strategy.
+	 */
+	HashShardingStrategy withNumberOfShards(int numberOfShards) {
+		HashShardingStrategy result = new HashShardingStrategy();
+		result.shardIds = createShardIds( numberOfShards );
+		return result;
+	}
+
+	/**
+	 * @param routingKey A routing key, or a document identifier for documents without a routing key.
+	 * @return The index of the shard the routing key is routed to, between 0 and {@code getNumberOfShards() - 1}.
+	 */
+	int toShardIndex(String routingKey) {
+		// Shard identifiers are the string representation of shard indexes
+		return Integer.parseInt( toShardIdentifier( routingKey ) );
+	}
+
 	private String toShardIdentifier(String routingKey) {
 		// Note the hash function MUST NOT CHANGE, otherwise existing indexes will no longer work correctly.
 		return SimpleHashFunction.pick( shardIds, routingKey );
 	}
+
+	private static String[] createShardIds(int numberOfShards) {
+		String[] shardIds = new String[numberOfShards];
+		for ( int i = 0; i < numberOfShards; i++ ) {
+			shardIds[i] = String.valueOf( i );
+		}
+		return shardIds;
+	}
 }
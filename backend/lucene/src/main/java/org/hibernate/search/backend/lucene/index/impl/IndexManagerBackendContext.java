@@ -6,18 +6,28 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 
+import org.hibernate.search.backend.lucene.analysis.impl.AnalyzedValueCache;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalHeapDirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.SortedSetDocValuesReaderStateCache;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.ParentBitSetCache;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.DebugIOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.NearRealTimeIOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.PinnedIndexReaderRegistry;
+import org.hibernate.search.backend.lucene.metrics.impl.LuceneWriteMetricsProvider;
+import org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetrics;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestratorImpl;
@@ -29,6 +39,7 @@
 import org.hibernate.search.backend.lucene.scope.model.impl.LuceneScopeModel;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchMultiQueryExecutor;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchQueryBuilder;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
@@ -49,13 +60,16 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
+import org.hibernate.search.engine.search.query.spi.SearchSlowQueryLog;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.index.Term;
 
 public class IndexManagerBackendContext implements WorkExecutionBackendContext, SearchBackendContext {
 
@@ -71,29 +85,49 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 	private final DirectoryProvider directoryProvider;
 	private final LuceneWorkFactory workFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final SortedSetDocValuesReaderStateCache facetStateCache;
+	private final ParentBitSetCache parentBitSetCache;
+	private final Duration tenantIndexIdleTimeout;
 	private final TimingSource timingSource;
+	private final SearchSlowQueryLog slowQueryLog;
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 	private final FailureHandler failureHandler;
 	private final LuceneSyncWorkOrchestrator readOrchestrator;
+	private final PinnedIndexReaderRegistry pinnedIndexReaderRegistry;
+	private final LuceneSearchMultiQueryExecutor multiQueryExecutor;
+	private final LuceneWriteMetricsProvider writeMetricsProvider;
 
 	public IndexManagerBackendContext(EventContext eventContext,
 			BackendThreads threads,
 			DirectoryProvider directoryProvider,
 			LuceneWorkFactory workFactory,
 			MultiTenancyStrategy multiTenancyStrategy,
+			SortedSetDocValuesReaderStateCache facetStateCache,
+			ParentBitSetCache parentBitSetCache,
+			Duration tenantIndexIdleTimeout,
 			TimingSource timingSource,
+			SearchSlowQueryLog slowQueryLog,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			FailureHandler failureHandler,
-			LuceneSyncWorkOrchestrator readOrchestrator) {
+			LuceneSyncWorkOrchestrator readOrchestrator,
+			PinnedIndexReaderRegistry pinnedIndexReaderRegistry,
+			LuceneWriteMetricsProvider writeMetricsProvider) {
 		this.eventContext = eventContext;
 		this.threads = threads;
 		this.directoryProvider = directoryProvider;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.facetStateCache = facetStateCache;
+		this.parentBitSetCache = parentBitSetCache;
+		this.tenantIndexIdleTimeout = tenantIndexIdleTimeout;
 		this.timingSource = timingSource;
+		this.slowQueryLog = slowQueryLog;
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.workFactory = workFactory;
 		this.failureHandler = failureHandler;
 		this.readOrchestrator = readOrchestrator;
+		this.pinnedIndexReaderRegistry = pinnedIndexReaderRegistry;
+		this.multiQueryExecutor = new LuceneSearchMultiQueryExecutor( readOrchestrator );
+		this.writeMetricsProvider = writeMetricsProvider;
 	}
 
 	@Override
@@ -147,8 +181,8 @@ public IndexWorkspace createWorkspace(WorkExecutionIndexManagerContext indexMana
 	public LuceneSearchContext createSearchContext(BackendMappingContext mappingContext,
 			LuceneScopeModel scopeModel) {
 		return new LuceneSearchContext(
-				mappingContext, analysisDefinitionRegistry, multiTenancyStrategy,
-				timingSource,
+				mappingContext, analysisDefinitionRegistry, multiTenancyStrategy, facetStateCache,
+				parentBitSetCache, timingSource, slowQueryLog,
 				scopeModel
 		);
 	}
@@ -164,6 +198,8 @@ public <H> LuceneSearchQueryBuilder<H> createSearchQueryBuilder(
 		return new LuceneSearchQueryBuilder<>(
 				workFactory,
 				readOrchestrator,
+				pinnedIndexReaderRegistry,
+				multiQueryExecutor,
 				searchContext,
 				sessionContext,
 				loadingContextBuilder,
@@ -175,8 +211,46 @@ EventContext getEventContext() {
 		return eventContext;
 	}
 
-	LuceneIndexEntryFactory createLuceneIndexEntryFactory(String indexName, FacetsConfig facetsConfig) {
-		return new LuceneIndexEntryFactory( multiTenancyStrategy, indexName, facetsConfig );
+	boolean isIndexPerTenant() {
+		return multiTenancyStrategy.isIndexPerTenant();
+	}
+
+	/**
+	 * @return The time after which the dedicated index of a tenant should be closed if it was not accessed,
+	 * or {@code null} if tenant indexes should never be closed.
+	 */
+	Duration getTenantIndexIdleTimeoutOrNull() {
+		if ( directoryProvider instanceof LocalHeapDirectoryProvider ) {
+			// Closing an index stored in the heap would lose its content.
+			return null;
+		}
+		return tenantIndexIdleTimeout;
+	}
+
+	/**
+	 * @return The identifiers of tenants whose dedicated index exists on storage,
+	 * including tenants that were not accessed since the backend started.
+	 */
+	Set<String> listPersistedTenantIds(LuceneIndexModel model) {
+		// Each tenant gets its own directory: see createTenantShard().
+		return directoryProvider.listSubDirectoryNames( model.getIndexName() );
+	}
+
+	ScheduledExecutorService getMaintenanceExecutor() {
+		return threads.getMaintenanceExecutor();
+	}
+
+	ThreadProvider getThreadProvider() {
+		return threads.getThreadProvider();
+	}
+
+	Term getDocumentIdTerm(String tenantId, String id) {
+		return multiTenancyStrategy.getDocumentIdTerm( tenantId, id );
+	}
+
+	LuceneIndexEntryFactory createLuceneIndexEntryFactory(String indexName, FacetsConfig facetsConfig,
+			AnalyzedValueCache analyzedValueCache) {
+		return new LuceneIndexEntryFactory( multiTenancyStrategy, indexName, facetsConfig, analyzedValueCache );
 	}
 
 	IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
@@ -197,30 +271,53 @@ LuceneIndexSchemaManager createSchemaManager(SchemaManagementIndexManagerContext
 	}
 
 	Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, Optional<String> shardId) {
+		EventContext shardEventContext = EventContexts.fromIndexNameAndShardId( model.getIndexName(), shardId );
+		return createShard( ioStrategy, model, shardEventContext, Optional.empty(), shardId, shardId );
+	}
+
+	Shard createTenantShard(IOStrategy ioStrategy, LuceneIndexModel model, String tenantId,
+			Optional<String> shardId) {
+		EventContext shardEventContext = EventContexts.fromIndexName( model.getIndexName() )
+				.append( EventContexts.fromTenantId( tenantId ) );
+		if ( shardId.isPresent() ) {
+			shardEventContext = shardEventContext.append( EventContexts.fromShardId( shardId.get() ) );
+		}
+		// Each tenant gets its own directory (or set of directories, if sharded) inside the index directory.
+		Optional<String> directoryId = Optional.of(
+				shardId.isPresent() ? tenantId + "/" + shardId.get() : tenantId
+		);
+		return createShard( ioStrategy, model, shardEventContext, Optional.of( tenantId ), shardId, directoryId );
+	}
+
+	private Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, EventContext shardEventContext,
+			Optional<String> tenantId, Optional<String> shardId, Optional<String> directoryId) {
 		LuceneParallelWorkOrchestratorImpl managementOrchestrator;
 		LuceneSerialWorkOrchestratorImpl indexingOrchestrator;
 		IndexAccessorImpl indexAccessor = null;
 		String indexName = model.getIndexName();
-		EventContext shardEventContext = EventContexts.fromIndexNameAndShardId( model.getIndexName(), shardId );
+		LuceneWriteMetrics writeMetrics = writeMetricsProvider.create( indexName, tenantId, shardId );
 
 		try {
 			indexAccessor = ioStrategy.createIndexAccessor(
 					indexName, shardEventContext,
-					shardId, model.getScopedAnalyzer()
+					directoryId, model.getScopedAnalyzer(), model.getIndexSort(),
+					writeMetrics
 			);
 			managementOrchestrator = createIndexManagementOrchestrator( shardEventContext, indexAccessor );
-			indexingOrchestrator = createIndexingOrchestrator( shardEventContext, indexAccessor );
+			indexingOrchestrator = createIndexingOrchestrator( shardEventContext, indexAccessor, writeMetrics );
 
 			Shard shard = new Shard(
 					shardEventContext, indexAccessor,
-					managementOrchestrator, indexingOrchestrator
+					managementOrchestrator, indexingOrchestrator,
+					writeMetrics
 			);
 			return shard;
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
 					// No need to stop the orchestrators, we didn't start them
-					.push( indexAccessor );
+					.push( indexAccessor )
+					.push( LuceneWriteMetrics::close, writeMetrics );
 			throw e;
 		}
 	}
@@ -236,13 +333,14 @@ private LuceneParallelWorkOrchestratorImpl createIndexManagementOrchestrator(Eve
 	}
 
 	private LuceneSerialWorkOrchestratorImpl createIndexingOrchestrator(EventContext eventContext,
-			IndexAccessorImpl indexAccessor) {
+			IndexAccessorImpl indexAccessor, LuceneWriteMetrics writeMetrics) {
 		return new LuceneSerialWorkOrchestratorImpl(
 				"Lucene indexing orchestrator for " + eventContext.render(),
 				new LuceneBatchedWorkProcessor(
-						eventContext, indexAccessor
+						eventContext, indexAccessor, writeMetrics
 				),
 				threads,
+				writeMetrics,
 				failureHandler
 		);
 	}
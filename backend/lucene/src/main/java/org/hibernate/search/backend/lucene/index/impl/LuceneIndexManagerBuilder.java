@@ -6,27 +6,64 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.Locale;
+
+import org.hibernate.search.backend.lucene.analysis.impl.AnalyzedValueCache;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
+import org.hibernate.search.util.common.impl.StringHelper;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 
 public class LuceneIndexManagerBuilder implements IndexManagerBuilder {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final OptionalConfigurationProperty<String> INDEX_SORTING_FIELD =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEX_SORTING_FIELD ).asString()
+					.build();
+
+	private static final ConfigurationProperty<SortOrder> INDEX_SORTING_ORDER =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEX_SORTING_ORDER )
+					.as( SortOrder.class, LuceneIndexManagerBuilder::parseSortOrder )
+					.withDefault( LuceneIndexSettings.Defaults.INDEX_SORTING_ORDER )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_ANALYSIS_CACHE_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_ANALYSIS_CACHE_SIZE ).asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_ANALYSIS_CACHE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Long> INDEXING_ANALYSIS_CACHE_MAX_MEMORY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_ANALYSIS_CACHE_MAX_MEMORY ).asLong()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_ANALYSIS_CACHE_MAX_MEMORY )
+					.build();
+
 	private final IndexManagerBackendContext backendContext;
 
 	private final String indexName;
 	private final LuceneIndexSchemaRootNodeBuilder schemaRootNodeBuilder;
+	private final ConfigurationPropertySource propertySource;
 
 	public LuceneIndexManagerBuilder(IndexManagerBackendContext backendContext,
 			String indexName,
-			LuceneIndexSchemaRootNodeBuilder schemaRootNodeBuilder) {
+			LuceneIndexSchemaRootNodeBuilder schemaRootNodeBuilder,
+			ConfigurationPropertySource propertySource) {
 		this.backendContext = backendContext;
 		this.indexName = indexName;
 		this.schemaRootNodeBuilder = schemaRootNodeBuilder;
+		this.propertySource = propertySource;
 	}
 
 	@Override
@@ -43,9 +80,18 @@ public IndexSchemaRootNodeBuilder getSchemaRootNodeBuilder() {
 	public LuceneIndexManagerImpl build() {
 		LuceneIndexModel model = null;
 		try {
-			model = schemaRootNodeBuilder.build( indexName );
+			model = schemaRootNodeBuilder.build(
+					indexName,
+					INDEX_SORTING_FIELD.get( propertySource ).orElse( null ),
+					INDEX_SORTING_ORDER.get( propertySource )
+			);
+			int analysisCacheSize = INDEXING_ANALYSIS_CACHE_SIZE.get( propertySource );
+			long analysisCacheMaxMemory = INDEXING_ANALYSIS_CACHE_MAX_MEMORY.get( propertySource );
+			AnalyzedValueCache analyzedValueCache = analysisCacheSize > 0 && analysisCacheMaxMemory > 0L
+					? new AnalyzedValueCache( model.getScopedAnalyzer(), analysisCacheSize, analysisCacheMaxMemory )
+					: null;
 			LuceneIndexEntryFactory indexEntryFactory = backendContext.createLuceneIndexEntryFactory(
-					indexName, model.getFacetsConfig()
+					indexName, model.getFacetsConfig(), analyzedValueCache
 			);
 			return new LuceneIndexManagerImpl(
 					backendContext, indexName, model, indexEntryFactory
@@ -57,4 +103,13 @@ public LuceneIndexManagerImpl build() {
 			throw e;
 		}
 	}
+
+	private static SortOrder parseSortOrder(String value) {
+		return StringHelper.parseDiscreteValues(
+				SortOrder.values(),
+				order -> order.name().toLowerCase( Locale.ROOT ),
+				log::invalidIndexSortOrder,
+				value
+		);
+	}
 }
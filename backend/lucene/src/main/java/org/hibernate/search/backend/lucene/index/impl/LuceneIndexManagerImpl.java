@@ -145,8 +145,14 @@ public void addTo(IndexScopeBuilder builder) {
 	}
 
 	@Override
-	public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException {
-		shardHolder.openIndexReaders( routingKeys, readerCollector );
+	public void openIndexReaders(String tenantId, Set<String> routingKeys, DirectoryReaderCollector readerCollector)
+			throws IOException {
+		shardHolder.openIndexReaders( tenantId, routingKeys, readerCollector );
+	}
+
+	@Override
+	public CompletableFuture<?> splitShards(int numberOfShards) {
+		return shardHolder.splitShards( numberOfShards );
 	}
 
 	@Override
@@ -0,0 +1,88 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ConstantScoreScorer;
+import org.apache.lucene.search.ConstantScoreWeight;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.BitSetIterator;
+import org.apache.lucene.util.FixedBitSet;
+
+/**
+ * A query matching documents that a given sharding strategy does not route to a given shard.
+ * <p>
+ * Used to delete documents from a shard after they were copied to another shard during a {@link ShardSplit}.
+ */
+final class MisroutedDocumentsQuery extends Query {
+
+	private final HashShardingStrategy strategy;
+	private final int shardIndex;
+
+	MisroutedDocumentsQuery(HashShardingStrategy strategy, int shardIndex) {
+		this.strategy = strategy;
+		this.shardIndex = shardIndex;
+	}
+
+	@Override
+	public String toString(String field) {
+		return getClass().getName() + "{numberOfShards=" + strategy.getNumberOfShards()
+				+ ", shardIndex=" + shardIndex + "}";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		MisroutedDocumentsQuery other = (MisroutedDocumentsQuery) obj;
+		return strategy.getNumberOfShards() == other.strategy.getNumberOfShards()
+				&& shardIndex == other.shardIndex;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( strategy.getNumberOfShards(), shardIndex );
+	}
+
+	@Override
+	public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) {
+		return new ConstantScoreWeight( this, 1.0f ) {
+			@Override
+			public Scorer scorer(LeafReaderContext context) throws IOException {
+				int[] routes = ShardSplit.computeRoutes( context.reader(), strategy );
+				FixedBitSet matchingDocs = new FixedBitSet( routes.length );
+				for ( int doc = 0; doc < routes.length; doc++ ) {
+					int route = routes[doc];
+					// Leave alone documents whose route is unknown, just in case.
+					if ( route != -1 && route != shardIndex ) {
+						matchingDocs.set( doc );
+					}
+				}
+				return new ConstantScoreScorer( this, this.score(), scoreMode,
+						new BitSetIterator( matchingDocs, matchingDocs.cardinality() ) );
+			}
+
+			@Override
+			public boolean isCacheable(LeafReaderContext ctx) {
+				// Routes are cheap to compute compared to the cost of a split: no need to cache.
+				return false;
+			}
+		};
+	}
+
+}
@@ -12,6 +12,7 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetrics;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
@@ -32,14 +33,17 @@ public final class Shard {
 	private final IndexAccessorImpl indexAccessor;
 	private final LuceneParallelWorkOrchestratorImpl managementOrchestrator;
 	private final LuceneSerialWorkOrchestratorImpl indexingOrchestrator;
+	private final LuceneWriteMetrics writeMetrics;
 
 	Shard(EventContext eventContext, IndexAccessorImpl indexAccessor,
 			LuceneParallelWorkOrchestratorImpl managementOrchestrator,
-			LuceneSerialWorkOrchestratorImpl indexingOrchestrator) {
+			LuceneSerialWorkOrchestratorImpl indexingOrchestrator,
+			LuceneWriteMetrics writeMetrics) {
 		this.eventContext = eventContext;
 		this.indexAccessor = indexAccessor;
 		this.managementOrchestrator = managementOrchestrator;
 		this.indexingOrchestrator = indexingOrchestrator;
+		this.writeMetrics = writeMetrics;
 	}
 
 	void start(ConfigurationPropertySource propertySource) {
@@ -71,9 +75,30 @@ void stop() throws IOException {
 			closer.push( LuceneParallelWorkOrchestratorImpl::stop, managementOrchestrator );
 			// Close the index writer after the orchestrators, when we're sure all works have been performed
 			closer.push( IndexAccessorImpl::close, indexAccessor );
+			closer.push( LuceneWriteMetrics::close, writeMetrics );
 		}
 	}
 
+	void createIndexIfMissing() {
+		indexAccessor.createIndexIfMissing();
+	}
+
+	void dropAndCreateIndex() {
+		indexAccessor.dropIndexIfExisting();
+		indexAccessor.createIndexIfMissing();
+	}
+
+	/**
+	 * @return A future that completes when all indexing works submitted so far are completely executed.
+	 */
+	CompletableFuture<?> getIndexingCompletion() {
+		return indexingOrchestrator.getCompletion();
+	}
+
+	IndexAccessorImpl getIndexAccessor() {
+		return indexAccessor;
+	}
+
 	DirectoryReader openReader() throws IOException {
 		return indexAccessor.getIndexReader();
 	}
@@ -7,17 +7,29 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderCollector;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
@@ -28,18 +40,38 @@
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
 
 class ShardHolder implements ReadIndexManagerContext, WorkExecutionIndexManagerContext,
 		SchemaManagementIndexManagerContext {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final IndexManagerBackendContext backendContext;
 	private final LuceneIndexModel model;
 
-	private BeanHolder<? extends ShardingStrategy> shardingStrategyHolder;
-	private final Map<String, Shard> shards = new LinkedHashMap<>();
-	private final List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
+	// Volatile because they are replaced at runtime when splitting shards: see runSplit().
+	private volatile BeanHolder<? extends ShardingStrategy> shardingStrategyHolder;
+	private volatile Map<String, Shard> shards = new LinkedHashMap<>();
+	private volatile List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
+
+	// Held in read mode while routing indexing works and submitting them,
+	// in write mode while changing the set of shards.
+	private final ReadWriteLock indexingRoutingLock = new ReentrantReadWriteLock();
+	private volatile ShardSplit ongoingSplit;
+
+	// Only used when each tenant has a dedicated index
+	private final Map<String, TenantShards> tenantShards = new ConcurrentHashMap<>();
+
+	private ConfigurationPropertySource propertySource;
+	private IOStrategy ioStrategy;
+	private Set<String> tenantShardIdentifiers;
+	private long tenantIdleTimeoutNanos;
+	private ScheduledFuture<?> tenantIdleClosingTask;
 
 	ShardHolder(IndexManagerBackendContext backendContext, LuceneIndexModel model) {
 		this.backendContext = backendContext;
@@ -64,6 +96,17 @@ void start(IndexManagerStartContext startContext) {
 							startContext,
 							propertySource.withMask( "sharding" )
 					);
+			this.propertySource = propertySource;
+			this.ioStrategy = ioStrategy;
+
+			if ( backendContext.isIndexPerTenant() ) {
+				// Tenant shards are created lazily, on first access to each tenant.
+				this.shardingStrategyHolder = initializationContext.initialize();
+				this.tenantShardIdentifiers = initializationContext.getShardIdentifiersOrNull();
+				startTenantIdleClosing();
+				return;
+			}
+
 			this.shardingStrategyHolder = initializationContext.create( shards );
 
 			if ( startContext.getFailureCollector().hasFailure() ) {
@@ -75,6 +118,24 @@ void start(IndexManagerStartContext startContext) {
 				shard.start( propertySource );
 				managementOrchestrators.add( shard.getManagementOrchestrator() );
 			}
+
+			if ( shardingStrategyHolder != null && shardingStrategyHolder.get() instanceof HashShardingStrategy ) {
+				HashShardingStrategy strategy = (HashShardingStrategy) shardingStrategyHolder.get();
+				EventContext eventContext = EventContexts.fromIndexName( model.getIndexName() );
+				// Routing documents with a different number of shards than the one used when they were indexed
+				// would lead to duplicates: fail early if the shards were split and the configuration was not updated.
+				ShardSplit.validateNumberOfShards( shards, strategy.getNumberOfShards(), eventContext );
+				// A previous split may not have deleted the documents it moved from the original shards.
+				ShardSplit.deletePendingMovedDocuments( shards, strategy, eventContext );
+			}
+		}
+		catch (IOException e) {
+			new SuppressingCloser( e )
+					.pushAll( Shard::stop, shards.values() );
+			shards.clear();
+			managementOrchestrators.clear();
+			throw log.unableToDeleteDocumentsMovedByShardSplit( e.getMessage(),
+					EventContexts.fromIndexName( model.getIndexName() ), e );
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
@@ -86,17 +147,36 @@ void start(IndexManagerStartContext startContext) {
 	}
 
 	CompletableFuture<?> preStop() {
-		CompletableFuture<?>[] futures = new CompletableFuture[shards.size()];
-		int i = 0;
+		List<CompletableFuture<?>> futures = new ArrayList<>();
 		for ( Shard shard : shards.values() ) {
-			futures[i] = shard.preStop();
-			i++;
+			futures.add( shard.preStop() );
+		}
+		for ( TenantShards tenant : tenantShards.values() ) {
+			futures.add( tenant.preStop() );
 		}
-		return CompletableFuture.allOf( futures );
+		return CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) );
 	}
 
 	void stop() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
+			if ( tenantIdleClosingTask != null ) {
+				tenantIdleClosingTask.cancel( false );
+				tenantIdleClosingTask = null;
+			}
+			ShardSplit split = ongoingSplit;
+			if ( split != null ) {
+				closer.push( ShardSplit::stop, split );
+			}
+			for ( TenantShards tenant : tenantShards.values() ) {
+				if ( tenant.tryMarkClosed() ) {
+					closer.push( TenantShards::stop, tenant );
+				}
+				else {
+					// Being closed because it was idle: just wait for the closing to finish.
+					closer.push( CompletableFuture::join, tenant.getCloseFuture() );
+				}
+			}
+			tenantShards.clear();
 			closer.pushAll( Shard::stop, shards.values() );
 			shards.clear();
 			managementOrchestrators.clear();
@@ -104,9 +184,10 @@ void stop() throws IOException {
 	}
 
 	@Override
-	public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException {
+	public void openIndexReaders(String tenantId, Set<String> routingKeys, DirectoryReaderCollector readerCollector)
+			throws IOException {
 		String mappedTypeName = model.getMappedTypeName();
-		Collection<Shard> enabledShards = toShards( routingKeys );
+		Collection<Shard> enabledShards = toShards( tenantId, routingKeys );
 		for ( Shard shard : enabledShards ) {
 			readerCollector.collect( mappedTypeName, shard.openReader() );
 		}
@@ -123,13 +204,28 @@ public String getMappedTypeName() {
 	}
 
 	@Override
-	public LuceneSerialWorkOrchestrator getIndexingOrchestrator(String documentId, String routingKey) {
-		return toShard( documentId, routingKey ).getIndexingOrchestrator();
+	public Lock getIndexingRoutingLock() {
+		return indexingRoutingLock.readLock();
+	}
+
+	@Override
+	public LuceneSerialWorkOrchestrator getIndexingOrchestrator(String tenantId, String documentId,
+			String routingKey) {
+		ShardSplit split = ongoingSplit;
+		if ( split != null ) {
+			split.recordChange( backendContext.getDocumentIdTerm( tenantId, documentId ), documentId, routingKey );
+		}
+		return toShard( tenantId, documentId, routingKey ).getIndexingOrchestrator();
 	}
 
 	@Override
-	public List<LuceneParallelWorkOrchestrator> getManagementOrchestrators(Set<String> routingKeys) {
-		Collection<Shard> enabledShards = toShards( routingKeys );
+	public List<LuceneParallelWorkOrchestrator> getManagementOrchestrators(String tenantId,
+			Set<String> routingKeys) {
+		if ( ongoingSplit != null ) {
+			// Management works would not affect the new shards, or the documents being copied to them.
+			throw log.operationNotSupportedDuringShardSplit( EventContexts.fromIndexName( model.getIndexName() ) );
+		}
+		Collection<Shard> enabledShards = toShards( tenantId, routingKeys );
 		List<LuceneParallelWorkOrchestrator> orchestrators = new ArrayList<>();
 		for ( Shard shard : enabledShards ) {
 			orchestrators.add( shard.getManagementOrchestrator() );
@@ -139,35 +235,251 @@ public List<LuceneParallelWorkOrchestrator> getManagementOrchestrators(Set<Strin
 
 	@Override
 	public List<LuceneParallelWorkOrchestrator> getAllManagementOrchestrators() {
-		return managementOrchestrators;
+		if ( !backendContext.isIndexPerTenant() ) {
+			return managementOrchestrators;
+		}
+		// Schema management must also affect tenant indexes that are closed because they were idle,
+		// and those that exist on storage but were not accessed since startup: open them.
+		// Those that are not accessed afterwards will be closed again when idle.
+		Set<String> tenantIds = new TreeSet<>( backendContext.listPersistedTenantIds( model ) );
+		tenantIds.addAll( tenantShards.keySet() );
+		List<LuceneParallelWorkOrchestrator> orchestrators = new ArrayList<>();
+		for ( String tenantId : tenantIds ) {
+			// Do not create missing indexes: that's up to the schema management works.
+			for ( Shard shard : getShards( tenantId, false ).values() ) {
+				orchestrators.add( shard.getManagementOrchestrator() );
+			}
+		}
+		return orchestrators;
+	}
+
+	CompletableFuture<?> splitShards(int numberOfShards) {
+		EventContext eventContext = EventContexts.fromIndexName( model.getIndexName() );
+		if ( backendContext.isIndexPerTenant() ) {
+			throw log.shardSplitNotSupportedWithDedicatedIndex( eventContext );
+		}
+		BeanHolder<? extends ShardingStrategy> strategyHolder = shardingStrategyHolder;
+		if ( strategyHolder == null ) {
+			throw log.shardSplitRequiresHashSharding( HashShardingStrategy.NAME, NoShardingStrategy.NAME,
+					eventContext );
+		}
+		if ( !( strategyHolder.get() instanceof HashShardingStrategy ) ) {
+			throw log.shardSplitRequiresHashSharding( HashShardingStrategy.NAME, strategyHolder.get(),
+					eventContext );
+		}
+		HashShardingStrategy strategy = (HashShardingStrategy) strategyHolder.get();
+		int currentNumberOfShards = strategy.getNumberOfShards();
+		if ( numberOfShards <= currentNumberOfShards || numberOfShards % currentNumberOfShards != 0 ) {
+			throw log.invalidShardSplitTarget( currentNumberOfShards, numberOfShards, eventContext );
+		}
+
+		ShardSplit split;
+		Lock lock = indexingRoutingLock.writeLock();
+		lock.lock();
+		try {
+			if ( ongoingSplit != null ) {
+				throw log.shardSplitAlreadyInProgress( eventContext );
+			}
+			split = new ShardSplit( backendContext, model, strategy, strategy.withNumberOfShards( numberOfShards ),
+					shards );
+			// From now on, changes to documents will be recorded.
+			ongoingSplit = split;
+		}
+		finally {
+			lock.unlock();
+		}
+
+		CompletableFuture<?> future = new CompletableFuture<>();
+		// Use a dedicated thread: the split waits for indexing works,
+		// which would not make progress if the split occupied a thread of the write executor.
+		backendContext.getThreadProvider()
+				.createThreadFactory( "Hibernate Search - Shard split for index " + model.getIndexName() )
+				.newThread( () -> runSplit( split, future, eventContext ) )
+				.start();
+		return future;
 	}
 
 	public List<Shard> getShardsForTests() {
-		return new ArrayList<>( shards.values() );
+		List<Shard> result = new ArrayList<>( shards.values() );
+		for ( TenantShards tenant : tenantShards.values() ) {
+			result.addAll( tenant.getShards().values() );
+		}
+		return result;
+	}
+
+	private Map<String, Shard> getShards(String tenantId) {
+		if ( !backendContext.isIndexPerTenant() ) {
+			return shards;
+		}
+		return getShards( tenantId, true );
+	}
+
+	private Map<String, Shard> getShards(String tenantId, boolean createIndexIfMissing) {
+		while ( true ) {
+			TenantShards tenant = tenantShards.computeIfAbsent( tenantId,
+					ignored -> openTenantShards( tenantId, createIndexIfMissing ) );
+			if ( tenant.tryAccess( System.nanoTime() ) ) {
+				return tenant.getShards();
+			}
+			// The shards are being closed because they were idle.
+			// Wait until they are completely closed, so that their directories are released,
+			// then open them again.
+			tenant.getCloseFuture().join();
+			tenantShards.remove( tenantId, tenant );
+		}
+	}
+
+	private TenantShards openTenantShards(String tenantId, boolean createIndexIfMissing) {
+		Map<String, Shard> newShards = new LinkedHashMap<>();
+		try {
+			if ( tenantShardIdentifiers == null ) {
+				newShards.put( null, backendContext.createTenantShard( ioStrategy, model, tenantId, Optional.empty() ) );
+			}
+			else {
+				for ( String shardId : tenantShardIdentifiers ) {
+					newShards.put( shardId,
+							backendContext.createTenantShard( ioStrategy, model, tenantId, Optional.of( shardId ) ) );
+				}
+			}
+			for ( Shard shard : newShards.values() ) {
+				shard.start( propertySource );
+				if ( createIndexIfMissing ) {
+					// Tenants that were never accessed are not known when the schema is managed on startup:
+					// create the index on first access instead.
+					shard.createIndexIfMissing();
+				}
+			}
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e )
+					.pushAll( Shard::stop, newShards.values() );
+			throw e;
+		}
+		return new TenantShards( tenantId, newShards, System.nanoTime() );
+	}
+
+	private void startTenantIdleClosing() {
+		Duration idleTimeout = backendContext.getTenantIndexIdleTimeoutOrNull();
+		if ( idleTimeout == null ) {
+			return;
+		}
+		tenantIdleTimeoutNanos = idleTimeout.toNanos();
+		// Check often enough that an idle tenant index is not left open much longer than the timeout.
+		long checkIntervalMs = Math.max( 1L, idleTimeout.toMillis() / 2 );
+		tenantIdleClosingTask = backendContext.getMaintenanceExecutor().scheduleWithFixedDelay(
+				this::closeIdleTenantShards, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS
+		);
+	}
+
+	private void closeIdleTenantShards() {
+		long now = System.nanoTime();
+		for ( TenantShards tenant : tenantShards.values() ) {
+			if ( !tenant.tryMarkClosedIfIdle( now, tenantIdleTimeoutNanos ) ) {
+				continue;
+			}
+			if ( log.isDebugEnabled() ) {
+				log.debugf( "Closing idle index of tenant '%s' in %s", tenant.getTenantId(), this );
+			}
+			// Let ongoing works complete before closing, without blocking the current thread.
+			// The tenant stays in the map until it is completely closed,
+			// so that concurrent accesses wait for the closing instead of re-opening the same directories.
+			tenant.preStop().whenComplete( (result, throwable) -> {
+				try {
+					tenant.stop();
+				}
+				catch (IOException | RuntimeException e) {
+					log.unableToCloseIdleTenantIndex( tenant.getTenantId(),
+							EventContexts.fromIndexName( model.getIndexName() ), e );
+				}
+				finally {
+					tenantShards.remove( tenant.getTenantId(), tenant );
+				}
+			} );
+		}
+	}
+
+	private void runSplit(ShardSplit split, CompletableFuture<?> future, EventContext eventContext) {
+		int previousNumberOfShards = shards.size();
+		try {
+			split.copyExistingDocuments( ioStrategy, propertySource );
+
+			Lock lock = indexingRoutingLock.writeLock();
+			lock.lock();
+			try {
+				split.copyChangedDocuments();
+
+				Map<String, Shard> newShards = new LinkedHashMap<>( shards );
+				newShards.putAll( split.getNewShards() );
+				List<LuceneParallelWorkOrchestrator> newManagementOrchestrators = new ArrayList<>();
+				for ( Shard shard : newShards.values() ) {
+					newManagementOrchestrators.add( shard.getManagementOrchestrator() );
+				}
+				// Queries don't acquire the lock, but they always retrieve the strategy first, then the shards.
+				// Thus replacing the shards first, then the strategy, guarantees a query will either:
+				// - use the previous strategy and target (a subset of) the previous shards;
+				// - or use the new strategy and target (a subset of) the new shards.
+				this.managementOrchestrators = newManagementOrchestrators;
+				this.shards = newShards;
+				this.shardingStrategyHolder = BeanHolder.of( split.getTargetStrategy() );
+				this.ongoingSplit = null;
+			}
+			finally {
+				lock.unlock();
+			}
+
+			// Until this completes, queries targeting all shards may return moved documents twice.
+			try {
+				split.deleteMovedDocuments();
+			}
+			catch (IOException | RuntimeException e) {
+				// The new shards are in use: the split itself succeeded.
+				// Shards that were not cleaned up remain flagged, and will be cleaned up on the next start.
+				future.completeExceptionally( log.unableToDeleteDocumentsMovedByShardSplit( e.getMessage(),
+						eventContext, e ) );
+				return;
+			}
+
+			log.shardSplitCompleted( previousNumberOfShards, shards.size(),
+					LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, eventContext );
+			future.complete( null );
+		}
+		catch (IOException | RuntimeException e) {
+			if ( ongoingSplit == split ) {
+				new SuppressingCloser( e ).push( ShardSplit::stop, split );
+				ongoingSplit = null;
+			}
+			future.completeExceptionally( log.unableToSplitShards( e.getMessage(), eventContext, e ) );
+		}
 	}
 
-	private Collection<Shard> toShards(Set<String> routingKeys) {
-		if ( shardingStrategyHolder == null || routingKeys.isEmpty() ) {
+	private Collection<Shard> toShards(String tenantId, Set<String> routingKeys) {
+		// Retrieve the strategy *before* the shards: see runSplit().
+		BeanHolder<? extends ShardingStrategy> strategyHolder = shardingStrategyHolder;
+		Map<String, Shard> targetedShards = getShards( tenantId );
+		if ( strategyHolder == null || routingKeys.isEmpty() ) {
 			// No sharding or no routing key => target all shards
-			return shards.values();
+			return targetedShards.values();
 		}
 
-		Set<String> shardIdentifiers = shardingStrategyHolder.get().toShardIdentifiers( routingKeys );
+		Set<String> shardIdentifiers = strategyHolder.get().toShardIdentifiers( routingKeys );
 
 		Collection<Shard> enabledShards = new HashSet<>();
 		for ( String shardId : shardIdentifiers ) {
-			enabledShards.add( shards.get( shardId ) );
+			enabledShards.add( targetedShards.get( shardId ) );
 		}
 		return enabledShards;
 	}
 
-	private Shard toShard(String documentId, String routingKey) {
-		if ( shardingStrategyHolder == null ) {
+	private Shard toShard(String tenantId, String documentId, String routingKey) {
+		// Retrieve the strategy *before* the shards: see runSplit().
+		BeanHolder<? extends ShardingStrategy> strategyHolder = shardingStrategyHolder;
+		Map<String, Shard> targetedShards = getShards( tenantId );
+		if ( strategyHolder == null ) {
 			// Sharding is disabled: there's only one shard
-			return shards.values().iterator().next();
+			return targetedShards.values().iterator().next();
 		}
 
-		String shardId = shardingStrategyHolder.get().toShardIdentifier( documentId, routingKey );
-		return shards.get( shardId );
+		String shardId = strategyHolder.get().toShardIdentifier( documentId, routingKey );
+		return targetedShards.get( shardId );
 	}
 }
@@ -0,0 +1,472 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.CodecReader;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FilterCodecReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PostingsEnum;
+import org.apache.lucene.index.SlowCodecReaderWrapper;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.FixedBitSet;
+
+/**
+ * An online split of the shards of an index using the {@link HashShardingStrategy hash sharding strategy}
+ * into a multiple of the current number of shards.
+ * <p>
+ * With {@code N} current shards and {@code M = k * N} target shards,
+ * the hash function guarantees that documents routed to target shard {@code j}
+ * are currently stored in shard {@code j % N}.
+ * Thus each current shard {@code i} is kept as-is and becomes target shard {@code i},
+ * while each new shard {@code j >= N} is filled with a copy of the documents of shard {@code j % N}
+ * that are routed to {@code j}.
+ * Documents are copied segment by segment with {@link org.apache.lucene.index.IndexWriter#addIndexes(CodecReader...)},
+ * hiding the documents routed to other shards, so that they don't need to be analyzed again.
+ * <p>
+ * The split happens in two steps:
+ * <ol>
+ *     <li>{@link #copyExistingDocuments(IOStrategy, ConfigurationPropertySource)}, while documents are still being indexed:
+ *     copies the documents from a snapshot of the current shards.
+ *     Documents changed after the split started are {@link #recordChange(Term, String, String) recorded}.</li>
+ *     <li>{@link #copyChangedDocuments()}, while indexing is paused:
+ *     copies the documents that changed since the split started.</li>
+ * </ol>
+ * Once the new shards are in use, {@link #deleteMovedDocuments()}
+ * removes documents that were moved to new shards from the current shards.
+ * <p>
+ * The new number of shards is persisted in the commit user data of every shard,
+ * so that starting the index with a different number of shards {@link #validateNumberOfShards(Map, int, EventContext) fails}.
+ * The current shards are also flagged as requiring a cleanup before the new shards are used,
+ * so that moved documents are {@link #deletePendingMovedDocuments(Map, HashShardingStrategy, EventContext) deleted on startup}
+ * if {@link #deleteMovedDocuments()} failed or did not get the chance to run.
+ */
+final class ShardSplit {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String COMMIT_DATA_NUMBER_OF_SHARDS_KEY = "hibernate_search_number_of_shards";
+	private static final String COMMIT_DATA_CLEANUP_PENDING_KEY = "hibernate_search_split_cleanup_pending";
+
+	/**
+	 * Checks that the given shards were not split into a different number of shards.
+	 *
+	 * @param shards The shards of an index using the hash sharding strategy.
+	 * @param numberOfShards The configured number of shards.
+	 * @param eventContext The event context of the index.
+	 * @throws org.hibernate.search.util.common.SearchException If a shard was split into a different number of shards.
+	 */
+	static void validateNumberOfShards(Map<String, Shard> shards, int numberOfShards, EventContext eventContext) {
+		for ( Shard shard : shards.values() ) {
+			Map<String, String> commitData = shard.getIndexAccessor().readLastCommitData();
+			String persistedNumberOfShards = commitData == null ? null
+					: commitData.get( COMMIT_DATA_NUMBER_OF_SHARDS_KEY );
+			if ( persistedNumberOfShards != null
+					&& Integer.parseInt( persistedNumberOfShards ) != numberOfShards ) {
+				throw log.numberOfShardsDifferentFromSplit( Integer.parseInt( persistedNumberOfShards ),
+						numberOfShards, LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, eventContext );
+			}
+		}
+	}
+
+	/**
+	 * Deletes documents that were moved to other shards by a previous split
+	 * from the shards where they are still present, then commits and refreshes these shards.
+	 * <p>
+	 * A shard still holds moved documents if it was flagged as requiring a cleanup,
+	 * or if it does not carry the number of shards while other shards do:
+	 * the split stopped after the new shards were committed, but before the current shards were flagged.
+	 * <p>
+	 * Must be called after {@link #validateNumberOfShards(Map, int, EventContext)}.
+	 *
+	 * @param shards The shards of an index using the hash sharding strategy.
+	 * @param strategy The sharding strategy.
+	 * @param eventContext The event context of the index.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	static void deletePendingMovedDocuments(Map<String, Shard> shards, HashShardingStrategy strategy,
+			EventContext eventContext)
+			throws IOException {
+		String numberOfShards = String.valueOf( strategy.getNumberOfShards() );
+		Map<String, Map<String, String>> commitDataByShardId = new LinkedHashMap<>();
+		boolean split = false;
+		for ( Map.Entry<String, Shard> entry : shards.entrySet() ) {
+			Map<String, String> commitData = entry.getValue().getIndexAccessor().readLastCommitData();
+			if ( commitData == null ) {
+				// The index does not exist yet.
+				continue;
+			}
+			commitDataByShardId.put( entry.getKey(), commitData );
+			split = split || numberOfShards.equals( commitData.get( COMMIT_DATA_NUMBER_OF_SHARDS_KEY ) );
+		}
+		for ( Map.Entry<String, Map<String, String>> entry : commitDataByShardId.entrySet() ) {
+			Map<String, String> commitData = entry.getValue();
+			if ( Boolean.parseBoolean( commitData.get( COMMIT_DATA_CLEANUP_PENDING_KEY ) )
+					|| split && commitData.get( COMMIT_DATA_NUMBER_OF_SHARDS_KEY ) == null ) {
+				String shardId = entry.getKey();
+				log.deletingDocumentsMovedByShardSplit( shardId, eventContext );
+				deleteMisroutedDocuments( shards.get( shardId ).getIndexAccessor(), strategy,
+						Integer.parseInt( shardId ) );
+			}
+		}
+	}
+
+	private final LuceneIndexModel model;
+	private final IndexManagerBackendContext backendContext;
+	private final HashShardingStrategy sourceStrategy;
+	private final HashShardingStrategy targetStrategy;
+	private final List<Shard> sourceShards;
+
+	private final Map<String, Shard> newShards = new LinkedHashMap<>();
+	private boolean stopped = false;
+
+	// Documents indexed, updated or deleted since the split started:
+	// document ID term => the routing key, or the document ID for documents without a routing key.
+	private final Map<Term, String> changedDocuments = new ConcurrentHashMap<>();
+
+	ShardSplit(IndexManagerBackendContext backendContext, LuceneIndexModel model,
+			HashShardingStrategy sourceStrategy, HashShardingStrategy targetStrategy,
+			Map<String, Shard> sourceShards) {
+		this.backendContext = backendContext;
+		this.model = model;
+		this.sourceStrategy = sourceStrategy;
+		this.targetStrategy = targetStrategy;
+		this.sourceShards = new ArrayList<>();
+		for ( int i = 0; i < sourceStrategy.getNumberOfShards(); i++ ) {
+			this.sourceShards.add( sourceShards.get( String.valueOf( i ) ) );
+		}
+	}
+
+	HashShardingStrategy getTargetStrategy() {
+		return targetStrategy;
+	}
+
+	Map<String, Shard> getNewShards() {
+		return newShards;
+	}
+
+	/**
+	 * Records a change to a document, to be taken into account in {@link #copyChangedDocuments()}.
+	 * <p>
+	 * Must be called while routing the indexing work, before it is submitted.
+	 *
+	 * @param documentIdTerm The term identifying the document and its nested documents.
+	 * @param documentId The document identifier.
+	 * @param routingKey The routing key, or {@code null}.
+	 */
+	void recordChange(Term documentIdTerm, String documentId, String routingKey) {
+		changedDocuments.put( documentIdTerm, routingKey == null ? documentId : routingKey );
+	}
+
+	/**
+	 * Creates the new shards and copies the documents currently stored in the source shards.
+	 * <p>
+	 * Must be called after changes started being {@link #recordChange(Term, String, String) recorded}.
+	 *
+	 * @param ioStrategy The IO strategy of the index.
+	 * @param propertySource The configuration of the index.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	void copyExistingDocuments(IOStrategy ioStrategy, ConfigurationPropertySource propertySource)
+			throws IOException {
+		synchronized ( this ) {
+			for ( int j = sourceStrategy.getNumberOfShards(); j < targetStrategy.getNumberOfShards(); j++ ) {
+				if ( stopped ) {
+					return;
+				}
+				String shardId = String.valueOf( j );
+				Shard shard = backendContext.createShard( ioStrategy, model, Optional.of( shardId ) );
+				newShards.put( shardId, shard );
+				shard.start( propertySource );
+				// Remove leftovers from a previous, failed split, if any.
+				shard.dropAndCreateIndex();
+			}
+		}
+
+		// Works routed before we started recording changes may not have been executed yet:
+		// wait for them, so that they are visible to the readers we're about to open.
+		awaitIndexingWorks();
+
+		for ( int i = 0; i < sourceShards.size(); i++ ) {
+			try ( DirectoryReader reader = sourceShards.get( i ).getIndexAccessor().openUpToDateReader() ) {
+				copy( reader, i, null );
+			}
+		}
+	}
+
+	/**
+	 * Copies the documents that changed since {@link #copyExistingDocuments(IOStrategy, ConfigurationPropertySource)}
+	 * started, then commits and refreshes the new shards,
+	 * and flags the current shards as requiring a cleanup.
+	 * <p>
+	 * Must be called while no indexing work is being routed.
+	 *
+	 * @throws IOException If an I/O error occurs.
+	 */
+	void copyChangedDocuments() throws IOException {
+		awaitIndexingWorks();
+
+		if ( !changedDocuments.isEmpty() ) {
+			for ( Shard shard : newShards.values() ) {
+				// Previous versions of changed documents may have been copied to any new shard.
+				IndexWriterDelegator indexWriterDelegator = shard.getIndexAccessor().getIndexWriterDelegator();
+				for ( Term term : changedDocuments.keySet() ) {
+					indexWriterDelegator.deleteDocuments( term );
+				}
+			}
+			for ( int i = 0; i < sourceShards.size(); i++ ) {
+				try ( DirectoryReader reader = sourceShards.get( i ).getIndexAccessor().openUpToDateReader() ) {
+					copy( reader, i, changedDocuments );
+				}
+			}
+		}
+
+		for ( Shard shard : newShards.values() ) {
+			IndexAccessorImpl indexAccessor = shard.getIndexAccessor();
+			persistNumberOfShards( indexAccessor, targetStrategy );
+			indexAccessor.commit();
+			indexAccessor.refresh();
+		}
+
+		// Once the new shards are used, moved documents must be deleted from the current shards,
+		// even if the deletion fails or the JVM stops before the deletion: remember it.
+		for ( Shard shard : sourceShards ) {
+			IndexAccessorImpl indexAccessor = shard.getIndexAccessor();
+			persistNumberOfShards( indexAccessor, targetStrategy );
+			indexAccessor.setCommitData( COMMIT_DATA_CLEANUP_PENDING_KEY, String.valueOf( true ) );
+			indexAccessor.commit();
+		}
+	}
+
+	/**
+	 * Deletes the documents that were moved to new shards from the source shards,
+	 * then commits and refreshes the source shards.
+	 * <p>
+	 * Must be called after the new shards started being used.
+	 * If this fails, source shards that were not cleaned up yet remain flagged as requiring a cleanup.
+	 *
+	 * @throws IOException If an I/O error occurs.
+	 */
+	void deleteMovedDocuments() throws IOException {
+		for ( int i = 0; i < sourceShards.size(); i++ ) {
+			deleteMisroutedDocuments( sourceShards.get( i ).getIndexAccessor(), targetStrategy, i );
+		}
+	}
+
+	/**
+	 * Stops the new shards, after a failure or on shutdown.
+	 * <p>
+	 * Must not be called after the new shards started being used.
+	 *
+	 * @throws IOException If an I/O error occurs.
+	 */
+	synchronized void stop() throws IOException {
+		stopped = true;
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.pushAll( Shard::stop, newShards.values() );
+			newShards.clear();
+		}
+	}
+
+	private static void deleteMisroutedDocuments(IndexAccessorImpl indexAccessor, HashShardingStrategy strategy,
+			int shardIndex) throws IOException {
+		indexAccessor.getIndexWriterDelegator()
+				.deleteDocuments( new MisroutedDocumentsQuery( strategy, shardIndex ) );
+		persistNumberOfShards( indexAccessor, strategy );
+		// Committed along with the deletion.
+		indexAccessor.setCommitData( COMMIT_DATA_CLEANUP_PENDING_KEY, String.valueOf( false ) );
+		try {
+			indexAccessor.commit();
+		}
+		catch (RuntimeException e) {
+			// The deletion may be committed later, e.g. along with indexing works: keep the cleanup pending,
+			// so that the deletion is applied again on the next start.
+			new SuppressingCloser( e )
+					.push( accessor -> accessor.setCommitData( COMMIT_DATA_CLEANUP_PENDING_KEY, String.valueOf( true ) ),
+							indexAccessor );
+			throw e;
+		}
+		indexAccessor.refresh();
+	}
+
+	private static void persistNumberOfShards(IndexAccessorImpl indexAccessor, HashShardingStrategy strategy)
+			throws IOException {
+		indexAccessor.setCommitData( COMMIT_DATA_NUMBER_OF_SHARDS_KEY,
+				String.valueOf( strategy.getNumberOfShards() ) );
+	}
+
+	/**
+	 * @param reader A reader of the source shard with index {@code sourceShardIndex}.
+	 * @param sourceShardIndex The index of the source shard.
+	 * @param documentsToCopy The documents to copy, or {@code null} to copy all documents.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	private void copy(DirectoryReader reader, int sourceShardIndex, Map<Term, String> documentsToCopy)
+			throws IOException {
+		int sourceShardCount = sourceStrategy.getNumberOfShards();
+		int targetShardCount = targetStrategy.getNumberOfShards();
+		Map<Integer, List<CodecReader>> readersByTarget = new LinkedHashMap<>();
+
+		for ( LeafReaderContext leafContext : reader.leaves() ) {
+			LeafReader leafReader = leafContext.reader();
+			int[] routes = documentsToCopy == null
+					? computeRoutes( leafReader, targetStrategy )
+					: computeRoutes( leafReader, targetStrategy, documentsToCopy );
+			Bits liveDocs = leafReader.getLiveDocs();
+			for ( int j = sourceShardIndex + sourceShardCount; j < targetShardCount; j += sourceShardCount ) {
+				FixedBitSet docs = new FixedBitSet( routes.length );
+				for ( int doc = 0; doc < routes.length; doc++ ) {
+					if ( routes[doc] == j && ( liveDocs == null || liveDocs.get( doc ) ) ) {
+						docs.set( doc );
+					}
+				}
+				int docCount = docs.cardinality();
+				if ( docCount > 0 ) {
+					readersByTarget.computeIfAbsent( j, ignored -> new ArrayList<>() )
+							.add( new FilteredCodecReader( SlowCodecReaderWrapper.wrap( leafReader ), docs, docCount ) );
+				}
+			}
+		}
+
+		for ( Map.Entry<Integer, List<CodecReader>> entry : readersByTarget.entrySet() ) {
+			newShards.get( String.valueOf( entry.getKey() ) ).getIndexAccessor()
+					.addIndexes( entry.getValue().toArray( new CodecReader[0] ) );
+		}
+	}
+
+	private void awaitIndexingWorks() {
+		CompletableFuture<?>[] futures = new CompletableFuture[sourceShards.size()];
+		for ( int i = 0; i < futures.length; i++ ) {
+			futures[i] = sourceShards.get( i ).getIndexingCompletion();
+		}
+		CompletableFuture.allOf( futures ).join();
+	}
+
+	/**
+	 * @param reader A segment reader.
+	 * @param strategy A sharding strategy.
+	 * @return For each document in the segment, the index of the shard the strategy routes it to,
+	 * or {@code -1} if unknown.
+	 * Nested documents are routed along with their root document.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	static int[] computeRoutes(LeafReader reader, HashShardingStrategy strategy) throws IOException {
+		int[] routes = new int[reader.maxDoc()];
+		Arrays.fill( routes, -1 );
+		// Nested documents are indexed with the identifier and routing key of their root document.
+		routeByTerms( reader, MetadataFields.idFieldName(), strategy, routes );
+		// Routing keys, when present, take precedence over identifiers
+		routeByTerms( reader, MetadataFields.routingKeyFieldName(), strategy, routes );
+		return routes;
+	}
+
+	private static int[] computeRoutes(LeafReader reader, HashShardingStrategy strategy,
+			Map<Term, String> documents) throws IOException {
+		int[] routes = new int[reader.maxDoc()];
+		Arrays.fill( routes, -1 );
+		PostingsEnum postings = null;
+		for ( Map.Entry<Term, String> entry : documents.entrySet() ) {
+			Term term = entry.getKey();
+			Terms terms = reader.terms( term.field() );
+			if ( terms == null ) {
+				continue;
+			}
+			TermsEnum termsEnum = terms.iterator();
+			if ( !termsEnum.seekExact( term.bytes() ) ) {
+				continue;
+			}
+			postings = termsEnum.postings( postings, PostingsEnum.NONE );
+			int shardIndex = strategy.toShardIndex( entry.getValue() );
+			for ( int doc = postings.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = postings.nextDoc() ) {
+				routes[doc] = shardIndex;
+			}
+		}
+		return routes;
+	}
+
+	private static void routeByTerms(LeafReader reader, String field, HashShardingStrategy strategy,
+			int[] routes) throws IOException {
+		Terms terms = reader.terms( field );
+		if ( terms == null ) {
+			return;
+		}
+		TermsEnum termsEnum = terms.iterator();
+		PostingsEnum postings = null;
+		for ( BytesRef term = termsEnum.next(); term != null; term = termsEnum.next() ) {
+			int shardIndex = strategy.toShardIndex( term.utf8ToString() );
+			postings = termsEnum.postings( postings, PostingsEnum.NONE );
+			for ( int doc = postings.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = postings.nextDoc() ) {
+				routes[doc] = shardIndex;
+			}
+		}
+	}
+
+	/**
+	 * A reader exposing only some documents of a segment,
+	 * so that {@link org.apache.lucene.index.IndexWriter#addIndexes(CodecReader...)} only copies those.
+	 */
+	private static final class FilteredCodecReader extends FilterCodecReader {
+		private final Bits liveDocs;
+		private final int numDocs;
+
+		FilteredCodecReader(CodecReader in, Bits liveDocs, int numDocs) {
+			super( in );
+			this.liveDocs = liveDocs;
+			this.numDocs = numDocs;
+		}
+
+		@Override
+		public Bits getLiveDocs() {
+			return liveDocs;
+		}
+
+		@Override
+		public int numDocs() {
+			return numDocs;
+		}
+
+		@Override
+		public CacheHelper getCoreCacheHelper() {
+			return null;
+		}
+
+		@Override
+		public CacheHelper getReaderCacheHelper() {
+			return null;
+		}
+	}
+}
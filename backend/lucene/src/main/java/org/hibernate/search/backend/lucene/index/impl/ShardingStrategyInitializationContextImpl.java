@@ -87,14 +87,35 @@ public ConfigurationPropertySource getConfigurationPropertySource() {
 	}
 
 	public BeanHolder<? extends ShardingStrategy> create(Map<String, Shard> shardCollector) {
+		BeanHolder<? extends ShardingStrategy> shardingStrategyHolder = initialize();
+
+		if ( shardingStrategyHolder == null ) {
+			// Sharding is disabled => single shard
+			contributeShardWithSilentFailure( shardCollector, Optional.empty() );
+			return null;
+		}
+
+		for ( String shardIdentifier : shardIdentifiers ) {
+			contributeShardWithSilentFailure( shardCollector, Optional.of( shardIdentifier ) );
+		}
+
+		return shardingStrategyHolder;
+	}
+
+	/**
+	 * Initializes the sharding strategy without creating any shard,
+	 * for indexes whose shards are created later, e.g. on first access to a tenant.
+	 *
+	 * @return The sharding strategy, or {@code null} if sharding is disabled.
+	 */
+	public BeanHolder<? extends ShardingStrategy> initialize() {
 		BeanHolder<? extends ShardingStrategy> shardingStrategyHolder =
 				SHARDING_STRATEGY.getAndTransform( propertySource, getBeanResolver()::resolve );
 
 		shardingStrategyHolder.get().initialize( this );
 
 		if ( shardIdentifiers == null ) {
-			// Sharding is disabled => single shard
-			contributeShardWithSilentFailure( shardCollector, Optional.empty() );
+			// Sharding is disabled
 			return null;
 		}
 
@@ -104,13 +125,17 @@ public BeanHolder<? extends ShardingStrategy> create(Map<String, Shard> shardCol
 			);
 		}
 
-		for ( String shardIdentifier : shardIdentifiers ) {
-			contributeShardWithSilentFailure( shardCollector, Optional.of( shardIdentifier ) );
-		}
-
 		return shardingStrategyHolder;
 	}
 
+	/**
+	 * @return The identifiers of shards, or {@code null} if sharding is disabled.
+	 * Only meaningful after {@link #initialize()} was called.
+	 */
+	public Set<String> getShardIdentifiersOrNull() {
+		return shardIdentifiers;
+	}
+
 	private void contributeShardWithSilentFailure(Map<String, Shard> shardCollector, Optional<String> shardId) {
 		try {
 			Shard shard = backendContext.createShard(
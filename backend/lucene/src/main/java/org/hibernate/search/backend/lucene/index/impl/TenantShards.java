@@ -0,0 +1,126 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
+import org.hibernate.search.util.common.impl.Closer;
+
+/**
+ * The shards of the dedicated index of a single tenant.
+ * <p>
+ * Tracks the last access to the shards, so that they can be closed after some time without any access.
+ */
+final class TenantShards {
+
+	private final String tenantId;
+	private final Map<String, Shard> shards;
+	private final List<LuceneParallelWorkOrchestrator> managementOrchestrators;
+	private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
+
+	// Guarded by "this"
+	private long lastAccessNanos;
+	private boolean closed = false;
+
+	TenantShards(String tenantId, Map<String, Shard> shards, long nowNanos) {
+		this.tenantId = tenantId;
+		this.shards = shards;
+		this.managementOrchestrators = new ArrayList<>( shards.size() );
+		for ( Shard shard : shards.values() ) {
+			managementOrchestrators.add( shard.getManagementOrchestrator() );
+		}
+		this.lastAccessNanos = nowNanos;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[tenantId=" + tenantId + "]";
+	}
+
+	String getTenantId() {
+		return tenantId;
+	}
+
+	/**
+	 * @param nowNanos The current time, as returned by {@link System#nanoTime()}.
+	 * @return {@code true} if the shards can be used, {@code false} if they are being closed.
+	 */
+	synchronized boolean tryAccess(long nowNanos) {
+		if ( closed ) {
+			return false;
+		}
+		lastAccessNanos = nowNanos;
+		return true;
+	}
+
+	/**
+	 * @param nowNanos The current time, as returned by {@link System#nanoTime()}.
+	 * @param idleTimeoutNanos The time after which shards are considered idle.
+	 * @return {@code true} if the shards were idle and must now be closed by the caller,
+	 * {@code false} otherwise.
+	 */
+	synchronized boolean tryMarkClosedIfIdle(long nowNanos, long idleTimeoutNanos) {
+		if ( closed || nowNanos - lastAccessNanos < idleTimeoutNanos ) {
+			return false;
+		}
+		closed = true;
+		return true;
+	}
+
+	/**
+	 * @return {@code true} if the shards were open and must now be closed by the caller,
+	 * {@code false} if they are already being closed.
+	 */
+	synchronized boolean tryMarkClosed() {
+		if ( closed ) {
+			return false;
+		}
+		closed = true;
+		return true;
+	}
+
+	/**
+	 * @return A future that completes when the shards are completely closed,
+	 * i.e. when the directories they use can safely be opened again.
+	 * This future never completes exceptionally.
+	 */
+	CompletableFuture<?> getCloseFuture() {
+		return closeFuture;
+	}
+
+	Map<String, Shard> getShards() {
+		return shards;
+	}
+
+	List<LuceneParallelWorkOrchestrator> getManagementOrchestrators() {
+		return managementOrchestrators;
+	}
+
+	CompletableFuture<?> preStop() {
+		CompletableFuture<?>[] futures = new CompletableFuture[shards.size()];
+		int i = 0;
+		for ( Shard shard : shards.values() ) {
+			futures[i] = shard.preStop();
+			i++;
+		}
+		return CompletableFuture.allOf( futures );
+	}
+
+	void stop() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.pushAll( Shard::stop, shards.values() );
+		}
+		finally {
+			closeFuture.complete( null );
+		}
+	}
+}
@@ -643,4 +643,154 @@ SearchException conflictingNestedDocumentPathHierarchy(String absoluteFieldPath,
 	SearchException uncommittedOperationsBecauseOfFailure(String causeMessage,
 			@Param EventContext context, @Cause Throwable cause);
 
+	@Message(id = ID_OFFSET_2 + 119,
+			value = "Invalid index sort order: '%1$s'. Valid orders are: %2$s.")
+	SearchException invalidIndexSortOrder(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 120,
+			value = "Unknown field '%1$s' for index sorting.")
+	SearchException unknownFieldForIndexSort(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 121,
+			value = "Field '%1$s' cannot be used for index sorting."
+					+ " Only sortable numeric and date/time fields that are not part of a nested object can be used for index sorting.")
+	SearchException invalidFieldForIndexSort(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 122,
+			value = "Unable to open a pinned search context: %1$s pinned search contexts are already open."
+					+ " Close pinned search contexts as soon as they are no longer needed,"
+					+ " or raise the limit through configuration property '%2$s'.")
+	SearchException tooManyPinnedSearchContexts(int maxCount, String configurationPropertyKey,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 123,
+			value = "Unable to use the pinned search context: the context was closed or has expired."
+					+ " Its keep-alive was %1$sms.")
+	SearchException pinnedSearchContextClosedOrExpired(long keepAliveMs, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 124,
+			value = "Invalid tenant identifier: '%1$s'."
+					+ " With the 'dedicated_index' multi-tenancy strategy, tenant identifiers are used as directory names:"
+					+ " they must be non-empty, must only contain letters, digits, '_', '-' and '.',"
+					+ " and must not start with '.'.")
+	SearchException invalidTenantIdForDedicatedIndex(String tenantId, @Param EventContext context);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 125,
+			value = "Unable to close the idle index of tenant '%1$s'. %2$s")
+	void unableToCloseIdleTenantIndex(String tenantId,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception e);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 126,
+			value = "The translog was enabled through configuration property '%1$s',"
+					+ " but the index is stored in a directory of type '%2$s',"
+					+ " which is not a file system directory. The translog will be disabled. %3$s")
+	void translogRequiresFileSystemDirectory(String configurationPropertyKey, String directoryType,
+			@FormatWith(EventContextFormatter.class) EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 127,
+			value = "Unable to write to the translog: %1$s")
+	SearchException unableToWriteTranslog(String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 128,
+			value = "Unable to replay the translog: %1$s")
+	SearchException unableToReplayTranslog(String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
+
+	@LogMessage(level = Level.INFO)
+	@Message(id = ID_OFFSET_2 + 129,
+			value = "Replayed %1$s operations from the translog. %2$s")
+	void translogReplayed(int operationCount, @FormatWith(EventContextFormatter.class) EventContext context);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 130,
+			value = "Translog file '%1$s' ends with an incomplete or corrupt record at offset %2$s;"
+					+ " this record and any following one were ignored."
+					+ " This is expected after a crash while writing to the translog. %3$s")
+	void translogTruncated(Path file, long offset, @FormatWith(EventContextFormatter.class) EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 131,
+			value = "Unable to split the shards of this index: shard splitting requires the '%1$s' sharding strategy,"
+					+ " but this index uses sharding strategy '%2$s'.")
+	SearchException shardSplitRequiresHashSharding(String requiredStrategyName, Object strategy,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 132,
+			value = "Unable to split the shards of this index: shard splitting is not supported"
+					+ " with the 'dedicated_index' multi-tenancy strategy.")
+	SearchException shardSplitNotSupportedWithDedicatedIndex(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 133,
+			value = "Invalid target number of shards for a split: '%2$s'."
+					+ " The target number of shards must be a multiple of the current number of shards, '%1$s',"
+					+ " and must be strictly greater.")
+	SearchException invalidShardSplitTarget(int currentNumberOfShards, int targetNumberOfShards,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 134,
+			value = "Unable to split the shards of this index: another shard split is already in progress.")
+	SearchException shardSplitAlreadyInProgress(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 135,
+			value = "Unable to split the shards of this index: %1$s")
+	SearchException unableToSplitShards(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@LogMessage(level = Level.INFO)
+	@Message(id = ID_OFFSET_2 + 136,
+			value = "Split %1$s shards into %2$s shards."
+					+ " Set configuration property '%3$s' to '%2$s' before the next start. %4$s")
+	void shardSplitCompleted(int previousNumberOfShards, int numberOfShards, String configurationPropertyKey,
+			@FormatWith(EventContextFormatter.class) EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 137,
+			value = "Unable to analyze the value of field '%1$s': %2$s")
+	SearchException unableToAnalyzeValue(String absoluteFieldPath, String causeMessage, @Cause Exception cause);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 138,
+			value = "Unable to register the write metrics MBean '%1$s': %2$s"
+					+ " Metrics will still be collected, but will not be exposed through JMX.")
+	void unableToRegisterWriteMetricsMBean(String objectName, String causeMessage, @Cause Exception cause);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 139,
+			value = "Unable to unregister the write metrics MBean '%1$s': %2$s")
+	void unableToUnregisterWriteMetricsMBean(String objectName, String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 140,
+			value = "Unable to list the sub-directories of index directory '%1$s': %2$s")
+	SearchException unableToListIndexSubDirectories(Path indexDirectory, String causeMessage,
+			@Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 141,
+			value = "Invalid maximum size for the nested document cache: '%1$s'."
+					+ " The maximum size must be positive or zero.")
+	SearchException invalidNestedCacheMaxSize(long maxSize);
+
+	@Message(id = ID_OFFSET_2 + 142,
+			value = "The shards of this index were split into %1$s shards,"
+					+ " but the configured number of shards is %2$s."
+					+ " Set configuration property '%3$s' to '%1$s'.")
+	SearchException numberOfShardsDifferentFromSplit(int persistedNumberOfShards, int configuredNumberOfShards,
+			String configurationPropertyKey, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 143,
+			value = "Unable to purge, flush, refresh or merge this index: its shards are being split.")
+	SearchException operationNotSupportedDuringShardSplit(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 144,
+			value = "Unable to delete documents moved to other shards by a shard split from the original shards: %1$s"
+					+ " Until they are deleted, queries may return these documents twice."
+					+ " The deletion will be attempted again on the next start of this index.")
+	SearchException unableToDeleteDocumentsMovedByShardSplit(String causeMessage, @Param EventContext context,
+			@Cause Exception cause);
+
+	@LogMessage(level = Level.INFO)
+	@Message(id = ID_OFFSET_2 + 145,
+			value = "Deleting documents moved to other shards by a previous shard split from shard '%1$s'. %2$s")
+	void deletingDocumentsMovedByShardSplit(String shardId,
+			@FormatWith(EventContextFormatter.class) EventContext context);
+
 }
@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.util.Arrays;
+
+import org.apache.lucene.util.ArrayUtil;
+
+/**
+ * The global IDs of documents passed to a collector, in collection order.
+ * <p>
+ * Allows collectors to keep per-document data in arrays indexed by collection order
+ * instead of maps with boxed doc IDs as keys.
+ * Leaves and documents within a leaf are visited in increasing doc ID order,
+ * so lookups are binary searches, with a linear scan as a fallback should the order ever be different.
+ */
+final class CollectedDocIds {
+
+	private int size = 0;
+	private boolean inOrder = true;
+	private int[] docIds;
+
+	CollectedDocIds(int expectedSize) {
+		this.docIds = new int[expectedSize];
+	}
+
+	/**
+	 * @param docId The global ID of a collected document.
+	 * @return The index of that document in collection order.
+	 * Per-document arrays must be large enough to hold an element at that index.
+	 */
+	int add(int docId) {
+		if ( size == docIds.length ) {
+			docIds = ArrayUtil.grow( docIds, size + 1 );
+		}
+		if ( size > 0 && docIds[size - 1] > docId ) {
+			inOrder = false;
+		}
+		docIds[size] = docId;
+		return size++;
+	}
+
+	int size() {
+		return size;
+	}
+
+	/**
+	 * @param docId The global ID of a document.
+	 * @return The index of that document in collection order, or {@code -1} if it was not collected.
+	 */
+	int indexOf(int docId) {
+		if ( inOrder ) {
+			int index = Arrays.binarySearch( docIds, 0, size, docId );
+			return index < 0 ? -1 : index;
+		}
+		for ( int i = 0; i < size; i++ ) {
+			if ( docIds[i] == docId ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString( Arrays.copyOf( docIds, size ) );
+	}
+}
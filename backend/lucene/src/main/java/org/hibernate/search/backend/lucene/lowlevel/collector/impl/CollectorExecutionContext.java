@@ -9,6 +9,7 @@
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.ParentBitSetCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 
 import org.apache.lucene.search.IndexSearcher;
@@ -20,16 +21,20 @@ public final class CollectorExecutionContext {
 
 	private final IndexSearcher indexSearcher;
 
+	private final ParentBitSetCache parentBitSetCache;
+
 	private final Query luceneQuery;
 
 	private final int maxDocs;
 
 	public CollectorExecutionContext(IndexReaderMetadataResolver metadataResolver,
 			IndexSearcher indexSearcher,
+			ParentBitSetCache parentBitSetCache,
 			Query luceneQuery,
 			int maxDocs) {
 		this.metadataResolver = metadataResolver;
 		this.indexSearcher = indexSearcher;
+		this.parentBitSetCache = parentBitSetCache;
 		this.luceneQuery = luceneQuery;
 		this.maxDocs = maxDocs;
 	}
@@ -43,11 +48,11 @@ public IndexSearcher getIndexSearcher() {
 	}
 
 	public NestedDocsProvider createNestedDocsProvider(String nestedDocumentPath) {
-		return new NestedDocsProvider( nestedDocumentPath, luceneQuery );
+		return new NestedDocsProvider( parentBitSetCache, nestedDocumentPath, luceneQuery );
 	}
 
 	public NestedDocsProvider createNestedDocsProvider(Set<String> nestedDocumentPaths) {
-		return new NestedDocsProvider( nestedDocumentPaths, luceneQuery );
+		return new NestedDocsProvider( parentBitSetCache, nestedDocumentPaths, luceneQuery );
 	}
 
 	public int getMaxDocs() {
@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DocValuesDecoder;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.util.ArrayUtil;
+
+/**
+ * Collects the value of a single-valued field from doc values.
+ * <p>
+ * Unlike {@link StoredFieldsCollector}, this does not require to decompress
+ * whole blocks of stored fields for each matching document,
+ * which makes it much cheaper when projecting on a few sortable or aggregable fields.
+ *
+ * @param <T> The type of collected values.
+ */
+public class DocValuesCollector<T> extends SimpleCollector {
+
+	private final DocValuesDecoder<T> decoder;
+
+	private int currentLeafDocBase;
+	private DocValuesDecoder.Leaf<T> currentLeafDecoder;
+
+	private final CollectedDocIds docIds;
+	private Object[] values;
+
+	public DocValuesCollector(DocValuesDecoder<T> decoder, int expectedSize) {
+		this.decoder = decoder;
+		this.docIds = new CollectedDocIds( expectedSize );
+		this.values = new Object[expectedSize];
+	}
+
+	@Override
+	public void collect(int doc) throws IOException {
+		int index = docIds.add( currentLeafDocBase + doc );
+		if ( index == values.length ) {
+			values = ArrayUtil.grow( values, index + 1 );
+		}
+		values[index] = currentLeafDecoder.decode( doc );
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	/**
+	 * @param docId The ID of a collected document.
+	 * @return The value of the field for the given document, or {@code null} if the document has no value.
+	 */
+	@SuppressWarnings("unchecked") // Values are added by collect(), which only adds values of type T
+	public T getValue(int docId) {
+		int index = docIds.indexOf( docId );
+		return index < 0 ? null : (T) values[index];
+	}
+
+	@Override
+	protected void doSetNextReader(LeafReaderContext context) throws IOException {
+		this.currentLeafDocBase = context.docBase;
+		this.currentLeafDecoder = decoder.forLeaf( context );
+	}
+}
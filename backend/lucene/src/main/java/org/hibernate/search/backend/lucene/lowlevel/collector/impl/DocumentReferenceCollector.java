@@ -7,8 +7,7 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
 
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.search.impl.LuceneDocumentReference;
@@ -20,7 +19,16 @@
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
 
+/**
+ * Collects document references for the top documents.
+ * <p>
+ * Collected data is kept in arrays indexed by collection order (see {@link CollectedDocIds}).
+ * The UTF-8 bytes of identifiers are copied to a single buffer,
+ * and only decoded when the corresponding reference is {@link #get(int) requested}.
+ */
 public final class DocumentReferenceCollector extends SimpleCollector {
 
 	public static final CollectorKey<DocumentReferenceCollector> KEY = CollectorKey.create();
@@ -37,25 +45,49 @@ public CollectorKey<DocumentReferenceCollector> getCollectorKey() {
 		}
 	};
 
+	private static final int EXPECTED_ID_LENGTH = 16;
+
 	private final IndexReaderMetadataResolver metadataResolver;
 
 	private String currentLeafMappedTypeName;
 	private BinaryDocValues currentLeafIdDocValues;
 	private int currentLeafDocBase;
 
-	private Map<Integer, DocumentReference> collected = new HashMap<>();
+	private final CollectedDocIds docIds;
+	private String[] mappedTypeNames;
+	private byte[] idBytes;
+	// The ID of the document at index i spans idBytes[idOffsets[i]] to idBytes[idOffsets[i + 1]] (excluded)
+	private int[] idOffsets;
+
+	// Lazily initialized
+	private DocumentReference[] references;
 
 	private DocumentReferenceCollector(CollectorExecutionContext executionContext) {
 		this.metadataResolver = executionContext.getMetadataResolver();
+		int expectedSize = executionContext.getMaxDocs();
+		this.docIds = new CollectedDocIds( expectedSize );
+		this.mappedTypeNames = new String[expectedSize];
+		this.idBytes = new byte[expectedSize * EXPECTED_ID_LENGTH];
+		this.idOffsets = new int[expectedSize + 1];
 	}
 
 	@Override
 	public void collect(int doc) throws IOException {
+		int index = docIds.add( currentLeafDocBase + doc );
+		if ( index == mappedTypeNames.length ) {
+			mappedTypeNames = ArrayUtil.grow( mappedTypeNames, index + 1 );
+			idOffsets = ArrayUtil.grow( idOffsets, index + 2 );
+		}
+
 		currentLeafIdDocValues.advance( doc );
-		collected.put( currentLeafDocBase + doc, new LuceneDocumentReference(
-				currentLeafMappedTypeName,
-				currentLeafIdDocValues.binaryValue().utf8ToString()
-		) );
+		BytesRef id = currentLeafIdDocValues.binaryValue();
+		int idStart = idOffsets[index];
+		int idEnd = idStart + id.length;
+		idBytes = ArrayUtil.grow( idBytes, idEnd );
+		System.arraycopy( id.bytes, id.offset, idBytes, idStart, id.length );
+
+		mappedTypeNames[index] = currentLeafMappedTypeName;
+		idOffsets[index + 1] = idEnd;
 	}
 
 	@Override
@@ -64,7 +96,21 @@ public ScoreMode scoreMode() {
 	}
 
 	public DocumentReference get(int doc) {
-		return collected.get( doc );
+		int index = docIds.indexOf( doc );
+		if ( index < 0 ) {
+			return null;
+		}
+		if ( references == null ) {
+			references = new DocumentReference[docIds.size()];
+		}
+		DocumentReference reference = references[index];
+		if ( reference == null ) {
+			int idStart = idOffsets[index];
+			String id = new String( idBytes, idStart, idOffsets[index + 1] - idStart, StandardCharsets.UTF_8 );
+			reference = new LuceneDocumentReference( mappedTypeNames[index], id );
+			references[index] = reference;
+		}
+		return reference;
 	}
 
 	@Override
@@ -73,4 +119,5 @@ protected void doSetNextReader(LeafReaderContext context) throws IOException {
 		this.currentLeafIdDocValues = DocValues.getBinary( context.reader(), MetadataFields.idFieldName() );
 		this.currentLeafDocBase = context.docBase;
 	}
+
 }
@@ -8,7 +8,6 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
-import java.util.ArrayList;
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.Collector;
@@ -16,6 +15,7 @@
 import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.util.ArrayUtil;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GeoPointDistanceMultiValuesToSingleValuesSource;
@@ -38,7 +38,13 @@ public class GeoPointDistanceCollector implements Collector {
 
 	private final GeoPointDistanceMultiValuesToSingleValuesSource valuesSource;
 
-	private final SpatialResultsCollector distances;
+	/*
+	 * Distances are kept in an array indexed by collection order,
+	 * with MISSING_VALUE_MARKER for documents without a value,
+	 * so that collecting a hit does not allocate anything.
+	 */
+	private final CollectedDocIds docIds;
+	private double[] distances;
 
 	public GeoPointDistanceCollector(String absoluteFieldPath, NestedDocsProvider nestedDocsProvider,
 			GeoPoint center, int hitsCount) {
@@ -46,11 +52,17 @@ public GeoPointDistanceCollector(String absoluteFieldPath, NestedDocsProvider ne
 		this.valuesSource = new GeoPointDistanceMultiValuesToSingleValuesSource(
 				absoluteFieldPath, MultiValueMode.MIN, nestedDocsProvider, center
 		);
-		this.distances = new SpatialResultsCollector( hitsCount );
+		this.docIds = new CollectedDocIds( hitsCount );
+		this.distances = new double[hitsCount];
 	}
 
 	public Double getDistance(final int docId) {
-		return distances.get( docId );
+		int index = docIds.indexOf( docId );
+		if ( index < 0 ) {
+			throw log.documentIdNotCollected( docId );
+		}
+		double distance = distances[index];
+		return distance == MISSING_VALUE_MARKER ? null : distance;
 	}
 
 	@Override
@@ -67,71 +79,6 @@ private DoubleValues createDistanceDocValues(LeafReaderContext context) throws I
 		return valuesSource.getValues( context, null );
 	}
 
-	/**
-	 * We'll store matching hits in HitEntry instances so to allow retrieving results
-	 * in a second phase after the Collector has run.
-	 */
-	private static class HitEntry {
-		private final int documentId;
-		private final Double distance;
-
-		private HitEntry(int documentId, Double distance) {
-			this.documentId = documentId;
-			this.distance = distance;
-		}
-	}
-
-	/**
-	 * A custom structure to store all HitEntry instances.
-	 * Based on an array, as in most cases we'll append sequentially and iterate the
-	 * results in the same order too. The size is well known in most situations so we can
-	 * also guess an appropriate allocation size.
-	 *
-	 * Iteration of the results will in practice follow a monotonic index, unless a non natural
-	 * Sort is specified. So by keeping track of the position in the array of the last request,
-	 * and look from that pointer first, the cost of get operations is O(1) in most common use
-	 * cases.
-	 */
-	private static class SpatialResultsCollector {
-		final ArrayList<HitEntry> orderedEntries;
-		int currentIterator = 0;
-
-		private SpatialResultsCollector(int size) {
-			orderedEntries = new ArrayList<>( size );
-		}
-
-		public Double get(int index) {
-			//Optimize for an iteration having a monotonic index:
-			int startingPoint = currentIterator;
-			for ( ; currentIterator < orderedEntries.size(); currentIterator++ ) {
-				HitEntry currentEntry = orderedEntries.get( currentIterator );
-				if ( currentEntry == null ) {
-					break;
-				}
-				if ( currentEntry.documentId == index ) {
-					return currentEntry.distance;
-				}
-			}
-
-			//No match yet! scan the remaining section from the beginning:
-			for ( currentIterator = 0; currentIterator < startingPoint; currentIterator++ ) {
-				HitEntry currentEntry = orderedEntries.get( currentIterator );
-				if ( currentEntry == null ) {
-					break;
-				}
-				if ( currentEntry.documentId == index ) {
-					return currentEntry.distance;
-				}
-			}
-
-			throw log.documentIdNotCollected( index );
-		}
-
-		void put(int documentId, Double distance) {
-			orderedEntries.add( new HitEntry( documentId, distance ) );
-		}
-	}
-
 	private class DistanceLeafCollector implements LeafCollector {
 
 		private final int docBase;
@@ -149,13 +96,12 @@ public void setScorer(Scorable scorer) {
 
 		@Override
 		public void collect(int docId) throws IOException {
-			final int absoluteDocId = docBase + docId;
-			Double distance = null;
-			if ( distanceDocValues.advanceExact( docId ) ) {
-				double distanceFromDocValues = distanceDocValues.doubleValue();
-				distance = distanceFromDocValues == MISSING_VALUE_MARKER ? null : distanceFromDocValues;
+			int index = docIds.add( docBase + docId );
+			if ( index == distances.length ) {
+				distances = ArrayUtil.grow( distances, index + 1 );
 			}
-			distances.put( absoluteDocId, distance );
+			distances[index] = distanceDocValues.advanceExact( docId )
+					? distanceDocValues.doubleValue() : MISSING_VALUE_MARKER;
 		}
 	}
 }
@@ -42,6 +42,8 @@ public class MetadataFields {
 
 	private static final String TENANT_ID_FIELD_NAME = internalFieldName( "tenantId" );
 
+	private static final String TENANT_ID_AND_ID_FIELD_NAME = internalFieldName( "tenant_doc_id" );
+
 	private static final String TYPE_FIELD_NAME = internalFieldName( "type" );
 
 	private static final String FIELD_NAMES_FIELD_NAME = internalFieldName( "field_names" );
@@ -91,6 +93,29 @@ public static String tenantIdFieldName() {
 		return TENANT_ID_FIELD_NAME;
 	}
 
+	public static String tenantIdAndIdFieldName() {
+		return TENANT_ID_AND_ID_FIELD_NAME;
+	}
+
+	/**
+	 * @param tenantId A tenant ID.
+	 * @param id A document ID.
+	 * @return A value identifying the document uniquely across tenants,
+	 * to be used for the {@link #tenantIdAndIdFieldName() tenant ID and ID field}.
+	 */
+	public static String tenantIdAndId(String tenantId, String id) {
+		// Prefix with the length of the tenant ID so that the value is unambiguous,
+		// whatever the characters in the tenant ID and document ID.
+		String tenantIdLength = String.valueOf( tenantId.length() );
+		StringBuilder sb = new StringBuilder( tenantIdLength.length() + tenantId.length() + id.length() + 2 );
+		sb.append( tenantIdLength )
+				.append( ':' )
+				.append( tenantId )
+				.append( ':' )
+				.append( id );
+		return sb.toString();
+	}
+
 	public static String typeFieldName() {
 		return TYPE_FIELD_NAME;
 	}
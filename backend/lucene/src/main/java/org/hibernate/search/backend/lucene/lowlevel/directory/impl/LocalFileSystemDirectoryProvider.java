@@ -6,10 +6,16 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
@@ -81,4 +87,22 @@ public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 		);
 	}
 
+	@Override
+	public Set<String> listSubDirectoryNames(String indexName) {
+		Path indexDirectory = directoryRoot.resolve( indexName );
+		if ( !Files.isDirectory( indexDirectory ) ) {
+			return Collections.emptySet();
+		}
+		Set<String> result = new TreeSet<>();
+		try ( DirectoryStream<Path> stream = Files.newDirectoryStream( indexDirectory, Files::isDirectory ) ) {
+			for ( Path subDirectory : stream ) {
+				result.add( subDirectory.getFileName().toString() );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToListIndexSubDirectories( indexDirectory, e.getMessage(), e );
+		}
+		return result;
+	}
+
 }
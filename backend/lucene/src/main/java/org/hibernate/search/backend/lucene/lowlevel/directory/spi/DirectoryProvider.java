@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.directory.spi;
 
+import java.util.Collections;
+import java.util.Set;
+
 public interface DirectoryProvider extends AutoCloseable {
 
 	/**
@@ -45,4 +48,18 @@ default void close() {
 	 */
 	DirectoryHolder createDirectoryHolder(DirectoryCreationContext context);
 
+	/**
+	 * Lists the sub-directories that currently exist in the directory of a given index,
+	 * including those created before the application started.
+	 * <p>
+	 * Used to find the dedicated indexes of tenants that were not accessed since the application started.
+	 * Providers that do not persist directories across restarts do not need to implement this method.
+	 *
+	 * @param indexName The name of the index.
+	 * @return The names of the existing sub-directories, possibly empty.
+	 */
+	default Set<String> listSubDirectoryNames(String indexName) {
+		return Collections.emptySet();
+	}
+
 }
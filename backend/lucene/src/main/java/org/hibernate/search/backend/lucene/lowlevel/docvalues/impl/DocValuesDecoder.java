@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.docvalues.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.LeafReaderContext;
+
+/**
+ * Decodes the value of a single-valued field from doc values.
+ *
+ * @param <T> The type of decoded values.
+ */
+public interface DocValuesDecoder<T> {
+
+	/**
+	 * @param context The segment to decode values from.
+	 * @return A decoder for documents of the given segment.
+	 * @throws IOException If doc values cannot be read.
+	 */
+	Leaf<T> forLeaf(LeafReaderContext context) throws IOException;
+
+	interface Leaf<T> {
+
+		/**
+		 * @param docId The ID of a document in the segment, relative to the segment.
+		 * Must be greater than the ID passed to the previous call, if any.
+		 * @return The value of the field for the given document, or {@code null} if the document has no value.
+		 * @throws IOException If doc values cannot be read.
+		 */
+		T decode(int docId) throws IOException;
+
+	}
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.util.Accountable;
+
+/**
+ * A cache of {@link SortedSetDocValuesReaderState}, which are costly to build
+ * since they require building a global ordinal map over all the segments of a reader.
+ * <p>
+ * Each search opens a new top-level reader, but the underlying (per-index, per-shard) readers
+ * are shared between searches until they are refreshed,
+ * so states are cached per combination of underlying readers,
+ * and evicted as soon as one of these readers is closed.
+ * Each backend has its own cache, which is cleared when the backend stops.
+ */
+public final class SortedSetDocValuesReaderStateCache {
+
+	private final Map<List<IndexReader.CacheKey>, Entry> entries = new ConcurrentHashMap<>();
+	private final Set<IndexReader.CacheKey> listenedReaderKeys = ConcurrentHashMap.newKeySet();
+
+	public SortedSetDocValuesReaderStateCache() {
+	}
+
+	/**
+	 * @param reader The top-level reader being searched.
+	 * @param field The name of the doc values field holding facets.
+	 * @return A state for the given reader and field, possibly built for a previous search
+	 * on the same underlying readers.
+	 * @throws IOException If building the state fails.
+	 * @throws IllegalArgumentException If the field does not exist or was not indexed with facets.
+	 */
+	public SortedSetDocValuesReaderState getOrCreate(IndexReader reader, String field) throws IOException {
+		List<IndexReader> subReaders = subReaders( reader );
+		List<IndexReader.CacheKey> key = cacheKeys( subReaders );
+		if ( key == null ) {
+			// Cannot cache states for this reader
+			return new DefaultSortedSetDocValuesReaderState( reader, field );
+		}
+
+		Entry entry = entries.computeIfAbsent( key, ignored -> new Entry( subReaders ) );
+		for ( int i = 0; i < key.size(); i++ ) {
+			listenForClose( subReaders.get( i ), key.get( i ) );
+		}
+		return new ReaderBoundState( entry.getOrCreate( field ), reader );
+	}
+
+	public void clear() {
+		entries.clear();
+		listenedReaderKeys.clear();
+	}
+
+	// For tests
+	int size() {
+		return entries.size();
+	}
+
+	private void listenForClose(IndexReader subReader, IndexReader.CacheKey subReaderKey) {
+		if ( listenedReaderKeys.add( subReaderKey ) ) {
+			subReader.getReaderCacheHelper().addClosedListener( this::evict );
+		}
+	}
+
+	private void evict(IndexReader.CacheKey closedReaderKey) {
+		listenedReaderKeys.remove( closedReaderKey );
+		entries.keySet().removeIf( key -> key.contains( closedReaderKey ) );
+	}
+
+	private static List<IndexReader> subReaders(IndexReader reader) {
+		IndexReaderContext context = reader.getContext();
+		List<IndexReaderContext> children = context.children();
+		List<IndexReader> subReaders = new ArrayList<>();
+		if ( children == null ) {
+			subReaders.add( reader );
+		}
+		else {
+			for ( IndexReaderContext child : children ) {
+				subReaders.add( child.reader() );
+			}
+		}
+		return subReaders;
+	}
+
+	private static List<IndexReader.CacheKey> cacheKeys(List<IndexReader> subReaders) {
+		List<IndexReader.CacheKey> keys = new ArrayList<>( subReaders.size() );
+		for ( IndexReader subReader : subReaders ) {
+			IndexReader.CacheHelper cacheHelper = subReader.getReaderCacheHelper();
+			if ( cacheHelper == null ) {
+				return null;
+			}
+			keys.add( cacheHelper.getKey() );
+		}
+		return keys;
+	}
+
+	private static final class Entry {
+		private final IndexReader stateReader;
+		private final Map<String, SortedSetDocValuesReaderState> stateByField = new ConcurrentHashMap<>();
+
+		private Entry(List<IndexReader> subReaders) {
+			try {
+				this.stateReader = subReaders.size() == 1
+						? subReaders.get( 0 )
+						/*
+						 * A view over the sub-readers, which is never closed.
+						 * Passing closeSubReaders = true ensures the view does not hold a reference to the sub-readers:
+						 * it must not prevent them from being closed.
+						 */
+						: new MultiReader( subReaders.toArray( new IndexReader[0] ), true );
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException( e );
+			}
+		}
+
+		SortedSetDocValuesReaderState getOrCreate(String field) throws IOException {
+			SortedSetDocValuesReaderState state = stateByField.get( field );
+			if ( state == null ) {
+				// Concurrent searches may build the same state twice: it's fine, the last one wins.
+				state = new DefaultSortedSetDocValuesReaderState( stateReader, field );
+				stateByField.put( field, state );
+			}
+			return state;
+		}
+	}
+
+	/**
+	 * Exposes a cached state as if it had been built for the given top-level reader,
+	 * which has the exact same leaves, in the same order, as the reader the state was built for.
+	 */
+	private static final class ReaderBoundState extends SortedSetDocValuesReaderState {
+		private final SortedSetDocValuesReaderState delegate;
+		private final IndexReader reader;
+
+		private ReaderBoundState(SortedSetDocValuesReaderState delegate, IndexReader reader) {
+			this.delegate = delegate;
+			this.reader = reader;
+		}
+
+		@Override
+		public SortedSetDocValues getDocValues() throws IOException {
+			return delegate.getDocValues();
+		}
+
+		@Override
+		public String getField() {
+			return delegate.getField();
+		}
+
+		@Override
+		public OrdRange getOrdRange(String dim) {
+			return delegate.getOrdRange( dim );
+		}
+
+		@Override
+		public Map<String, OrdRange> getPrefixToOrdRange() {
+			return delegate.getPrefixToOrdRange();
+		}
+
+		@Override
+		public IndexReader getReader() {
+			return reader;
+		}
+
+		@Override
+		public int getSize() {
+			return delegate.getSize();
+		}
+
+		@Override
+		public long ramBytesUsed() {
+			return delegate.ramBytesUsed();
+		}
+
+		@Override
+		public Collection<Accountable> getChildResources() {
+			return delegate.getChildResources();
+		}
+	}
+}
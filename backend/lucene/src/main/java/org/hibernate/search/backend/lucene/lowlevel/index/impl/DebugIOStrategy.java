@@ -11,11 +11,13 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NotSharedIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetrics;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.search.Sort;
 
 public class DebugIOStrategy extends IOStrategy {
 
@@ -31,19 +33,19 @@ private DebugIOStrategy(DirectoryProvider directoryProvider, BackendThreads thre
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext, Analyzer analyzer,
-			DirectoryHolder directoryHolder) {
+			Sort indexSort, DirectoryHolder directoryHolder, LuceneWriteMetrics writeMetrics) {
 		return new IndexWriterProvider(
 				indexName, eventContext,
-				directoryHolder, analyzer,
-				null, 0,
+				directoryHolder, analyzer, indexSort,
+				null, 0, false, 0,
 				threads,
-				failureHandler
+				writeMetrics, failureHandler
 		);
 	}
 
 	@Override
 	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+			IndexWriterProvider indexWriterProvider, LuceneWriteMetrics writeMetrics) {
 		return new NotSharedIndexReaderProvider( directoryHolder );
 	}
 
@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetrics;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
@@ -21,6 +22,7 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.search.Sort;
 
 public abstract class IOStrategy {
 
@@ -36,7 +38,7 @@ protected IOStrategy(DirectoryProvider directoryProvider, BackendThreads threads
 	}
 
 	public IndexAccessorImpl createIndexAccessor(String indexName, EventContext eventContext,
-			Optional<String> shardId, Analyzer analyzer) {
+			Optional<String> shardId, Analyzer analyzer, Sort indexSort, LuceneWriteMetrics writeMetrics) {
 		DirectoryHolder directoryHolder;
 		DirectoryCreationContext context = new DirectoryCreationContextImpl(
 				shardId.isPresent() ? EventContexts.fromShardId( shardId.get() ) : null,
@@ -47,8 +49,9 @@ public IndexAccessorImpl createIndexAccessor(String indexName, EventContext even
 		IndexWriterProvider indexWriterProvider = null;
 		IndexReaderProvider indexReaderProvider = null;
 		try {
-			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, analyzer, directoryHolder );
-			indexReaderProvider = createIndexReaderProvider( directoryHolder, indexWriterProvider );
+			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, analyzer, indexSort, directoryHolder,
+					writeMetrics );
+			indexReaderProvider = createIndexReaderProvider( directoryHolder, indexWriterProvider, writeMetrics );
 			return new IndexAccessorImpl(
 					eventContext,
 					directoryHolder, indexWriterProvider, indexReaderProvider
@@ -64,9 +67,9 @@ public IndexAccessorImpl createIndexAccessor(String indexName, EventContext even
 	}
 
 	abstract IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext, Analyzer analyzer,
-			DirectoryHolder directoryHolder);
+			Sort indexSort, DirectoryHolder directoryHolder, LuceneWriteMetrics writeMetrics);
 
 	abstract IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider);
+			IndexWriterProvider indexWriterProvider, LuceneWriteMetrics writeMetrics);
 
 }
@@ -46,6 +46,13 @@ public interface IndexAccessor {
 	 */
 	void commitOrDelay();
 
+	/**
+	 * Makes changes applied to the underlying index writer, if any, durable:
+	 * commits the index writer, or if the translog is enabled and the commit can be delayed,
+	 * syncs the translog to disk.
+	 */
+	void commitOrSyncTranslog();
+
 	/**
 	 * Refreshes the underlying index readers.
 	 */
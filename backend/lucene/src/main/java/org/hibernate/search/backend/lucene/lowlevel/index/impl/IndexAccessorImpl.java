@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.Map;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
@@ -20,9 +21,11 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.index.CodecReader;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.LockObtainFailedException;
 import org.apache.lucene.store.SleepingLockWrapper;
@@ -49,6 +52,7 @@ public IndexAccessorImpl(EventContext eventContext,
 
 	public void start() throws IOException {
 		directoryHolder.start();
+		indexWriterProvider.replayTranslogIfNecessary();
 	}
 
 	@Override
@@ -139,6 +143,14 @@ public void commitOrDelay() {
 		}
 	}
 
+	@Override
+	public void commitOrSyncTranslog() {
+		IndexWriterDelegatorImpl delegator = indexWriterProvider.getOrNull();
+		if ( delegator != null ) {
+			delegator.commitOrSyncTranslog();
+		}
+	}
+
 	@Override
 	public void refresh() {
 		indexReaderProvider.refresh();
@@ -164,6 +176,53 @@ public DirectoryReader getIndexReader() throws IOException {
 		return indexReaderProvider.getOrCreate();
 	}
 
+	/**
+	 * @return A new reader reflecting all changes applied to the index writer so far,
+	 * regardless of the refresh interval.
+	 * The caller is responsible for closing the reader.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public DirectoryReader openUpToDateReader() throws IOException {
+		return indexWriterProvider.getOrCreate().openReader();
+	}
+
+	/**
+	 * Adds copies of the (live) documents of the given readers to the index, without analyzing them again.
+	 *
+	 * @param readers The readers whose documents should be copied.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public void addIndexes(CodecReader... readers) throws IOException {
+		indexWriterProvider.getOrCreate().addIndexes( readers );
+	}
+
+	/**
+	 * Sets a value in the user data of the next commit, preserving other values.
+	 *
+	 * @param key The key.
+	 * @param value The value.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public void setCommitData(String key, String value) throws IOException {
+		indexWriterProvider.getOrCreate().setCommitData( key, value );
+	}
+
+	/**
+	 * @return The user data of the last commit, or {@code null} if the index does not exist.
+	 */
+	public Map<String, String> readLastCommitData() {
+		Directory directory = directoryHolder.get();
+		try {
+			if ( !DirectoryReader.indexExists( directory ) ) {
+				return null;
+			}
+			return SegmentInfos.readLatestCommit( directory ).getUserData();
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToValidateIndexDirectory( e.getMessage(), eventContext, e );
+		}
+	}
+
 	@Override
 	public void cleanUpAfterFailure(Throwable throwable, Object failingOperation) {
 		try {
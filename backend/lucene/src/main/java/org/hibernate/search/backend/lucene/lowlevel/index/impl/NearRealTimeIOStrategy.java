@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetrics;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
@@ -20,6 +21,7 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.search.Sort;
 
 public class NearRealTimeIOStrategy extends IOStrategy {
 
@@ -35,13 +37,28 @@ public class NearRealTimeIOStrategy extends IOStrategy {
 					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_INTERVAL )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> TRANSLOG_ENABLED =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_TRANSLOG_ENABLED )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_TRANSLOG_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> TRANSLOG_SYNC_INTERVAL =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_TRANSLOG_SYNC_INTERVAL )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.IO_TRANSLOG_SYNC_INTERVAL )
+					.build();
+
 	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource,
 			DirectoryProvider directoryProvider, TimingSource timingSource,
 			BackendThreads threads, FailureHandler failureHandler) {
 		int commitInterval = COMMIT_INTERVAL.get( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
+		boolean translogEnabled = TRANSLOG_ENABLED.get( propertySource );
+		int translogSyncInterval = TRANSLOG_SYNC_INTERVAL.get( propertySource );
 		return new NearRealTimeIOStrategy(
 				directoryProvider, timingSource, commitInterval, refreshInterval,
+				translogEnabled, translogSyncInterval,
 				threads, failureHandler
 		);
 	}
@@ -49,38 +66,44 @@ public static NearRealTimeIOStrategy create(ConfigurationPropertySource property
 	private final TimingSource timingSource;
 	private final int commitInterval;
 	private final int refreshInterval;
+	private final boolean translogEnabled;
+	private final int translogSyncInterval;
 
 	private NearRealTimeIOStrategy(DirectoryProvider directoryProvider,
 			TimingSource timingSource, int commitInterval, int refreshInterval,
+			boolean translogEnabled, int translogSyncInterval,
 			BackendThreads threads,
 			FailureHandler failureHandler) {
 		super( directoryProvider, threads, failureHandler );
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.refreshInterval = refreshInterval;
+		this.translogEnabled = translogEnabled;
+		this.translogSyncInterval = translogSyncInterval;
 	}
 
 	@Override
 	IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext, Analyzer analyzer,
-			DirectoryHolder directoryHolder) {
+			Sort indexSort, DirectoryHolder directoryHolder, LuceneWriteMetrics writeMetrics) {
 		if ( commitInterval != 0 ) {
 			timingSource.ensureInitialized();
 		}
 		return new IndexWriterProvider(
 				indexName, eventContext,
-				directoryHolder, analyzer,
-				timingSource, commitInterval, threads,
-				failureHandler
+				directoryHolder, analyzer, indexSort,
+				timingSource, commitInterval, translogEnabled, translogSyncInterval, threads,
+				writeMetrics, failureHandler
 		);
 	}
 
 	@Override
 	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
-			IndexWriterProvider indexWriterProvider) {
+			IndexWriterProvider indexWriterProvider, LuceneWriteMetrics writeMetrics) {
 		if ( refreshInterval != 0 ) {
 			timingSource.ensureInitialized();
 		}
-		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval );
+		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval,
+				writeMetrics );
 	}
 
 }
@@ -22,7 +22,6 @@
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.search.join.BitSetProducer;
-import org.apache.lucene.search.join.QueryBitSetProducer;
 import org.apache.lucene.util.BitSet;
 
 /**
@@ -37,13 +36,19 @@ public class NestedDocsProvider {
 	private final BitSetProducer parentFiler;
 	private final Query childQuery;
 
-	public NestedDocsProvider(String nestedDocumentPath, Query originalParentQuery) {
-		this( Collections.singleton( nestedDocumentPath ), originalParentQuery );
+	public NestedDocsProvider(ParentBitSetCache parentBitSetCache, String nestedDocumentPath,
+			Query originalParentQuery) {
+		this( parentBitSetCache, Collections.singleton( nestedDocumentPath ), originalParentQuery );
 	}
 
-	public NestedDocsProvider(Set<String> nestedDocumentPaths, Query originalParentQuery) {
-		this.parentFiler = new QueryBitSetProducer( originalParentQuery );
-		this.childQuery = Queries.findChildQuery( nestedDocumentPaths, originalParentQuery );
+	public NestedDocsProvider(ParentBitSetCache parentBitSetCache, Set<String> nestedDocumentPaths,
+			Query originalParentQuery) {
+		// Children of each parent are the documents between the previous main document and the parent:
+		// the bitset of all main documents is enough to find them, and does not depend on the query,
+		// so it can be shared between queries.
+		// Children of parents that do not match the query are excluded by the child query.
+		this.parentFiler = parentBitSetCache.producer( Queries.mainDocumentQuery() );
+		this.childQuery = Queries.findChildQuery( nestedDocumentPaths, originalParentQuery, parentFiler );
 	}
 
 	public BitSet parentDocs(LeafReaderContext context) throws IOException {
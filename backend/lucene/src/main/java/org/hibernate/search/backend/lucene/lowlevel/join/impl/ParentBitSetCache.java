@@ -0,0 +1,228 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.join.impl;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BitSet;
+import org.apache.lucene.util.RamUsageEstimator;
+
+/**
+ * A cache of the bitsets identifying parent documents in each segment,
+ * used when joining nested documents with their parent.
+ * <p>
+ * Lucene's {@link org.apache.lucene.search.join.QueryBitSetProducer} only caches bitsets
+ * for the lifetime of the producer, i.e. of a single query,
+ * but parent filters (main documents, or nested documents at a given path) are the same for every query:
+ * this cache shares bitsets between queries and collectors until the segment is closed.
+ * <p>
+ * Memory usage is bounded: when the bitsets exceed the budget,
+ * the least recently used ones are evicted.
+ * There is one cache per backend, so that the budget of each backend can be configured separately.
+ */
+public final class ParentBitSetCache implements Accountable {
+
+	/**
+	 * @return The default budget, in bytes:
+	 * the same as Lucene's default query cache, i.e. 5% of the maximum heap size, capped to 32MB.
+	 * @see org.apache.lucene.search.IndexSearcher#getDefaultQueryCache()
+	 */
+	public static long defaultMaxRamBytes() {
+		return Math.min( 1L << 25, Runtime.getRuntime().maxMemory() / 20 );
+	}
+
+	private final long maxRamBytes;
+
+	// Guarded by "this"; iteration order is the access order, from least to most recently used.
+	private final Map<Key, Entry> entries = new LinkedHashMap<>( 16, 0.75f, true );
+	private long ramBytesUsed = 0L;
+
+	private final Set<IndexReader.CacheKey> listenedSegmentKeys = ConcurrentHashMap.newKeySet();
+
+	public ParentBitSetCache(long maxRamBytes) {
+		this.maxRamBytes = maxRamBytes;
+	}
+
+	/**
+	 * @param parentQuery A query matching parent documents, independent from the search query.
+	 * @return A producer of bitsets for the given query, relying on this cache.
+	 */
+	public BitSetProducer producer(Query parentQuery) {
+		return new CachingBitSetProducer( this, parentQuery );
+	}
+
+	@Override
+	public synchronized long ramBytesUsed() {
+		return ramBytesUsed;
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+		ramBytesUsed = 0L;
+	}
+
+	// For tests
+	synchronized int size() {
+		return entries.size();
+	}
+
+	BitSet getOrCreate(Query parentQuery, LeafReaderContext context) throws IOException {
+		IndexReader.CacheHelper cacheHelper = context.reader().getCoreCacheHelper();
+		if ( cacheHelper == null || maxRamBytes <= 0L ) {
+			// Cannot cache bitsets for this segment
+			return create( parentQuery, context );
+		}
+
+		IndexReader.CacheKey segmentKey = cacheHelper.getKey();
+		Key key = new Key( segmentKey, parentQuery );
+		synchronized ( this ) {
+			Entry entry = entries.get( key );
+			if ( entry != null ) {
+				return entry.bitSet;
+			}
+		}
+
+		// Concurrent queries may build the same bitset twice: it's fine, the last one wins.
+		BitSet bitSet = create( parentQuery, context );
+		if ( listenedSegmentKeys.add( segmentKey ) ) {
+			cacheHelper.addClosedListener( this::evict );
+		}
+		put( key, new Entry( bitSet ) );
+		return bitSet;
+	}
+
+	private synchronized void put(Key key, Entry entry) {
+		Entry previous = entries.put( key, entry );
+		if ( previous != null ) {
+			ramBytesUsed -= previous.ramBytesUsed;
+		}
+		ramBytesUsed += entry.ramBytesUsed;
+		Iterator<Entry> iterator = entries.values().iterator();
+		while ( ramBytesUsed > maxRamBytes && iterator.hasNext() ) {
+			ramBytesUsed -= iterator.next().ramBytesUsed;
+			iterator.remove();
+		}
+	}
+
+	private synchronized void evict(IndexReader.CacheKey closedSegmentKey) {
+		listenedSegmentKeys.remove( closedSegmentKey );
+		Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+		while ( iterator.hasNext() ) {
+			Map.Entry<Key, Entry> mapEntry = iterator.next();
+			if ( mapEntry.getKey().segmentKey == closedSegmentKey ) {
+				ramBytesUsed -= mapEntry.getValue().ramBytesUsed;
+				iterator.remove();
+			}
+		}
+	}
+
+	private static BitSet create(Query parentQuery, LeafReaderContext context) throws IOException {
+		// Same as QueryBitSetProducer
+		IndexReaderContext topLevelContext = ReaderUtil.getTopLevelContext( context );
+		IndexSearcher searcher = new IndexSearcher( topLevelContext );
+		searcher.setQueryCache( null );
+		Query rewritten = searcher.rewrite( parentQuery );
+		Weight weight = searcher.createWeight( rewritten, ScoreMode.COMPLETE_NO_SCORES, 1f );
+		Scorer scorer = weight.scorer( context );
+		if ( scorer == null ) {
+			return null;
+		}
+		return BitSet.of( scorer.iterator(), context.reader().maxDoc() );
+	}
+
+	private static final class Key {
+		private final IndexReader.CacheKey segmentKey;
+		private final Query parentQuery;
+
+		private Key(IndexReader.CacheKey segmentKey, Query parentQuery) {
+			this.segmentKey = segmentKey;
+			this.parentQuery = parentQuery;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != Key.class ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return segmentKey == other.segmentKey && parentQuery.equals( other.parentQuery );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode( segmentKey ) + parentQuery.hashCode();
+		}
+	}
+
+	private static final class Entry {
+		private final BitSet bitSet;
+		private final long ramBytesUsed;
+
+		private Entry(BitSet bitSet) {
+			this.bitSet = bitSet;
+			this.ramBytesUsed = RamUsageEstimator.NUM_BYTES_OBJECT_REF
+					+ ( bitSet == null ? 0L : bitSet.ramBytesUsed() );
+		}
+	}
+
+	private static final class CachingBitSetProducer implements BitSetProducer {
+		private final ParentBitSetCache cache;
+		private final Query parentQuery;
+
+		private CachingBitSetProducer(ParentBitSetCache cache, Query parentQuery) {
+			this.cache = cache;
+			this.parentQuery = parentQuery;
+		}
+
+		@Override
+		public BitSet getBitSet(LeafReaderContext context) throws IOException {
+			return cache.getOrCreate( parentQuery, context );
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "(" + parentQuery + ")";
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != CachingBitSetProducer.class ) {
+				return false;
+			}
+			CachingBitSetProducer other = (CachingBitSetProducer) obj;
+			return cache == other.cache && parentQuery.equals( other.parentQuery );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( System.identityHashCode( cache ), parentQuery );
+		}
+	}
+}
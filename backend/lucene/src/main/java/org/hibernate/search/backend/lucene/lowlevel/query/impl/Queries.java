@@ -16,7 +16,7 @@
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TermQuery;
-import org.apache.lucene.search.join.QueryBitSetProducer;
+import org.apache.lucene.search.join.BitSetProducer;
 import org.apache.lucene.search.join.ToChildBlockJoinQuery;
 
 public class Queries {
@@ -75,13 +75,8 @@ public static Query anyTerm(String absoluteFieldPath, Set<String> values) {
 		return queryBuilder.build();
 	}
 
-	public static BooleanQuery findChildQuery(Set<String> nestedDocumentPaths, Query originalParentQuery) {
-		QueryBitSetProducer parentsFilter = new QueryBitSetProducer( mainDocumentQuery() );
-		return findChildQuery( nestedDocumentPaths, originalParentQuery, parentsFilter );
-	}
-
 	public static BooleanQuery findChildQuery(Set<String> nestedDocumentPaths, Query originalParentQuery,
-			QueryBitSetProducer parentsFilter) {
+			BitSetProducer parentsFilter) {
 		ToChildBlockJoinQuery parentQuery = new ToChildBlockJoinQuery( originalParentQuery, parentsFilter );
 
 		return new BooleanQuery.Builder()
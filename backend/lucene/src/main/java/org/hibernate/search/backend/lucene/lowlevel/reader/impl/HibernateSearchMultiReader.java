@@ -39,7 +39,8 @@ public class HibernateSearchMultiReader extends MultiReader {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	public static HibernateSearchMultiReader open(Set<String> indexNames,
-			Set<? extends ReadIndexManagerContext> indexManagerContexts, Set<String> routingKeys) {
+			Set<? extends ReadIndexManagerContext> indexManagerContexts,
+			String tenantId, Set<String> routingKeys) {
 		if ( indexManagerContexts.isEmpty() ) {
 			return null;
 		}
@@ -47,7 +48,7 @@ public static HibernateSearchMultiReader open(Set<String> indexNames,
 			Builder builder = new Builder();
 			try {
 				for ( ReadIndexManagerContext indexManagerContext : indexManagerContexts ) {
-					indexManagerContext.openIndexReaders( routingKeys, builder );
+					indexManagerContext.openIndexReaders( tenantId, routingKeys, builder );
 				}
 				return builder.build();
 			}
@@ -9,6 +9,7 @@
 import java.io.IOException;
 
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetrics;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
 
 import org.apache.lucene.index.DirectoryReader;
@@ -30,6 +31,7 @@ public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 	private final IndexWriterProvider indexWriterProvider;
 	private final TimingSource timingSource;
 	private final int refreshInterval;
+	private final LuceneWriteMetrics writeMetrics;
 
 	/**
 	 * Current open IndexReader, or null when closed.
@@ -37,10 +39,11 @@ public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
 	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+			TimingSource timingSource, int refreshInterval, LuceneWriteMetrics writeMetrics) {
 		this.indexWriterProvider = indexWriterProvider;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.writeMetrics = writeMetrics;
 	}
 
 	@Override
@@ -86,7 +89,9 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
 		}
 		else {
+			long start = System.nanoTime();
 			DirectoryReader newReaderOrNull = indexWriterProvider.getOrCreate().openReaderIfChanged( oldEntry.reader );
+			writeMetrics.refreshExecuted( System.nanoTime() - start );
 			if ( newReaderOrNull == null ) {
 				// No change, keep the old reader
 				freshEntry = oldEntry;
@@ -0,0 +1,103 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+/**
+ * A {@link HibernateSearchMultiReader} kept open across multiple searches,
+ * so that all these searches see the exact same documents.
+ * <p>
+ * The reader is released when it is {@link #close() closed}
+ * or when it has not been {@link #acquire() acquired} for longer than its keep-alive.
+ */
+public final class PinnedIndexReader implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final PinnedIndexReaderRegistry registry;
+	private final Set<String> indexNames;
+	private final HibernateSearchMultiReader indexReader;
+	private final long keepAliveNanos;
+
+	private final AtomicBoolean closed = new AtomicBoolean( false );
+	private volatile long expirationNanos;
+
+	PinnedIndexReader(PinnedIndexReaderRegistry registry, Set<String> indexNames,
+			HibernateSearchMultiReader indexReader, Duration keepAlive) {
+		this.registry = registry;
+		this.indexNames = indexNames;
+		this.indexReader = indexReader;
+		this.keepAliveNanos = keepAlive.toNanos();
+		this.expirationNanos = System.nanoTime() + keepAliveNanos;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[indexNames=" + indexNames + ", indexReader=" + indexReader + "]";
+	}
+
+	/**
+	 * Releases the pinned reader.
+	 * <p>
+	 * Searches currently using the reader are not affected:
+	 * the underlying index readers are only closed after they complete.
+	 */
+	@Override
+	public void close() {
+		if ( closed.compareAndSet( false, true ) ) {
+			registry.onClose( this );
+			try {
+				// Only decrements the reference count: searches that acquired the reader can still use it.
+				indexReader.decRef();
+			}
+			catch (IOException | RuntimeException e) {
+				log.unableToCloseIndexReader( getEventContext(), e );
+			}
+		}
+	}
+
+	public Set<String> getIndexNames() {
+		return indexNames;
+	}
+
+	public EventContext getEventContext() {
+		return EventContexts.fromIndexNames( indexNames );
+	}
+
+	/**
+	 * Acquires the pinned reader for a single search and extends the keep-alive.
+	 * <p>
+	 * The caller must {@link HibernateSearchMultiReader#decRef() release} the reader once done with it.
+	 *
+	 * @return The pinned reader.
+	 * @throws org.hibernate.search.util.common.SearchException If the pinned reader was closed or expired.
+	 */
+	public HibernateSearchMultiReader acquire() {
+		long now = System.nanoTime();
+		if ( closed.get() || isExpired( now ) || !indexReader.tryIncRef() ) {
+			throw log.pinnedSearchContextClosedOrExpired( Duration.ofNanos( keepAliveNanos ).toMillis(),
+					getEventContext() );
+		}
+		expirationNanos = now + keepAliveNanos;
+		return indexReader;
+	}
+
+	boolean isExpired(long now) {
+		return now - expirationNanos > 0;
+	}
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+/**
+ * Keeps track of the {@link PinnedIndexReader}s of a backend,
+ * so that the number of pinned readers can be capped
+ * and that pinned readers are released when they expire or when the backend stops.
+ */
+public final class PinnedIndexReaderRegistry {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final long PURGE_INTERVAL_MS = 1000L;
+
+	private final EventContext eventContext;
+	private final int maxCount;
+	private final String maxCountPropertyKey;
+	private final Duration defaultKeepAlive;
+
+	private final Set<PinnedIndexReader> pinnedReaders = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger pinnedReaderCount = new AtomicInteger( 0 );
+
+	private ScheduledFuture<?> purgeTask;
+
+	public PinnedIndexReaderRegistry(EventContext eventContext, int maxCount, String maxCountPropertyKey,
+			Duration defaultKeepAlive) {
+		this.eventContext = eventContext;
+		this.maxCount = maxCount;
+		this.maxCountPropertyKey = maxCountPropertyKey;
+		this.defaultKeepAlive = defaultKeepAlive;
+	}
+
+	public void start(ScheduledExecutorService executor) {
+		purgeTask = executor.scheduleWithFixedDelay( this::purgeExpired,
+				PURGE_INTERVAL_MS, PURGE_INTERVAL_MS, TimeUnit.MILLISECONDS );
+	}
+
+	public void stop() {
+		if ( purgeTask != null ) {
+			purgeTask.cancel( false );
+			purgeTask = null;
+		}
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.pushAll( PinnedIndexReader::close, new ArrayList<>( pinnedReaders ) );
+		}
+	}
+
+	/**
+	 * @param indexNames The names of the targeted indexes.
+	 * @param indexManagerContexts The contexts of the targeted indexes.
+	 * @param tenantId The tenant identifier, to select the targeted shards when each tenant has a dedicated index.
+	 * @param routingKeys The routing keys, to select the targeted shards.
+	 * @param keepAlive How long the reader should be kept open after its last use,
+	 * or {@code null} to use the default.
+	 * @return A new pinned reader.
+	 */
+	public PinnedIndexReader pin(Set<String> indexNames,
+			Set<? extends ReadIndexManagerContext> indexManagerContexts, String tenantId, Set<String> routingKeys,
+			Duration keepAlive) {
+		purgeExpired();
+
+		if ( pinnedReaderCount.incrementAndGet() > maxCount ) {
+			pinnedReaderCount.decrementAndGet();
+			throw log.tooManyPinnedSearchContexts( maxCount, maxCountPropertyKey,
+					EventContexts.fromIndexNames( indexNames ) );
+		}
+
+		HibernateSearchMultiReader indexReader;
+		try {
+			indexReader = HibernateSearchMultiReader.open( indexNames, indexManagerContexts, tenantId, routingKeys );
+		}
+		catch (RuntimeException e) {
+			pinnedReaderCount.decrementAndGet();
+			throw e;
+		}
+
+		PinnedIndexReader pinnedReader = new PinnedIndexReader( this, indexNames, indexReader,
+				keepAlive == null ? defaultKeepAlive : keepAlive );
+		pinnedReaders.add( pinnedReader );
+		return pinnedReader;
+	}
+
+	void onClose(PinnedIndexReader pinnedReader) {
+		if ( pinnedReaders.remove( pinnedReader ) ) {
+			pinnedReaderCount.decrementAndGet();
+		}
+	}
+
+	private void purgeExpired() {
+		long now = System.nanoTime();
+		for ( PinnedIndexReader pinnedReader : pinnedReaders ) {
+			if ( pinnedReader.isExpired( now ) ) {
+				if ( log.isDebugEnabled() ) {
+					log.debugf( "Releasing expired pinned index reader %s in %s", pinnedReader, eventContext );
+				}
+				pinnedReader.close();
+			}
+		}
+	}
+
+}
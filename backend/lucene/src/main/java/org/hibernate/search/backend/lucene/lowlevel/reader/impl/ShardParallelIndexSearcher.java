@@ -0,0 +1,118 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+
+/**
+ * An {@link IndexSearcher} that searches each shard (sub-reader of a {@link HibernateSearchMultiReader})
+ * in a separate thread when executing a {@link CollectorManager}.
+ * <p>
+ * Lucene's default slicing groups segments by size, regardless of the shard they belong to;
+ * slicing by shard ensures each thread works on a single shard,
+ * and allows skipping empty shards altogether.
+ */
+public final class ShardParallelIndexSearcher extends IndexSearcher {
+
+	/**
+	 * @param reader The reader to search.
+	 * @param executor The executor to use to search shards in parallel, or {@code null}.
+	 * @return An {@link IndexSearcher} that will search shards in parallel if possible and useful,
+	 * or a plain {@link IndexSearcher} otherwise.
+	 */
+	public static IndexSearcher create(IndexReader reader, Executor executor) {
+		if ( executor == null || countNonEmptyShards( reader.getContext() ) < 2 ) {
+			return new IndexSearcher( reader );
+		}
+		return new ShardParallelIndexSearcher( reader, executor );
+	}
+
+	private ShardParallelIndexSearcher(IndexReader reader, Executor executor) {
+		super( reader, executor );
+	}
+
+	@Override
+	protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
+		if ( leaves.isEmpty() ) {
+			return new LeafSlice[0];
+		}
+		IndexReaderContext topContext = ReaderUtil.getTopLevelContext( leaves.get( 0 ) );
+		List<LeafSlice> slices = new ArrayList<>();
+		for ( IndexReaderContext shardContext : topContext.children() ) {
+			List<LeafReaderContext> shardLeaves = new ArrayList<>();
+			collectLeaves( shardContext, shardLeaves );
+			// Empty shards cannot contribute any hit: skip them.
+			if ( !shardLeaves.isEmpty() ) {
+				slices.add( new LeafSlice( shardLeaves.toArray( new LeafReaderContext[0] ) ) );
+			}
+		}
+		return slices.toArray( new LeafSlice[0] );
+	}
+
+	@Override
+	public <C extends Collector, T> T search(Query query, CollectorManager<C, T> collectorManager) throws IOException {
+		try {
+			return super.search( query, collectorManager );
+		}
+		catch (RuntimeException e) {
+			// Lucene wraps failures of each slice: unwrap them so that callers see the original exception.
+			Throwable cause = e.getCause();
+			if ( cause instanceof ExecutionException ) {
+				Throwable rootCause = cause.getCause();
+				if ( rootCause instanceof RuntimeException ) {
+					throw (RuntimeException) rootCause;
+				}
+				else if ( rootCause instanceof IOException ) {
+					throw (IOException) rootCause;
+				}
+				else if ( rootCause instanceof Error ) {
+					throw (Error) rootCause;
+				}
+			}
+			throw e;
+		}
+	}
+
+	private static int countNonEmptyShards(IndexReaderContext topContext) {
+		List<IndexReaderContext> children = topContext.children();
+		if ( children == null ) {
+			// Leaf reader: a single shard
+			return 1;
+		}
+		int count = 0;
+		for ( IndexReaderContext child : children ) {
+			if ( child.reader().maxDoc() > 0 ) {
+				++count;
+			}
+		}
+		return count;
+	}
+
+	private static void collectLeaves(IndexReaderContext context, List<LeafReaderContext> leaves) {
+		if ( context instanceof LeafReaderContext ) {
+			leaves.add( (LeafReaderContext) context );
+		}
+		else {
+			for ( IndexReaderContext child : context.children() ) {
+				collectLeaves( child, leaves );
+			}
+		}
+	}
+}
@@ -0,0 +1,826 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.translog.impl;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.IndexableFieldType;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.IOUtils;
+
+/**
+ * A write-ahead log of the changes applied to an index writer,
+ * allowing to replay changes that were not committed yet after a crash.
+ * <p>
+ * The translog is split into generations, each stored in its own file in the index directory.
+ * Every commit starts a new generation and records that generation in the commit user data,
+ * so that older generations can be deleted and only the changes that were not committed yet
+ * are replayed when the index is re-opened.
+ * <p>
+ * All changes are recorded as operations on the document identifier
+ * (additions are recorded as updates), which makes replaying idempotent:
+ * replaying a change that was already committed is harmless.
+ * Changes that cannot be recorded this way (deletes by query, fields that cannot be serialized)
+ * are not recorded; instead, the translog {@link #requiresCommit() requires a commit}.
+ */
+public final class Translog implements Closeable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String COMMIT_DATA_GENERATION_KEY = "hibernate_search_translog_generation";
+
+	private static final String FILE_NAME_PREFIX = "translog-";
+	private static final String FILE_NAME_SUFFIX = ".tlog";
+	private static final Pattern FILE_NAME_PATTERN =
+			Pattern.compile( Pattern.quote( FILE_NAME_PREFIX ) + "(\\d+)" + Pattern.quote( FILE_NAME_SUFFIX ) );
+
+	private static final int HEADER_MAGIC = 0x48535446; // "HSTF"
+	private static final int HEADER_VERSION = 1;
+	private static final int MAX_RECORD_LENGTH = Integer.MAX_VALUE - 64;
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final byte OPERATION_UPDATE = 1;
+	private static final byte OPERATION_DELETE = 2;
+
+	private static final byte VALUE_INTEGER = 1;
+	private static final byte VALUE_LONG = 2;
+	private static final byte VALUE_FLOAT = 3;
+	private static final byte VALUE_DOUBLE = 4;
+	private static final byte VALUE_BYTES = 5;
+	private static final byte VALUE_STRING = 6;
+
+	private static final int FLAG_STORED = 1;
+	private static final int FLAG_TOKENIZED = 1 << 1;
+	private static final int FLAG_STORE_TERM_VECTORS = 1 << 2;
+	private static final int FLAG_STORE_TERM_VECTOR_OFFSETS = 1 << 3;
+	private static final int FLAG_STORE_TERM_VECTOR_POSITIONS = 1 << 4;
+	private static final int FLAG_STORE_TERM_VECTOR_PAYLOADS = 1 << 5;
+	private static final int FLAG_OMIT_NORMS = 1 << 6;
+
+	private static final IndexOptions[] INDEX_OPTIONS = IndexOptions.values();
+	private static final DocValuesType[] DOC_VALUES_TYPES = DocValuesType.values();
+
+	/**
+	 * Whether fields of a given class can be serialized as a plain {@link Field}:
+	 * subclasses that compute their value or token stream on the fly cannot.
+	 * <p>
+	 * Overriding {@link Field#numericValue()} is fine: points do that to decode their binary value.
+	 */
+	private static final ClassValue<Boolean> SERIALIZABLE_FIELD_CLASSES = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				for ( Method method : new Method[] {
+						type.getMethod( "tokenStream", Analyzer.class, TokenStream.class ),
+						type.getMethod( "stringValue" ),
+						type.getMethod( "binaryValue" ),
+						type.getMethod( "readerValue" ),
+						type.getMethod( "fieldType" )
+				} ) {
+					if ( !Field.class.equals( method.getDeclaringClass() ) ) {
+						return false;
+					}
+				}
+				return true;
+			}
+			catch (NoSuchMethodException e) {
+				return false;
+			}
+		}
+	};
+
+	public static boolean hasGenerations(Path directory) throws IOException {
+		return !listGenerations( directory ).isEmpty();
+	}
+
+	/**
+	 * Opens the translog stored in the given directory.
+	 * <p>
+	 * Must only be called while holding the index write lock,
+	 * so that no other process writes to the same translog.
+	 *
+	 * @param directory The index directory.
+	 * @param eventContext The event context of the index, for logging and exceptions.
+	 * @return The translog, with any existing generation available for {@link #replay(Map, IndexWriter) replay}.
+	 * @throws IOException If existing translog files cannot be listed.
+	 */
+	public static Translog open(Path directory, EventContext eventContext) throws IOException {
+		List<Long> recoveredGenerations = listGenerations( directory );
+		long nextGeneration = recoveredGenerations.isEmpty()
+				? 1L
+				: recoveredGenerations.get( recoveredGenerations.size() - 1 ) + 1L;
+		return new Translog( directory, eventContext, recoveredGenerations, nextGeneration );
+	}
+
+	private final Path directory;
+	private final EventContext eventContext;
+	private final List<Long> recoveredGenerations;
+
+	private final RecordBuffer payload = new RecordBuffer();
+	private final DataOutputStream payloadOutput = new DataOutputStream( payload );
+	private final RecordBuffer pending = new RecordBuffer();
+	private final DataOutputStream pendingOutput = new DataOutputStream( pending );
+	private final CRC32 checksum = new CRC32();
+
+	// All the state below is guarded by "this"
+	private long currentGeneration;
+	// Opened lazily on the first write to the current generation
+	private FileChannel currentChannel;
+	private boolean synced = true;
+	// Whether the creation of the current translog file was synced to disk
+	private boolean directorySynced = true;
+	private boolean requiresCommit = false;
+	private boolean closed = false;
+
+	private Translog(Path directory, EventContext eventContext, List<Long> recoveredGenerations,
+			long currentGeneration) {
+		this.directory = directory;
+		this.eventContext = eventContext;
+		this.recoveredGenerations = recoveredGenerations;
+		this.currentGeneration = currentGeneration;
+	}
+
+	/**
+	 * @return {@code true} if translog files were found when the translog was opened.
+	 * A commit is then necessary after {@link #replay(Map, IndexWriter) replaying} them,
+	 * so that they can be deleted.
+	 */
+	public boolean hasRecoveredGenerations() {
+		return !recoveredGenerations.isEmpty();
+	}
+
+	/**
+	 * Applies the operations that were recorded, but not committed, to the given index writer.
+	 *
+	 * @param lastCommitData The user data of the last commit of the index.
+	 * @param indexWriter The index writer to apply operations to.
+	 * @return The number of replayed operations.
+	 * @throws IOException If reading translog files or applying operations fails.
+	 */
+	public int replay(Map<String, String> lastCommitData, IndexWriter indexWriter) throws IOException {
+		String committedGenerationAsString = lastCommitData.get( COMMIT_DATA_GENERATION_KEY );
+		long firstGenerationToReplay = committedGenerationAsString == null
+				? 0L : Long.parseLong( committedGenerationAsString );
+		int operationCount = 0;
+		for ( Long generation : recoveredGenerations ) {
+			if ( generation < firstGenerationToReplay ) {
+				// Committed already.
+				continue;
+			}
+			ReplayResult result = replay( generation, indexWriter );
+			operationCount += result.operationCount;
+			if ( !result.complete ) {
+				// A torn record can only happen at the very end of the translog:
+				// stop here, so as to never apply operations out of order.
+				break;
+			}
+		}
+		return operationCount;
+	}
+
+	/**
+	 * Records an addition.
+	 * <p>
+	 * Must be called after the documents were added to the index writer.
+	 *
+	 * @param docs The added documents, the root document being the last one.
+	 * @throws IOException If writing to the translog fails.
+	 */
+	public synchronized void add(Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
+		Term idTerm = idTerm( docs );
+		if ( idTerm == null ) {
+			requiresCommit = true;
+			return;
+		}
+		update( idTerm, docs );
+	}
+
+	/**
+	 * Records an update.
+	 * <p>
+	 * Must be called after the documents were updated in the index writer.
+	 *
+	 * @param term The term identifying the documents to replace.
+	 * @param docs The new documents.
+	 * @throws IOException If writing to the translog fails.
+	 */
+	public synchronized void update(Term term, Iterable<? extends Iterable<? extends IndexableField>> docs)
+			throws IOException {
+		payload.reset();
+		payloadOutput.writeByte( OPERATION_UPDATE );
+		writeTerm( payloadOutput, term );
+		int docCountPosition = payload.size();
+		payloadOutput.writeInt( 0 );
+		int docCount = 0;
+		for ( Iterable<? extends IndexableField> doc : docs ) {
+			if ( !writeDocument( payloadOutput, doc ) ) {
+				requiresCommit = true;
+				return;
+			}
+			++docCount;
+		}
+		payload.setInt( docCountPosition, docCount );
+		appendPayload();
+	}
+
+	/**
+	 * Records a deletion.
+	 * <p>
+	 * Must be called after the documents were deleted from the index writer.
+	 *
+	 * @param term The term identifying the documents to delete.
+	 * @throws IOException If writing to the translog fails.
+	 */
+	public synchronized void delete(Term term) throws IOException {
+		payload.reset();
+		payloadOutput.writeByte( OPERATION_DELETE );
+		writeTerm( payloadOutput, term );
+		appendPayload();
+	}
+
+	/**
+	 * Records that an operation that cannot be recorded in the translog was applied to the index writer,
+	 * and thus that the next commit should not be delayed.
+	 */
+	public synchronized void markRequiresCommit() {
+		requiresCommit = true;
+	}
+
+	/**
+	 * @return {@code true} if some operations applied to the index writer since the last commit
+	 * could not be recorded in the translog.
+	 */
+	public synchronized boolean requiresCommit() {
+		return requiresCommit;
+	}
+
+	/**
+	 * Writes buffered operations to the translog file,
+	 * so that they survive a crash of the JVM, but not necessarily a crash of the operating system.
+	 *
+	 * @throws IOException If writing to the translog fails.
+	 */
+	public synchronized void flush() throws IOException {
+		if ( pending.size() == 0 ) {
+			return;
+		}
+		if ( currentChannel == null ) {
+			currentChannel = createChannel( currentGeneration );
+		}
+		pending.writeTo( currentChannel );
+		pending.reset();
+	}
+
+	/**
+	 * Writes buffered operations to the translog file and syncs the file to disk,
+	 * so that recorded operations survive a crash of the operating system.
+	 * <p>
+	 * If the translog file was created since the last sync, the directory is synced too,
+	 * so that the file itself survives a crash of the operating system.
+	 *
+	 * @throws IOException If writing to the translog fails.
+	 */
+	public synchronized void sync() throws IOException {
+		if ( closed ) {
+			return;
+		}
+		flush();
+		if ( synced ) {
+			return;
+		}
+		currentChannel.force( false );
+		if ( !directorySynced ) {
+			IOUtils.fsync( directory, true );
+			directorySynced = true;
+		}
+		synced = true;
+	}
+
+	/**
+	 * Starts a new generation.
+	 * <p>
+	 * Must be called right before committing the index writer:
+	 * all operations recorded before this call will be included in the commit,
+	 * and the returned generation must be recorded in the commit user data.
+	 *
+	 * @return The new generation.
+	 * @throws IOException If closing the translog file of the previous generation fails.
+	 */
+	public synchronized long rollGeneration() throws IOException {
+		// Operations recorded so far will be committed: no need to sync them,
+		// but keep them around in case the commit fails.
+		flush();
+		if ( currentChannel != null ) {
+			currentChannel.close();
+			currentChannel = null;
+		}
+		synced = true;
+		requiresCommit = false;
+		return ++currentGeneration;
+	}
+
+	/**
+	 * @param liveCommitData The current commit user data of the index writer, to preserve.
+	 * @param generation A generation returned by {@link #rollGeneration()}.
+	 * @return The commit user data to set on the index writer before committing.
+	 */
+	public static Iterable<Map.Entry<String, String>> commitData(Iterable<Map.Entry<String, String>> liveCommitData,
+			long generation) {
+		Map<String, String> result = new HashMap<>();
+		for ( Map.Entry<String, String> entry : liveCommitData ) {
+			result.put( entry.getKey(), entry.getValue() );
+		}
+		result.put( COMMIT_DATA_GENERATION_KEY, String.valueOf( generation ) );
+		return result.entrySet();
+	}
+
+	/**
+	 * Deletes translog files of generations that were committed.
+	 * <p>
+	 * Must be called after the commit including the given generation succeeded.
+	 *
+	 * @param generation A generation returned by {@link #rollGeneration()}.
+	 * @throws IOException If deleting files fails.
+	 */
+	public synchronized void deleteGenerationsBefore(long generation) throws IOException {
+		boolean deleted = false;
+		for ( Long existingGeneration : listGenerations( directory ) ) {
+			if ( existingGeneration < generation ) {
+				deleted |= Files.deleteIfExists( toPath( existingGeneration ) );
+			}
+		}
+		recoveredGenerations.clear();
+		if ( deleted ) {
+			// Make the deletion durable, so that committed generations are not found again after a crash.
+			IOUtils.fsync( directory, true );
+		}
+	}
+
+	/**
+	 * Writes buffered operations to the translog file and closes it.
+	 * <p>
+	 * Translog files are kept, so that operations are replayed when the translog is re-opened
+	 * unless {@link #deleteGenerationsBefore(long) deleted} beforehand.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
+		try {
+			flush();
+		}
+		finally {
+			if ( currentChannel != null ) {
+				currentChannel.close();
+				currentChannel = null;
+			}
+		}
+	}
+
+	private void appendPayload() throws IOException {
+		checksum.reset();
+		checksum.update( payload.buffer(), 0, payload.size() );
+		pendingOutput.writeInt( payload.size() );
+		payload.writeTo( pendingOutput );
+		pendingOutput.writeLong( checksum.getValue() );
+		synced = false;
+		if ( pending.size() >= BUFFER_SIZE ) {
+			flush();
+		}
+	}
+
+	private FileChannel createChannel(long generation) throws IOException {
+		FileChannel channel = FileChannel.open( toPath( generation ),
+				StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE );
+		// The file was created, but its directory entry may not survive a crash until the directory is synced.
+		directorySynced = false;
+		try {
+			ByteBuffer header = ByteBuffer.allocate( Integer.BYTES * 2 + Long.BYTES );
+			header.putInt( HEADER_MAGIC ).putInt( HEADER_VERSION ).putLong( generation );
+			header.flip();
+			while ( header.hasRemaining() ) {
+				channel.write( header );
+			}
+			return channel;
+		}
+		catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	private ReplayResult replay(long generation, IndexWriter indexWriter) throws IOException {
+		Path path = toPath( generation );
+		ReplayResult result = new ReplayResult();
+		long offset = 0L;
+		try ( InputStream stream = new BufferedInputStream( Files.newInputStream( path ) );
+				DataInputStream input = new DataInputStream( stream ) ) {
+			if ( !readHeader( input, generation ) ) {
+				log.translogTruncated( path, offset, eventContext );
+				result.complete = false;
+				return result;
+			}
+			offset = Integer.BYTES * 2 + Long.BYTES;
+
+			CRC32 recordChecksum = new CRC32();
+			while ( true ) {
+				byte[] record;
+				try {
+					int length = input.readInt();
+					if ( length <= 0 || length > MAX_RECORD_LENGTH ) {
+						throw new EOFException();
+					}
+					record = new byte[length];
+					input.readFully( record );
+					long expectedChecksum = input.readLong();
+					recordChecksum.reset();
+					recordChecksum.update( record, 0, record.length );
+					if ( recordChecksum.getValue() != expectedChecksum ) {
+						throw new EOFException();
+					}
+				}
+				catch (EOFException e) {
+					if ( offset < Files.size( path ) ) {
+						log.translogTruncated( path, offset, eventContext );
+						result.complete = false;
+					}
+					return result;
+				}
+				applyRecord( new DataInputStream( new ByteArrayInputStream( record ) ), indexWriter );
+				++result.operationCount;
+				offset += Integer.BYTES + record.length + Long.BYTES;
+			}
+		}
+	}
+
+	private boolean readHeader(DataInputStream input, long generation) throws IOException {
+		try {
+			return input.readInt() == HEADER_MAGIC
+					&& input.readInt() == HEADER_VERSION
+					&& input.readLong() == generation;
+		}
+		catch (EOFException e) {
+			return false;
+		}
+	}
+
+	private static void applyRecord(DataInputStream input, IndexWriter indexWriter) throws IOException {
+		byte operation = input.readByte();
+		Term term = readTerm( input );
+		switch ( operation ) {
+			case OPERATION_UPDATE:
+				int docCount = input.readInt();
+				List<Document> docs = new ArrayList<>( docCount );
+				for ( int i = 0; i < docCount; i++ ) {
+					docs.add( readDocument( input ) );
+				}
+				indexWriter.updateDocuments( term, docs );
+				break;
+			case OPERATION_DELETE:
+				indexWriter.deleteDocuments( term );
+				break;
+			default:
+				throw new IOException( "Unknown translog operation: " + operation );
+		}
+	}
+
+	private Path toPath(long generation) {
+		return directory.resolve( FILE_NAME_PREFIX + generation + FILE_NAME_SUFFIX );
+	}
+
+	private static List<Long> listGenerations(Path directory) throws IOException {
+		List<Long> generations = new ArrayList<>();
+		if ( !Files.isDirectory( directory ) ) {
+			return generations;
+		}
+		try ( DirectoryStream<Path> stream = Files.newDirectoryStream( directory, FILE_NAME_PREFIX + "*" ) ) {
+			for ( Path path : stream ) {
+				Matcher matcher = FILE_NAME_PATTERN.matcher( path.getFileName().toString() );
+				if ( matcher.matches() ) {
+					generations.add( Long.parseLong( matcher.group( 1 ) ) );
+				}
+			}
+		}
+		Collections.sort( generations );
+		return generations;
+	}
+
+	private static Term idTerm(Iterable<? extends Iterable<? extends IndexableField>> docs) {
+		Iterable<? extends IndexableField> rootDocument = null;
+		for ( Iterable<? extends IndexableField> doc : docs ) {
+			// The root document is always the last one.
+			rootDocument = doc;
+		}
+		if ( rootDocument == null ) {
+			return null;
+		}
+		IndexableField idField = null;
+		for ( IndexableField field : rootDocument ) {
+			String name = field.name();
+			if ( MetadataFields.tenantIdAndIdFieldName().equals( name ) ) {
+				// Takes precedence: the ID alone does not identify the document across tenants.
+				idField = field;
+				break;
+			}
+			else if ( MetadataFields.idFieldName().equals( name ) ) {
+				idField = field;
+			}
+		}
+		if ( idField == null ) {
+			return null;
+		}
+		BytesRef binaryValue = idField.binaryValue();
+		if ( binaryValue != null ) {
+			return new Term( idField.name(), BytesRef.deepCopyOf( binaryValue ) );
+		}
+		String stringValue = idField.stringValue();
+		return stringValue == null ? null : new Term( idField.name(), stringValue );
+	}
+
+	private static boolean writeDocument(DataOutputStream output, Iterable<? extends IndexableField> doc)
+			throws IOException {
+		List<Field> fields = new ArrayList<>();
+		for ( IndexableField field : doc ) {
+			if ( !( field instanceof Field ) || !SERIALIZABLE_FIELD_CLASSES.get( field.getClass() ) ) {
+				return false;
+			}
+			fields.add( (Field) field );
+		}
+		output.writeInt( fields.size() );
+		for ( Field field : fields ) {
+			if ( !writeField( output, field ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean writeField(DataOutputStream output, Field field) throws IOException {
+		// Fields pre-analyzed from their string value (see AnalyzedValueCache) are recorded as that string value,
+		// and analyzed again on replay.
+		if ( field.readerValue() != null
+				|| ( field.tokenStreamValue() != null && field.stringValue() == null ) ) {
+			return false;
+		}
+		writeString( output, field.name() );
+		writeFieldType( output, field.fieldType() );
+
+		// Check the binary value first: points also expose a (decoded) numeric value.
+		BytesRef binaryValue = field.binaryValue();
+		if ( binaryValue != null ) {
+			output.writeByte( VALUE_BYTES );
+			writeBytes( output, binaryValue );
+			return true;
+		}
+
+		Number numericValue = field.numericValue();
+		if ( numericValue != null ) {
+			if ( numericValue instanceof Integer ) {
+				output.writeByte( VALUE_INTEGER );
+				output.writeInt( numericValue.intValue() );
+			}
+			else if ( numericValue instanceof Long ) {
+				output.writeByte( VALUE_LONG );
+				output.writeLong( numericValue.longValue() );
+			}
+			else if ( numericValue instanceof Float ) {
+				output.writeByte( VALUE_FLOAT );
+				output.writeFloat( numericValue.floatValue() );
+			}
+			else if ( numericValue instanceof Double ) {
+				output.writeByte( VALUE_DOUBLE );
+				output.writeDouble( numericValue.doubleValue() );
+			}
+			else {
+				return false;
+			}
+			return true;
+		}
+
+		String stringValue = field.stringValue();
+		if ( stringValue != null ) {
+			output.writeByte( VALUE_STRING );
+			writeString( output, stringValue );
+			return true;
+		}
+
+		return false;
+	}
+
+	private static void writeFieldType(DataOutputStream output, IndexableFieldType type) throws IOException {
+		int flags = 0;
+		flags |= type.stored() ? FLAG_STORED : 0;
+		flags |= type.tokenized() ? FLAG_TOKENIZED : 0;
+		flags |= type.storeTermVectors() ? FLAG_STORE_TERM_VECTORS : 0;
+		flags |= type.storeTermVectorOffsets() ? FLAG_STORE_TERM_VECTOR_OFFSETS : 0;
+		flags |= type.storeTermVectorPositions() ? FLAG_STORE_TERM_VECTOR_POSITIONS : 0;
+		flags |= type.storeTermVectorPayloads() ? FLAG_STORE_TERM_VECTOR_PAYLOADS : 0;
+		flags |= type.omitNorms() ? FLAG_OMIT_NORMS : 0;
+		output.writeByte( flags );
+		output.writeByte( type.indexOptions().ordinal() );
+		output.writeByte( type.docValuesType().ordinal() );
+		output.writeInt( type.pointDimensionCount() );
+		output.writeInt( type.pointIndexDimensionCount() );
+		output.writeInt( type.pointNumBytes() );
+		Map<String, String> attributes = type.getAttributes();
+		if ( attributes == null ) {
+			output.writeInt( 0 );
+		}
+		else {
+			output.writeInt( attributes.size() );
+			for ( Map.Entry<String, String> entry : attributes.entrySet() ) {
+				writeString( output, entry.getKey() );
+				writeString( output, entry.getValue() );
+			}
+		}
+	}
+
+	private static void writeTerm(DataOutputStream output, Term term) throws IOException {
+		writeString( output, term.field() );
+		writeBytes( output, term.bytes() );
+	}
+
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+		output.writeInt( bytes.length );
+		output.write( bytes );
+	}
+
+	private static void writeBytes(DataOutputStream output, BytesRef value) throws IOException {
+		output.writeInt( value.length );
+		output.write( value.bytes, value.offset, value.length );
+	}
+
+	private static Document readDocument(DataInputStream input) throws IOException {
+		Document document = new Document();
+		int fieldCount = input.readInt();
+		for ( int i = 0; i < fieldCount; i++ ) {
+			document.add( readField( input ) );
+		}
+		return document;
+	}
+
+	private static Field readField(DataInputStream input) throws IOException {
+		String name = readString( input );
+		FieldType type = readFieldType( input );
+		byte valueType = input.readByte();
+		Object value;
+		switch ( valueType ) {
+			case VALUE_INTEGER:
+				value = input.readInt();
+				break;
+			case VALUE_LONG:
+				value = input.readLong();
+				break;
+			case VALUE_FLOAT:
+				value = input.readFloat();
+				break;
+			case VALUE_DOUBLE:
+				value = input.readDouble();
+				break;
+			case VALUE_BYTES:
+				value = readBytes( input );
+				break;
+			case VALUE_STRING:
+				value = readString( input );
+				break;
+			default:
+				throw new IOException( "Unknown translog field value type: " + valueType );
+		}
+		return new ReplayedField( name, type, value );
+	}
+
+	private static FieldType readFieldType(DataInputStream input) throws IOException {
+		FieldType type = new FieldType();
+		int flags = input.readByte();
+		type.setStored( ( flags & FLAG_STORED ) != 0 );
+		type.setTokenized( ( flags & FLAG_TOKENIZED ) != 0 );
+		type.setStoreTermVectors( ( flags & FLAG_STORE_TERM_VECTORS ) != 0 );
+		type.setStoreTermVectorOffsets( ( flags & FLAG_STORE_TERM_VECTOR_OFFSETS ) != 0 );
+		type.setStoreTermVectorPositions( ( flags & FLAG_STORE_TERM_VECTOR_POSITIONS ) != 0 );
+		type.setStoreTermVectorPayloads( ( flags & FLAG_STORE_TERM_VECTOR_PAYLOADS ) != 0 );
+		type.setOmitNorms( ( flags & FLAG_OMIT_NORMS ) != 0 );
+		type.setIndexOptions( INDEX_OPTIONS[input.readByte()] );
+		type.setDocValuesType( DOC_VALUES_TYPES[input.readByte()] );
+		int dimensionCount = input.readInt();
+		int indexDimensionCount = input.readInt();
+		int dimensionNumBytes = input.readInt();
+		if ( dimensionCount != 0 ) {
+			type.setDimensions( dimensionCount, indexDimensionCount, dimensionNumBytes );
+		}
+		int attributeCount = input.readInt();
+		for ( int i = 0; i < attributeCount; i++ ) {
+			type.putAttribute( readString( input ), readString( input ) );
+		}
+		type.freeze();
+		return type;
+	}
+
+	private static Term readTerm(DataInputStream input) throws IOException {
+		String field = readString( input );
+		return new Term( field, readBytes( input ) );
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		byte[] bytes = new byte[input.readInt()];
+		input.readFully( bytes );
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+
+	private static BytesRef readBytes(DataInputStream input) throws IOException {
+		byte[] bytes = new byte[input.readInt()];
+		input.readFully( bytes );
+		return new BytesRef( bytes );
+	}
+
+	private static final class ReplayResult {
+		private int operationCount = 0;
+		private boolean complete = true;
+	}
+
+	/**
+	 * A field whose value was read from the translog.
+	 * <p>
+	 * Sets the value directly, because the public constructors of {@link Field}
+	 * reject some combinations of value and type that are legitimate for subclasses (points, doc values, ...).
+	 */
+	private static final class ReplayedField extends Field {
+		private ReplayedField(String name, IndexableFieldType type, Object value) {
+			super( name, type );
+			this.fieldsData = value;
+		}
+	}
+
+	/**
+	 * A byte array output stream that can write its content without copying it.
+	 */
+	private static final class RecordBuffer extends ByteArrayOutputStream {
+		RecordBuffer() {
+			super( 1024 );
+		}
+
+		byte[] buffer() {
+			return buf;
+		}
+
+		void setInt(int position, int value) {
+			buf[position] = (byte) ( value >>> 24 );
+			buf[position + 1] = (byte) ( value >>> 16 );
+			buf[position + 2] = (byte) ( value >>> 8 );
+			buf[position + 3] = (byte) value;
+		}
+
+		void writeTo(FileChannel channel) throws IOException {
+			ByteBuffer byteBuffer = ByteBuffer.wrap( buf, 0, count );
+			while ( byteBuffer.hasRemaining() ) {
+				channel.write( byteBuffer );
+			}
+		}
+	}
+}
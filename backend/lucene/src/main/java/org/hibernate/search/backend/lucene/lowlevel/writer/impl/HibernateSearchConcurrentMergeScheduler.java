@@ -6,9 +6,11 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetrics;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
 import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -21,8 +23,8 @@
 import org.apache.lucene.util.ThreadInterruptedException;
 
 /**
- * We customize Lucene's ConcurrentMergeScheduler to route eventual exceptions to our configurable failure handler
- * and override the name of merge threads.
+ * We customize Lucene's ConcurrentMergeScheduler to route eventual exceptions to our configurable failure handler,
+ * override the name of merge threads and report merges to write metrics.
  *
  * @see FailureHandler
  * @since 3.3
@@ -36,17 +38,27 @@ class HibernateSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
 	private final String indexName;
 	private final String contextDescription;
 	private final ThreadProvider threadProvider;
+	private final LuceneWriteMetrics writeMetrics;
 	private final FailureHandler failureHandler;
 
 	HibernateSearchConcurrentMergeScheduler(String indexName, String contextDescription,
 			ThreadProvider threadProvider,
+			LuceneWriteMetrics writeMetrics,
 			FailureHandler failureHandler) {
 		this.indexName = indexName;
 		this.contextDescription = contextDescription;
 		this.threadProvider = threadProvider;
+		this.writeMetrics = writeMetrics;
 		this.failureHandler = failureHandler;
 	}
 
+	@Override
+	protected void doMerge(IndexWriter writer, MergePolicy.OneMerge merge) throws IOException {
+		long start = System.nanoTime();
+		super.doMerge( writer, merge );
+		writeMetrics.mergeExecuted( merge.totalMaxDoc, System.nanoTime() - start );
+	}
+
 	@Override
 	protected void handleMergeException(Directory dir, Throwable t) {
 		try {
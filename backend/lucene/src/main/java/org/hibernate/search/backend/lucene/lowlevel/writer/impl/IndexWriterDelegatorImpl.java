@@ -8,12 +8,17 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
+import org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetrics;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -22,6 +27,7 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.index.CodecReader;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexableField;
@@ -36,25 +42,40 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final IndexWriter delegate;
+	// Null if the translog is disabled
+	private final Translog translog;
 	private final EventContext eventContext;
 	private final TimingSource timingSource;
 	private final int commitInterval;
+	private final int translogSyncInterval;
+	private final LuceneWriteMetrics writeMetrics;
 	private final FailureHandler failureHandler;
 
 	private final SingletonTask delayedCommitTask;
+	// Null if the translog is disabled or periodic syncing is disabled
+	private final SingletonTask delayedTranslogSyncTask;
 	private final Object commitLock = new Object();
 
+	// Incremented every time a commit is requested, after the changes to commit were applied to the writer.
+	private final AtomicLong commitRequestCounter = new AtomicLong();
+	// Guarded by commitLock: the last commit request whose changes were committed.
+	private long lastCommittedRequest = 0L;
+
 	private long commitExpiration;
 
-	public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
+	public IndexWriterDelegatorImpl(IndexWriter delegate, Translog translog, EventContext eventContext,
 			ScheduledExecutorService delayedCommitExecutor,
-			TimingSource timingSource, int commitInterval,
+			TimingSource timingSource, int commitInterval, int translogSyncInterval,
+			LuceneWriteMetrics writeMetrics,
 			FailureHandler failureHandler,
 			DelayedCommitFailureHandler delayedCommitFailureHandler) {
 		this.delegate = delegate;
+		this.translog = translog;
 		this.eventContext = eventContext;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.translogSyncInterval = translogSyncInterval;
+		this.writeMetrics = writeMetrics;
 		this.failureHandler = failureHandler;
 
 		if ( commitInterval == 0L ) {
@@ -69,35 +90,122 @@ public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 			);
 		}
 
+		if ( translog == null || translogSyncInterval == 0 ) {
+			delayedTranslogSyncTask = null;
+		}
+		else {
+			delayedTranslogSyncTask = new SingletonTask(
+					"Delayed translog sync for " + eventContext.render(),
+					new LuceneDelayedTranslogSyncWorker( delayedCommitFailureHandler ),
+					new LuceneDelayedTranslogSyncScheduler( delayedCommitExecutor ),
+					failureHandler
+			);
+		}
+
 		updateCommitExpiration();
 	}
 
 	@Override
 	public long addDocuments(Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
-		return delegate.addDocuments( docs );
+		long sequenceNumber = delegate.addDocuments( docs );
+		// Record changes *after* they were applied to the writer:
+		// see commitAndUpdateLastCommittedRequest().
+		if ( translog != null ) {
+			translog.add( docs );
+		}
+		return sequenceNumber;
 	}
 
 	@Override
 	public long updateDocuments(Term term, Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException {
-		return delegate.updateDocuments( term, docs );
+		long sequenceNumber = delegate.updateDocuments( term, docs );
+		if ( translog != null ) {
+			translog.update( term, docs );
+		}
+		return sequenceNumber;
 	}
 
 	@Override
 	public long deleteDocuments(Term term) throws IOException {
-		return delegate.deleteDocuments( term );
+		long sequenceNumber = delegate.deleteDocuments( term );
+		if ( translog != null ) {
+			translog.delete( term );
+		}
+		return sequenceNumber;
 	}
 
 	@Override
 	public long deleteDocuments(Query query) throws IOException {
-		return delegate.deleteDocuments( query );
+		long sequenceNumber = delegate.deleteDocuments( query );
+		if ( translog != null ) {
+			// Deletes by query cannot be replayed safely: they must be committed.
+			translog.markRequiresCommit();
+		}
+		return sequenceNumber;
+	}
+
+	/**
+	 * Adds copies of the (live) documents of the given readers to the index, without analyzing them again.
+	 *
+	 * @param readers The readers whose documents should be copied.
+	 * @return The sequence number of the operation.
+	 * @throws IOException If an I/O error occurs.
+	 */
+	public long addIndexes(CodecReader... readers) throws IOException {
+		long sequenceNumber = delegate.addIndexes( readers );
+		if ( translog != null ) {
+			// Copied segments are not recorded in the translog: they must be committed.
+			translog.markRequiresCommit();
+		}
+		return sequenceNumber;
 	}
 
 	public void mergeSegments() throws IOException {
 		delegate.forceMerge( 1 );
 	}
 
+	/**
+	 * Sets a value in the user data of the next commit, preserving other values.
+	 * <p>
+	 * The value is kept in later commits, unless set again.
+	 *
+	 * @param key The key.
+	 * @param value The value.
+	 */
+	public void setCommitData(String key, String value) {
+		synchronized (commitLock) {
+			Map<String, String> commitData = new HashMap<>();
+			for ( Map.Entry<String, String> entry : delegate.getLiveCommitData() ) {
+				commitData.put( entry.getKey(), entry.getValue() );
+			}
+			commitData.put( key, value );
+			delegate.setLiveCommitData( commitData.entrySet() );
+		}
+	}
+
+	/**
+	 * Commits all changes applied to the writer before this call.
+	 * <p>
+	 * Implements group commit: when multiple threads request a commit concurrently,
+	 * for example because multiple transactions with a {@code write-sync} strategy completed at the same time,
+	 * threads that requested a commit while another commit was in progress
+	 * are all served by a single, subsequent commit.
+	 * This avoids one fsync per thread on a busy index.
+	 */
 	public void commit() {
-		doCommit();
+		long request = commitRequestCounter.incrementAndGet();
+		try {
+			synchronized (commitLock) {
+				if ( lastCommittedRequest >= request ) {
+					// Another thread committed our changes while we were waiting for the lock.
+					return;
+				}
+				commitAndUpdateLastCommittedRequest();
+			}
+		}
+		catch (RuntimeException | IOException e) {
+			throw log.unableToCommitIndex( eventContext, e );
+		}
 	}
 
 	public void commitOrDelay() {
@@ -108,6 +216,7 @@ public void commitOrDelay() {
 
 		if ( delayCommit() ) {
 			// The commit was delayed
+			flushTranslog();
 			return;
 		}
 
@@ -117,6 +226,7 @@ public void commitOrDelay() {
 		synchronized (commitLock) {
 			if ( delayCommit() ) {
 				// The commit was delayed
+				flushTranslog();
 				return;
 			}
 
@@ -125,6 +235,21 @@ public void commitOrDelay() {
 		}
 	}
 
+	/**
+	 * Makes all changes applied to the writer before this call durable,
+	 * either by committing or, if the translog is enabled and the commit can be delayed,
+	 * by syncing the translog to disk.
+	 */
+	public void commitOrSyncTranslog() {
+		if ( translog == null || !delegate.hasUncommittedChanges() || !delayCommit() ) {
+			commit();
+			return;
+		}
+
+		// The commit was delayed: rely on the translog until then.
+		syncTranslog();
+	}
+
 	public DirectoryReader openReader() throws IOException {
 		return DirectoryReader.open( delegate );
 	}
@@ -136,10 +261,16 @@ public DirectoryReader openReaderIfChanged(DirectoryReader oldReader) throws IOE
 	void close() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
 			closer.push( SingletonTask::stop, delayedCommitTask );
+			closer.push( SingletonTask::stop, delayedTranslogSyncTask );
 			// Avoid problems with closing while a (delayed) commit is in progress:
 			// Lucene throws an exception in that case.
 			synchronized (commitLock) {
-				closer.push( IndexWriter::close, delegate );
+				if ( translog == null ) {
+					closer.push( IndexWriter::close, delegate );
+				}
+				else {
+					closer.push( IndexWriterDelegatorImpl::closeWithTranslog, this );
+				}
 			}
 			log.trace( "IndexWriter closed" );
 		}
@@ -170,8 +301,7 @@ public void closeAfterFailure(Throwable throwable, Object failingOperation) {
 	private void doCommit() {
 		try {
 			synchronized (commitLock) {
-				delegate.commit();
-				updateCommitExpiration();
+				commitAndUpdateLastCommittedRequest();
 			}
 		}
 		catch (RuntimeException | IOException e) {
@@ -179,10 +309,58 @@ private void doCommit() {
 		}
 	}
 
+	// Must be called while holding commitLock
+	private void closeWithTranslog() throws IOException {
+		try {
+			// If the writer was already closed because of a failure, closing it will not commit:
+			// translog files must be kept for the next writer to replay them.
+			boolean willCommit = delegate.isOpen();
+			long generation = translog.rollGeneration();
+			if ( delegate.hasUncommittedChanges() ) {
+				delegate.setLiveCommitData( Translog.commitData( delegate.getLiveCommitData(), generation ) );
+			}
+			// This will commit
+			delegate.close();
+			if ( willCommit ) {
+				translog.deleteGenerationsBefore( generation );
+			}
+		}
+		finally {
+			translog.close();
+		}
+	}
+
+	// Must be called while holding commitLock
+	private void commitAndUpdateLastCommittedRequest() throws IOException {
+		// Any commit request issued before this point had its changes applied to the writer:
+		// this commit will cover them.
+		long coveredRequest = commitRequestCounter.get();
+		long start = System.nanoTime();
+		if ( translog == null ) {
+			delegate.commit();
+		}
+		else {
+			// Changes recorded in the translog before this point were applied to the writer:
+			// this commit will cover them, so the translog can be truncated after the commit.
+			long generation = translog.rollGeneration();
+			delegate.setLiveCommitData( Translog.commitData( delegate.getLiveCommitData(), generation ) );
+			delegate.commit();
+			translog.deleteGenerationsBefore( generation );
+		}
+		writeMetrics.commitExecuted( System.nanoTime() - start );
+		lastCommittedRequest = Math.max( lastCommittedRequest, coveredRequest );
+		updateCommitExpiration();
+	}
+
 	/**
 	 * @return {@code true} if the commit was delayed, {@code false} if it wasn't and must happen now.
 	 */
 	private boolean delayCommit() {
+		if ( translog != null && translog.requiresCommit() ) {
+			// Some changes could not be recorded in the translog: the commit must happen now.
+			return false;
+		}
+
 		long timeToCommit = getTimeToCommit();
 		if ( timeToCommit <= 0L ) {
 			// The commit must happen now.
@@ -195,6 +373,32 @@ private boolean delayCommit() {
 		return true;
 	}
 
+	private void flushTranslog() {
+		if ( translog == null ) {
+			return;
+		}
+		try {
+			translog.flush();
+		}
+		catch (RuntimeException | IOException e) {
+			throw log.unableToWriteTranslog( e.getMessage(), eventContext, e );
+		}
+		if ( delayedTranslogSyncTask != null ) {
+			// Flushed changes survive a crash of the JVM, but not of the operating system:
+			// make sure they will be synced to disk eventually.
+			delayedTranslogSyncTask.ensureScheduled();
+		}
+	}
+
+	private void syncTranslog() {
+		try {
+			translog.sync();
+		}
+		catch (RuntimeException | IOException e) {
+			throw log.unableToWriteTranslog( e.getMessage(), eventContext, e );
+		}
+	}
+
 	private long getTimeToCommit() {
 		if ( commitInterval == 0L ) {
 			// We never delay anything in this case,
@@ -249,6 +453,44 @@ public Future<?> schedule(Runnable runnable) {
 		}
 	}
 
+	private class LuceneDelayedTranslogSyncWorker implements SingletonTask.Worker {
+		private final CompletableFuture<?> completedFuture = CompletableFuture.completedFuture( null );
+		private final DelayedCommitFailureHandler delayedCommitFailureHandler;
+
+		public LuceneDelayedTranslogSyncWorker(DelayedCommitFailureHandler delayedCommitFailureHandler) {
+			this.delayedCommitFailureHandler = delayedCommitFailureHandler;
+		}
+
+		@Override
+		public CompletableFuture<?> work() {
+			try {
+				syncTranslog();
+			}
+			catch (Throwable t) {
+				delayedCommitFailureHandler.handle( t, "Delayed translog sync" );
+			}
+			return completedFuture;
+		}
+
+		@Override
+		public void complete() {
+			// Nothing to do.
+		}
+	}
+
+	private class LuceneDelayedTranslogSyncScheduler implements SingletonTask.Scheduler {
+		private final ScheduledExecutorService delegate;
+
+		private LuceneDelayedTranslogSyncScheduler(ScheduledExecutorService delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Future<?> schedule(Runnable runnable) {
+			return delegate.schedule( runnable, translogSyncInterval, TimeUnit.MILLISECONDS );
+		}
+	}
+
 	interface DelayedCommitFailureHandler {
 
 		void handle(Throwable throwable, Object failingOperation);
@@ -8,14 +8,21 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.translog.impl.Translog;
+import org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetrics;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
@@ -24,6 +31,10 @@
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
 import org.apache.lucene.index.MergeScheduler;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FilterDirectory;
 
 /**
  * @author Sanne Grinovero (C) 2011 Red Hat Inc.
@@ -36,9 +47,13 @@ public class IndexWriterProvider {
 	private final EventContext eventContext;
 	private final DirectoryHolder directoryHolder;
 	private final Analyzer analyzer;
+	private final Sort indexSort;
 	private final TimingSource timingSource;
 	private final int commitInterval;
+	private final boolean translogEnabled;
+	private final int translogSyncInterval;
 	private BackendThreads threads;
+	private final LuceneWriteMetrics writeMetrics;
 	private final FailureHandler failureHandler;
 
 	/* TODO HSEARCH-3776 re-allow configuring index writers
@@ -58,17 +73,22 @@ public class IndexWriterProvider {
 	private final ReentrantLock currentWriterModificationLock = new ReentrantLock();
 
 	public IndexWriterProvider(String indexName, EventContext eventContext,
-			DirectoryHolder directoryHolder, Analyzer analyzer,
-			TimingSource timingSource, int commitInterval,
+			DirectoryHolder directoryHolder, Analyzer analyzer, Sort indexSort,
+			TimingSource timingSource, int commitInterval, boolean translogEnabled, int translogSyncInterval,
 			BackendThreads threads,
+			LuceneWriteMetrics writeMetrics,
 			FailureHandler failureHandler) {
 		this.indexName = indexName;
 		this.eventContext = eventContext;
 		this.directoryHolder = directoryHolder;
 		this.analyzer = analyzer;
+		this.indexSort = indexSort;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.translogEnabled = translogEnabled;
+		this.translogSyncInterval = translogSyncInterval;
 		this.threads = threads;
+		this.writeMetrics = writeMetrics;
 		this.failureHandler = failureHandler;
 		/* TODO HSEARCH-3776 re-allow configuring index writers
 		this.luceneParameters = indexManager.getIndexingParameters();
@@ -115,6 +135,22 @@ public void clearAfterFailure(Throwable throwable, Object failingOperation) {
 		}
 	}
 
+	/**
+	 * Creates the index writer right away if the translog contains operations to replay,
+	 * so that these operations are replayed and committed as soon as the index is started.
+	 * <p>
+	 * Should be used when starting the index.
+	 */
+	public void replayTranslogIfNecessary() throws IOException {
+		if ( !translogEnabled ) {
+			return;
+		}
+		Path translogDirectory = getTranslogDirectory( directoryHolder.get() );
+		if ( translogDirectory != null && Translog.hasGenerations( translogDirectory ) ) {
+			getOrCreate();
+		}
+	}
+
 	public IndexWriterDelegatorImpl getOrNull() {
 		return currentWriter.get();
 	}
@@ -127,10 +163,12 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 				indexWriterDelegator = currentWriter.get();
 				if ( indexWriterDelegator == null ) {
 					IndexWriter indexWriter = createNewIndexWriter();
+					Translog translog = translogEnabled ? openTranslog( indexWriter ) : null;
 					indexWriterDelegator = new IndexWriterDelegatorImpl(
-							indexWriter, eventContext,
+							indexWriter, translog, eventContext,
 							threads.getWriteExecutor(),
-							timingSource, commitInterval,
+							timingSource, commitInterval, translogSyncInterval,
+							writeMetrics,
 							failureHandler,
 							this::clearAfterFailure
 					);
@@ -151,6 +189,57 @@ private IndexWriter createNewIndexWriter() throws IOException {
 		return new IndexWriter( directoryHolder.get(), indexWriterConfig );
 	}
 
+	private Translog openTranslog(IndexWriter indexWriter) throws IOException {
+		Path translogDirectory = getTranslogDirectory( indexWriter.getDirectory() );
+		if ( translogDirectory == null ) {
+			log.translogRequiresFileSystemDirectory( LuceneIndexSettings.IO_TRANSLOG_ENABLED,
+					indexWriter.getDirectory().getClass().getName(), eventContext );
+			return null;
+		}
+		Translog translog = null;
+		try {
+			translog = Translog.open( translogDirectory, eventContext );
+			if ( translog.hasRecoveredGenerations() ) {
+				replay( translog, indexWriter );
+			}
+			return translog;
+		}
+		catch (RuntimeException | IOException e) {
+			// Roll back rather than close, so that partially replayed operations are not committed;
+			// translog files are kept and will be replayed again next time.
+			new SuppressingCloser( e )
+					.push( translog )
+					.push( IndexWriter::rollback, indexWriter );
+			throw log.unableToReplayTranslog( e.getMessage(), eventContext, e );
+		}
+	}
+
+	private void replay(Translog translog, IndexWriter indexWriter) throws IOException {
+		Map<String, String> lastCommitData = new HashMap<>();
+		for ( Map.Entry<String, String> entry : indexWriter.getLiveCommitData() ) {
+			lastCommitData.put( entry.getKey(), entry.getValue() );
+		}
+		int operationCount = translog.replay( lastCommitData, indexWriter );
+		if ( operationCount > 0 ) {
+			log.translogReplayed( operationCount, eventContext );
+		}
+		// Commit replayed operations, so that replayed translog files can be deleted.
+		long generation = translog.rollGeneration();
+		indexWriter.setLiveCommitData( Translog.commitData( indexWriter.getLiveCommitData(), generation ) );
+		indexWriter.commit();
+		translog.deleteGenerationsBefore( generation );
+	}
+
+	private static Path getTranslogDirectory(Directory directory) {
+		Directory unwrapped = FilterDirectory.unwrap( directory );
+		if ( unwrapped instanceof FSDirectory ) {
+			return ( (FSDirectory) unwrapped ).getDirectory();
+		}
+		else {
+			return null;
+		}
+	}
+
 	private IndexWriterConfig createWriterConfig() {
 		IndexWriterConfig writerConfig = new IndexWriterConfig( analyzer );
 		/* TODO HSEARCH-3776 re-allow configuring index writers
@@ -163,10 +252,13 @@ private IndexWriterConfig createWriterConfig() {
 		 */
 		MergeScheduler mergeScheduler = new HibernateSearchConcurrentMergeScheduler(
 				indexName, eventContext.render(),
-				threads.getThreadProvider(), failureHandler
+				threads.getThreadProvider(), writeMetrics, failureHandler
 		);
 		writerConfig.setMergeScheduler( mergeScheduler );
 		writerConfig.setOpenMode( OpenMode.CREATE_OR_APPEND );
+		if ( indexSort != null ) {
+			writerConfig.setIndexSort( indexSort );
+		}
 		return writerConfig;
 	}
 }
@@ -0,0 +1,116 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.metrics;
+
+/**
+ * The management interface of write-path metrics for a single index or shard,
+ * exposed through JMX when
+ * {@link org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings#METRICS_JMX_ENABLED} is {@code true}.
+ * <p>
+ * MBeans are registered under the domain {@value #JMX_DOMAIN},
+ * with properties {@code type=WriteMetrics}, {@code backend}, {@code index},
+ * {@code tenant} for indexes using one index per tenant,
+ * and {@code shard} for sharded indexes.
+ * <p>
+ * Counts and times are accumulated since the index was started or since the last call to {@link #reset()}.
+ */
+public interface LuceneWriteMetricsMBean {
+
+	String JMX_DOMAIN = "org.hibernate.search.backend.lucene";
+
+	/**
+	 * @return The number of works currently waiting in each indexing queue.
+	 */
+	int[] getQueueDepths();
+
+	/**
+	 * @return The number of works currently waiting in all indexing queues.
+	 */
+	int getTotalQueueDepth();
+
+	/**
+	 * @return The number of batches of indexing works executed.
+	 */
+	long getBatchCount();
+
+	/**
+	 * @return The number of indexing works executed as part of a batch.
+	 */
+	long getBatchedWorkCount();
+
+	/**
+	 * @return The average number of works per batch.
+	 */
+	double getAverageBatchSize();
+
+	/**
+	 * @return The largest number of works in a single batch.
+	 */
+	long getMaxBatchSize();
+
+	/**
+	 * @return The average time to execute a batch, including the commit if any, in milliseconds.
+	 */
+	double getAverageBatchTimeMillis();
+
+	/**
+	 * @return The number of commits.
+	 */
+	long getCommitCount();
+
+	/**
+	 * @return The average time to commit, in milliseconds.
+	 */
+	double getAverageCommitTimeMillis();
+
+	/**
+	 * @return The longest time to commit, in milliseconds.
+	 */
+	double getMaxCommitTimeMillis();
+
+	/**
+	 * @return The number of index reader refreshes.
+	 */
+	long getRefreshCount();
+
+	/**
+	 * @return The average time to refresh the index reader, in milliseconds.
+	 */
+	double getAverageRefreshTimeMillis();
+
+	/**
+	 * @return The longest time to refresh the index reader, in milliseconds.
+	 */
+	double getMaxRefreshTimeMillis();
+
+	/**
+	 * @return The number of segment merges.
+	 */
+	long getMergeCount();
+
+	/**
+	 * @return The number of documents in merged segments, including deleted documents.
+	 */
+	long getMergedDocumentCount();
+
+	/**
+	 * @return The average time to merge segments, in milliseconds.
+	 */
+	double getAverageMergeTimeMillis();
+
+	/**
+	 * @return The longest time to merge segments, in milliseconds.
+	 */
+	double getMaxMergeTimeMillis();
+
+	/**
+	 * Resets all counts and times.
+	 * Queue depths are not affected.
+	 */
+	void reset();
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.metrics.impl;
+
+import java.util.function.IntSupplier;
+
+import org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetrics;
+import org.hibernate.search.util.common.impl.Closer;
+
+final class CompositeLuceneWriteMetrics implements LuceneWriteMetrics {
+
+	private final LuceneWriteMetrics[] delegates;
+
+	CompositeLuceneWriteMetrics(LuceneWriteMetrics... delegates) {
+		this.delegates = delegates;
+	}
+
+	@Override
+	public void registerQueue(int queueIndex, IntSupplier depth) {
+		for ( LuceneWriteMetrics delegate : delegates ) {
+			delegate.registerQueue( queueIndex, depth );
+		}
+	}
+
+	@Override
+	public void batchExecuted(int workCount, long durationNanos) {
+		for ( LuceneWriteMetrics delegate : delegates ) {
+			delegate.batchExecuted( workCount, durationNanos );
+		}
+	}
+
+	@Override
+	public void commitExecuted(long durationNanos) {
+		for ( LuceneWriteMetrics delegate : delegates ) {
+			delegate.commitExecuted( durationNanos );
+		}
+	}
+
+	@Override
+	public void refreshExecuted(long durationNanos) {
+		for ( LuceneWriteMetrics delegate : delegates ) {
+			delegate.refreshExecuted( durationNanos );
+		}
+	}
+
+	@Override
+	public void mergeExecuted(int documentCount, long durationNanos) {
+		for ( LuceneWriteMetrics delegate : delegates ) {
+			delegate.mergeExecuted( documentCount, durationNanos );
+		}
+	}
+
+	@Override
+	public void close() {
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.pushAll( LuceneWriteMetrics::close, delegates );
+		}
+	}
+}
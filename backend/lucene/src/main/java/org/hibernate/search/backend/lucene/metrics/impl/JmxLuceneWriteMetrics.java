@@ -0,0 +1,113 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.metrics.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.management.ManagementFactory;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.Optional;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.metrics.LuceneWriteMetricsMBean;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * In-memory write-path metrics, registered as an MBean in the platform MBean server
+ * until {@link #close() closed}.
+ */
+final class JmxLuceneWriteMetrics extends SimpleLuceneWriteMetrics {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * @param registrations The collectors currently registered by the same backend, by object name.
+	 * Also used as a lock for all registrations and unregistrations.
+	 * @param backendName The name of the backend.
+	 * @param indexName The name of the index.
+	 * @param tenantId The identifier of the tenant, if the index uses one index per tenant. Empty otherwise.
+	 * @param shardId The identifier of the shard, if the index is sharded. Empty otherwise.
+	 * @return A new collector, registered as an MBean if possible.
+	 */
+	static JmxLuceneWriteMetrics create(Map<ObjectName, JmxLuceneWriteMetrics> registrations,
+			String backendName, String indexName, Optional<String> tenantId, Optional<String> shardId) {
+		JmxLuceneWriteMetrics metrics = new JmxLuceneWriteMetrics( registrations );
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName objectName = null;
+		try {
+			objectName = createObjectName( backendName, indexName, tenantId, shardId );
+			synchronized ( registrations ) {
+				JmxLuceneWriteMetrics previous = registrations.get( objectName );
+				if ( previous != null ) {
+					// The same index or shard is being opened again before its previous instance was closed,
+					// e.g. a tenant index accessed again while it is being closed because it was idle.
+					// The new instance takes over the object name.
+					previous.unregister();
+				}
+				server.registerMBean( new StandardMBean( metrics, LuceneWriteMetricsMBean.class ), objectName );
+				metrics.objectName = objectName;
+				registrations.put( objectName, metrics );
+			}
+		}
+		catch (JMException | RuntimeException e) {
+			log.unableToRegisterWriteMetricsMBean( String.valueOf( objectName ), e.getMessage(), e );
+		}
+		return metrics;
+	}
+
+	private static ObjectName createObjectName(String backendName, String indexName, Optional<String> tenantId,
+			Optional<String> shardId)
+			throws JMException {
+		Hashtable<String, String> properties = new Hashtable<>();
+		properties.put( "type", "WriteMetrics" );
+		properties.put( "backend", ObjectName.quote( backendName ) );
+		properties.put( "index", ObjectName.quote( indexName ) );
+		if ( tenantId.isPresent() ) {
+			properties.put( "tenant", ObjectName.quote( tenantId.get() ) );
+		}
+		if ( shardId.isPresent() ) {
+			properties.put( "shard", ObjectName.quote( shardId.get() ) );
+		}
+		return new ObjectName( LuceneWriteMetricsMBean.JMX_DOMAIN, properties );
+	}
+
+	private final Map<ObjectName, JmxLuceneWriteMetrics> registrations;
+
+	// Guarded by "registrations"; null if registration failed, or if another instance took over the name
+	private ObjectName objectName;
+
+	private JmxLuceneWriteMetrics(Map<ObjectName, JmxLuceneWriteMetrics> registrations) {
+		this.registrations = registrations;
+	}
+
+	@Override
+	public void close() {
+		super.close();
+		synchronized ( registrations ) {
+			unregister();
+		}
+	}
+
+	// Must be called while holding the lock on "registrations"
+	private void unregister() {
+		if ( objectName == null ) {
+			return;
+		}
+		registrations.remove( objectName );
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean( objectName );
+		}
+		catch (JMException | RuntimeException e) {
+			log.unableToUnregisterWriteMetricsMBean( objectName.toString(), e.getMessage(), e );
+		}
+		objectName = null;
+	}
+}
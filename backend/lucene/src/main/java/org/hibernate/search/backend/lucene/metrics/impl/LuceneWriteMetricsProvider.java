@@ -0,0 +1,78 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.metrics.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import javax.management.ObjectName;
+
+import org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetrics;
+import org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetricsFactory;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+
+/**
+ * Creates the write metrics collector of each index or shard of a backend,
+ * according to the backend configuration.
+ */
+public final class LuceneWriteMetricsProvider implements AutoCloseable {
+
+	private final String backendName;
+	private final boolean jmxEnabled;
+	// Null if no custom factory was configured
+	private final BeanHolder<? extends LuceneWriteMetricsFactory> factoryHolder;
+	private final Map<ObjectName, JmxLuceneWriteMetrics> jmxRegistrations = new HashMap<>();
+
+	public LuceneWriteMetricsProvider(String backendName, boolean jmxEnabled,
+			BeanHolder<? extends LuceneWriteMetricsFactory> factoryHolder) {
+		this.backendName = backendName;
+		this.jmxEnabled = jmxEnabled;
+		this.factoryHolder = factoryHolder;
+	}
+
+	@Override
+	public void close() {
+		if ( factoryHolder != null ) {
+			factoryHolder.close();
+		}
+	}
+
+	/**
+	 * @param indexName The name of the index.
+	 * @param tenantId The identifier of the tenant, if the index uses one index per tenant. Empty otherwise.
+	 * @param shardId The identifier of the shard, if the index is sharded. Empty otherwise.
+	 * @return A collector of metrics for the given index, tenant or shard.
+	 */
+	public LuceneWriteMetrics create(String indexName, Optional<String> tenantId, Optional<String> shardId) {
+		LuceneWriteMetrics jmxMetrics = jmxEnabled
+				? JmxLuceneWriteMetrics.create( jmxRegistrations, backendName, indexName, tenantId, shardId )
+				: null;
+		LuceneWriteMetrics customMetrics = factoryHolder != null
+				? factoryHolder.get().create( indexName, toFactoryShardId( tenantId, shardId ) )
+				: null;
+		if ( jmxMetrics != null && customMetrics != null ) {
+			return new CompositeLuceneWriteMetrics( jmxMetrics, customMetrics );
+		}
+		else if ( jmxMetrics != null ) {
+			return jmxMetrics;
+		}
+		else if ( customMetrics != null ) {
+			return customMetrics;
+		}
+		else {
+			return NoOpLuceneWriteMetrics.get();
+		}
+	}
+
+	// See the contract of LuceneWriteMetricsFactory#create
+	private static Optional<String> toFactoryShardId(Optional<String> tenantId, Optional<String> shardId) {
+		if ( !tenantId.isPresent() ) {
+			return shardId;
+		}
+		return Optional.of( shardId.isPresent() ? tenantId.get() + "/" + shardId.get() : tenantId.get() );
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.metrics.impl;
+
+import java.util.function.IntSupplier;
+
+import org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetrics;
+
+public final class NoOpLuceneWriteMetrics implements LuceneWriteMetrics {
+
+	private static final NoOpLuceneWriteMetrics INSTANCE = new NoOpLuceneWriteMetrics();
+
+	public static NoOpLuceneWriteMetrics get() {
+		return INSTANCE;
+	}
+
+	private NoOpLuceneWriteMetrics() {
+	}
+
+	@Override
+	public void registerQueue(int queueIndex, IntSupplier depth) {
+		// No-op
+	}
+
+	@Override
+	public void batchExecuted(int workCount, long durationNanos) {
+		// No-op
+	}
+
+	@Override
+	public void commitExecuted(long durationNanos) {
+		// No-op
+	}
+
+	@Override
+	public void refreshExecuted(long durationNanos) {
+		// No-op
+	}
+
+	@Override
+	public void mergeExecuted(int documentCount, long durationNanos) {
+		// No-op
+	}
+
+	@Override
+	public void close() {
+		// No-op
+	}
+}
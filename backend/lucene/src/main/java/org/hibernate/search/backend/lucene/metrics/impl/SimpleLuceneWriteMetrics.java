@@ -0,0 +1,204 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.metrics.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+import org.hibernate.search.backend.lucene.metrics.LuceneWriteMetricsMBean;
+import org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetrics;
+
+/**
+ * Write-path metrics accumulated in memory,
+ * without relying on any particular metrics library.
+ */
+public class SimpleLuceneWriteMetrics implements LuceneWriteMetrics, LuceneWriteMetricsMBean {
+
+	private final Map<Integer, IntSupplier> queueDepths = new ConcurrentSkipListMap<>();
+
+	private final DurationStatistics batches = new DurationStatistics();
+	private final LongAdder batchedWorkCount = new LongAdder();
+	private final LongAccumulator maxBatchSize = new LongAccumulator( Math::max, 0L );
+
+	private final DurationStatistics commits = new DurationStatistics();
+
+	private final DurationStatistics refreshes = new DurationStatistics();
+
+	private final DurationStatistics merges = new DurationStatistics();
+	private final LongAdder mergedDocumentCount = new LongAdder();
+
+	@Override
+	public void registerQueue(int queueIndex, IntSupplier depth) {
+		queueDepths.put( queueIndex, depth );
+	}
+
+	@Override
+	public void batchExecuted(int workCount, long durationNanos) {
+		batches.record( durationNanos );
+		batchedWorkCount.add( workCount );
+		maxBatchSize.accumulate( workCount );
+	}
+
+	@Override
+	public void commitExecuted(long durationNanos) {
+		commits.record( durationNanos );
+	}
+
+	@Override
+	public void refreshExecuted(long durationNanos) {
+		refreshes.record( durationNanos );
+	}
+
+	@Override
+	public void mergeExecuted(int documentCount, long durationNanos) {
+		merges.record( durationNanos );
+		mergedDocumentCount.add( documentCount );
+	}
+
+	@Override
+	public void close() {
+		queueDepths.clear();
+	}
+
+	@Override
+	public int[] getQueueDepths() {
+		return queueDepths.values().stream().mapToInt( IntSupplier::getAsInt ).toArray();
+	}
+
+	@Override
+	public int getTotalQueueDepth() {
+		int total = 0;
+		for ( IntSupplier depth : queueDepths.values() ) {
+			total += depth.getAsInt();
+		}
+		return total;
+	}
+
+	@Override
+	public long getBatchCount() {
+		return batches.getCount();
+	}
+
+	@Override
+	public long getBatchedWorkCount() {
+		return batchedWorkCount.sum();
+	}
+
+	@Override
+	public double getAverageBatchSize() {
+		long batchCount = batches.getCount();
+		return batchCount == 0L ? 0.0 : (double) batchedWorkCount.sum() / batchCount;
+	}
+
+	@Override
+	public long getMaxBatchSize() {
+		return maxBatchSize.get();
+	}
+
+	@Override
+	public double getAverageBatchTimeMillis() {
+		return batches.getAverageMillis();
+	}
+
+	@Override
+	public long getCommitCount() {
+		return commits.getCount();
+	}
+
+	@Override
+	public double getAverageCommitTimeMillis() {
+		return commits.getAverageMillis();
+	}
+
+	@Override
+	public double getMaxCommitTimeMillis() {
+		return commits.getMaxMillis();
+	}
+
+	@Override
+	public long getRefreshCount() {
+		return refreshes.getCount();
+	}
+
+	@Override
+	public double getAverageRefreshTimeMillis() {
+		return refreshes.getAverageMillis();
+	}
+
+	@Override
+	public double getMaxRefreshTimeMillis() {
+		return refreshes.getMaxMillis();
+	}
+
+	@Override
+	public long getMergeCount() {
+		return merges.getCount();
+	}
+
+	@Override
+	public long getMergedDocumentCount() {
+		return mergedDocumentCount.sum();
+	}
+
+	@Override
+	public double getAverageMergeTimeMillis() {
+		return merges.getAverageMillis();
+	}
+
+	@Override
+	public double getMaxMergeTimeMillis() {
+		return merges.getMaxMillis();
+	}
+
+	@Override
+	public void reset() {
+		batches.reset();
+		batchedWorkCount.reset();
+		maxBatchSize.reset();
+		commits.reset();
+		refreshes.reset();
+		merges.reset();
+		mergedDocumentCount.reset();
+	}
+
+	private static final class DurationStatistics {
+		private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos( 1 );
+
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator( Math::max, 0L );
+
+		void record(long durationNanos) {
+			count.increment();
+			totalNanos.add( durationNanos );
+			maxNanos.accumulate( durationNanos );
+		}
+
+		long getCount() {
+			return count.sum();
+		}
+
+		double getAverageMillis() {
+			long currentCount = count.sum();
+			return currentCount == 0L ? 0.0 : totalNanos.sum() / NANOS_PER_MILLI / currentCount;
+		}
+
+		double getMaxMillis() {
+			return maxNanos.get() / NANOS_PER_MILLI;
+		}
+
+		void reset() {
+			count.reset();
+			totalNanos.reset();
+			maxNanos.reset();
+		}
+	}
+}
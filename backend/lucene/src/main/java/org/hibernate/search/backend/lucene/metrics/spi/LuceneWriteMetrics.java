@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.metrics.spi;
+
+import java.util.function.IntSupplier;
+
+/**
+ * A collector of metrics related to writes to a single index or shard.
+ * <p>
+ * Implementations must be thread-safe:
+ * methods are called from indexing threads, merge threads and any thread triggering a refresh,
+ * and they are called on the critical path of writes, so they should return quickly.
+ *
+ * @see LuceneWriteMetricsFactory
+ */
+public interface LuceneWriteMetrics {
+
+	/**
+	 * Registers an indexing queue of this index or shard.
+	 * <p>
+	 * Called once per queue when indexing starts.
+	 *
+	 * @param queueIndex The index of the queue, between {@code 0} (inclusive) and the number of queues (exclusive).
+	 * @param depth A supplier of the number of works currently waiting in the queue.
+	 * Can be called from any thread, at any time.
+	 */
+	void registerQueue(int queueIndex, IntSupplier depth);
+
+	/**
+	 * Called after a batch of indexing works was applied to the index writer,
+	 * and committed if necessary.
+	 *
+	 * @param workCount The number of works in the batch.
+	 * @param durationNanos The time it took to execute the batch, in nanoseconds.
+	 */
+	void batchExecuted(int workCount, long durationNanos);
+
+	/**
+	 * Called after changes were committed to the index.
+	 *
+	 * @param durationNanos The time it took to commit, in nanoseconds.
+	 */
+	void commitExecuted(long durationNanos);
+
+	/**
+	 * Called after the index reader was refreshed, i.e. after checking for changes in the index writer
+	 * and opening a new near-real-time reader if necessary.
+	 *
+	 * @param durationNanos The time it took to refresh, in nanoseconds.
+	 */
+	void refreshExecuted(long durationNanos);
+
+	/**
+	 * Called after segments of the index were merged.
+	 *
+	 * @param documentCount The number of documents in the merged segments, including deleted documents.
+	 * @param durationNanos The time it took to merge, in nanoseconds.
+	 */
+	void mergeExecuted(int documentCount, long durationNanos);
+
+	/**
+	 * Releases any resource held by this collector.
+	 * <p>
+	 * Called when the index or shard is stopped;
+	 * no other method will be called afterwards.
+	 */
+	void close();
+
+}
@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.metrics.spi;
+
+import java.util.Optional;
+
+/**
+ * A factory of {@link LuceneWriteMetrics}, called once for every index or shard of a backend.
+ * <p>
+ * Implement this interface to report write-path metrics to a metrics library, e.g. Micrometer,
+ * and set the configuration property
+ * {@link org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings#METRICS_FACTORY}
+ * to a reference to the implementation.
+ */
+public interface LuceneWriteMetricsFactory {
+
+	/**
+	 * @param indexName The name of the index.
+	 * @param shardId The identifier of the shard, if the index is sharded or uses one index per tenant:
+	 * in the latter case, the identifier starts with the tenant identifier.
+	 * Empty otherwise.
+	 * @return A collector of metrics for the given index or shard.
+	 */
+	LuceneWriteMetrics create(String indexName, Optional<String> shardId);
+
+}
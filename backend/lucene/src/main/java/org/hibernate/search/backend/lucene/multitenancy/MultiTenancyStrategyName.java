@@ -22,7 +22,13 @@ public enum MultiTenancyStrategyName {
 	/**
 	 * The multi-tenancy information is stored in the index as a discriminator field.
 	 */
-	DISCRIMINATOR("discriminator");
+	DISCRIMINATOR("discriminator"),
+
+	/**
+	 * Each tenant has a dedicated index, i.e. its own set of shards and directories,
+	 * opened lazily on first access and closed after some time without any access.
+	 */
+	DEDICATED_INDEX("dedicated_index");
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -0,0 +1,71 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.multitenancy.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.regex.Pattern;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.util.common.reporting.EventContext;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+
+/**
+ * A strategy routing each tenant to a dedicated index.
+ * <p>
+ * Documents of different tenants never share the same index,
+ * so there is no need for a discriminator field nor for tenant filters:
+ * queries against small tenants are not slowed down by the size of bigger tenants.
+ */
+public class DedicatedIndexMultiTenancyStrategy implements MultiTenancyStrategy {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// Tenant IDs are used as directory names: restrict them to characters that are safe on any filesystem,
+	// and prevent tenant IDs such as ".." from escaping the index directory.
+	private static final Pattern VALID_TENANT_ID = Pattern.compile( "[A-Za-z0-9_\\-][A-Za-z0-9_.\\-]*" );
+
+	@Override
+	public boolean isMultiTenancySupported() {
+		return true;
+	}
+
+	@Override
+	public boolean isIndexPerTenant() {
+		return true;
+	}
+
+	@Override
+	public void contributeToIndexedDocument(Document document, String tenantId, String rootId) {
+		// No need to add anything to documents, the ID field (already added elsewhere) is enough:
+		// the index only contains documents of a single tenant.
+	}
+
+	@Override
+	public Term getDocumentIdTerm(String tenantId, String id) {
+		return new Term( MetadataFields.idFieldName(), id );
+	}
+
+	@Override
+	public Query getFilterOrNull(String tenantId) {
+		return null;
+	}
+
+	@Override
+	public void checkTenantId(String tenantId, EventContext backendContext) {
+		if ( tenantId == null ) {
+			throw log.multiTenancyEnabledButNoTenantIdProvided( backendContext );
+		}
+		if ( !VALID_TENANT_ID.matcher( tenantId ).matches() ) {
+			throw log.invalidTenantIdForDedicatedIndex( tenantId, backendContext );
+		}
+	}
+}
@@ -15,6 +15,7 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
 
 public class DiscriminatorMultiTenancyStrategy implements MultiTenancyStrategy {
@@ -27,8 +28,24 @@ public boolean isMultiTenancySupported() {
 	}
 
 	@Override
-	public void contributeToIndexedDocument(Document document, String tenantId) {
+	public boolean isIndexPerTenant() {
+		return false;
+	}
+
+	@Override
+	public void contributeToIndexedDocument(Document document, String tenantId, String rootId) {
 		document.add( MetadataFields.searchableMetadataField( MetadataFields.tenantIdFieldName(), tenantId ) );
+		// The ID alone is not unique across tenants:
+		// index a term that is, so that updates and deletes can rely on term-based operations
+		// instead of much more expensive query-based operations.
+		document.add( MetadataFields.searchableMetadataField(
+				MetadataFields.tenantIdAndIdFieldName(), MetadataFields.tenantIdAndId( tenantId, rootId )
+		) );
+	}
+
+	@Override
+	public Term getDocumentIdTerm(String tenantId, String id) {
+		return new Term( MetadataFields.tenantIdAndIdFieldName(), MetadataFields.tenantIdAndId( tenantId, id ) );
 	}
 
 	@Override
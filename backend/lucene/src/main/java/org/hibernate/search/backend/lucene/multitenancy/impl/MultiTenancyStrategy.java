@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.multitenancy.impl;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
 import org.hibernate.search.util.common.reporting.EventContext;
 
@@ -22,17 +23,34 @@ public interface MultiTenancyStrategy {
 	 */
 	boolean isMultiTenancySupported();
 
+	/**
+	 * @return {@code true} if each tenant has a dedicated index,
+	 * {@code false} if all tenants share the same index.
+	 */
+	boolean isIndexPerTenant();
+
 	/**
 	 * Contributes additional information to the indexed document.
 	 *
-	 * @param document The indexed document.
+	 * @param document The indexed document, either a root document or a nested document.
+	 * @param tenantId The tenant id.
+	 * @param rootId The id of the root document.
+	 */
+	void contributeToIndexedDocument(Document document, String tenantId, String rootId);
+
+	/**
+	 * Generate a term identifying a root document and its nested documents for the given tenant ID,
+	 * to be applied to update/delete operations.
+	 *
 	 * @param tenantId The tenant id.
+	 * @param id The id of the root document.
+	 * @return The term.
 	 */
-	void contributeToIndexedDocument(Document document, String tenantId);
+	Term getDocumentIdTerm(String tenantId, String id);
 
 	/**
 	 * Generate a filter for the given tenant ID, to be applied to search queries
-	 * and update/delete operations.
+	 * and delete-by-query operations.
 	 *
 	 * @param tenantId The tenant id.
 	 * @return The filter, or {@code null} if no filter is necessary.
@@ -9,6 +9,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
+import org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetrics;
 import org.hibernate.search.backend.lucene.work.impl.IndexManagementWork;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchedWorkProcessor;
@@ -23,16 +24,22 @@ public class LuceneBatchedWorkProcessor implements BatchedWorkProcessor {
 
 	private final IndexAccessor indexAccessor;
 	private final IndexAccessorWorkExecutionContext context;
+	private final LuceneWriteMetrics writeMetrics;
+
+	// Batches of a given queue are always executed from beginning to end in a single thread,
+	// but this processor may be shared by multiple queues when work stealing is enabled.
+	private final ThreadLocal<BatchStatistics> currentBatch = ThreadLocal.withInitial( BatchStatistics::new );
 
 	public LuceneBatchedWorkProcessor(EventContext eventContext,
-			IndexAccessor indexAccessor) {
+			IndexAccessor indexAccessor, LuceneWriteMetrics writeMetrics) {
 		this.indexAccessor = indexAccessor;
 		this.context = new IndexAccessorWorkExecutionContext( eventContext, indexAccessor );
+		this.writeMetrics = writeMetrics;
 	}
 
 	@Override
 	public void beginBatch() {
-		// Nothing to do
+		currentBatch.get().begin();
 	}
 
 	@Override
@@ -44,6 +51,8 @@ public CompletableFuture<?> endBatch() {
 			indexAccessor.cleanUpAfterFailure( e, "Commit after a batch of index works" );
 			// The exception was reported to the failure handler, no need to propagate it.
 		}
+		BatchStatistics batch = currentBatch.get();
+		writeMetrics.batchExecuted( batch.workCount, System.nanoTime() - batch.startNanos );
 		// Everything was already executed, so just return a completed future.
 		return CompletableFuture.completedFuture( null );
 	}
@@ -70,6 +79,7 @@ public <T> T submit(IndexManagementWork<T> work) {
 	}
 
 	public <T> T submit(IndexingWork<T> work) {
+		++currentBatch.get().workCount;
 		try {
 			return work.execute( context );
 		}
@@ -82,7 +92,7 @@ public <T> T submit(IndexingWork<T> work) {
 	// Note this may be called outside of a batch
 	public void forceCommit() {
 		try {
-			indexAccessor.commit();
+			indexAccessor.commitOrSyncTranslog();
 		}
 		catch (RuntimeException e) {
 			indexAccessor.cleanUpAfterFailure( e, "Commit after a set of index works" );
@@ -97,4 +107,14 @@ public void forceRefresh() {
 		indexAccessor.refresh();
 	}
 
+	private static final class BatchStatistics {
+		private long startNanos;
+		private int workCount;
+
+		void begin() {
+			startNanos = System.nanoTime();
+			workCount = 0;
+		}
+	}
+
 }
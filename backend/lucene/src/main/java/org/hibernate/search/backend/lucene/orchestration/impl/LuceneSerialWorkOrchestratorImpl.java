@@ -9,6 +9,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetrics;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
@@ -34,25 +35,36 @@
 					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> WORK_STEALING =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_WORK_STEALING )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_WORK_STEALING )
+					.build();
+
 	private final LuceneBatchedWorkProcessor processor;
 	private final BackendThreads threads;
+	private final LuceneWriteMetrics writeMetrics;
 	private final FailureHandler failureHandler;
 
 	private BatchingExecutor<LuceneBatchedWorkProcessor>[] executors;
+	private WorkStealingBatchingExecutor workStealingExecutor;
 
 	/**
 	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
 	 * @param processor A processor to use in the background thread.
 	 * @param threads The threads for this backend.
+	 * @param writeMetrics The metrics to report queue depths to.
 	 * @param failureHandler A failure handler to report failures of the background thread.
 	 */
 	public LuceneSerialWorkOrchestratorImpl(
 			String name, LuceneBatchedWorkProcessor processor,
 			BackendThreads threads,
+			LuceneWriteMetrics writeMetrics,
 			FailureHandler failureHandler) {
 		super( name );
 		this.processor = processor;
 		this.threads = threads;
+		this.writeMetrics = writeMetrics;
 		this.failureHandler = failureHandler;
 	}
 
@@ -71,6 +83,22 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
 
+		if ( WORK_STEALING.get( propertySource ) ) {
+			workStealingExecutor = new WorkStealingBatchingExecutor(
+					getName(),
+					processor,
+					queueCount,
+					queueSize,
+					failureHandler
+			);
+			for ( int i = 0; i < queueCount; i++ ) {
+				int queueIndex = i;
+				writeMetrics.registerQueue( queueIndex, () -> workStealingExecutor.getQueueSize( queueIndex ) );
+			}
+			workStealingExecutor.start( threads.getWriteExecutor() );
+			return;
+		}
+
 		executors = new BatchingExecutor[queueCount];
 		for ( int i = 0; i < executors.length; i++ ) {
 			executors[i] = new BatchingExecutor<>(
@@ -80,6 +108,7 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 					true,
 					failureHandler
 			);
+			writeMetrics.registerQueue( i, executors[i]::getQueueSize );
 		}
 
 		for ( BatchingExecutor<?> executor : executors ) {
@@ -89,12 +118,22 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 
 	@Override
 	protected void doSubmit(LuceneBatchedWork<?> work) throws InterruptedException {
+		if ( workStealingExecutor != null ) {
+			workStealingExecutor.submit( work );
+			return;
+		}
 		SimpleHashFunction.pick( executors, work.getQueuingKey() )
 				.submit( work );
 	}
 
+	/**
+	 * @return A future that completes when all works submitted so far are completely executed.
+	 */
 	@Override
-	protected CompletableFuture<?> getCompletion() {
+	public CompletableFuture<?> getCompletion() {
+		if ( workStealingExecutor != null ) {
+			return workStealingExecutor.getCompletion();
+		}
 		CompletableFuture<?>[] completions = new CompletableFuture[executors.length];
 		for ( int i = 0; i < executors.length; i++ ) {
 			completions[i] = executors[i].getCompletion();
@@ -105,7 +144,10 @@ protected CompletableFuture<?> getCompletion() {
 	@Override
 	protected void doStop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
-			closer.pushAll( BatchingExecutor::stop, executors );
+			closer.push( WorkStealingBatchingExecutor::stop, workStealingExecutor );
+			if ( executors != null ) {
+				closer.pushAll( BatchingExecutor::stop, executors );
+			}
 		}
 	}
 
@@ -7,21 +7,29 @@
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.PinnedIndexReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 
 
 /**
- * An orchestrator that executes works synchronously in the current thread.
- * <p>
- * For now this implementation is very simple,
- * but we might one day need to execute queries asynchronously,
- * in which case thing will get slightly more complex.
+ * An orchestrator that executes works synchronously in the current thread,
+ * or asynchronously in a backend thread.
  */
 public interface LuceneSyncWorkOrchestrator {
 
 	<T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work);
+			String tenantId, Set<String> routingKeys, ReadWork<T> work);
+
+	/**
+	 * Executes a work synchronously against a pinned index reader,
+	 * so that it sees the same documents as previous works executed against that reader.
+	 */
+	<T> T submit(PinnedIndexReader pinnedIndexReader, ReadWork<T> work);
+
+	<T> CompletableFuture<T> submitAsync(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
+			String tenantId, Set<String> routingKeys, ReadWork<T> work);
 
 }
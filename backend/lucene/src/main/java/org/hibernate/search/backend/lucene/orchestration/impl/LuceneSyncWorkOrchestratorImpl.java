@@ -8,13 +8,18 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.time.Duration;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.PinnedIndexReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ShardParallelIndexSearcher;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 import org.hibernate.search.backend.lucene.work.impl.ReadWorkExecutionContext;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
@@ -25,6 +30,7 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
 
 public class LuceneSyncWorkOrchestratorImpl
 		extends AbstractWorkOrchestrator<LuceneSyncWorkOrchestratorImpl.WorkExecution<?>>
@@ -32,15 +38,45 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	public LuceneSyncWorkOrchestratorImpl(String name) {
+	private final BackendThreads threads;
+
+	public LuceneSyncWorkOrchestratorImpl(String name, BackendThreads threads) {
 		super( name );
+		this.threads = threads;
 		start( null ); // Nothing to start, just force the superclass to go to the right state.
 	}
 
 	@Override
 	public <T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work) {
-		WorkExecution<T> workExecution = new WorkExecution<>( indexNames, indexManagerContexts, routingKeys, work );
+			String tenantId, Set<String> routingKeys, ReadWork<T> work) {
+		long indexReaderAcquisitionStart = System.nanoTime();
+		HibernateSearchMultiReader indexReader =
+				HibernateSearchMultiReader.open( indexNames, indexManagerContexts, tenantId, routingKeys );
+		Duration indexReaderAcquisitionTime = Duration.ofNanos( System.nanoTime() - indexReaderAcquisitionStart );
+		return execute( new WorkExecution<>( indexNames, indexReader, indexReaderAcquisitionTime, work,
+				threads.getSearchExecutor() ) );
+	}
+
+	@Override
+	public <T> T submit(PinnedIndexReader pinnedIndexReader, ReadWork<T> work) {
+		long indexReaderAcquisitionStart = System.nanoTime();
+		HibernateSearchMultiReader indexReader = pinnedIndexReader.acquire();
+		Duration indexReaderAcquisitionTime = Duration.ofNanos( System.nanoTime() - indexReaderAcquisitionStart );
+		return execute( new WorkExecution<>( pinnedIndexReader.getIndexNames(), indexReader,
+				indexReaderAcquisitionTime, work, threads.getSearchExecutor() ) );
+	}
+
+	@Override
+	public <T> CompletableFuture<T> submitAsync(Set<String> indexNames,
+			Set<? extends ReadIndexManagerContext> indexManagerContexts,
+			String tenantId, Set<String> routingKeys, ReadWork<T> work) {
+		return CompletableFuture.supplyAsync(
+				() -> submit( indexNames, indexManagerContexts, tenantId, routingKeys, work ),
+				threads.getAsyncSearchExecutor()
+		);
+	}
+
+	private <T> T execute(WorkExecution<T> workExecution) {
 		Throwable throwable = null;
 		try {
 			submit( workExecution );
@@ -88,15 +124,23 @@ protected void doStop() {
 	static class WorkExecution<T> implements AutoCloseable, ReadWorkExecutionContext {
 		private final Set<String> indexNames;
 		private final HibernateSearchMultiReader indexReader;
+		private final Duration indexReaderAcquisitionTime;
 		private final ReadWork<T> work;
+		private final Executor searchExecutor;
 
 		private T result;
 
-		WorkExecution(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
-				Set<String> routingKeys, ReadWork<T> work) {
+		/**
+		 * @param indexReader An index reader, which will be released (through {@link IndexReader#decRef()})
+		 * when this execution is closed.
+		 */
+		WorkExecution(Set<String> indexNames, HibernateSearchMultiReader indexReader,
+				Duration indexReaderAcquisitionTime, ReadWork<T> work, Executor searchExecutor) {
 			this.indexNames = indexNames;
-			this.indexReader = HibernateSearchMultiReader.open( indexNames, indexManagerContexts, routingKeys );
+			this.indexReader = indexReader;
+			this.indexReaderAcquisitionTime = indexReaderAcquisitionTime;
 			this.work = work;
+			this.searchExecutor = searchExecutor;
 		}
 
 		@Override
@@ -104,11 +148,21 @@ public IndexReader getIndexReader() {
 			return indexReader;
 		}
 
+		@Override
+		public IndexSearcher createIndexSearcher() {
+			return ShardParallelIndexSearcher.create( indexReader, searchExecutor );
+		}
+
 		@Override
 		public IndexReaderMetadataResolver getIndexReaderMetadataResolver() {
 			return indexReader.getMetadataResolver();
 		}
 
+		@Override
+		public Duration getIndexReaderAcquisitionTime() {
+			return indexReaderAcquisitionTime;
+		}
+
 		@Override
 		public EventContext getEventContext() {
 			return EventContexts.fromIndexNames( indexNames );
@@ -125,7 +179,9 @@ public T getResult() {
 		@Override
 		public void close() {
 			try {
-				indexReader.close();
+				// For a freshly opened reader this closes the reader;
+				// for a pinned reader this only releases the reference acquired for this execution.
+				indexReader.decRef();
 			}
 			catch (IOException | RuntimeException e) {
 				log.unableToCloseIndexReader( getEventContext(), e );
@@ -0,0 +1,382 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * An executor of works that accepts works from multiple threads, puts them in one of multiple queues
+ * depending on their queuing key, and processes each queue in batches in a background thread,
+ * similarly to multiple {@link org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor}s.
+ * <p>
+ * Contrary to independent batching executors, a queue that runs out of works
+ * will take ("steal") works from the head of the busiest queue,
+ * so that a burst of works on a few queues gets spread over all available threads.
+ * <p>
+ * Works relative to the same queuing key are never executed concurrently,
+ * and are always executed in the order they were submitted in:
+ * <ul>
+ *     <li>A queue only steals works whose queuing key is not being processed by another batch,
+ *     and only from the head of another queue, stopping at the first work that does not satisfy this condition.</li>
+ *     <li>A batch that contains works whose queuing key is being processed by another batch
+ *     waits for that other batch before executing any work.
+ *     Batches of stolen works never wait, so this cannot lead to a deadlock.</li>
+ * </ul>
+ * This requires the processor to be thread-safe.
+ */
+final class WorkStealingBatchingExecutor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String name;
+	private final LuceneBatchedWorkProcessor processor;
+	private final int maxTasksPerBatch;
+	private final FailureHandler failureHandler;
+
+	private final Lane[] lanes;
+	/**
+	 * For each queuing key being processed, a future completing when the last batch
+	 * that registered this key is done executing works.
+	 */
+	private final ConcurrentMap<String, CompletableFuture<?>> inProgressKeys = new ConcurrentHashMap<>();
+	private final AtomicInteger nextLaneToWake = new AtomicInteger();
+
+	private volatile boolean started;
+
+	/**
+	 * @param name The name of the executor threads (and of this executor when reporting errors)
+	 * @param processor A thread-safe task processor.
+	 * @param queueCount The number of queues.
+	 * @param maxTasksPerBatch The maximum number of tasks in each queue, and to process in a single batch.
+	 * @param failureHandler A failure handler to report failures of the background threads.
+	 */
+	WorkStealingBatchingExecutor(String name, LuceneBatchedWorkProcessor processor,
+			int queueCount, int maxTasksPerBatch, FailureHandler failureHandler) {
+		this.name = name;
+		this.processor = processor;
+		this.maxTasksPerBatch = maxTasksPerBatch;
+		this.failureHandler = failureHandler;
+		this.lanes = new Lane[queueCount];
+		for ( int i = 0; i < lanes.length; i++ ) {
+			lanes[i] = new Lane( name + " - " + i );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "name=" + name
+				+ ", queue count=" + lanes.length
+				+ ", keys in progress=" + inProgressKeys.size()
+				+ "]";
+	}
+
+	/**
+	 * @param queueIndex The index of a queue.
+	 * @return The number of works currently waiting in that queue.
+	 */
+	int getQueueSize(int queueIndex) {
+		return lanes[queueIndex].size;
+	}
+
+	/**
+	 * Start the executor, allowing works to be submitted
+	 * through {@link #submit(LuceneBatchedWork)}.
+	 *
+	 * @param executorService An executor service with at least one thread.
+	 */
+	synchronized void start(ExecutorService executorService) {
+		log.debugf( "Starting work-stealing executor '%s'", name );
+		for ( Lane lane : lanes ) {
+			lane.processingTask = new SingletonTask(
+					lane.name, lane,
+					executorService::submit,
+					failureHandler
+			);
+		}
+		started = true;
+	}
+
+	/**
+	 * Stop the executor, no longer allowing works to be submitted
+	 * through {@link #submit(LuceneBatchedWork)}.
+	 * <p>
+	 * This will remove pending works from the queues.
+	 */
+	synchronized void stop() {
+		log.debugf( "Stopping work-stealing executor '%s'", name );
+		started = false;
+		for ( Lane lane : lanes ) {
+			lane.clear();
+			// It's possible that processing was successfully scheduled in the executor service but had no chance to run,
+			// so we need to release waiting threads:
+			if ( lane.processingTask != null ) {
+				lane.processingTask.stop();
+				lane.processingTask = null;
+			}
+		}
+	}
+
+	/**
+	 * Submit a work for execution.
+	 * <p>
+	 * Must not be called when the executor is stopped.
+	 * @param work A work to execute.
+	 * @throws InterruptedException If the current thread is interrupted while enqueuing the work.
+	 */
+	void submit(LuceneBatchedWork<?> work) throws InterruptedException {
+		if ( !started ) {
+			throw new AssertionFailure(
+					"Attempt to submit a work to executor '" + name + "', which is stopped"
+					+ " There is probably a bug in Hibernate Search, please report it."
+			);
+		}
+		Lane lane = SimpleHashFunction.pick( lanes, work.getQueuingKey() );
+		int sizeAfterPut = lane.put( work );
+		lane.processingTask.ensureScheduled();
+		if ( sizeAfterPut > 1 ) {
+			// Works are piling up in this queue: give an idle queue the opportunity to steal some.
+			wakeIdleLane( lane );
+		}
+	}
+
+	/**
+	 * @return A future that completes when all works submitted to the executor so far are completely executed.
+	 * Works submitted to the executor after entering this method may delay the wait.
+	 */
+	CompletableFuture<?> getCompletion() {
+		if ( !started ) {
+			// Not started
+			return CompletableFuture.completedFuture( null );
+		}
+		CompletableFuture<?>[] completions = new CompletableFuture[lanes.length];
+		for ( int i = 0; i < lanes.length; i++ ) {
+			completions[i] = lanes[i].processingTask.getCompletion();
+		}
+		return CompletableFuture.allOf( completions );
+	}
+
+	private void wakeIdleLane(Lane busyLane) {
+		int start = Math.abs( nextLaneToWake.getAndIncrement() % lanes.length );
+		for ( int i = 0; i < lanes.length; i++ ) {
+			Lane candidate = lanes[( start + i ) % lanes.length];
+			if ( candidate != busyLane && candidate.size == 0 ) {
+				candidate.processingTask.ensureScheduled();
+				return;
+			}
+		}
+	}
+
+	private Lane findBusiestLane(Lane thief) {
+		Lane busiest = null;
+		int busiestSize = 1; // Only steal from queues that have more than one work waiting.
+		for ( Lane candidate : lanes ) {
+			int candidateSize = candidate.size;
+			if ( candidate != thief && candidateSize > busiestSize ) {
+				busiest = candidate;
+				busiestSize = candidateSize;
+			}
+		}
+		return busiest;
+	}
+
+	/**
+	 * A queue of works, along with the worker taking batches of works from this queue
+	 * or, when it is empty, from other queues.
+	 */
+	private final class Lane implements SingletonTask.Worker {
+		private final CompletableFuture<?> completedFuture = CompletableFuture.completedFuture( null );
+
+		private final String name;
+
+		private final ReentrantLock lock = new ReentrantLock( true );
+		private final Condition notFull = lock.newCondition();
+		private final Deque<LuceneBatchedWork<?>> workQueue = new ArrayDeque<>();
+		// Only updated while holding the lock, but read without it as a hint.
+		private volatile int size;
+
+		private final List<LuceneBatchedWork<?>> workBuffer = new ArrayList<>( maxTasksPerBatch );
+		private final List<CompletableFuture<?>> batchDependencies = new ArrayList<>();
+
+		private SingletonTask processingTask;
+
+		private Lane(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public CompletableFuture<?> work() {
+			workBuffer.clear();
+			batchDependencies.clear();
+			CompletableFuture<Void> batchExecution = new CompletableFuture<>();
+
+			boolean stolen = false;
+			drainOwnWorks( batchExecution );
+			if ( workBuffer.isEmpty() ) {
+				Lane victim = findBusiestLane( this );
+				if ( victim != null ) {
+					victim.stealWorks( workBuffer, batchExecution );
+					stolen = !workBuffer.isEmpty();
+				}
+			}
+
+			if ( workBuffer.isEmpty() ) {
+				// Nothing to do
+				return completedFuture;
+			}
+
+			int workCount = workBuffer.size();
+			boolean traceEnabled = log.isTraceEnabled();
+			if ( traceEnabled ) {
+				log.tracef( "Processing %d %s works in executor '%s'", workCount, stolen ? "stolen" : "own", name );
+			}
+
+			try {
+				if ( !batchDependencies.isEmpty() ) {
+					// Some of our works must wait for stolen works on the same documents to be executed.
+					// Stolen works never wait, so this will not block indefinitely.
+					CompletableFuture.allOf( batchDependencies.toArray( new CompletableFuture[0] ) ).join();
+				}
+
+				processor.beginBatch();
+
+				for ( LuceneBatchedWork<?> work : workBuffer ) {
+					try {
+						work.submitTo( processor );
+					}
+					catch (Throwable e) {
+						work.markAsFailed( e );
+					}
+				}
+			}
+			finally {
+				releaseKeys( batchExecution );
+			}
+
+			if ( stolen ) {
+				// There may be more works to steal: try again.
+				processingTask.ensureScheduled();
+			}
+
+			// Nothing more to do, end the batch and terminate
+			CompletableFuture<?> future = processor.endBatch();
+			if ( traceEnabled ) {
+				future.whenComplete( (result, throwable) -> {
+					log.tracef( "Processed %d works in executor '%s'", workCount, name );
+				} );
+			}
+
+			return future;
+		}
+
+		@Override
+		public void complete() {
+			processor.complete();
+		}
+
+		int put(LuceneBatchedWork<?> work) throws InterruptedException {
+			lock.lockInterruptibly();
+			try {
+				while ( workQueue.size() >= maxTasksPerBatch ) {
+					notFull.await();
+				}
+				workQueue.addLast( work );
+				size = workQueue.size();
+				return size;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		void clear() {
+			lock.lock();
+			try {
+				workQueue.clear();
+				size = 0;
+				notFull.signalAll();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void drainOwnWorks(CompletableFuture<?> batchExecution) {
+			lock.lock();
+			try {
+				while ( workBuffer.size() < maxTasksPerBatch && !workQueue.isEmpty() ) {
+					LuceneBatchedWork<?> work = workQueue.pollFirst();
+					// Register the key while holding the lock,
+					// so that later works with the same key cannot be stolen before this one is executed.
+					CompletableFuture<?> previous = inProgressKeys.put( work.getQueuingKey(), batchExecution );
+					if ( previous != null && previous != batchExecution ) {
+						batchDependencies.add( previous );
+					}
+					workBuffer.add( work );
+				}
+				size = workQueue.size();
+				notFull.signalAll();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Moves works from the head of this queue to the given buffer,
+		 * until half of the queue was stolen or a work relative to a key that is being processed is encountered.
+		 */
+		private void stealWorks(List<LuceneBatchedWork<?>> buffer, CompletableFuture<?> batchExecution) {
+			lock.lock();
+			try {
+				int maxStolen = Math.min( maxTasksPerBatch, ( workQueue.size() + 1 ) / 2 );
+				while ( buffer.size() < maxStolen && !workQueue.isEmpty() ) {
+					LuceneBatchedWork<?> work = workQueue.peekFirst();
+					CompletableFuture<?> previous = inProgressKeys.putIfAbsent( work.getQueuingKey(), batchExecution );
+					if ( previous != null && previous != batchExecution ) {
+						// Another batch is processing this key: stealing this work could break ordering.
+						break;
+					}
+					workQueue.pollFirst();
+					buffer.add( work );
+				}
+				size = workQueue.size();
+				notFull.signalAll();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void releaseKeys(CompletableFuture<Void> batchExecution) {
+			for ( LuceneBatchedWork<?> work : workBuffer ) {
+				// Only remove the key if no other batch registered it in the meantime.
+				inProgressKeys.remove( work.getQueuingKey(), batchExecution );
+			}
+			batchExecution.complete( null );
+		}
+	}
+
+}
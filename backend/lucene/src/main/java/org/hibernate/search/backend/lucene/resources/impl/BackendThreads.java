@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.resources.impl;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
@@ -23,10 +24,19 @@ public class BackendThreads {
 					.asInteger()
 					.build();
 
+	private static final ConfigurationProperty<Integer> SEARCH_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_THREAD_POOL_SIZE )
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private ScheduledExecutorService writeExecutor;
+	private ExecutorService searchExecutor;
+	private ExecutorService asyncSearchExecutor;
+	private ScheduledExecutorService maintenanceExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -46,10 +56,36 @@ public void onStart(ConfigurationPropertySource propertySource, ThreadPoolProvid
 		this.writeExecutor = threadPoolProvider.newScheduledExecutor(
 				threadPoolSize, prefix + " - Worker thread"
 		);
+
+		int searchThreadPoolSize = SEARCH_THREAD_POOL_SIZE.get( propertySource );
+		if ( searchThreadPoolSize > 0 ) {
+			// Use a separate pool for searches: search threads wait for shard searches to complete,
+			// so they must not compete with shard searches for threads.
+			this.searchExecutor = threadPoolProvider.newFixedThreadPool(
+					searchThreadPoolSize, prefix + " - Search thread"
+			);
+		}
+
+		// Use yet another pool for asynchronous searches: they must not compete with indexing for threads,
+		// and they may wait for shard searches to complete, too.
+		// Threads are only created when first needed, i.e. when a query is executed asynchronously.
+		this.asyncSearchExecutor = threadPoolProvider.newFixedThreadPool(
+				threadPoolSize, prefix + " - Async search thread"
+		);
+
+		// Periodic housekeeping tasks must not delay, nor be delayed by, indexing.
+		this.maintenanceExecutor = threadPoolProvider.newScheduledExecutor(
+				1, prefix + " - Maintenance thread"
+		);
 	}
 
 	public void onStop() {
 		writeExecutor.shutdownNow();
+		if ( searchExecutor != null ) {
+			searchExecutor.shutdownNow();
+		}
+		asyncSearchExecutor.shutdownNow();
+		maintenanceExecutor.shutdownNow();
 	}
 
 	public ThreadProvider getThreadProvider() {
@@ -62,6 +98,32 @@ public ScheduledExecutorService getWriteExecutor() {
 		return writeExecutor;
 	}
 
+	/**
+	 * @return The executor to use to search shards in parallel,
+	 * or {@code null} if shards should be searched sequentially.
+	 */
+	public ExecutorService getSearchExecutor() {
+		checkStarted();
+		return searchExecutor;
+	}
+
+	/**
+	 * @return The executor to use to execute search queries asynchronously.
+	 */
+	public ExecutorService getAsyncSearchExecutor() {
+		checkStarted();
+		return asyncSearchExecutor;
+	}
+
+	/**
+	 * @return The executor to use for periodic housekeeping tasks.
+	 * Tasks submitted to this executor must be short.
+	 */
+	public ScheduledExecutorService getMaintenanceExecutor() {
+		checkStarted();
+		return maintenanceExecutor;
+	}
+
 	private void checkStarted() {
 		if ( writeExecutor == null ) {
 			throw new AssertionFailure(
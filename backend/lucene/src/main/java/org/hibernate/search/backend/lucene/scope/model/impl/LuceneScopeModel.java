@@ -26,6 +26,9 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+
 public class LuceneScopeModel {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
@@ -235,6 +238,35 @@ public String getNestedDocumentPath(String absoluteFieldPath) {
 		return nestedDocumentPath.orElse( null );
 	}
 
+	/**
+	 * @param absoluteFieldPath The absolute path of a field.
+	 * @return {@code true} if, in every index of this scope, the given field is single-valued, is not nested,
+	 * and its value can be decoded from doc values.
+	 */
+	public boolean isProjectableFromDocValues(String absoluteFieldPath) {
+		for ( LuceneIndexModel indexModel : indexModels ) {
+			LuceneIndexSchemaFieldNode<?> schemaNode = indexModel.getFieldNode( absoluteFieldPath );
+			if ( schemaNode == null ) {
+				continue;
+			}
+			if ( schemaNode.getNestedDocumentPath() != null || schemaNode.isMultiValuedInDocument()
+					|| schemaNode.getCodec().createDocValuesDecoder( absoluteFieldPath ) == null ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public boolean hasIndexSortStartingWith(SortField sortField) {
+		for ( LuceneIndexModel indexModel : indexModels ) {
+			Sort indexSort = indexModel.getIndexSort();
+			if ( indexSort != null && indexSort.getSort()[0].equals( sortField ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	public List<String> getNestedPathHierarchyForField(String absoluteFieldPath) {
 		Optional<List<String>> nestedDocumentPath = indexModels.stream()
 				.map( indexModel -> indexModel.getFieldNode( absoluteFieldPath ) )
@@ -8,6 +8,7 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.ParentBitSetCache;
 import org.hibernate.search.backend.lucene.search.extraction.impl.CollectorSet;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
 
@@ -18,14 +19,16 @@
 public class AggregationExtractContext {
 
 	private final IndexReader indexReader;
+	private final ParentBitSetCache parentBitSetCache;
 	private final Query luceneQuery;
 	private final FromDocumentFieldValueConvertContext convertContext;
 	private final CollectorSet collectors;
 
-	public AggregationExtractContext(IndexReader indexReader, Query luceneQuery,
+	public AggregationExtractContext(IndexReader indexReader, ParentBitSetCache parentBitSetCache, Query luceneQuery,
 			FromDocumentFieldValueConvertContext convertContext,
 			CollectorSet collectors) {
 		this.indexReader = indexReader;
+		this.parentBitSetCache = parentBitSetCache;
 		this.luceneQuery = luceneQuery;
 		this.convertContext = convertContext;
 		this.collectors = collectors;
@@ -44,6 +47,6 @@ public <C extends Collector> C getCollector(CollectorKey<C> key) {
 	}
 
 	public NestedDocsProvider createNestedDocsProvider(String nestedDocumentPath) {
-		return new NestedDocsProvider( nestedDocumentPath, luceneQuery );
+		return new NestedDocsProvider( parentBitSetCache, nestedDocumentPath, luceneQuery );
 	}
 }
@@ -13,15 +13,20 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.ParentBitSetCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsCollector;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
 import org.apache.lucene.search.TopScoreDocCollector;
@@ -34,61 +39,88 @@
 public final class ExtractionRequirements {
 
 	private final boolean requireScore;
+	private final Integer totalHitCountThreshold;
 	private final Set<CollectorFactory<?>> requiredCollectorForAllMatchingDocsFactories;
 	private final Set<CollectorFactory<?>> requiredCollectorForTopDocsFactories;
 
 	private ExtractionRequirements(Builder builder) {
 		requireScore = builder.requireScore;
+		totalHitCountThreshold = builder.totalHitCountThreshold;
 		requiredCollectorForAllMatchingDocsFactories = builder.requiredCollectorForAllMatchingDocsFactories;
 		requiredCollectorForTopDocsFactories = builder.requiredCollectorForTopDocsFactories;
 	}
 
-	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luceneQuery, Sort sort,
-			IndexReaderMetadataResolver metadataResolver, int maxDocs, TimeoutManager timeoutManager)
+	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, ParentBitSetCache parentBitSetCache,
+			Query luceneQuery, Sort sort,
+			IndexReaderMetadataResolver metadataResolver, int maxDocs, ScoreDoc after, TimeoutManager timeoutManager)
 			throws IOException {
-		TopDocsCollector<?> topDocsCollector;
 		Integer scoreSortFieldIndexForRescoring = null;
 		boolean requireFieldDocRescoring = false;
+		if ( maxDocs > 0 && sort != null && requireScore ) {
+			// Since https://issues.apache.org/jira/browse/LUCENE-8412 (Lucene 8.0.0),
+			// TopFieldCollector returns TopDocs whose ScoreDocs do not contain a score...
+			// Thus we will have to set the scores ourselves.
+			requireFieldDocRescoring = true;
+			// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
+			scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
+		}
 
 		CollectorExecutionContext executionContext =
-				new CollectorExecutionContext( metadataResolver, indexSearcher, luceneQuery, maxDocs );
+				new CollectorExecutionContext( metadataResolver, indexSearcher, parentBitSetCache, luceneQuery, maxDocs );
+
+		// Counting hits exactly requires visiting every single matching document.
+		// When the user allows it, let the top docs collector stop counting after a threshold,
+		// so that Lucene can skip non-competitive documents.
+		// This only works if the top docs collector is the only collector for all matching docs:
+		// MultiCollector disables skipping.
+		int topDocsTotalHitsThreshold = Integer.MAX_VALUE;
+		if ( totalHitCountThreshold != null && requiredCollectorForAllMatchingDocsFactories.isEmpty() ) {
+			topDocsTotalHitsThreshold = totalHitCountThreshold;
+		}
+
+		if ( indexSearcher.getExecutor() != null && requiredCollectorForAllMatchingDocsFactories.isEmpty() ) {
+			// The searcher can search shards in parallel, and we only need top docs: collect each shard separately.
+			CollectorManager<? extends TopDocsCollector<?>, ? extends TopDocs> topDocsCollectorManager = null;
+			if ( maxDocs > 0 ) {
+				topDocsCollectorManager = sort == null
+						? TopScoreDocCollector.createSharedManager( maxDocs, toFieldDoc( after ), topDocsTotalHitsThreshold )
+						: TopFieldCollector.createSharedManager( sort, maxDocs, (FieldDoc) after, topDocsTotalHitsThreshold );
+			}
+			return new LuceneCollectors(
+					metadataResolver,
+					indexSearcher,
+					parentBitSetCache,
+					luceneQuery,
+					requireFieldDocRescoring, scoreSortFieldIndexForRescoring,
+					new ShardTopDocsCollectorManager( executionContext, timeoutManager, topDocsCollectorManager ),
+					requiredCollectorForTopDocsFactories,
+					timeoutManager
+			);
+		}
 
 		CollectorSet.Builder collectorsForAllMatchingDocsBuilder =
 				new CollectorSet.Builder( executionContext, timeoutManager );
 
+		boolean totalHitCountFromTopDocs = false;
 		if ( maxDocs > 0 ) {
+			TopDocsCollector<?> topDocsCollector;
 			if ( sort == null ) {
-				topDocsCollector = TopScoreDocCollector.create(
-						maxDocs,
-						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
-						// Note this will also require to change how we combine collectors,
-						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
-				);
+				topDocsCollector = TopScoreDocCollector.create( maxDocs, after, topDocsTotalHitsThreshold );
 			}
 			else {
-				if ( requireScore ) {
-					// Since https://issues.apache.org/jira/browse/LUCENE-8412 (Lucene 8.0.0),
-					// TopFieldCollector returns TopDocs whose ScoreDocs do not contain a score...
-					// Thus we will have to set the scores ourselves.
-					requireFieldDocRescoring = true;
-					// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
-					scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
-				}
-				topDocsCollector = TopFieldCollector.create(
-						sort,
-						maxDocs,
-						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
-						// Note this will also require to change how we combine collectors,
-						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
-				);
+				// When resuming from a previous page, "after" necessarily comes from a sorted search as well.
+				topDocsCollector = TopFieldCollector.create( sort, maxDocs, (FieldDoc) after, topDocsTotalHitsThreshold );
 			}
 			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollector );
+			// The top docs collector tracks the (possibly approximate) total hit count:
+			// adding a separate collector would turn the top docs collector into a MultiCollector and prevent skipping.
+			totalHitCountFromTopDocs = topDocsTotalHitsThreshold != Integer.MAX_VALUE;
 		}
 
-		TotalHitCountCollector totalHitCountCollector = new TotalHitCountCollector();
-		collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, totalHitCountCollector );
+		if ( !totalHitCountFromTopDocs ) {
+			TotalHitCountCollector totalHitCountCollector = new TotalHitCountCollector();
+			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, totalHitCountCollector );
+		}
 
 		collectorsForAllMatchingDocsBuilder.addAll( requiredCollectorForAllMatchingDocsFactories );
 		CollectorSet collectorsForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
@@ -96,6 +128,7 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luce
 		return new LuceneCollectors(
 				metadataResolver,
 				indexSearcher,
+				parentBitSetCache,
 				luceneQuery,
 				requireFieldDocRescoring, scoreSortFieldIndexForRescoring,
 				collectorsForAllMatchingDocs,
@@ -104,6 +137,14 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luce
 		);
 	}
 
+	private static FieldDoc toFieldDoc(ScoreDoc scoreDoc) {
+		if ( scoreDoc == null || scoreDoc instanceof FieldDoc ) {
+			return (FieldDoc) scoreDoc;
+		}
+		// Only the doc and score matter when paging through hits sorted by score.
+		return new FieldDoc( scoreDoc.doc, scoreDoc.score );
+	}
+
 	private Integer getScoreSortFieldIndexOrNull(Sort sort) {
 		SortField[] sortFields = sort.getSort();
 		for ( int i = 0; i < sortFields.length; i++ ) {
@@ -118,6 +159,7 @@ private Integer getScoreSortFieldIndexOrNull(Sort sort) {
 	public static class Builder {
 
 		private boolean requireScore;
+		private Integer totalHitCountThreshold;
 		private final Set<CollectorFactory<?>> requiredCollectorForAllMatchingDocsFactories = new LinkedHashSet<>();
 		private final Set<CollectorFactory<?>> requiredCollectorForTopDocsFactories = new LinkedHashSet<>();
 
@@ -129,6 +171,11 @@ public void requireScore() {
 			this.requireScore = true;
 		}
 
+		public void totalHitCountThreshold(long totalHitCountThreshold) {
+			// Lucene only accepts int thresholds; anything above is as good as "exact".
+			this.totalHitCountThreshold = (int) Math.min( totalHitCountThreshold, Integer.MAX_VALUE );
+		}
+
 		public <C extends Collector> void requireCollectorForAllMatchingDocs(CollectorFactory<C> collectorFactory) {
 			requiredCollectorForAllMatchingDocsFactories.add( collectorFactory );
 		}
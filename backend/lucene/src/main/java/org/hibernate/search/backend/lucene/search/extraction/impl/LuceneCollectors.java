@@ -7,11 +7,13 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.ParentBitSetCache;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.ExplicitDocIdsQuery;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
@@ -25,7 +27,9 @@
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopFieldDocs;
 import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.search.TotalHits;
 
 public class LuceneCollectors {
 
@@ -35,42 +39,103 @@ public class LuceneCollectors {
 	private final IndexReaderMetadataResolver metadataResolver;
 
 	private final IndexSearcher indexSearcher;
+	private final ParentBitSetCache parentBitSetCache;
 	private final Query luceneQuery;
 
 	private final boolean requireFieldDocRescoring;
 	private final Integer scoreSortFieldIndexForRescoring;
 
 	private final CollectorSet collectorsForAllMatchingDocs;
+	private final ShardTopDocsCollectorManager shardCollectorManager;
 	private final Set<CollectorFactory<?>> collectorsForTopDocsFactories;
 	private CollectorSet collectorsForTopDocs;
 
 	private final TimeoutManager timeoutManager;
 
 	private long totalHitCount = 0;
+	private boolean totalHitCountExact = true;
 	private TopDocs topDocs = null;
 
-	LuceneCollectors(IndexReaderMetadataResolver metadataResolver, IndexSearcher indexSearcher, Query luceneQuery,
+	LuceneCollectors(IndexReaderMetadataResolver metadataResolver, IndexSearcher indexSearcher,
+			ParentBitSetCache parentBitSetCache, Query luceneQuery,
 			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
 			CollectorSet collectorsForAllMatchingDocs,
 			Set<CollectorFactory<?>> collectorsForTopDocsFactories,
 			TimeoutManager timeoutManager) {
 		this.metadataResolver = metadataResolver;
 		this.indexSearcher = indexSearcher;
+		this.parentBitSetCache = parentBitSetCache;
 		this.luceneQuery = luceneQuery;
 		this.requireFieldDocRescoring = requireFieldDocRescoring;
 		this.scoreSortFieldIndexForRescoring = scoreSortFieldIndexForRescoring;
 		this.collectorsForAllMatchingDocs = collectorsForAllMatchingDocs;
+		this.shardCollectorManager = null;
+		this.collectorsForTopDocsFactories = collectorsForTopDocsFactories;
+		this.timeoutManager = timeoutManager;
+	}
+
+	LuceneCollectors(IndexReaderMetadataResolver metadataResolver, IndexSearcher indexSearcher,
+			ParentBitSetCache parentBitSetCache, Query luceneQuery,
+			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
+			ShardTopDocsCollectorManager shardCollectorManager,
+			Set<CollectorFactory<?>> collectorsForTopDocsFactories,
+			TimeoutManager timeoutManager) {
+		this.metadataResolver = metadataResolver;
+		this.indexSearcher = indexSearcher;
+		this.parentBitSetCache = parentBitSetCache;
+		this.luceneQuery = luceneQuery;
+		this.requireFieldDocRescoring = requireFieldDocRescoring;
+		this.scoreSortFieldIndexForRescoring = scoreSortFieldIndexForRescoring;
+		this.collectorsForAllMatchingDocs = null;
+		this.shardCollectorManager = shardCollectorManager;
 		this.collectorsForTopDocsFactories = collectorsForTopDocsFactories;
 		this.timeoutManager = timeoutManager;
 	}
 
 	public void collect(int offset, Integer limit) throws IOException {
+		if ( collectMatchingDocs( offset, limit ) ) {
+			collectTopDocs();
+		}
+	}
+
+	/**
+	 * Phase 1 of {@link #collect(int, Integer)}: collect top docs and aggregations.
+	 *
+	 * @return {@code true} if {@link #collectTopDocs()} should be called, {@code false} otherwise.
+	 */
+	public boolean collectMatchingDocs(int offset, Integer limit) throws IOException {
 		if ( timeoutManager.checkTimedOut() ) {
 			// in case of timeout before the query execution, skip the query
-			return;
+			return false;
+		}
+
+		boolean hasTopDocs = shardCollectorManager == null
+				? collectAllMatchingDocs( offset, limit )
+				: collectAllMatchingDocsPerShard( offset, limit );
+		if ( !hasTopDocs ) {
+			return false;
+		}
+
+		if ( requireFieldDocRescoring ) {
+			handleRescoring( indexSearcher, luceneQuery );
 		}
 
-		// Phase 1: collect top docs and aggregations
+		return !collectorsForTopDocsFactories.isEmpty();
+	}
+
+	/**
+	 * Phase 2 of {@link #collect(int, Integer)}: apply collectors to top docs.
+	 */
+	public void collectTopDocs() throws IOException {
+		try {
+			applyCollectorsToTopDocs();
+		}
+		catch (TimeLimitingCollector.TimeExceededException e) {
+			timeoutManager.forceTimedOut();
+		}
+	}
+
+	private boolean collectAllMatchingDocs(int offset, Integer limit) throws IOException {
 		try {
 			indexSearcher.search( luceneQuery, collectorsForAllMatchingDocs.getComposed() );
 		}
@@ -78,28 +143,40 @@ public void collect(int offset, Integer limit) throws IOException {
 			timeoutManager.forceTimedOut();
 		}
 
-		this.totalHitCount = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY ).getTotalHits();
+		TotalHitCountCollector totalHitCountCollector = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY );
+		if ( totalHitCountCollector != null ) {
+			this.totalHitCount = totalHitCountCollector.getTotalHits();
+		}
 
 		TopDocsCollector<?> topDocsCollector = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
 		if ( topDocsCollector == null ) {
-			return;
+			return false;
 		}
 
 		extractTopDocs( topDocsCollector, offset, limit );
-		if ( requireFieldDocRescoring ) {
-			handleRescoring( indexSearcher, luceneQuery );
+		if ( totalHitCountCollector == null ) {
+			// The total hit count was tracked by the top docs collector, possibly approximately.
+			extractTotalHitCount( topDocs.totalHits );
 		}
+		return true;
+	}
 
-		// Phase 2: apply collectors to top docs
-		if ( collectorsForTopDocsFactories.isEmpty() ) {
-			return;
-		}
-		try {
-			applyCollectorsToTopDocs();
-		}
-		catch (TimeLimitingCollector.TimeExceededException e) {
+	private boolean collectAllMatchingDocsPerShard(int offset, Integer limit) throws IOException {
+		indexSearcher.search( luceneQuery, shardCollectorManager );
+		if ( shardCollectorManager.isTimedOut() ) {
 			timeoutManager.forceTimedOut();
 		}
+
+		this.totalHitCount = shardCollectorManager.getTotalHitCount();
+		this.totalHitCountExact = shardCollectorManager.isTotalHitCountExact();
+
+		TopDocs mergedTopDocs = shardCollectorManager.getTopDocs();
+		if ( mergedTopDocs == null ) {
+			return false;
+		}
+
+		extractTopDocs( mergedTopDocs, offset, limit );
+		return true;
 	}
 
 	public CollectorSet getCollectorsForAllMatchingDocs() {
@@ -114,10 +191,19 @@ public long getTotalHitCount() {
 		return totalHitCount;
 	}
 
+	public boolean isTotalHitCountExact() {
+		return totalHitCountExact;
+	}
+
 	public TopDocs getTopDocs() {
 		return topDocs;
 	}
 
+	private void extractTotalHitCount(TotalHits totalHits) {
+		this.totalHitCount = totalHits.value;
+		this.totalHitCountExact = totalHits.relation == TotalHits.Relation.EQUAL_TO;
+	}
+
 	private void extractTopDocs(TopDocsCollector<?> topDocsCollector, int offset, Integer limit) {
 		if ( limit == null ) {
 			topDocs = topDocsCollector.topDocs( offset );
@@ -127,6 +213,20 @@ private void extractTopDocs(TopDocsCollector<?> topDocsCollector, int offset, In
 		}
 	}
 
+	private void extractTopDocs(TopDocs mergedTopDocs, int offset, Integer limit) {
+		// Same semantics as TopDocsCollector.topDocs(int, int)
+		ScoreDoc[] allScoreDocs = mergedTopDocs.scoreDocs;
+		int start = Math.min( offset, allScoreDocs.length );
+		int end = limit == null ? allScoreDocs.length : (int) Math.min( (long) start + limit, allScoreDocs.length );
+		ScoreDoc[] scoreDocs = Arrays.copyOfRange( allScoreDocs, start, end );
+		if ( mergedTopDocs instanceof TopFieldDocs ) {
+			topDocs = new TopFieldDocs( mergedTopDocs.totalHits, scoreDocs, ( (TopFieldDocs) mergedTopDocs ).fields );
+		}
+		else {
+			topDocs = new TopDocs( mergedTopDocs.totalHits, scoreDocs );
+		}
+	}
+
 	private void handleRescoring(IndexSearcher indexSearcher, Query luceneQuery) throws IOException {
 		if ( scoreSortFieldIndexForRescoring != null ) {
 			// If there's a SCORE sort field, just get the score value from the sort field
@@ -146,7 +246,7 @@ private void applyCollectorsToTopDocs() throws IOException {
 		ExplicitDocIdsQuery topDocsQuery = new ExplicitDocIdsQuery( topDocs.scoreDocs );
 
 		CollectorExecutionContext executionContext = new CollectorExecutionContext(
-				metadataResolver, indexSearcher,
+				metadataResolver, indexSearcher, parentBitSetCache,
 				// Only join nested documents for the top documents (not for all documents matching this.luceneQuery).
 				topDocsQuery,
 				// Allocate just enough memory to handle the top documents.
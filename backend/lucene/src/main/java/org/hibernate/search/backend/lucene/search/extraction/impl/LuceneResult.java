@@ -8,15 +8,21 @@
 
 import org.apache.lucene.document.Document;
 
+/**
+ * The data of a single hit, passed to projections for extraction.
+ * <p>
+ * A single instance is reused for all hits of a result:
+ * projections must not retain it after extraction.
+ */
 public class LuceneResult {
 
-	private final Document document;
+	private Document document;
 
-	private final int docId;
+	private int docId;
 
-	private final float score;
+	private float score;
 
-	public LuceneResult(Document document, int docId, float score) {
+	public void reset(Document document, int docId, float score) {
 		this.document = document;
 		this.docId = docId;
 		this.score = score;
@@ -0,0 +1,171 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.TimeLimitingCollector;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopDocsCollector;
+import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.search.TotalHits;
+
+/**
+ * Collects the top docs and total hit count of each shard in a separate collector,
+ * so that shards can be searched in parallel, then merges the per-shard top docs.
+ * <p>
+ * Only suitable for searches that do not require any other collector, e.g. for aggregations.
+ */
+final class ShardTopDocsCollectorManager
+		implements CollectorManager<ShardTopDocsCollectorManager.ShardCollector, Void> {
+
+	private final CollectorExecutionContext executionContext;
+	private final TimeoutManager timeoutManager;
+	private final CollectorManager<? extends TopDocsCollector<?>, ? extends TopDocs> topDocsCollectorManager;
+
+	private long totalHitCount = 0;
+	private boolean totalHitCountExact = true;
+	private TopDocs topDocs = null;
+	private boolean timedOut = false;
+
+	/**
+	 * @param topDocsCollectorManager A manager for top docs collectors,
+	 * or {@code null} if only the total hit count is necessary.
+	 */
+	ShardTopDocsCollectorManager(CollectorExecutionContext executionContext, TimeoutManager timeoutManager,
+			CollectorManager<? extends TopDocsCollector<?>, ? extends TopDocs> topDocsCollectorManager) {
+		this.executionContext = executionContext;
+		this.timeoutManager = timeoutManager;
+		this.topDocsCollectorManager = topDocsCollectorManager;
+	}
+
+	@Override
+	public ShardCollector newCollector() throws IOException {
+		CollectorSet.Builder builder = new CollectorSet.Builder( executionContext, timeoutManager );
+		if ( topDocsCollectorManager != null ) {
+			// The top docs collector tracks the total hit count, no need for a separate collector.
+			builder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollectorManager.newCollector() );
+		}
+		else {
+			builder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, new TotalHitCountCollector() );
+		}
+		return new ShardCollector( builder.build() );
+	}
+
+	@Override
+	public Void reduce(Collection<ShardCollector> collectors) throws IOException {
+		for ( ShardCollector collector : collectors ) {
+			timedOut = timedOut || collector.timedOut;
+		}
+
+		if ( topDocsCollectorManager != null ) {
+			List<TopDocsCollector<?>> topDocsCollectors = new ArrayList<>( collectors.size() );
+			for ( ShardCollector collector : collectors ) {
+				topDocsCollectors.add( collector.collectorSet.get( LuceneCollectors.TOP_DOCS_KEY ) );
+			}
+			topDocs = reduce( topDocsCollectorManager, topDocsCollectors );
+			totalHitCount = topDocs.totalHits.value;
+			totalHitCountExact = topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO;
+		}
+		else {
+			for ( ShardCollector collector : collectors ) {
+				totalHitCount += collector.collectorSet.get( LuceneCollectors.TOTAL_HIT_COUNT_KEY ).getTotalHits();
+			}
+		}
+		return null;
+	}
+
+	long getTotalHitCount() {
+		return totalHitCount;
+	}
+
+	boolean isTotalHitCountExact() {
+		return totalHitCountExact;
+	}
+
+	/**
+	 * @return The merged top docs of all shards, or {@code null} if top docs were not collected.
+	 */
+	TopDocs getTopDocs() {
+		return topDocs;
+	}
+
+	boolean isTimedOut() {
+		return timedOut;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <C extends Collector, T> T reduce(CollectorManager<C, T> manager,
+			List<? extends Collector> collectors) throws IOException {
+		return manager.reduce( (List<C>) collectors );
+	}
+
+	/**
+	 * Stops collecting a shard when the timeout is reached,
+	 * instead of failing the whole search as {@link TimeLimitingCollector} would,
+	 * so that the results of other shards can be used.
+	 */
+	static final class ShardCollector implements Collector {
+		private final CollectorSet collectorSet;
+		private final Collector composed;
+
+		// Written in the thread searching the shard, read after that thread completed.
+		private boolean timedOut = false;
+
+		private ShardCollector(CollectorSet collectorSet) {
+			this.collectorSet = collectorSet;
+			this.composed = collectorSet.getComposed();
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			LeafCollector leafCollector;
+			try {
+				leafCollector = composed.getLeafCollector( context );
+			}
+			catch (TimeLimitingCollector.TimeExceededException e) {
+				throw onTimeout();
+			}
+			return new FilterLeafCollector( leafCollector ) {
+				@Override
+				public void collect(int doc) throws IOException {
+					try {
+						super.collect( doc );
+					}
+					catch (TimeLimitingCollector.TimeExceededException e) {
+						throw onTimeout();
+					}
+				}
+			};
+		}
+
+		@Override
+		public ScoreMode scoreMode() {
+			return composed.scoreMode();
+		}
+
+		private CollectionTerminatedException onTimeout() {
+			timedOut = true;
+			// Lucene will stop collecting the current segment and move on to the next one;
+			// the next call to getLeafCollector will fail again, effectively stopping collection for this shard.
+			return new CollectionTerminatedException();
+		}
+	}
+}
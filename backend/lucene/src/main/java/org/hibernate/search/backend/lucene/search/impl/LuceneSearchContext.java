@@ -10,6 +10,8 @@
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.SortedSetDocValuesReaderStateCache;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.ParentBitSetCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.scope.model.impl.LuceneScopeModel;
@@ -20,8 +22,10 @@
 import org.hibernate.search.engine.backend.types.converter.runtime.spi.ToDocumentFieldValueConvertContextImpl;
 import org.hibernate.search.engine.backend.types.converter.runtime.spi.ToDocumentIdentifierValueConvertContextImpl;
 import org.hibernate.search.engine.backend.mapping.spi.BackendMappingContext;
+import org.hibernate.search.engine.search.query.spi.SearchSlowQueryLog;
 
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 
 public final class LuceneSearchContext {
 
@@ -32,9 +36,12 @@ public final class LuceneSearchContext {
 	// Backend context
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final SortedSetDocValuesReaderStateCache facetStateCache;
+	private final ParentBitSetCache parentBitSetCache;
 
 	// Global timing source
 	private final TimingSource timingSource;
+	private final SearchSlowQueryLog slowQueryLog;
 
 	// Targeted indexes
 	private final LuceneScopeModel scopeModel;
@@ -42,13 +49,19 @@ public final class LuceneSearchContext {
 	public LuceneSearchContext(BackendMappingContext mappingContext,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			MultiTenancyStrategy multiTenancyStrategy,
+			SortedSetDocValuesReaderStateCache facetStateCache,
+			ParentBitSetCache parentBitSetCache,
 			TimingSource timingSource,
+			SearchSlowQueryLog slowQueryLog,
 			LuceneScopeModel scopeModel) {
 		this.toDocumentIdentifierValueConvertContext = new ToDocumentIdentifierValueConvertContextImpl( mappingContext );
 		this.toDocumentFieldValueConvertContext = new ToDocumentFieldValueConvertContextImpl( mappingContext );
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.facetStateCache = facetStateCache;
+		this.parentBitSetCache = parentBitSetCache;
 		this.timingSource = timingSource;
+		this.slowQueryLog = slowQueryLog;
 		this.scopeModel = scopeModel;
 	}
 
@@ -64,6 +77,14 @@ public LuceneAnalysisDefinitionRegistry getAnalysisDefinitionRegistry() {
 		return analysisDefinitionRegistry;
 	}
 
+	public SortedSetDocValuesReaderStateCache getFacetStateCache() {
+		return facetStateCache;
+	}
+
+	public ParentBitSetCache getParentBitSetCache() {
+		return parentBitSetCache;
+	}
+
 	public Set<String> getIndexNames() {
 		return scopeModel.getIndexNames();
 	}
@@ -72,6 +93,18 @@ public Set<? extends ReadIndexManagerContext> getIndexManagerContexts() {
 		return scopeModel.getIndexManagerContexts();
 	}
 
+	/**
+	 * @param sortField A sort field.
+	 * @return {@code true} if at least one targeted index is sorted with the given sort field as primary sort.
+	 */
+	public boolean hasIndexSortStartingWith(SortField sortField) {
+		return scopeModel.hasIndexSortStartingWith( sortField );
+	}
+
+	public SearchSlowQueryLog getSlowQueryLog() {
+		return slowQueryLog;
+	}
+
 	public Query getFilterOrNull(String tenantId) {
 		return multiTenancyStrategy.getFilterOrNull( tenantId );
 	}
@@ -66,7 +66,7 @@ protected Query applyImplicitNestedSteps(List<String> nestedPathHierarchy, Lucen
 				break;
 			}
 
-			LuceneSearchPredicateContext childContext = ( index == 0 ) ? context : new LuceneSearchPredicateContext( nestedPathHierarchy.get( index - 1 ) );
+			LuceneSearchPredicateContext childContext = ( index == 0 ) ? context : context.nested( nestedPathHierarchy.get( index - 1 ) );
 			result = LuceneNestedPredicateBuilder.doBuild( childContext, path, result );
 		}
 
@@ -12,7 +12,6 @@
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.Query;
-import org.apache.lucene.search.join.QueryBitSetProducer;
 import org.apache.lucene.search.join.ScoreMode;
 import org.apache.lucene.search.join.ToParentBlockJoinQuery;
 
@@ -34,7 +33,7 @@ public void nested(LuceneSearchPredicateBuilder nestedBuilder) {
 
 	@Override
 	protected Query doBuild(LuceneSearchPredicateContext context) {
-		LuceneSearchPredicateContext childContext = new LuceneSearchPredicateContext( absoluteFieldPath );
+		LuceneSearchPredicateContext childContext = context.nested( absoluteFieldPath );
 		return doBuild( context, absoluteFieldPath, nestedBuilder.build( childContext ) );
 	}
 
@@ -53,6 +52,6 @@ public static Query doBuild(LuceneSearchPredicateContext parentContext, String n
 		}
 
 		// TODO HSEARCH-3090 at some point we should have a parameter for the score mode
-		return new ToParentBlockJoinQuery( childQueryBuilder.build(), new QueryBitSetProducer( parentQuery ), ScoreMode.Avg );
+		return new ToParentBlockJoinQuery( childQueryBuilder.build(), parentContext.getParentBitSetCache().producer( parentQuery ), ScoreMode.Avg );
 	}
 }
@@ -74,7 +74,7 @@ public LuceneSearchPredicateBuilder toImplementation(SearchPredicate predicate)
 	@Override
 	public void contribute(LuceneSearchPredicateCollector collector,
 			LuceneSearchPredicateBuilder builder) {
-		collector.collectPredicate( builder.build( LuceneSearchPredicateContext.root() ) );
+		collector.collectPredicate( builder.build( LuceneSearchPredicateContext.root( searchContext.getParentBitSetCache() ) ) );
 	}
 
 	@Override
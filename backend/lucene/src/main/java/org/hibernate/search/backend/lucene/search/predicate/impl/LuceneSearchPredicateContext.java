@@ -6,21 +6,31 @@
  */
 package org.hibernate.search.backend.lucene.search.predicate.impl;
 
-public class LuceneSearchPredicateContext {
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.ParentBitSetCache;
 
-	private static final LuceneSearchPredicateContext ROOT = new LuceneSearchPredicateContext( null );
+public class LuceneSearchPredicateContext {
 
+	private final ParentBitSetCache parentBitSetCache;
 	private final String nestedPath;
 
-	public LuceneSearchPredicateContext(String nestedPath) {
+	private LuceneSearchPredicateContext(ParentBitSetCache parentBitSetCache, String nestedPath) {
+		this.parentBitSetCache = parentBitSetCache;
 		this.nestedPath = nestedPath;
 	}
 
+	public ParentBitSetCache getParentBitSetCache() {
+		return parentBitSetCache;
+	}
+
 	public String getNestedPath() {
 		return nestedPath;
 	}
 
-	public static LuceneSearchPredicateContext root() {
-		return ROOT;
+	public LuceneSearchPredicateContext nested(String nestedPath) {
+		return new LuceneSearchPredicateContext( parentBitSetCache, nestedPath );
+	}
+
+	public static LuceneSearchPredicateContext root(ParentBitSetCache parentBitSetCache) {
+		return new LuceneSearchPredicateContext( parentBitSetCache, null );
 	}
 }
@@ -0,0 +1,126 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.projection.impl;
+
+import java.util.Objects;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.DocValuesCollector;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DocValuesDecoder;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
+import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
+import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
+import org.hibernate.search.engine.search.loading.spi.LoadingResult;
+import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+
+/**
+ * A field projection reading values from doc values instead of stored fields.
+ * <p>
+ * Only used for single-valued, non-nested fields whose codec can decode doc values losslessly;
+ * see {@link LuceneFieldProjectionBuilder#build()}.
+ *
+ * @param <F> The field type.
+ * @param <V> The projected type.
+ */
+class LuceneDocValuesFieldProjection<F, V>
+		implements LuceneSearchProjection<F, V>, CollectorFactory<DocValuesCollector<F>> {
+
+	private final Set<String> indexNames;
+	private final String absoluteFieldPath;
+
+	private final DocValuesDecoder<F> decoder;
+
+	private final ProjectionConverter<? super F, V> converter;
+
+	private final DocValuesCollectorKey<F> collectorKey;
+
+	LuceneDocValuesFieldProjection(Set<String> indexNames, String absoluteFieldPath,
+			DocValuesDecoder<F> decoder, ProjectionConverter<? super F, V> converter) {
+		this.indexNames = indexNames;
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.decoder = decoder;
+		this.converter = converter;
+		this.collectorKey = new DocValuesCollectorKey<>( absoluteFieldPath );
+	}
+
+	@Override
+	public void request(SearchProjectionRequestContext context) {
+		context.requireCollector( this );
+	}
+
+	@Override
+	public F extract(ProjectionHitMapper<?, ?> mapper, LuceneResult documentResult,
+			SearchProjectionExtractContext context) {
+		DocValuesCollector<F> collector = context.getCollector( collectorKey );
+		return collector.getValue( documentResult.getDocId() );
+	}
+
+	@Override
+	public V transform(LoadingResult<?> loadingResult, F extractedData,
+			SearchProjectionTransformContext context) {
+		FromDocumentFieldValueConvertContext convertContext = context.getFromDocumentFieldValueConvertContext();
+		return converter.convert( extractedData, convertContext );
+	}
+
+	@Override
+	public Set<String> getIndexNames() {
+		return indexNames;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "absoluteFieldPath=" ).append( absoluteFieldPath )
+				.append( "]" );
+		return sb.toString();
+	}
+
+	@Override
+	public DocValuesCollector<F> createCollector(CollectorExecutionContext context) {
+		return new DocValuesCollector<>( decoder, context.getMaxDocs() );
+	}
+
+	@Override
+	public CollectorKey<DocValuesCollector<F>> getCollectorKey() {
+		return collectorKey;
+	}
+
+	/**
+	 * Necessary in order to share a single collector if there are multiple projections on the same field.
+	 * See {@link #createCollector(CollectorExecutionContext)}, {@link #request(SearchProjectionRequestContext)}.
+	 */
+	private static final class DocValuesCollectorKey<F> implements CollectorKey<DocValuesCollector<F>> {
+
+		private final String absoluteFieldPath;
+
+		private DocValuesCollectorKey(String absoluteFieldPath) {
+			this.absoluteFieldPath = absoluteFieldPath;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+				return false;
+			}
+			DocValuesCollectorKey<?> other = (DocValuesCollectorKey<?>) obj;
+			return absoluteFieldPath.equals( other.absoluteFieldPath );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( absoluteFieldPath );
+		}
+	}
+
+}
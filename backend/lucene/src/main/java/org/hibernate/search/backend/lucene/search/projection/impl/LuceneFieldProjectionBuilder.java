@@ -8,6 +8,7 @@
 
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DocValuesDecoder;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
 import org.hibernate.search.engine.search.projection.SearchProjection;
@@ -21,19 +22,28 @@
 
 	private final ProjectionConverter<? super F, V> converter;
 	private final LuceneFieldCodec<F> codec;
+	private final DocValuesDecoder<F> docValuesDecoder;
 
+	/**
+	 * @param docValuesDecoder A decoder for the doc values of this field,
+	 * or {@code null} if values must be retrieved from stored fields.
+	 */
 	public LuceneFieldProjectionBuilder(Set<String> indexNames, String absoluteFieldPath, String nestedDocumentPath,
 			ProjectionConverter<? super F, V> converter,
-			LuceneFieldCodec<F> codec) {
+			LuceneFieldCodec<F> codec, DocValuesDecoder<F> docValuesDecoder) {
 		this.indexNames = indexNames;
 		this.absoluteFieldPath = absoluteFieldPath;
 		this.nestedDocumentPath = nestedDocumentPath;
 		this.converter = converter;
 		this.codec = codec;
+		this.docValuesDecoder = docValuesDecoder;
 	}
 
 	@Override
 	public SearchProjection<V> build() {
+		if ( docValuesDecoder != null ) {
+			return new LuceneDocValuesFieldProjection<>( indexNames, absoluteFieldPath, docValuesDecoder, converter );
+		}
 		return new LuceneFieldProjection<>( indexNames, absoluteFieldPath, nestedDocumentPath, codec, converter );
 	}
 }
@@ -71,7 +71,7 @@ public <T> FieldProjectionBuilder<T> field(String absoluteFieldPath, Class<T> ex
 
 		return fieldComponent.getComponent()
 				.createFieldValueProjectionBuilder( scopeModel.getIndexNames(), absoluteFieldPath, scopeModel.getNestedDocumentPath( absoluteFieldPath ),
-						expectedType, convert );
+						scopeModel.isProjectableFromDocValues( absoluteFieldPath ), expectedType, convert );
 	}
 
 	@Override
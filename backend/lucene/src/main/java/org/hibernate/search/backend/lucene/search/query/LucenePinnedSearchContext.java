@@ -0,0 +1,71 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query;
+
+/**
+ * A search context pinning the index readers of a {@link LuceneSearchQuery},
+ * so that successive fetches see the exact same documents, regardless of concurrent writes.
+ * <p>
+ * Pinned search contexts hold on to index files: they must be {@link #close() closed} as soon as they are no longer needed.
+ * They are also closed automatically when they have not been used for longer than their keep-alive.
+ * <p>
+ * <strong>WARNING:</strong> this class is not thread-safe.
+ *
+ * @param <H> The type of query hits.
+ * @see LuceneSearchQuery#openPinnedContext()
+ */
+public interface LucenePinnedSearchContext<H> extends AutoCloseable {
+
+	/**
+	 * Execute the query on the pinned index readers and return the {@link LuceneSearchResult}.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link LuceneSearchResult}. {@code null} means no limit.
+	 * @return The {@link LuceneSearchResult}.
+	 * @throws org.hibernate.search.util.common.SearchException If something goes wrong while executing the query,
+	 * or if this context was closed or has expired.
+	 */
+	default LuceneSearchResult<H> fetch(Integer limit) {
+		return fetch( null, limit );
+	}
+
+	/**
+	 * Execute the query on the pinned index readers and return the {@link LuceneSearchResult}.
+	 *
+	 * @param offset The number of hits to skip before adding the hits to the {@link LuceneSearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link LuceneSearchResult}. {@code null} means no limit.
+	 * @return The {@link LuceneSearchResult}.
+	 * @throws org.hibernate.search.util.common.SearchException If something goes wrong while executing the query,
+	 * or if this context was closed or has expired.
+	 */
+	LuceneSearchResult<H> fetch(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query on the pinned index readers and return the page of hits
+	 * immediately following the last hit returned by the previous call to
+	 * {@link #fetch(Integer, Integer)} or {@link #fetchNext(int)},
+	 * or the first page if there was no such call.
+	 * <p>
+	 * Unlike {@link #fetch(Integer, Integer) fetching with an offset},
+	 * this does not require collecting the hits of previous pages,
+	 * and thus stays cheap even for deep pages.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link LuceneSearchResult}.
+	 * @return The {@link LuceneSearchResult}. Its hits are empty if there are no more hits.
+	 * @throws org.hibernate.search.util.common.SearchException If something goes wrong while executing the query,
+	 * or if this context was closed or has expired.
+	 */
+	LuceneSearchResult<H> fetchNext(int limit);
+
+	/**
+	 * Release the pinned index readers.
+	 * <p>
+	 * Once closed, this context can no longer be used.
+	 */
+	@Override
+	void close();
+
+}
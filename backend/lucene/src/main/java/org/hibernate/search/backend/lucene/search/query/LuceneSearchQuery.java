@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.search.query;
 
+import java.time.Duration;
+
 import org.hibernate.search.engine.search.query.ExtendedSearchQuery;
 
 import org.apache.lucene.search.Explanation;
@@ -37,4 +39,30 @@
 	 * or if the explain request fails.
 	 */
 	Explanation explain(String indexName, String id);
+
+	/**
+	 * Open a search context pinning the index readers currently targeted by this query,
+	 * with the default keep-alive.
+	 * <p>
+	 * This is a shorthand for {@link #openPinnedContext(Duration)} with a {@code null} keep-alive.
+	 *
+	 * @return A new pinned search context. Must be closed after use.
+	 * @throws org.hibernate.search.util.common.SearchException If too many pinned search contexts are already open.
+	 */
+	LucenePinnedSearchContext<H> openPinnedContext();
+
+	/**
+	 * Open a search context pinning the index readers currently targeted by this query.
+	 * <p>
+	 * All fetches executed through the pinned context will see the exact same documents,
+	 * regardless of writes happening concurrently,
+	 * which allows consistent pagination.
+	 *
+	 * @param keepAlive How long the pinned context should stay open after its last use,
+	 * or {@code null} to use the default configured on the backend.
+	 * @return A new pinned search context. Must be closed after use.
+	 * @throws org.hibernate.search.util.common.SearchException If too many pinned search contexts are already open.
+	 * @see LucenePinnedSearchContext
+	 */
+	LucenePinnedSearchContext<H> openPinnedContext(Duration keepAlive);
 }
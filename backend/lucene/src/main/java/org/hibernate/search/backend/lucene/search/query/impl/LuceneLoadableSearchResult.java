@@ -18,6 +18,9 @@
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchProfile;
+
+import org.apache.lucene.search.ScoreDoc;
 
 /**
  * A search result from the backend that offers a method to load data from the mapper.
@@ -35,26 +38,43 @@
 	private final LuceneSearchProjection<?, H> rootProjection;
 
 	private final long hitCount;
+	private final boolean hitCountExact;
 	private List<Object> extractedData;
 	private final Map<AggregationKey<?>, ?> extractedAggregations;
+	private final ScoreDoc lastHit;
 	private Duration took;
 	private Boolean timedOut;
+	private final SimpleSearchProfile.Builder profileBuilder;
 
 	LuceneLoadableSearchResult(LuceneSearchQueryExtractContext extractContext,
 			LuceneSearchProjection<?, H> rootProjection,
-			long hitCount, List<Object> extractedData,
-			Map<AggregationKey<?>, ?> extractedAggregations,
-			Duration took, boolean timedOut) {
+			long hitCount, boolean hitCountExact, List<Object> extractedData,
+			Map<AggregationKey<?>, ?> extractedAggregations, ScoreDoc lastHit,
+			Duration took, boolean timedOut, SimpleSearchProfile.Builder profileBuilder) {
 		this.extractContext = extractContext;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
+		this.hitCountExact = hitCountExact;
 		this.extractedData = extractedData;
 		this.extractedAggregations = extractedAggregations;
+		this.lastHit = lastHit;
 		this.took = took;
 		this.timedOut = timedOut;
+		this.profileBuilder = profileBuilder;
+	}
+
+	/**
+	 * @return The last hit extracted from the index, before loading, or {@code null} if there were no hits.
+	 */
+	ScoreDoc getLastHit() {
+		return lastHit;
 	}
 
 	LuceneSearchResult<H> loadBlocking() {
+		if ( profileBuilder != null ) {
+			profileBuilder.startPhase();
+		}
+
 		SearchProjectionTransformContext transformContext = extractContext.createProjectionTransformContext();
 
 		LoadingResult<?> loadingResult = extractContext.getProjectionHitMapper().loadBlocking();
@@ -88,6 +108,13 @@ LuceneSearchResult<H> loadBlocking() {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new LuceneSearchResultImpl<>( hitCount, loadedHits, extractedAggregations, took, timedOut );
+		SimpleSearchProfile profile = null;
+		if ( profileBuilder != null ) {
+			profileBuilder.endPhase( LuceneSearcherImpl.PHASE_LOADING );
+			profile = profileBuilder.build();
+		}
+
+		return new LuceneSearchResultImpl<>( hitCount, hitCountExact, loadedHits, extractedAggregations, took, timedOut,
+				profile );
 	}
 }
@@ -0,0 +1,68 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.PinnedIndexReader;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.query.LucenePinnedSearchContext;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
+import org.hibernate.search.backend.lucene.work.impl.LuceneSearcher;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.backend.lucene.work.impl.ReadWork;
+
+import org.apache.lucene.search.ScoreDoc;
+
+class LucenePinnedSearchContextImpl<H> implements LucenePinnedSearchContext<H> {
+
+	private final LuceneSyncWorkOrchestrator queryOrchestrator;
+	private final LuceneWorkFactory workFactory;
+	private final LuceneSearchQueryImpl<H> query;
+	private final LuceneSearcher<LuceneLoadableSearchResult<H>> searcher;
+	private final PinnedIndexReader pinnedIndexReader;
+
+	private ScoreDoc lastHit;
+
+	LucenePinnedSearchContextImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
+			LuceneWorkFactory workFactory,
+			LuceneSearchQueryImpl<H> query,
+			LuceneSearcher<LuceneLoadableSearchResult<H>> searcher,
+			PinnedIndexReader pinnedIndexReader) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.workFactory = workFactory;
+		this.query = query;
+		this.searcher = searcher;
+		this.pinnedIndexReader = pinnedIndexReader;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[query=" + query + ", pinnedIndexReader=" + pinnedIndexReader + "]";
+	}
+
+	@Override
+	public LuceneSearchResult<H> fetch(Integer offset, Integer limit) {
+		return doFetch( workFactory.search( searcher, query.startTimeout(), offset, limit ) );
+	}
+
+	@Override
+	public LuceneSearchResult<H> fetchNext(int limit) {
+		return doFetch( workFactory.searchAfter( searcher, query.startTimeout(), lastHit, limit ) );
+	}
+
+	@Override
+	public void close() {
+		pinnedIndexReader.close();
+	}
+
+	private LuceneSearchResult<H> doFetch(ReadWork<LuceneLoadableSearchResult<H>> work) {
+		LuceneLoadableSearchResult<H> loadableResult = queryOrchestrator.submit( pinnedIndexReader, work );
+		if ( loadableResult.getLastHit() != null ) {
+			lastHit = loadableResult.getLastHit();
+		}
+		return loadableResult.loadBlocking();
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.backend.lucene.work.impl.ReadWork;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.spi.SearchMultiQueryElement;
+import org.hibernate.search.engine.search.query.spi.SearchMultiQueryExecutor;
+
+/**
+ * Executes multiple queries targeting the same backend,
+ * sharing a single index reader between queries that target the same indexes with the same routing keys.
+ */
+public class LuceneSearchMultiQueryExecutor implements SearchMultiQueryExecutor {
+
+	private final LuceneSyncWorkOrchestrator queryOrchestrator;
+
+	public LuceneSearchMultiQueryExecutor(LuceneSyncWorkOrchestrator queryOrchestrator) {
+		this.queryOrchestrator = queryOrchestrator;
+	}
+
+	@Override
+	public List<SearchResult<?>> fetch(List<SearchMultiQueryElement> elements) {
+		// Group queries by targeted indexes and routing keys, preserving order.
+		Map<List<Object>, List<Integer>> groups = new LinkedHashMap<>();
+		for ( int i = 0; i < elements.size(); i++ ) {
+			LuceneSearchQueryImpl<?> query = (LuceneSearchQueryImpl<?>) elements.get( i ).getQuery();
+			List<Object> key = Arrays.asList( query.getSearchContext().getIndexNames(), query.getTenantId(),
+					query.getRoutingKeys() );
+			groups.computeIfAbsent( key, ignored -> new ArrayList<>() ).add( i );
+		}
+
+		SearchResult<?>[] results = new SearchResult<?>[elements.size()];
+		for ( List<Integer> group : groups.values() ) {
+			fetchGroup( elements, group, results );
+		}
+		return Arrays.asList( results );
+	}
+
+	private void fetchGroup(List<SearchMultiQueryElement> elements, List<Integer> group, SearchResult<?>[] results) {
+		List<LuceneSearchQueryImpl<?>> queries = new ArrayList<>( group.size() );
+		List<ReadWork<? extends LuceneLoadableSearchResult<?>>> works = new ArrayList<>( group.size() );
+		for ( Integer index : group ) {
+			SearchMultiQueryElement element = elements.get( index );
+			LuceneSearchQueryImpl<?> query = (LuceneSearchQueryImpl<?>) element.getQuery();
+			queries.add( query );
+			works.add( query.createSearchWork( query.startTimeout(), element.getOffset(), element.getLimit() ) );
+		}
+
+		LuceneSearchQueryImpl<?> firstQuery = queries.get( 0 );
+		LuceneSearchContext searchContext = firstQuery.getSearchContext();
+		// All works are executed against the same index reader.
+		List<LuceneLoadableSearchResult<?>> loadableResults = queryOrchestrator.submit(
+				searchContext.getIndexNames(),
+				searchContext.getIndexManagerContexts(),
+				firstQuery.getTenantId(),
+				firstQuery.getRoutingKeys(),
+				context -> {
+					List<LuceneLoadableSearchResult<?>> workResults = new ArrayList<>( works.size() );
+					for ( ReadWork<? extends LuceneLoadableSearchResult<?>> work : works ) {
+						workResults.add( work.execute( context ) );
+					}
+					return workResults;
+				}
+		);
+
+		for ( int i = 0; i < group.size(); i++ ) {
+			// WARNING: loading must run in the user thread.
+			results[group.get( i )] = loadableResults.get( i ).loadBlocking();
+		}
+	}
+
+}
@@ -18,6 +18,7 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.PinnedIndexReaderRegistry;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationRequestContext;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
@@ -28,7 +29,6 @@
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionRequestContext;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
-import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneFieldComparatorSource;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
@@ -52,6 +52,8 @@
 
 	private final LuceneWorkFactory workFactory;
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
+	private final PinnedIndexReaderRegistry pinnedIndexReaderRegistry;
+	private final LuceneSearchMultiQueryExecutor multiQueryExecutor;
 
 	private final LuceneSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
@@ -68,16 +70,22 @@
 	private Long timeout;
 	private TimeUnit timeUnit;
 	private boolean exceptionOnTimeout;
+	private Long totalHitCountThreshold;
+	private boolean profile;
 
 	public LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
 			LuceneSyncWorkOrchestrator queryOrchestrator,
+			PinnedIndexReaderRegistry pinnedIndexReaderRegistry,
+			LuceneSearchMultiQueryExecutor multiQueryExecutor,
 			LuceneSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContextBuilder<?, ?, ?> loadingContextBuilder,
 			LuceneSearchProjection<?, H> rootProjection) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.pinnedIndexReaderRegistry = pinnedIndexReaderRegistry;
+		this.multiQueryExecutor = multiQueryExecutor;
 
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
@@ -113,6 +121,16 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 		this.exceptionOnTimeout = true;
 	}
 
+	@Override
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		this.totalHitCountThreshold = totalHitCountThreshold;
+	}
+
+	@Override
+	public void profile() {
+		this.profile = true;
+	}
+
 	@Override
 	public void collectPredicate(Query luceneQuery) {
 		this.luceneQuery = luceneQuery;
@@ -188,15 +206,19 @@ public LuceneSearchQuery<H> build() {
 
 		if ( nestedFieldSorts != null ) {
 			for ( LuceneFieldComparatorSource nestedField : nestedFieldSorts ) {
-				nestedField.setOriginalParentQuery( definitiveLuceneQuery );
+				nestedField.setOriginalParentQuery( searchContext.getParentBitSetCache(), definitiveLuceneQuery );
 			}
 		}
 
 		LuceneSearchQueryRequestContext requestContext = new LuceneSearchQueryRequestContext(
-				sessionContext, loadingContext, definitiveLuceneQuery, luceneSort
+				sessionContext, loadingContext, searchContext.getParentBitSetCache(),
+				definitiveLuceneQuery, luceneSort
 		);
 
 		ExtractionRequirements.Builder extractionRequirementsBuilder = new ExtractionRequirements.Builder();
+		if ( totalHitCountThreshold != null ) {
+			extractionRequirementsBuilder.totalHitCountThreshold( totalHitCountThreshold );
+		}
 		SearchProjectionRequestContext projectionRequestContext =
 				new SearchProjectionRequestContext( extractionRequirementsBuilder );
 		rootProjection.request( projectionRequestContext );
@@ -209,26 +231,27 @@ public LuceneSearchQuery<H> build() {
 		}
 		ExtractionRequirements extractionRequirements = extractionRequirementsBuilder.build();
 
-		TimeoutManager timeoutManager = searchContext.createTimeoutManager( definitiveLuceneQuery, timeout, timeUnit, exceptionOnTimeout );
-
 		LuceneSearcherImpl<H> searcher = new LuceneSearcherImpl<>(
 				requestContext,
 				rootProjection,
 				aggregations == null ? Collections.emptyMap() : aggregations,
 				extractionRequirements,
-				timeoutManager
+				profile,
+				searchContext.getIndexNames(),
+				searchContext.getSlowQueryLog()
 		);
 
 		return new LuceneSearchQueryImpl<>(
-				queryOrchestrator, workFactory,
+				queryOrchestrator, pinnedIndexReaderRegistry, workFactory,
 				searchContext,
 				sessionContext,
 				loadingContext,
 				routingKeys,
-				timeoutManager,
+				timeout, timeUnit, exceptionOnTimeout,
 				definitiveLuceneQuery,
 				luceneSort,
-				searcher
+				searcher,
+				multiQueryExecutor
 		);
 	}
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.ParentBitSetCache;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
@@ -28,16 +29,18 @@ class LuceneSearchQueryExtractContext {
 	private final ProjectionHitMapper<?, ?> projectionHitMapper;
 	private final FromDocumentFieldValueConvertContext convertContext;
 	private final IndexSearcher indexSearcher;
+	private final ParentBitSetCache parentBitSetCache;
 	private final Query luceneQuery;
 	private final LuceneCollectors luceneCollectors;
 
 	LuceneSearchQueryExtractContext(BackendSessionContext sessionContext,
 			ProjectionHitMapper<?, ?> projectionHitMapper,
-			IndexSearcher indexSearcher, Query luceneQuery,
+			IndexSearcher indexSearcher, ParentBitSetCache parentBitSetCache, Query luceneQuery,
 			LuceneCollectors luceneCollectors) {
 		this.projectionHitMapper = projectionHitMapper;
 		this.convertContext = new FromDocumentFieldValueConvertContextImpl( sessionContext );
 		this.indexSearcher = indexSearcher;
+		this.parentBitSetCache = parentBitSetCache;
 		this.luceneQuery = luceneQuery;
 		this.luceneCollectors = luceneCollectors;
 	}
@@ -63,7 +66,7 @@ SearchProjectionTransformContext createProjectionTransformContext() {
 
 	AggregationExtractContext createAggregationExtractContext() {
 		return new AggregationExtractContext(
-				indexSearcher.getIndexReader(), luceneQuery,
+				indexSearcher.getIndexReader(), parentBitSetCache, luceneQuery,
 				convertContext,
 				luceneCollectors.getCollectorsForAllMatchingDocs()
 		);
@@ -7,12 +7,19 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.PinnedIndexReader;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.PinnedIndexReaderRegistry;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.backend.lucene.search.query.LucenePinnedSearchContext;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
@@ -22,7 +29,9 @@
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.SearchMultiQueryExecutor;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -38,6 +47,7 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
+	private final PinnedIndexReaderRegistry pinnedIndexReaderRegistry;
 	private final LuceneWorkFactory workFactory;
 	private final LuceneSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
@@ -46,27 +56,36 @@
 	private final Query luceneQuery;
 	private final Sort luceneSort;
 	private final LuceneSearcher<LuceneLoadableSearchResult<H>> searcher;
+	private final LuceneSearchMultiQueryExecutor multiQueryExecutor;
 
-	private TimeoutManager timeoutManager;
+	private Long timeout;
+	private TimeUnit timeUnit;
+	private boolean exceptionOnTimeout;
 
 	LuceneSearchQueryImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
+			PinnedIndexReaderRegistry pinnedIndexReaderRegistry,
 			LuceneWorkFactory workFactory, LuceneSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContext<?, ?> loadingContext,
 			Set<String> routingKeys,
-			TimeoutManager timeoutManager,
+			Long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout,
 			Query luceneQuery, Sort luceneSort,
-			LuceneSearcher<LuceneLoadableSearchResult<H>> searcher) {
+			LuceneSearcher<LuceneLoadableSearchResult<H>> searcher,
+			LuceneSearchMultiQueryExecutor multiQueryExecutor) {
 		this.queryOrchestrator = queryOrchestrator;
+		this.pinnedIndexReaderRegistry = pinnedIndexReaderRegistry;
 		this.workFactory = workFactory;
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
 		this.routingKeys = routingKeys;
-		this.timeoutManager = timeoutManager;
+		this.timeout = timeout;
+		this.timeUnit = timeUnit;
+		this.exceptionOnTimeout = exceptionOnTimeout;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
 		this.searcher = searcher;
+		this.multiQueryExecutor = multiQueryExecutor;
 	}
 
 	@Override
@@ -88,28 +107,45 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 
 	@Override
 	public LuceneSearchResult<H> fetch(Integer offset, Integer limit) {
-		timeoutManager.start();
-		ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, limit );
-		LuceneSearchResult<H> result = doSubmit( work )
+		ReadWork<LuceneLoadableSearchResult<H>> work = createSearchWork( startTimeout(), offset, limit );
+		return doSubmit( work )
 				/*
 				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async processing, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * Use fetchAsync() for asynchronous loading.
 				 */
 				.loadBlocking();
-		timeoutManager.stop();
-		return result;
+	}
+
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		// Retrieve the executor first: the mapper may refuse asynchronous loading.
+		Executor loadingExecutor = loadingContext.getLoadingExecutor();
+		// Each execution gets its own timeout manager: executions of the same query may overlap.
+		ReadWork<LuceneLoadableSearchResult<H>> work = createSearchWork( startTimeout(), offset, limit );
+		return doSubmitAsync( work )
+				/*
+				 * Do not load in the backend thread that executed the work:
+				 * loading may block, for example on database accesses.
+				 */
+				.<SearchResult<H>>thenApplyAsync( LuceneLoadableSearchResult::loadBlocking, loadingExecutor );
 	}
 
 	@Override
 	public long fetchTotalHitCount() {
-		timeoutManager.start();
-		ReadWork<Integer> work = workFactory.count( searcher );
-		Integer result = doSubmit( work );
-		timeoutManager.stop();
-		return result;
+		ReadWork<Integer> work = workFactory.count( searcher, startTimeout() );
+		return doSubmit( work );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		ReadWork<Integer> work = workFactory.count( searcher, startTimeout() );
+		return doSubmitAsync( work )
+				.<Long>thenApply( Integer::longValue );
+	}
+
+	@Override
+	public SearchMultiQueryExecutor getMultiQueryExecutor() {
+		return multiQueryExecutor;
 	}
 
 	@Override
@@ -137,30 +173,85 @@ public Explanation explain(String indexName, String id) {
 		return doExplain( indexName, id );
 	}
 
+	@Override
+	public LucenePinnedSearchContext<H> openPinnedContext() {
+		return openPinnedContext( null );
+	}
+
+	@Override
+	public LucenePinnedSearchContext<H> openPinnedContext(Duration keepAlive) {
+		PinnedIndexReader pinnedIndexReader = pinnedIndexReaderRegistry.pin(
+				searchContext.getIndexNames(),
+				searchContext.getIndexManagerContexts(),
+				sessionContext.getTenantIdentifier(),
+				routingKeys,
+				keepAlive
+		);
+		return new LucenePinnedSearchContextImpl<>( queryOrchestrator, workFactory, this, searcher,
+				pinnedIndexReader );
+	}
+
+	ReadWork<LuceneLoadableSearchResult<H>> createSearchWork(TimeoutManager timeoutManager,
+			Integer offset, Integer limit) {
+		return workFactory.search( searcher, timeoutManager, offset, limit );
+	}
+
+	LuceneSearchContext getSearchContext() {
+		return searchContext;
+	}
+
+	String getTenantId() {
+		return sessionContext.getTenantIdentifier();
+	}
+
+	Set<String> getRoutingKeys() {
+		return routingKeys;
+	}
+
+	/**
+	 * @return A new timeout manager for a single execution of this query, already started.
+	 */
+	TimeoutManager startTimeout() {
+		TimeoutManager timeoutManager = searchContext.createTimeoutManager(
+				luceneQuery, timeout, timeUnit, exceptionOnTimeout
+		);
+		timeoutManager.start();
+		return timeoutManager;
+	}
+
 	private <T> T doSubmit(ReadWork<T> work) {
 		return queryOrchestrator.submit(
 				searchContext.getIndexNames(),
 				searchContext.getIndexManagerContexts(),
+				sessionContext.getTenantIdentifier(),
+				routingKeys,
+				work
+		);
+	}
+
+	private <T> CompletableFuture<T> doSubmitAsync(ReadWork<T> work) {
+		return queryOrchestrator.submitAsync(
+				searchContext.getIndexNames(),
+				searchContext.getIndexManagerContexts(),
+				sessionContext.getTenantIdentifier(),
 				routingKeys,
 				work
 		);
 	}
 
 	private Explanation doExplain(String indexName, String id) {
-		timeoutManager.start();
 		Query filter = searchContext.getFilterOrNull( sessionContext.getTenantIdentifier() );
 		ReadWork<Explanation> work = workFactory.explain(
 				searcher, indexName, id, filter
 		);
-		Explanation explanation = doSubmit( work );
-		timeoutManager.stop();
-		return explanation;
+		return doSubmit( work );
 	}
 
 	@Override
 	public void failAfter(long timeout, TimeUnit timeUnit) {
-		// replace the timeout manager on already created query instance
-		timeoutManager = searchContext.createTimeoutManager( luceneQuery, timeout, timeUnit, true );
-		searcher.setTimeoutManager( timeoutManager );
+		// affects executions started after this call
+		this.timeout = timeout;
+		this.timeUnit = timeUnit;
+		this.exceptionOnTimeout = true;
 	}
 }
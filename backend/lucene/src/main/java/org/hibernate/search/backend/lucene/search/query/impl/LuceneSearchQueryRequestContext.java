@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.ParentBitSetCache;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
@@ -24,20 +25,27 @@ class LuceneSearchQueryRequestContext {
 
 	private final BackendSessionContext sessionContext;
 	private final LoadingContext<?, ?> loadingContext;
+	private final ParentBitSetCache parentBitSetCache;
 	private final Query luceneQuery;
 	private final Sort luceneSort;
 
 	LuceneSearchQueryRequestContext(
 			BackendSessionContext sessionContext,
 			LoadingContext<?, ?> loadingContext,
+			ParentBitSetCache parentBitSetCache,
 			Query luceneQuery,
 			Sort luceneSort) {
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
+		this.parentBitSetCache = parentBitSetCache;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
 	}
 
+	ParentBitSetCache getParentBitSetCache() {
+		return parentBitSetCache;
+	}
+
 	Query getLuceneQuery() {
 		return luceneQuery;
 	}
@@ -52,6 +60,7 @@ LuceneSearchQueryExtractContext createExtractContext(IndexSearcher indexSearcher
 				sessionContext,
 				loadingContext.getProjectionHitMapper(),
 				indexSearcher,
+				parentBitSetCache,
 				luceneQuery,
 				luceneCollectors
 		);
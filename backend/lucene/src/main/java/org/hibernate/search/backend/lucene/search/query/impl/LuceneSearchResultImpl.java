@@ -12,12 +12,13 @@
 
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchProfile;
 import org.hibernate.search.engine.search.query.spi.SimpleSearchResult;
 
 class LuceneSearchResultImpl<H> extends SimpleSearchResult<H>
 		implements LuceneSearchResult<H> {
-	LuceneSearchResultImpl(long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
-			Duration took, Boolean timedOut) {
-		super( hitCount, hits, aggregationResults, took, timedOut );
+	LuceneSearchResultImpl(long hitCount, boolean hitCountExact, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
+			Duration took, Boolean timedOut, SearchProfile profile) {
+		super( hitCount, hitCountExact, hits, aggregationResults, took, timedOut, profile );
 	}
 }
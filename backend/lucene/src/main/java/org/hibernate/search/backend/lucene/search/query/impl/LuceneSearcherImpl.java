@@ -7,11 +7,13 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsCollector;
@@ -26,8 +28,11 @@
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 import org.hibernate.search.backend.lucene.work.impl.LuceneSearcher;
+import org.hibernate.search.backend.lucene.work.impl.ReadWorkExecutionContext;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.spi.SearchSlowQueryLog;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchProfile;
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -43,24 +48,37 @@
 
 	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
 
+	static final String PHASE_INDEX_READER_ACQUISITION = "index_reader_acquisition";
+	static final String PHASE_QUERY_REWRITE = "query_rewrite";
+	static final String PHASE_COLLECTION = "collection";
+	static final String PHASE_TOP_DOCS_COLLECTION = "top_docs_collection";
+	static final String PHASE_HIT_EXTRACTION = "hit_extraction";
+	static final String PHASE_AGGREGATION_EXTRACTION = "aggregation_extraction";
+	static final String PHASE_LOADING = "loading";
+
 	private final LuceneSearchQueryRequestContext requestContext;
 
 	private final LuceneSearchProjection<?, H> rootProjection;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private final ExtractionRequirements extractionRequirements;
-
-	private TimeoutManager timeoutManager;
+	private final boolean profile;
+	private final Set<String> indexNames;
+	private final SearchSlowQueryLog slowQueryLog;
 
 	LuceneSearcherImpl(LuceneSearchQueryRequestContext requestContext,
 			LuceneSearchProjection<?, H> rootProjection,
 			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations,
 			ExtractionRequirements extractionRequirements,
-			TimeoutManager timeoutManager) {
+			boolean profile,
+			Set<String> indexNames,
+			SearchSlowQueryLog slowQueryLog) {
 		this.requestContext = requestContext;
 		this.rootProjection = rootProjection;
 		this.aggregations = aggregations;
 		this.extractionRequirements = extractionRequirements;
-		this.timeoutManager = timeoutManager;
+		this.profile = profile;
+		this.indexNames = indexNames;
+		this.slowQueryLog = slowQueryLog;
 	}
 
 	@Override
@@ -74,36 +92,79 @@ public String toString() {
 	}
 
 	@Override
-	public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
-			IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit) throws IOException {
+	public LuceneLoadableSearchResult<H> search(ReadWorkExecutionContext context, TimeoutManager timeoutManager,
+			int offset, Integer limit, ScoreDoc after) throws IOException {
 		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
 
-		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, offset, limit );
+		IndexSearcher indexSearcher = context.createIndexSearcher();
+		IndexReaderMetadataResolver metadataResolver = context.getIndexReaderMetadataResolver();
+
+		SimpleSearchProfile.Builder profileBuilder = null;
+		Query luceneQuery = requestContext.getLuceneQuery();
+		if ( profile ) {
+			profileBuilder = new SimpleSearchProfile.Builder();
+			profileBuilder.addPhase( PHASE_INDEX_READER_ACQUISITION, context.getIndexReaderAcquisitionTime() );
+			profileBuilder.startPhase();
+			// Lucene would rewrite the query anyway when collecting: rewrite it explicitly to measure rewriting.
+			luceneQuery = indexSearcher.rewrite( luceneQuery );
+			profileBuilder.endPhase( PHASE_QUERY_REWRITE );
+		}
 
-		luceneCollectors.collect( offset, limit );
+		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, luceneQuery, metadataResolver, timeoutManager,
+				offset, limit, after );
+
+		boolean collectTopDocs = luceneCollectors.collectMatchingDocs( offset, limit );
+		if ( profileBuilder != null ) {
+			profileBuilder.endPhase( PHASE_COLLECTION );
+		}
+		if ( collectTopDocs ) {
+			luceneCollectors.collectTopDocs();
+			if ( profileBuilder != null ) {
+				profileBuilder.endPhase( PHASE_TOP_DOCS_COLLECTION );
+			}
+		}
 
 		LuceneSearchQueryExtractContext extractContext = requestContext.createExtractContext(
 				indexSearcher, luceneCollectors
 		);
 
-		List<Object> extractedData = extractHits( extractContext );
+		List<Object> extractedData = extractHits( extractContext, timeoutManager );
+		if ( profileBuilder != null ) {
+			profileBuilder.endPhase( PHASE_HIT_EXTRACTION );
+		}
 
 		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
-				Collections.emptyMap() : extractAggregations( extractContext );
+				Collections.emptyMap() : extractAggregations( extractContext, timeoutManager );
+		if ( profileBuilder != null && !aggregations.isEmpty() ) {
+			profileBuilder.endPhase( PHASE_AGGREGATION_EXTRACTION );
+		}
+
+		// Remember the last extracted hit, so that the next page can be collected with searchAfter.
+		ScoreDoc lastHit = extractedData.isEmpty()
+				? null
+				: extractContext.getTopDocs().scoreDocs[extractedData.size() - 1];
+
+		Duration took = timeoutManager.getTookTime();
+		if ( slowQueryLog.isEnabled() ) {
+			slowQueryLog.onQueryExecuted( took, indexNames, requestContext.getLuceneQuery(),
+					luceneCollectors.getTotalHitCount(), luceneCollectors.isTotalHitCountExact(), rootProjection );
+		}
 
 		return new LuceneLoadableSearchResult<>(
 				extractContext, rootProjection,
 				luceneCollectors.getTotalHitCount(),
+				luceneCollectors.isTotalHitCountExact(),
 				extractedData,
 				extractedAggregations,
-				timeoutManager.getTookTime(),
-				timeoutManager.isTimedOut()
+				lastHit,
+				took,
+				timeoutManager.isTimedOut(),
+				profileBuilder
 		);
 	}
 
 	@Override
-	public int count(IndexSearcher indexSearcher) throws IOException {
+	public int count(IndexSearcher indexSearcher, TimeoutManager timeoutManager) throws IOException {
 		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
 
 		// Handling the hard timeout.
@@ -126,21 +187,18 @@ public Query getLuceneQueryForExceptions() {
 		return requestContext.getLuceneQuery();
 	}
 
-	@Override
-	public void setTimeoutManager(TimeoutManager timeoutManager) {
-		this.timeoutManager = timeoutManager;
-	}
-
-	private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit) throws IOException {
+	private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, Query luceneQuery,
+			IndexReaderMetadataResolver metadataResolver, TimeoutManager timeoutManager,
+			int offset, Integer limit, ScoreDoc after)
+			throws IOException {
 		// TODO HSEARCH-3323 this is very naive for now, we will probably need to implement some scrolling in the collector
 		//  as it is done in Search 5.
 		//  Note that Lucene initializes data structures of this size so setting it to a large value consumes memory.
 		int maxDocs = getMaxDocs( indexSearcher.getIndexReader(), offset, limit );
 
 		return extractionRequirements.createCollectors(
-				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
-				metadataResolver, maxDocs, timeoutManager
+				indexSearcher, requestContext.getParentBitSetCache(), luceneQuery, requestContext.getLuceneSort(),
+				metadataResolver, maxDocs, after, timeoutManager
 		);
 	}
 
@@ -156,7 +214,7 @@ else if ( limit.equals( 0 ) ) {
 		}
 	}
 
-	private List<Object> extractHits(LuceneSearchQueryExtractContext extractContext) {
+	private List<Object> extractHits(LuceneSearchQueryExtractContext extractContext, TimeoutManager timeoutManager) {
 		ProjectionHitMapper<?, ?> projectionHitMapper = extractContext.getProjectionHitMapper();
 
 		TopDocs topDocs = extractContext.getTopDocs();
@@ -171,6 +229,8 @@ private List<Object> extractHits(LuceneSearchQueryExtractContext extractContext)
 		StoredFieldsCollector storedFieldsCollector =
 				projectionExtractContext.getCollector( StoredFieldsCollector.KEY );
 
+		LuceneResult luceneResult = new LuceneResult();
+
 		for ( int i = 0; i < topDocs.scoreDocs.length; i++ ) {
 			// Check for timeout every 16 elements.
 			// Do this *before* the element, so that we don't fail after the last element.
@@ -181,7 +241,7 @@ private List<Object> extractHits(LuceneSearchQueryExtractContext extractContext)
 			ScoreDoc hit = topDocs.scoreDocs[i];
 			Document document = storedFieldsCollector == null ? null : storedFieldsCollector.getDocument( hit.doc );
 
-			LuceneResult luceneResult = new LuceneResult( document, hit.doc, hit.score );
+			luceneResult.reset( document, hit.doc, hit.score );
 
 			extractedData.add( rootProjection.extract( projectionHitMapper, luceneResult, projectionExtractContext ) );
 		}
@@ -189,7 +249,8 @@ private List<Object> extractHits(LuceneSearchQueryExtractContext extractContext)
 		return extractedData;
 	}
 
-	private Map<AggregationKey<?>, ?> extractAggregations(LuceneSearchQueryExtractContext extractContext)
+	private Map<AggregationKey<?>, ?> extractAggregations(LuceneSearchQueryExtractContext extractContext,
+			TimeoutManager timeoutManager)
 			throws IOException {
 		AggregationExtractContext aggregationExtractContext =
 				extractContext.createAggregationExtractContext();
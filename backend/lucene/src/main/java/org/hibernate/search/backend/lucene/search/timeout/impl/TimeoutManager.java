@@ -70,10 +70,6 @@ public void start() {
 		this.start = timingSource.getMonotonicTimeEstimate();
 	}
 
-	public void stop() {
-		this.start = null;
-	}
-
 	public long getTimeoutBaseline() {
 		return start;
 	}
@@ -11,6 +11,7 @@
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.SortedSetDocValuesReaderStateCache;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
@@ -18,7 +19,6 @@
 import org.apache.lucene.facet.FacetResult;
 import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.facet.FacetsConfig;
-import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
 import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
 import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
 import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState.OrdRange;
@@ -34,15 +34,18 @@
 
 	private static final Comparator<String> STRING_COMPARATOR = Comparator.naturalOrder();
 
+	private final SortedSetDocValuesReaderStateCache facetStateCache;
+
 	private LuceneTextTermsAggregation(Builder<K> builder) {
 		super( builder );
+		this.facetStateCache = builder.searchContext.getFacetStateCache();
 	}
 
 	@Override
 	FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector,
 			NestedDocsProvider nestedDocsProvider, int limit) throws IOException {
 		// May throw IllegalArgumentException
-		SortedSetDocValuesReaderState docValuesReaderState = new DefaultSortedSetDocValuesReaderState( reader );
+		SortedSetDocValuesReaderState docValuesReaderState = getDocValuesReaderState( reader );
 
 		SortedSetDocValuesFacetCounts facetCounts = new SortedSetDocValuesFacetCounts(
 				docValuesReaderState, facetsCollector
@@ -57,7 +60,7 @@ Set<String> collectFirstTerms(IndexReader reader, boolean descending, int limit)
 			throws IOException {
 		Set<String> collectedTerms = new LinkedHashSet<>();
 
-		SortedSetDocValuesReaderState docValuesReaderState = new DefaultSortedSetDocValuesReaderState( reader );
+		SortedSetDocValuesReaderState docValuesReaderState = getDocValuesReaderState( reader );
 		OrdRange ordRange = docValuesReaderState.getOrdRange( absoluteFieldPath );
 		SortedSetDocValues docValues = docValuesReaderState.getDocValues();
 
@@ -78,6 +81,10 @@ Set<String> collectFirstTerms(IndexReader reader, boolean descending, int limit)
 		return collectedTerms;
 	}
 
+	private SortedSetDocValuesReaderState getDocValuesReaderState(IndexReader reader) throws IOException {
+		return facetStateCache.getOrCreate( reader, FacetsConfig.DEFAULT_INDEX_FIELD_NAME );
+	}
+
 	private String lookupOrd(SortedSetDocValues docValues, int ord) throws IOException {
 		String pathAsString = docValues.lookupOrd( ord ).utf8ToString();
 		// FacetsConfig does not store the term directly: it prepends the field name
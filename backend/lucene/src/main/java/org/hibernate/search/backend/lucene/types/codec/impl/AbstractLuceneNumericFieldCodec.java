@@ -7,12 +7,18 @@
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DocValuesDecoder;
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.DocValuesFieldExistsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.apache.lucene.search.TermQuery;
 
 public abstract class AbstractLuceneNumericFieldCodec<F, E extends Number>
@@ -65,6 +71,31 @@ public final void encode(LuceneDocumentBuilder documentBuilder, String absoluteF
 		}
 	}
 
+	@Override
+	public DocValuesDecoder<F> createDocValuesDecoder(String absoluteFieldPath) {
+		if ( !( sortable || aggregable ) || !isEncodingLossless() ) {
+			return null;
+		}
+		LuceneNumericDomain<E> domain = getDomain();
+		return context -> {
+			SortedNumericDocValues docValues = DocValues.getSortedNumeric( context.reader(), absoluteFieldPath );
+			return docId -> docValues.advanceExact( docId )
+					? decode( domain.sortedDocValueToTerm( docValues.nextValue() ) )
+					: null;
+		};
+	}
+
+	@Override
+	public SortField createIndexSortField(String absoluteFieldPath, boolean reverse) {
+		if ( !sortable ) {
+			return null;
+		}
+		// Sorted doc values are encoded so that their natural order as longs is the order of field values.
+		// As with field sorts without an explicit missing value, documents without a value are sorted as if the value was 0.
+		return new SortedNumericSortField( absoluteFieldPath, SortField.Type.LONG, reverse,
+				reverse ? SortedNumericSelector.Type.MAX : SortedNumericSelector.Type.MIN );
+	}
+
 	@Override
 	public Query createExistsQuery(String absoluteFieldPath) {
 		if ( sortable || aggregable ) {
@@ -92,6 +123,14 @@ public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 
 	public abstract F decode(E encoded);
 
+	/**
+	 * @return {@code true} if {@link #decode(Number) decoding} an {@link #encode(Object) encoded} value
+	 * always returns the original value, i.e. if values can be projected from doc values.
+	 */
+	protected boolean isEncodingLossless() {
+		return false;
+	}
+
 	public abstract LuceneNumericDomain<E> getDomain();
 
 	abstract void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath,
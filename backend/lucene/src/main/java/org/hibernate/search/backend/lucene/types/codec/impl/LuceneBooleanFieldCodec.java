@@ -49,6 +49,11 @@ public Boolean decode(Integer encoded) {
 		return encoded > 0;
 	}
 
+	@Override
+	protected boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
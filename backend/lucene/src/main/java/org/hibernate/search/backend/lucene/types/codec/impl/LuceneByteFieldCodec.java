@@ -49,6 +49,11 @@ public Byte decode(Integer encoded) {
 		return encoded.byteValue();
 	}
 
+	@Override
+	protected boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
@@ -48,6 +48,11 @@ public Double decode(Double encoded) {
 		return encoded;
 	}
 
+	@Override
+	protected boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Double> getDomain() {
 		return LuceneDoubleDomain.get();
@@ -9,9 +9,11 @@
 import java.util.function.BiConsumer;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DocValuesDecoder;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 
 /**
  * Defines how a given value will be encoded in the Lucene document and how it will be decoded.
@@ -54,6 +56,34 @@ default void contributeStoredFields(String absoluteFieldPath, String nestedDocum
 	 */
 	F decode(Document document, String absoluteFieldPath);
 
+	/**
+	 * Create a decoder extracting the value from doc values, typically used in projections.
+	 * <p>
+	 * The decoder returns the same value as {@link #decode(Document, String)},
+	 * but does not require loading stored fields.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @return A decoder, or {@code null} if the field does not have doc values,
+	 * or if doc values do not hold enough information to reproduce the original value.
+	 */
+	default DocValuesDecoder<F> createDocValuesDecoder(String absoluteFieldPath) {
+		return null;
+	}
+
+	/**
+	 * Create a {@link SortField} suitable for index sorting.
+	 * <p>
+	 * Search queries sorting on this field in the same order should use an equal {@link SortField},
+	 * so that Lucene can detect that the search sort matches the index sort and terminate collection early.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param reverse Whether the sort should be in descending order.
+	 * @return A sort field, or {@code null} if this field cannot be used to sort the index.
+	 */
+	default SortField createIndexSortField(String absoluteFieldPath, boolean reverse) {
+		return null;
+	}
+
 	/**
 	 * Create a {@link Query} that will match every document in which the field with the given path appears.
 	 *
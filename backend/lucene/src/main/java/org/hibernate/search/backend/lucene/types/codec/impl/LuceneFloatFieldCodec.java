@@ -48,6 +48,11 @@ public Float decode(Float encoded) {
 		return encoded;
 	}
 
+	@Override
+	protected boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Float> getDomain() {
 		return LuceneFloatDomain.get();
@@ -47,6 +47,11 @@ public Integer decode(Integer encoded) {
 		return encoded;
 	}
 
+	@Override
+	protected boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
@@ -68,6 +68,11 @@ public LocalDate decode(Long encoded) {
 		return LocalDate.ofEpochDay( encoded );
 	}
 
+	@Override
+	protected boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
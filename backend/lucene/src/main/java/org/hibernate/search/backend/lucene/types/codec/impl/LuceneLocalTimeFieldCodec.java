@@ -77,6 +77,11 @@ public LocalTime decode(Long encoded) {
 		return LocalTime.ofNanoOfDay( encoded );
 	}
 
+	@Override
+	protected boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
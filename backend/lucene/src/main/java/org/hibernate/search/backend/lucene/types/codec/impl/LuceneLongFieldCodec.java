@@ -48,6 +48,11 @@ public Long decode(Long encoded) {
 		return encoded;
 	}
 
+	@Override
+	protected boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
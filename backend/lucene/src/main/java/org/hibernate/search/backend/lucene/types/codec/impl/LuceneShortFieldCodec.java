@@ -49,6 +49,11 @@ public Short decode(Integer encoded) {
 		return encoded.shortValue();
 	}
 
+	@Override
+	protected boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
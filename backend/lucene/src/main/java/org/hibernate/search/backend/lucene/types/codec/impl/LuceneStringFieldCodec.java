@@ -11,6 +11,7 @@
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DocValuesDecoder;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.document.Document;
@@ -18,6 +19,8 @@
 import org.apache.lucene.document.FieldType;
 import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.DocValuesFieldExistsQuery;
 import org.apache.lucene.search.NormsFieldExistsQuery;
@@ -83,6 +86,20 @@ public String decode(Document document, String absoluteFieldPath) {
 		return document.get( absoluteFieldPath );
 	}
 
+	@Override
+	public DocValuesDecoder<String> createDocValuesDecoder(String absoluteFieldPath) {
+		if ( !sortable || analyzerOrNormalizer != AnalyzerConstants.KEYWORD_ANALYZER ) {
+			// No doc values, or doc values hold the normalized value instead of the original value.
+			return null;
+		}
+		return context -> {
+			SortedSetDocValues docValues = DocValues.getSortedSet( context.reader(), absoluteFieldPath );
+			return docId -> docValues.advanceExact( docId )
+					? docValues.lookupOrd( docValues.nextOrd() ).utf8ToString()
+					: null;
+		};
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
@@ -51,6 +51,11 @@ public Year decode(Integer encoded) {
 		return Year.of( encoded );
 	}
 
+	@Override
+	protected boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
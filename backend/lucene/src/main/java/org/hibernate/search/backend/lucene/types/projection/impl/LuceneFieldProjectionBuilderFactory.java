@@ -25,8 +25,12 @@
  */
 public interface LuceneFieldProjectionBuilderFactory {
 
+	/**
+	 * @param projectableFromDocValues Whether the field is single-valued, not nested,
+	 * and can be decoded from doc values in every targeted index.
+	 */
 	<U> FieldProjectionBuilder<U> createFieldValueProjectionBuilder(Set<String> indexNames, String absoluteFieldPath, String nestedDocumentPath,
-			Class<U> expectedType, ValueConvert convert);
+			boolean projectableFromDocValues, Class<U> expectedType, ValueConvert convert);
 
 	DistanceToFieldProjectionBuilder createDistanceProjectionBuilder(Set<String> indexNames, String absoluteFieldPath, String nestedDocumentPath,
 			GeoPoint center);
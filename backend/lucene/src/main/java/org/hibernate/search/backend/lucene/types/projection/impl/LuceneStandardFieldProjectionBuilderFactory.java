@@ -10,6 +10,7 @@
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DocValuesDecoder;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneFieldProjectionBuilder;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
@@ -47,7 +48,7 @@ public LuceneStandardFieldProjectionBuilderFactory(boolean projectable,
 	@Override
 	@SuppressWarnings("unchecked") // We check the cast is legal by asking the converter
 	public <T> FieldProjectionBuilder<T> createFieldValueProjectionBuilder(Set<String> indexNames, String absoluteFieldPath, String nestedDocumentPath,
-			Class<T> expectedType, ValueConvert convert) {
+			boolean projectableFromDocValues, Class<T> expectedType, ValueConvert convert) {
 		checkProjectable( absoluteFieldPath, projectable );
 
 		ProjectionConverter<? super F, ?> requestConverter = getConverter( convert );
@@ -56,7 +57,9 @@ public <T> FieldProjectionBuilder<T> createFieldValueProjectionBuilder(Set<Strin
 					EventContexts.fromIndexFieldAbsolutePath( absoluteFieldPath ) );
 		}
 
-		return (FieldProjectionBuilder<T>) new LuceneFieldProjectionBuilder<>( indexNames, absoluteFieldPath, nestedDocumentPath, requestConverter, codec );
+		DocValuesDecoder<F> docValuesDecoder = projectableFromDocValues ? codec.createDocValuesDecoder( absoluteFieldPath ) : null;
+		return (FieldProjectionBuilder<T>) new LuceneFieldProjectionBuilder<>( indexNames, absoluteFieldPath, nestedDocumentPath, requestConverter,
+				codec, docValuesDecoder );
 	}
 
 	@Override
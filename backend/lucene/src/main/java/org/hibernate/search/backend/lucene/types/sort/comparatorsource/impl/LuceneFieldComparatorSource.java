@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.ParentBitSetCache;
 
 import org.apache.lucene.search.FieldComparatorSource;
 import org.apache.lucene.search.Query;
@@ -25,7 +26,7 @@ public String getNestedDocumentPath() {
 		return nestedDocumentPath;
 	}
 
-	public void setOriginalParentQuery(Query luceneQuery) {
-		this.nestedDocsProvider = new NestedDocsProvider( nestedDocumentPath, luceneQuery );
+	public void setOriginalParentQuery(ParentBitSetCache parentBitSetCache, Query luceneQuery) {
+		this.nestedDocsProvider = new NestedDocsProvider( parentBitSetCache, nestedDocumentPath, luceneQuery );
 	}
 }
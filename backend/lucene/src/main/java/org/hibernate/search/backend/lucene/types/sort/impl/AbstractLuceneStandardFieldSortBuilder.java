@@ -31,7 +31,7 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private final LuceneSearchContext searchContext;
+	protected final LuceneSearchContext searchContext;
 
 	protected final DslConverter<?, ? extends F> converter;
 	private final DslConverter<F, ? extends F> rawConverter;
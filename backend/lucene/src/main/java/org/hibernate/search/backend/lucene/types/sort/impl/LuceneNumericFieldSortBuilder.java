@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.impl;
 
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 import org.hibernate.search.backend.lucene.scope.model.impl.LuceneCompatibilityChecker;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortCollector;
@@ -33,6 +34,13 @@
 
 	@Override
 	public void buildAndContribute(LuceneSearchSortCollector collector) {
+		SortField indexSortField = getMatchingIndexSortFieldOrNull();
+		if ( indexSortField != null ) {
+			// Using the exact same sort field as the index sort allows Lucene to terminate collection early.
+			collector.collectSortField( indexSortField );
+			return;
+		}
+
 		LuceneNumericFieldComparatorSource<E> fieldComparatorSource = new LuceneNumericFieldComparatorSource<>(
 				nestedDocumentPath, codec.getDomain(), (E) getEffectiveMissingValue( missingValue, order ), getMultiValueMode() );
 		SortField sortField = new SortField( absoluteFieldPath, fieldComparatorSource, order == SortOrder.DESC );
@@ -40,4 +48,19 @@ public void buildAndContribute(LuceneSearchSortCollector collector) {
 		collector.collectSortField( sortField, (nestedDocumentPath != null) ? fieldComparatorSource : null );
 	}
 
+	private SortField getMatchingIndexSortFieldOrNull() {
+		if ( nestedDocumentPath != null || missingValue != null ) {
+			return null;
+		}
+		boolean reverse = order == SortOrder.DESC;
+		if ( getMultiValueMode() != ( reverse ? MultiValueMode.MAX : MultiValueMode.MIN ) ) {
+			return null;
+		}
+		SortField candidate = codec.createIndexSortField( absoluteFieldPath, reverse );
+		if ( candidate == null || !searchContext.hasIndexSortStartingWith( candidate ) ) {
+			return null;
+		}
+		return candidate;
+	}
+
 }
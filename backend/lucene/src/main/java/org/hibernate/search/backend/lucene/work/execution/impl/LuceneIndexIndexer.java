@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.work.execution.impl;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
@@ -41,17 +42,24 @@ public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider, Doc
 
 		LuceneIndexEntry indexEntry = indexEntryFactory.create( tenantId, id, routingKey, documentContributor );
 
-		// Route the work to the appropriate shard
-		LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.getIndexingOrchestrator( id, routingKey );
-
 		CompletableFuture<Long> future = new CompletableFuture<>();
-		orchestrator.submit(
-				future,
-				factory.add(
-						tenantId, indexManagerContext.getMappedTypeName(), referenceProvider.getEntityIdentifier(),
-						id, indexEntry
-				)
-		);
+		Lock routingLock = indexManagerContext.getIndexingRoutingLock();
+		routingLock.lock();
+		try {
+			// Route the work to the appropriate shard
+			LuceneSerialWorkOrchestrator orchestrator =
+					indexManagerContext.getIndexingOrchestrator( tenantId, id, routingKey );
+			orchestrator.submit(
+					future,
+					factory.add(
+							tenantId, indexManagerContext.getMappedTypeName(), referenceProvider.getEntityIdentifier(),
+							id, indexEntry
+					)
+			);
+		}
+		finally {
+			routingLock.unlock();
+		}
 		return future;
 	}
 }
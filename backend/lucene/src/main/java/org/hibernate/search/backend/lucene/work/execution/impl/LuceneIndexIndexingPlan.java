@@ -11,6 +11,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
@@ -36,7 +37,7 @@
 	private final DocumentCommitStrategy commitStrategy;
 	private final DocumentRefreshStrategy refreshStrategy;
 
-	private final Map<LuceneSerialWorkOrchestrator, List<SingleDocumentIndexingWork>> worksByOrchestrator = new HashMap<>();
+	private final List<RoutedWork> works = new ArrayList<>();
 
 	public LuceneIndexIndexingPlan(LuceneWorkFactory factory,
 			WorkExecutionIndexManagerContext indexManagerContext,
@@ -99,7 +100,20 @@ public void process() {
 
 	@Override
 	public CompletableFuture<IndexIndexingPlanExecutionReport<R>> executeAndReport() {
+		// Route works when executing rather than when collecting them,
+		// so that the routing is up-to-date even if the shards changed in-between, e.g. because they were split.
+		Lock routingLock = indexManagerContext.getIndexingRoutingLock();
+		routingLock.lock();
 		try {
+			Map<LuceneSerialWorkOrchestrator, List<SingleDocumentIndexingWork>> worksByOrchestrator = new HashMap<>();
+			for ( RoutedWork routedWork : works ) {
+				// Route the work to the appropriate shard
+				LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.getIndexingOrchestrator(
+						tenantId, routedWork.documentId, routedWork.routingKey );
+				worksByOrchestrator.computeIfAbsent( orchestrator, ignored -> new ArrayList<>() )
+						.add( routedWork.work );
+			}
+
 			List<CompletableFuture<IndexIndexingPlanExecutionReport<R>>> shardReportFutures = new ArrayList<>();
 			for ( Map.Entry<LuceneSerialWorkOrchestrator, List<SingleDocumentIndexingWork>> entry : worksByOrchestrator.entrySet() ) {
 				LuceneSerialWorkOrchestrator orchestrator = entry.getKey();
@@ -114,24 +128,29 @@ public CompletableFuture<IndexIndexingPlanExecutionReport<R>> executeAndReport()
 			return IndexIndexingPlanExecutionReport.allOf( shardReportFutures );
 		}
 		finally {
-			worksByOrchestrator.clear();
+			routingLock.unlock();
+			works.clear();
 		}
 	}
 
 	@Override
 	public void discard() {
-		worksByOrchestrator.clear();
+		works.clear();
 	}
 
 	private void collect(String documentId, String routingKey, SingleDocumentIndexingWork work) {
-		// Route the work to the appropriate shard
-		LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.getIndexingOrchestrator( documentId, routingKey );
+		works.add( new RoutedWork( documentId, routingKey, work ) );
+	}
+
+	private static final class RoutedWork {
+		private final String documentId;
+		private final String routingKey;
+		private final SingleDocumentIndexingWork work;
 
-		List<SingleDocumentIndexingWork> works = worksByOrchestrator.get( orchestrator );
-		if ( works == null ) {
-			works = new ArrayList<>();
-			worksByOrchestrator.put( orchestrator, works );
+		private RoutedWork(String documentId, String routingKey, SingleDocumentIndexingWork work) {
+			this.documentId = documentId;
+			this.routingKey = routingKey;
+			this.work = work;
 		}
-		works.add( work );
 	}
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.work.execution.impl;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -32,13 +33,13 @@ public LuceneIndexWorkspace(LuceneWorkFactory factory,
 
 	@Override
 	public CompletableFuture<?> mergeSegments() {
-		return doSubmit( indexManagerContext.getAllManagementOrchestrators(), factory.mergeSegments(), false );
+		return doSubmit( allManagementOrchestrators(), factory.mergeSegments(), false );
 	}
 
 	@Override
 	public CompletableFuture<?> purge(Set<String> routingKeys) {
 		return doSubmit(
-				indexManagerContext.getManagementOrchestrators( routingKeys ),
+				indexManagerContext.getManagementOrchestrators( sessionContext.getTenantIdentifier(), routingKeys ),
 				factory.deleteAll( sessionContext.getTenantIdentifier(), routingKeys ),
 				true
 		);
@@ -46,12 +47,18 @@ public CompletableFuture<?> purge(Set<String> routingKeys) {
 
 	@Override
 	public CompletableFuture<?> flush() {
-		return doSubmit( indexManagerContext.getAllManagementOrchestrators(), factory.flush(), false );
+		return doSubmit( allManagementOrchestrators(), factory.flush(), false );
 	}
 
 	@Override
 	public CompletableFuture<?> refresh() {
-		return doSubmit( indexManagerContext.getAllManagementOrchestrators(), factory.refresh(), false );
+		return doSubmit( allManagementOrchestrators(), factory.refresh(), false );
+	}
+
+	private List<LuceneParallelWorkOrchestrator> allManagementOrchestrators() {
+		return indexManagerContext.getManagementOrchestrators(
+				sessionContext.getTenantIdentifier(), Collections.emptySet()
+		);
 	}
 
 	private <T> CompletableFuture<?> doSubmit(List<LuceneParallelWorkOrchestrator> orchestrators,
@@ -8,6 +8,7 @@
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
 
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
@@ -29,9 +30,19 @@ public interface WorkExecutionIndexManagerContext {
 
 	String getMappedTypeName();
 
-	LuceneSerialWorkOrchestrator getIndexingOrchestrator(String documentId, String routingKey);
-
-	List<LuceneParallelWorkOrchestrator> getManagementOrchestrators(Set<String> routingKeys);
-
-	List<LuceneParallelWorkOrchestrator> getAllManagementOrchestrators();
+	/**
+	 * @return A lock to hold while {@link #getIndexingOrchestrator(String, String, String) routing} indexing works
+	 * and submitting them to the orchestrators,
+	 * so that the shards do not change in-between, e.g. because they are being split.
+	 */
+	Lock getIndexingRoutingLock();
+
+	LuceneSerialWorkOrchestrator getIndexingOrchestrator(String tenantId, String documentId, String routingKey);
+
+	/**
+	 * @param tenantId The tenant identifier.
+	 * @param routingKeys The routing keys, or an empty set to target all shards.
+	 * @return The orchestrators of the targeted shards.
+	 */
+	List<LuceneParallelWorkOrchestrator> getManagementOrchestrators(String tenantId, Set<String> routingKeys);
 }
@@ -10,6 +10,7 @@
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.IndexSearcher;
@@ -20,17 +21,19 @@ public class CountWork implements ReadWork<Integer> {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final LuceneSearcher<?> searcher;
+	private final TimeoutManager timeoutManager;
 
-	CountWork(LuceneSearcher<?> searcher) {
+	CountWork(LuceneSearcher<?> searcher, TimeoutManager timeoutManager) {
 		this.searcher = searcher;
+		this.timeoutManager = timeoutManager;
 	}
 
 	@Override
 	public Integer execute(ReadWorkExecutionContext context) {
 		try {
-			IndexSearcher indexSearcher = new IndexSearcher( context.getIndexReader() );
+			IndexSearcher indexSearcher = context.createIndexSearcher();
 
-			return searcher.count( indexSearcher );
+			return searcher.count( indexSearcher, timeoutManager );
 		}
 		catch (IOException e) {
 			throw log.ioExceptionOnQueryExecution( searcher.getLuceneQueryForExceptions(), context.getEventContext(), e );
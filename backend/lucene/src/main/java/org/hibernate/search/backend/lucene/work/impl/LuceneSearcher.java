@@ -8,23 +8,26 @@
 
 import java.io.IOException;
 
-import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public interface LuceneSearcher<R> {
 
-	R search(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit) throws IOException;
+	/**
+	 * @param timeoutManager The timeout manager of this particular execution, already started.
+	 * @param after The last hit of the previous page, to only return hits sorted after it,
+	 * or {@code null} to return hits starting from {@code offset}.
+	 */
+	R search(ReadWorkExecutionContext context, TimeoutManager timeoutManager, int offset, Integer limit, ScoreDoc after)
+			throws IOException;
 
-	int count(IndexSearcher indexSearcher) throws IOException;
+	int count(IndexSearcher indexSearcher, TimeoutManager timeoutManager) throws IOException;
 
 	Explanation explain(IndexSearcher indexSearcher, int luceneDocId) throws IOException;
 
 	Query getLuceneQueryForExceptions();
-
-	void setTimeoutManager(TimeoutManager timeoutManager);
 }
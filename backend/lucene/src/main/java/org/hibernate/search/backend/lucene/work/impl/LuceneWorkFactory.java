@@ -9,9 +9,11 @@
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 
 public interface LuceneWorkFactory {
@@ -38,9 +40,15 @@ SingleDocumentIndexingWork update(String tenantId, String entityTypeName, Object
 
 	IndexManagementWork<?> deleteAll(String tenantId, Set<String> routingKeys);
 
-	<R> ReadWork<R> search(LuceneSearcher<R> searcher, Integer offset, Integer limit);
+	<R> ReadWork<R> search(LuceneSearcher<R> searcher, TimeoutManager timeoutManager, Integer offset, Integer limit);
 
-	ReadWork<Integer> count(LuceneSearcher<?> searcher);
+	/**
+	 * @param after The last hit of the previous page, obtained from a search on the same index reader.
+	 * Only hits sorted after this one will be returned.
+	 */
+	<R> ReadWork<R> searchAfter(LuceneSearcher<R> searcher, TimeoutManager timeoutManager, ScoreDoc after, Integer limit);
+
+	ReadWork<Integer> count(LuceneSearcher<?> searcher, TimeoutManager timeoutManager);
 
 	ReadWork<Explanation> explain(LuceneSearcher<?> searcher,
 			String explainedDocumentIndexName, String explainedDocumentId, Query explainedDocumentFilter);
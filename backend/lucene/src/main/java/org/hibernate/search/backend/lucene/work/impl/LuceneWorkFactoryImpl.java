@@ -14,10 +14,13 @@
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public class LuceneWorkFactoryImpl implements LuceneWorkFactory {
 
@@ -67,16 +70,16 @@ public SingleDocumentIndexingWork add(String tenantId, String entityTypeName, Ob
 	@Override
 	public SingleDocumentIndexingWork update(String tenantId, String entityTypeName, Object entityIdentifier,
 			String documentIdentifier, LuceneIndexEntry indexEntry) {
-		Query filter = multiTenancyStrategy.getFilterOrNull( tenantId );
+		Term documentIdTerm = multiTenancyStrategy.getDocumentIdTerm( tenantId, documentIdentifier );
 		return new UpdateEntryWork( tenantId, entityTypeName, entityIdentifier,
-				documentIdentifier, filter, indexEntry );
+				documentIdentifier, documentIdTerm, indexEntry );
 	}
 
 	@Override
 	public SingleDocumentIndexingWork delete(String tenantId, String entityTypeName, Object entityIdentifier,
 			String documentIdentifier) {
-		Query filter = multiTenancyStrategy.getFilterOrNull( tenantId );
-		return new DeleteEntryWork( tenantId, entityTypeName, entityIdentifier, documentIdentifier, filter );
+		Term documentIdTerm = multiTenancyStrategy.getDocumentIdTerm( tenantId, documentIdentifier );
+		return new DeleteEntryWork( tenantId, entityTypeName, entityIdentifier, documentIdentifier, documentIdTerm );
 	}
 
 	@Override
@@ -94,13 +97,20 @@ public IndexManagementWork<?> deleteAll(String tenantId, Set<String> routingKeys
 	}
 
 	@Override
-	public <R> ReadWork<R> search(LuceneSearcher<R> searcher, Integer offset, Integer limit) {
-		return new SearchWork<>( searcher, offset, limit );
+	public <R> ReadWork<R> search(LuceneSearcher<R> searcher, TimeoutManager timeoutManager,
+			Integer offset, Integer limit) {
+		return new SearchWork<>( searcher, timeoutManager, offset, limit, null );
+	}
+
+	@Override
+	public <R> ReadWork<R> searchAfter(LuceneSearcher<R> searcher, TimeoutManager timeoutManager,
+			ScoreDoc after, Integer limit) {
+		return new SearchWork<>( searcher, timeoutManager, null, limit, after );
 	}
 
 	@Override
-	public ReadWork<Integer> count(LuceneSearcher<?> searcher) {
-		return new CountWork( searcher );
+	public ReadWork<Integer> count(LuceneSearcher<?> searcher, TimeoutManager timeoutManager) {
+		return new CountWork( searcher, timeoutManager );
 	}
 
 	@Override
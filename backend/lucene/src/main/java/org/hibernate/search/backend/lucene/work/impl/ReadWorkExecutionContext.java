@@ -6,18 +6,32 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import java.time.Duration;
+
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
 
 
 public interface ReadWorkExecutionContext {
 
 	IndexReader getIndexReader();
 
+	/**
+	 * @return A new searcher for the {@link #getIndexReader() index reader},
+	 * searching shards in parallel if the backend is configured to.
+	 */
+	IndexSearcher createIndexSearcher();
+
 	IndexReaderMetadataResolver getIndexReaderMetadataResolver();
 
+	/**
+	 * @return The time it took to open the {@link #getIndexReader() index reader}.
+	 */
+	Duration getIndexReaderAcquisitionTime();
+
 	EventContext getEventContext();
 
 }
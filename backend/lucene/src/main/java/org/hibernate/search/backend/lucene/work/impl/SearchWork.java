@@ -10,36 +10,38 @@
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
-import org.apache.lucene.search.IndexSearcher;
-
+import org.apache.lucene.search.ScoreDoc;
 
 public class SearchWork<R> implements ReadWork<R> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final LuceneSearcher<R> searcher;
+	private final TimeoutManager timeoutManager;
 
 	private final int offset;
 	private final Integer limit;
+	private final ScoreDoc after;
 
 	SearchWork(LuceneSearcher<R> searcher,
+			TimeoutManager timeoutManager,
 			Integer offset,
-			Integer limit) {
+			Integer limit,
+			ScoreDoc after) {
 		this.offset = offset == null ? 0 : offset;
 		this.limit = limit;
+		this.after = after;
 		this.searcher = searcher;
+		this.timeoutManager = timeoutManager;
 	}
 
 	@Override
 	public R execute(ReadWorkExecutionContext context) {
 		try {
-			IndexSearcher indexSearcher = new IndexSearcher( context.getIndexReader() );
-
-			return searcher.search(
-					indexSearcher, context.getIndexReaderMetadataResolver(), offset, limit
-			);
+			return searcher.search( context, timeoutManager, offset, limit, after );
 		}
 		catch (IOException e) {
 			throw log.ioExceptionOnQueryExecution( searcher.getLuceneQueryForExceptions(), context.getEventContext(), e );
@@ -53,6 +55,7 @@ public String toString() {
 				.append( "searcher=" ).append( searcher )
 				.append( ", offset=" ).append( offset )
 				.append( ", limit=" ).append( limit )
+				.append( ", after=" ).append( after )
 				.append( "]" );
 		return sb.toString();
 	}
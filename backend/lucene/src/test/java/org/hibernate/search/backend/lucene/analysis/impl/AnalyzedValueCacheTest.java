@@ -0,0 +1,202 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.analysis.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+public class AnalyzedValueCacheTest {
+
+	private static final String FIELD = "text";
+
+	private final AtomicInteger analysisCount = new AtomicInteger();
+	private final Analyzer analyzer = new CountingAnalyzer( analysisCount );
+
+	private Directory directory;
+
+	@Before
+	public void setup() {
+		directory = new ByteBuffersDirectory();
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		analyzer.close();
+		directory.close();
+	}
+
+	@Test
+	public void replay() throws IOException {
+		AnalyzedValueCache cache = new AnalyzedValueCache( analyzer, 10, Long.MAX_VALUE );
+
+		try ( IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig( analyzer ) ) ) {
+			for ( int i = 0; i < 3; i++ ) {
+				Document document = createDocument( String.valueOf( i ), "The Quick brown fox", "Jumps over the dog" );
+				cache.preAnalyze( document );
+				writer.addDocument( document );
+			}
+		}
+
+		// Each distinct value was only analyzed once
+		assertThat( analysisCount ).hasValue( 2 );
+		assertThat( cache.size() ).isEqualTo( 2 );
+
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			IndexSearcher searcher = new IndexSearcher( reader );
+			assertThat( searcher.count( new TermQuery( new Term( FIELD, "quick" ) ) ) ).isEqualTo( 3 );
+			assertThat( searcher.count( phrase( "brown", "fox" ) ) ).isEqualTo( 3 );
+			// Positions of the second value are shifted by the position increment gap, as without the cache
+			assertThat( searcher.count( phrase( "fox", "jumps" ) ) ).isEqualTo( 0 );
+			// Stored values are unaffected
+			assertThat( searcher.doc( 0 ).getValues( FIELD ) )
+					.containsExactly( "The Quick brown fox", "Jumps over the dog" );
+		}
+	}
+
+	@Test
+	public void eviction() throws IOException {
+		AnalyzedValueCache cache = new AnalyzedValueCache( analyzer, 1, Long.MAX_VALUE );
+
+		cache.preAnalyze( createDocument( "1", "first" ) );
+		cache.preAnalyze( createDocument( "2", "second" ) );
+		cache.preAnalyze( createDocument( "3", "first" ) );
+
+		assertThat( analysisCount ).hasValue( 3 );
+		assertThat( cache.size() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void eviction_memory() {
+		// All values have the same length, hence the same estimated memory usage
+		long entryRamBytes = ramBytesUsedFor( "valuea" );
+		assertThat( entryRamBytes ).isPositive();
+		long maxRamBytes = AnalyzedValueCache.MAX_ENTRY_RAM_FRACTION * entryRamBytes;
+		AnalyzedValueCache cache = new AnalyzedValueCache( analyzer, 100, maxRamBytes );
+
+		for ( char i = 'a'; i <= 'z'; i++ ) {
+			cache.preAnalyze( createDocument( String.valueOf( i ), "value" + i ) );
+		}
+
+		assertThat( analysisCount ).hasValue( 1 + 26 );
+		assertThat( cache.size() ).isEqualTo( AnalyzedValueCache.MAX_ENTRY_RAM_FRACTION );
+		assertThat( cache.ramBytesUsed() ).isEqualTo( maxRamBytes );
+	}
+
+	@Test
+	public void largeValue() {
+		long maxRamBytes = AnalyzedValueCache.MAX_ENTRY_RAM_FRACTION * ramBytesUsedFor( "small value" );
+		AnalyzedValueCache cache = new AnalyzedValueCache( analyzer, 100, maxRamBytes );
+
+		StringBuilder largeValue = new StringBuilder();
+		for ( int i = 0; i < 1000; i++ ) {
+			largeValue.append( "word" ).append( i ).append( ' ' );
+		}
+		for ( int i = 0; i < 2; i++ ) {
+			Document document = createDocument( String.valueOf( i ), "small value", largeValue.toString() );
+			cache.preAnalyze( document );
+			for ( IndexableField field : document.getFields( FIELD ) ) {
+				assertThat( field.tokenStream( analyzer, null ) ).isNotNull();
+			}
+		}
+
+		// The large value is analyzed every time instead of evicting the rest of the cache
+		assertThat( analysisCount ).hasValue( 1 + 1 + 2 );
+		assertThat( cache.size() ).isEqualTo( 1 );
+		assertThat( cache.ramBytesUsed() ).isLessThanOrEqualTo( maxRamBytes );
+	}
+
+	@Test
+	public void nonAnalyzedFields() {
+		AnalyzedValueCache cache = new AnalyzedValueCache( analyzer, 10, Long.MAX_VALUE );
+
+		Document document = new Document();
+		StringField field = new StringField( FIELD, "some value", Field.Store.NO );
+		document.add( field );
+		cache.preAnalyze( document );
+
+		assertThat( field.tokenStreamValue() ).isNull();
+		assertThat( analysisCount ).hasValue( 0 );
+	}
+
+	private long ramBytesUsedFor(String value) {
+		AnalyzedValueCache cache = new AnalyzedValueCache( analyzer, 1, Long.MAX_VALUE );
+		cache.preAnalyze( createDocument( "0", value ) );
+		return cache.ramBytesUsed();
+	}
+
+	private static Document createDocument(String id, String... values) {
+		Document document = new Document();
+		document.add( new StringField( "id", id, Field.Store.YES ) );
+		for ( String value : values ) {
+			document.add( new TextField( FIELD, value, Field.Store.YES ) );
+		}
+		return document;
+	}
+
+	private static Query phrase(String... terms) {
+		return new PhraseQuery( FIELD, terms );
+	}
+
+	private static class CountingAnalyzer extends Analyzer {
+		private final AtomicInteger analysisCount;
+
+		private CountingAnalyzer(AtomicInteger analysisCount) {
+			this.analysisCount = analysisCount;
+		}
+
+		@Override
+		protected TokenStreamComponents createComponents(String fieldName) {
+			Tokenizer tokenizer = new StandardTokenizer();
+			TokenStream stream = new TokenFilter( new LowerCaseFilter( tokenizer ) ) {
+				@Override
+				public boolean incrementToken() throws IOException {
+					return input.incrementToken();
+				}
+
+				@Override
+				public void reset() throws IOException {
+					super.reset();
+					analysisCount.incrementAndGet();
+				}
+			};
+			return new TokenStreamComponents( tokenizer, stream );
+		}
+
+		@Override
+		public int getPositionIncrementGap(String fieldName) {
+			return 100;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+public class SortedSetDocValuesReaderStateCacheTest {
+
+	private static final String FIELD = FacetsConfig.DEFAULT_INDEX_FIELD_NAME;
+	private static final String DIMENSION = "color";
+
+	private final SortedSetDocValuesReaderStateCache cache = new SortedSetDocValuesReaderStateCache();
+	private final FacetsConfig facetsConfig = new FacetsConfig();
+
+	private Directory directory1;
+	private Directory directory2;
+
+	@Before
+	public void setup() throws IOException {
+		directory1 = createIndex( "red", "blue", "red" );
+		directory2 = createIndex( "green", "red" );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		directory1.close();
+		directory2.close();
+	}
+
+	@Test
+	public void reuseAcrossTopLevelReaders_evictOnClose() throws IOException {
+		DirectoryReader reader1 = DirectoryReader.open( directory1 );
+		DirectoryReader reader2 = DirectoryReader.open( directory2 );
+
+		SortedSetDocValuesReaderState firstState;
+		try ( MultiReader firstTopLevelReader = createTopLevelReader( reader1, reader2 ) ) {
+			firstState = cache.getOrCreate( firstTopLevelReader, FIELD );
+			assertThat( firstState.getReader() ).isSameAs( firstTopLevelReader );
+			assertThat( cache.size() ).isEqualTo( 1 );
+			assertCounts( firstTopLevelReader, firstState );
+		}
+
+		try ( MultiReader secondTopLevelReader = createTopLevelReader( reader1, reader2 ) ) {
+			SortedSetDocValuesReaderState secondState = cache.getOrCreate( secondTopLevelReader, FIELD );
+			// The underlying state was reused
+			assertThat( secondState.getPrefixToOrdRange() ).isSameAs( firstState.getPrefixToOrdRange() );
+			assertThat( secondState.getReader() ).isSameAs( secondTopLevelReader );
+			assertThat( cache.size() ).isEqualTo( 1 );
+			assertCounts( secondTopLevelReader, secondState );
+		}
+
+		reader1.close();
+		assertThat( cache.size() ).isZero();
+		reader2.close();
+	}
+
+	@Test
+	public void clear() throws IOException {
+		try ( DirectoryReader reader = DirectoryReader.open( directory1 ) ) {
+			cache.getOrCreate( reader, FIELD );
+			assertThat( cache.size() ).isEqualTo( 1 );
+
+			cache.clear();
+			assertThat( cache.size() ).isZero();
+
+			// The cache remains usable after being cleared
+			SortedSetDocValuesReaderState state = cache.getOrCreate( reader, FIELD );
+			assertThat( cache.size() ).isEqualTo( 1 );
+			assertThat( state.getSize() ).isEqualTo( 2 );
+		}
+		assertThat( cache.size() ).isZero();
+	}
+
+	private void assertCounts(IndexReader topLevelReader, SortedSetDocValuesReaderState state) throws IOException {
+		FacetsCollector facetsCollector = new FacetsCollector();
+		FacetsCollector.search( new IndexSearcher( topLevelReader ), new MatchAllDocsQuery(), 10, facetsCollector );
+		FacetResult result = new SortedSetDocValuesFacetCounts( state, facetsCollector )
+				.getTopChildren( 10, DIMENSION );
+		assertThat( result.value ).isEqualTo( 5 );
+		assertThat( result.labelValues[0].label ).isEqualTo( "red" );
+		assertThat( result.labelValues[0].value ).isEqualTo( 3 );
+	}
+
+	private static MultiReader createTopLevelReader(IndexReader... subReaders) throws IOException {
+		// Do not close sub-readers when closing the top-level reader, like HibernateSearchMultiReader
+		return new MultiReader( subReaders, false );
+	}
+
+	private Directory createIndex(String... values) throws IOException {
+		Directory directory = new ByteBuffersDirectory();
+		try ( IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig( new StandardAnalyzer() ) ) ) {
+			for ( String value : values ) {
+				Document document = new Document();
+				document.add( new SortedSetDocValuesFacetField( DIMENSION, value ) );
+				writer.addDocument( facetsConfig.build( document ) );
+				// Create multiple segments
+				writer.commit();
+			}
+		}
+		return directory;
+	}
+}
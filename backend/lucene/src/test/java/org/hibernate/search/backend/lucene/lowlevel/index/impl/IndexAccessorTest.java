@@ -47,6 +47,7 @@ public class IndexAccessorTest extends EasyMockSupport {
 	public void start() throws IOException {
 		resetAll();
 		directoryHolderMock.start();
+		indexWriterProviderMock.replayTranslogIfNecessary();
 		replayAll();
 		accessor.start();
 		verifyAll();
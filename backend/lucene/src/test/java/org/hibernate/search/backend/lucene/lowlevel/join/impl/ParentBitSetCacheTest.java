@@ -0,0 +1,166 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.join.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.join.BitSetProducer;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BitSet;
+
+public class ParentBitSetCacheTest {
+
+	private static final String TYPE_FIELD = "type";
+	private static final Query PARENT_QUERY = new TermQuery( new Term( TYPE_FIELD, "parent" ) );
+	private static final Query CHILD_QUERY = new TermQuery( new Term( TYPE_FIELD, "child" ) );
+
+	private Directory directory;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		try ( IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig( new StandardAnalyzer() ) ) ) {
+			// Two segments, each with two blocks of one child and one parent
+			for ( int segment = 0; segment < 2; segment++ ) {
+				for ( int block = 0; block < 2; block++ ) {
+					writer.addDocument( document( "child" ) );
+					writer.addDocument( document( "parent" ) );
+				}
+				writer.commit();
+			}
+		}
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		directory.close();
+	}
+
+	@Test
+	public void reuseAcrossProducers_evictOnClose() throws IOException {
+		ParentBitSetCache cache = new ParentBitSetCache( Long.MAX_VALUE );
+
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			assertThat( reader.leaves() ).hasSize( 2 );
+			LeafReaderContext leaf = reader.leaves().get( 0 );
+
+			BitSet firstBitSet = cache.producer( PARENT_QUERY ).getBitSet( leaf );
+			assertThat( firstBitSet.get( 0 ) ).isFalse();
+			assertThat( firstBitSet.get( 1 ) ).isTrue();
+			assertThat( firstBitSet.cardinality() ).isEqualTo( 2 );
+			assertThat( cache.size() ).isEqualTo( 1 );
+			assertThat( cache.ramBytesUsed() ).isGreaterThan( 0L );
+
+			// Another producer for an equal query, e.g. in another search, reuses the bitset
+			BitSetProducer secondProducer = cache.producer( new TermQuery( new Term( TYPE_FIELD, "parent" ) ) );
+			assertThat( secondProducer ).isEqualTo( cache.producer( PARENT_QUERY ) );
+			assertThat( secondProducer.getBitSet( leaf ) ).isSameAs( firstBitSet );
+			assertThat( cache.size() ).isEqualTo( 1 );
+
+			// Different queries and different segments get their own bitset
+			cache.producer( CHILD_QUERY ).getBitSet( leaf );
+			cache.producer( PARENT_QUERY ).getBitSet( reader.leaves().get( 1 ) );
+			assertThat( cache.size() ).isEqualTo( 3 );
+		}
+
+		assertThat( cache.size() ).isEqualTo( 0 );
+		assertThat( cache.ramBytesUsed() ).isEqualTo( 0L );
+	}
+
+	@Test
+	public void evictLeastRecentlyUsed() throws IOException {
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			LeafReaderContext leaf1 = reader.leaves().get( 0 );
+			LeafReaderContext leaf2 = reader.leaves().get( 1 );
+
+			ParentBitSetCache unboundedCache = new ParentBitSetCache( Long.MAX_VALUE );
+			unboundedCache.producer( PARENT_QUERY ).getBitSet( leaf1 );
+			long entryRamBytes = unboundedCache.ramBytesUsed();
+
+			// Room for two entries only
+			ParentBitSetCache cache = new ParentBitSetCache( 2 * entryRamBytes );
+			BitSet parents1 = cache.producer( PARENT_QUERY ).getBitSet( leaf1 );
+			cache.producer( CHILD_QUERY ).getBitSet( leaf1 );
+			// Access the first entry, so that the second one becomes the least recently used
+			assertThat( cache.producer( PARENT_QUERY ).getBitSet( leaf1 ) ).isSameAs( parents1 );
+
+			cache.producer( PARENT_QUERY ).getBitSet( leaf2 );
+			assertThat( cache.size() ).isEqualTo( 2 );
+			assertThat( cache.ramBytesUsed() ).isLessThanOrEqualTo( 2 * entryRamBytes );
+			assertThat( cache.producer( PARENT_QUERY ).getBitSet( leaf1 ) ).isSameAs( parents1 );
+		}
+	}
+
+	@Test
+	public void noMatch() throws IOException {
+		ParentBitSetCache cache = new ParentBitSetCache( Long.MAX_VALUE );
+
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			Query query = new TermQuery( new Term( TYPE_FIELD, "unknown" ) );
+			assertThat( cache.producer( query ).getBitSet( reader.leaves().get( 0 ) ) ).isNull();
+			// Absence of matches is cached too
+			assertThat( cache.size() ).isEqualTo( 1 );
+		}
+	}
+
+	@Test
+	public void disabled() throws IOException {
+		ParentBitSetCache cache = new ParentBitSetCache( 0L );
+
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			LeafReaderContext leaf = reader.leaves().get( 0 );
+			BitSet bitSet = cache.producer( PARENT_QUERY ).getBitSet( leaf );
+			assertThat( bitSet.cardinality() ).isEqualTo( 2 );
+			assertThat( cache.producer( PARENT_QUERY ).getBitSet( leaf ) ).isNotSameAs( bitSet );
+			assertThat( cache.size() ).isEqualTo( 0 );
+		}
+	}
+
+	@Test
+	public void clear() throws IOException {
+		ParentBitSetCache cache = new ParentBitSetCache( Long.MAX_VALUE );
+
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			LeafReaderContext leaf = reader.leaves().get( 0 );
+			BitSet bitSet = cache.producer( PARENT_QUERY ).getBitSet( leaf );
+			assertThat( cache.size() ).isEqualTo( 1 );
+
+			cache.clear();
+			assertThat( cache.size() ).isEqualTo( 0 );
+			assertThat( cache.ramBytesUsed() ).isEqualTo( 0L );
+
+			assertThat( cache.producer( PARENT_QUERY ).getBitSet( leaf ) ).isNotSameAs( bitSet );
+			assertThat( cache.size() ).isEqualTo( 1 );
+		}
+
+		assertThat( cache.size() ).isEqualTo( 0 );
+	}
+
+	private static Document document(String type) {
+		Document document = new Document();
+		document.add( new StringField( TYPE_FIELD, type, Field.Store.NO ) );
+		return document;
+	}
+}
@@ -0,0 +1,304 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.translog.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.analysis.impl.AnalyzedValueCache;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.FeatureField;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+public class TranslogTest {
+
+	private static final EventContext EVENT_CONTEXT = EventContexts.fromIndexName( "SomeIndexName" );
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private Path translogDirectory;
+	private Directory targetDirectory;
+	private IndexWriter targetWriter;
+
+	@Before
+	public void setup() throws IOException {
+		translogDirectory = temporaryFolder.newFolder( "translog" ).toPath();
+		targetDirectory = FSDirectory.open( temporaryFolder.newFolder( "target" ).toPath() );
+		targetWriter = new IndexWriter( targetDirectory, new IndexWriterConfig( new StandardAnalyzer() ) );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		targetWriter.close();
+		targetDirectory.close();
+	}
+
+	@Test
+	public void replay() throws IOException {
+		try ( Translog translog = Translog.open( translogDirectory, EVENT_CONTEXT ) ) {
+			assertThat( translog.hasRecoveredGenerations() ).isFalse();
+			translog.add( block( "1", "first text" ) );
+			translog.add( block( "2", "second text" ) );
+			translog.update( new Term( MetadataFields.idFieldName(), "1" ), block( "1", "updated text" ) );
+			translog.delete( new Term( MetadataFields.idFieldName(), "2" ) );
+			translog.add( block( "3", "third text" ) );
+			assertThat( translog.requiresCommit() ).isFalse();
+		}
+
+		assertThat( replayIntoTarget( Collections.emptyMap() ) ).isEqualTo( 5 );
+
+		try ( DirectoryReader reader = DirectoryReader.open( targetWriter ) ) {
+			IndexSearcher searcher = new IndexSearcher( reader );
+			assertThat( idsMatching( searcher, new TermQuery( new Term( "type", "main" ) ) ) )
+					.containsExactlyInAnyOrder( "1", "3" );
+			assertThat( idsMatching( searcher, new TermQuery( new Term( "text", "updated" ) ) ) )
+					.containsExactly( "1" );
+			assertThat( idsMatching( searcher, new TermQuery( new Term( "text", "first" ) ) ) )
+					.isEmpty();
+			assertThat( idsMatching( searcher, IntPoint.newExactQuery( "point", 3 ) ) )
+					.containsExactly( "3" );
+			// Nested documents are replayed too
+			assertThat( searcher.count( new TermQuery( new Term( "type", "child" ) ) ) ).isEqualTo( 2 );
+			// Stored values are replayed
+			TopDocs topDocs = searcher.search( new TermQuery( new Term( MetadataFields.idFieldName(), "3" ) ), 10 );
+			Document stored = searcher.doc( topDocs.scoreDocs[topDocs.scoreDocs.length - 1].doc );
+			assertThat( stored.getField( "stored" ).numericValue() ).isEqualTo( 3 );
+		}
+	}
+
+	@Test
+	public void replay_preAnalyzed() throws IOException {
+		try ( StandardAnalyzer analyzer = new StandardAnalyzer();
+				Translog translog = Translog.open( translogDirectory, EVENT_CONTEXT ) ) {
+			AnalyzedValueCache cache = new AnalyzedValueCache( analyzer, 10, Long.MAX_VALUE );
+			for ( String id : Arrays.asList( "1", "2" ) ) {
+				Document document = rootDocument( id, "cached text" );
+				cache.preAnalyze( document );
+				assertThat( ( (Field) document.getField( "text" ) ).tokenStreamValue() ).isNotNull();
+				translog.add( Collections.singletonList( document ) );
+			}
+			// Pre-analyzed fields are recorded as their string value
+			assertThat( translog.requiresCommit() ).isFalse();
+		}
+
+		assertThat( replayIntoTarget( Collections.emptyMap() ) ).isEqualTo( 2 );
+
+		try ( DirectoryReader reader = DirectoryReader.open( targetWriter ) ) {
+			assertThat( idsMatching( new IndexSearcher( reader ), new TermQuery( new Term( "text", "cached" ) ) ) )
+					.containsExactlyInAnyOrder( "1", "2" );
+		}
+	}
+
+	@Test
+	public void replay_idempotent() throws IOException {
+		try ( Translog translog = Translog.open( translogDirectory, EVENT_CONTEXT ) ) {
+			translog.add( block( "1", "some text" ) );
+			translog.add( block( "2", "some text" ) );
+		}
+
+		assertThat( replayIntoTarget( Collections.emptyMap() ) ).isEqualTo( 2 );
+		// Replaying changes that were already applied must not duplicate documents
+		assertThat( replayIntoTarget( Collections.emptyMap() ) ).isEqualTo( 2 );
+
+		try ( DirectoryReader reader = DirectoryReader.open( targetWriter ) ) {
+			assertThat( new IndexSearcher( reader ).count( new TermQuery( new Term( "type", "main" ) ) ) )
+					.isEqualTo( 2 );
+		}
+	}
+
+	@Test
+	public void replay_skipsCommittedGenerations() throws IOException {
+		Map<String, String> commitData = new HashMap<>();
+		try ( Translog translog = Translog.open( translogDirectory, EVENT_CONTEXT ) ) {
+			translog.add( block( "1", "some text" ) );
+			long generation = translog.rollGeneration();
+			Translog.commitData( Collections.emptySet(), generation ).forEach( e -> commitData.put( e.getKey(), e.getValue() ) );
+			translog.add( block( "2", "some text" ) );
+		}
+
+		assertThat( replayIntoTarget( commitData ) ).isEqualTo( 1 );
+
+		try ( DirectoryReader reader = DirectoryReader.open( targetWriter ) ) {
+			assertThat( idsMatching( new IndexSearcher( reader ), new TermQuery( new Term( "type", "main" ) ) ) )
+					.containsExactly( "2" );
+		}
+	}
+
+	@Test
+	public void deleteGenerationsBefore() throws IOException {
+		try ( Translog translog = Translog.open( translogDirectory, EVENT_CONTEXT ) ) {
+			translog.add( block( "1", "some text" ) );
+			long generation = translog.rollGeneration();
+			translog.add( block( "2", "some text" ) );
+			translog.flush();
+			assertThat( translogFiles() ).hasSize( 2 );
+			translog.deleteGenerationsBefore( generation );
+			assertThat( translogFiles() ).hasSize( 1 );
+		}
+
+		assertThat( replayIntoTarget( Collections.emptyMap() ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void commitData_preservesOtherValues() {
+		Map<String, String> commitData = new HashMap<>();
+		Translog.commitData( Collections.singletonMap( "someKey", "someValue" ).entrySet(), 3L )
+				.forEach( e -> commitData.put( e.getKey(), e.getValue() ) );
+		assertThat( commitData ).hasSize( 2 ).containsEntry( "someKey", "someValue" );
+	}
+
+	@Test
+	public void sync() throws IOException {
+		Translog translog = Translog.open( translogDirectory, EVENT_CONTEXT );
+		try {
+			translog.add( block( "1", "some text" ) );
+			translog.sync();
+			assertThat( translogFiles() ).hasSize( 1 );
+			// Nothing to sync
+			translog.sync();
+			translog.add( block( "2", "some text" ) );
+		}
+		finally {
+			// Closing flushes, but does not sync
+			translog.close();
+		}
+
+		// A periodic sync may happen after the translog was closed: it must be ignored
+		translog.sync();
+		assertThat( translogFiles() ).hasSize( 1 );
+
+		assertThat( replayIntoTarget( Collections.emptyMap() ) ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void replay_tornRecord() throws IOException {
+		try ( Translog translog = Translog.open( translogDirectory, EVENT_CONTEXT ) ) {
+			translog.add( block( "1", "some text" ) );
+			translog.add( block( "2", "some text" ) );
+		}
+
+		// Simulate a crash while writing the last record
+		List<Path> files = translogFiles();
+		assertThat( files ).hasSize( 1 );
+		try ( FileChannel channel = FileChannel.open( files.get( 0 ), StandardOpenOption.WRITE ) ) {
+			channel.truncate( channel.size() - 3 );
+		}
+
+		assertThat( replayIntoTarget( Collections.emptyMap() ) ).isEqualTo( 1 );
+
+		try ( DirectoryReader reader = DirectoryReader.open( targetWriter ) ) {
+			assertThat( idsMatching( new IndexSearcher( reader ), new TermQuery( new Term( "type", "main" ) ) ) )
+					.containsExactly( "1" );
+		}
+	}
+
+	@Test
+	public void unsupportedOperations() throws IOException {
+		try ( Translog translog = Translog.open( translogDirectory, EVENT_CONTEXT ) ) {
+			// Fields computing their token stream on the fly cannot be serialized
+			Document document = rootDocument( "1", "some text" );
+			document.add( new FeatureField( "feature", "name", 1.0f ) );
+			translog.add( Collections.singletonList( document ) );
+			assertThat( translog.requiresCommit() ).isTrue();
+
+			translog.rollGeneration();
+			assertThat( translog.requiresCommit() ).isFalse();
+
+			// Additions of documents without an identifier cannot be replayed idempotently
+			translog.add( Collections.singletonList( new Document() ) );
+			assertThat( translog.requiresCommit() ).isTrue();
+		}
+
+		assertThat( replayIntoTarget( Collections.emptyMap() ) ).isZero();
+	}
+
+	private int replayIntoTarget(Map<String, String> commitData) throws IOException {
+		try ( Translog translog = Translog.open( translogDirectory, EVENT_CONTEXT ) ) {
+			return translog.replay( commitData, targetWriter );
+		}
+	}
+
+	private List<Path> translogFiles() throws IOException {
+		try ( Stream<Path> files = Files.list( translogDirectory ) ) {
+			return files.collect( Collectors.toList() );
+		}
+	}
+
+	private static List<String> idsMatching(IndexSearcher searcher, Query query)
+			throws IOException {
+		TopDocs topDocs = searcher.search( query, 100 );
+		return Arrays.stream( topDocs.scoreDocs )
+				.map( scoreDoc -> {
+					try {
+						return searcher.doc( scoreDoc.doc ).get( "stored_id" );
+					}
+					catch (IOException e) {
+						throw new IllegalStateException( e );
+					}
+				} )
+				.collect( Collectors.toList() );
+	}
+
+	private static List<Document> block(String id, String text) {
+		Document child = new Document();
+		child.add( new StringField( "type", "child", Field.Store.NO ) );
+		child.add( MetadataFields.searchableMetadataField( MetadataFields.idFieldName(), id ) );
+		return Arrays.asList( child, rootDocument( id, text ) );
+	}
+
+	private static Document rootDocument(String id, String text) {
+		int intValue = Integer.parseInt( id );
+		Document root = new Document();
+		root.add( new StringField( "type", "main", Field.Store.NO ) );
+		root.add( MetadataFields.searchableRetrievableMetadataField( MetadataFields.idFieldName(), id ) );
+		root.add( new StoredField( "stored_id", id ) );
+		root.add( new TextField( "text", text, Field.Store.NO ) );
+		root.add( new IntPoint( "point", intValue ) );
+		root.add( new NumericDocValuesField( "docvalues", intValue ) );
+		root.add( new StoredField( "stored", intValue ) );
+		return root;
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.lucene.metrics.impl.NoOpLuceneWriteMetrics;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.FilterDirectory;
+import org.awaitility.Awaitility;
+
+public class IndexWriterDelegatorImplTest {
+
+	private volatile CountDownLatch commitBlocked;
+	private volatile CountDownLatch commitUnblocked;
+	private final AtomicInteger commitCount = new AtomicInteger();
+
+	private CommitCountingDirectory directory;
+	private IndexWriter writer;
+	private IndexWriterDelegatorImpl delegator;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new CommitCountingDirectory();
+		writer = new IndexWriter( directory, new IndexWriterConfig( new StandardAnalyzer() ) );
+		delegator = new IndexWriterDelegatorImpl( writer, null, EventContexts.fromIndexName( "SomeIndexName" ),
+				null, null, 0, 0, NoOpLuceneWriteMetrics.get(), null, null );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		if ( commitUnblocked != null ) {
+			commitUnblocked.countDown();
+		}
+		writer.close();
+		directory.close();
+	}
+
+	@Test
+	public void commit_concurrent_grouped() throws Exception {
+		List<Thread> waitingThreads = new ArrayList<>();
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+
+		blockNextCommit();
+		futures.add( addAndCommitInBackground( "1", null ) );
+		awaitCommitBlocked();
+
+		// The first commit is in progress: other commits requested now must wait.
+		for ( int i = 2; i <= 5; i++ ) {
+			futures.add( addAndCommitInBackground( String.valueOf( i ), waitingThreads ) );
+		}
+		awaitAllBlocked( waitingThreads );
+
+		// Let the first commit complete, and block the next one, which will be for one of the waiting threads.
+		CountDownLatch firstCommitUnblocked = commitUnblocked;
+		blockNextCommit();
+		firstCommitUnblocked.countDown();
+		awaitCommitBlocked();
+
+		// Changes applied after the second commit started must not lead to more commits from the waiting threads:
+		// their changes are already being committed.
+		writer.addDocument( document( "6" ) );
+		commitUnblocked.countDown();
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).get( 10, TimeUnit.SECONDS );
+
+		// The waiting threads were all served by a single commit
+		assertThat( commitCount.get() ).isEqualTo( 2 );
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			assertThat( reader.numDocs() ).isEqualTo( 5 );
+		}
+
+		// The next commit request leads to a new commit
+		delegator.commit();
+		assertThat( commitCount.get() ).isEqualTo( 3 );
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			assertThat( reader.numDocs() ).isEqualTo( 6 );
+		}
+	}
+
+	@Test
+	public void commit_sequential() throws IOException {
+		writer.addDocument( document( "1" ) );
+		delegator.commit();
+		writer.addDocument( document( "2" ) );
+		delegator.commit();
+
+		// Each commit request issued after the previous commit leads to a new commit
+		assertThat( commitCount.get() ).isEqualTo( 2 );
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			assertThat( reader.numDocs() ).isEqualTo( 2 );
+		}
+	}
+
+	private void blockNextCommit() {
+		commitBlocked = new CountDownLatch( 1 );
+		commitUnblocked = new CountDownLatch( 1 );
+		directory.blockNextCommit = true;
+	}
+
+	private void awaitCommitBlocked() throws InterruptedException {
+		assertThat( commitBlocked.await( 10, TimeUnit.SECONDS ) ).isTrue();
+	}
+
+	private static void awaitAllBlocked(List<Thread> threads) {
+		Awaitility.await().atMost( 10, TimeUnit.SECONDS ).until( () -> {
+			synchronized ( threads ) {
+				return threads.stream().allMatch( t -> t.getState() == Thread.State.BLOCKED );
+			}
+		} );
+	}
+
+	private CompletableFuture<?> addAndCommitInBackground(String id, List<Thread> threads) {
+		CompletableFuture<?> future = new CompletableFuture<>();
+		Thread thread = new Thread( () -> {
+			try {
+				writer.addDocument( document( id ) );
+				delegator.commit();
+				future.complete( null );
+			}
+			catch (Throwable e) {
+				future.completeExceptionally( e );
+			}
+		} );
+		if ( threads != null ) {
+			synchronized ( threads ) {
+				threads.add( thread );
+			}
+		}
+		thread.start();
+		return future;
+	}
+
+	private static Document document(String id) {
+		Document document = new Document();
+		document.add( new StringField( "id", id, Field.Store.NO ) );
+		return document;
+	}
+
+	private class CommitCountingDirectory extends FilterDirectory {
+		private volatile boolean blockNextCommit = false;
+
+		private CommitCountingDirectory() {
+			super( new ByteBuffersDirectory() );
+		}
+
+		@Override
+		public void rename(String source, String dest) throws IOException {
+			if ( dest.startsWith( IndexFileNames.SEGMENTS ) ) {
+				// Lucene renames the pending segments file once per commit
+				commitCount.incrementAndGet();
+				if ( blockNextCommit ) {
+					blockNextCommit = false;
+					CountDownLatch unblocked = commitUnblocked;
+					commitBlocked.countDown();
+					try {
+						unblocked.await();
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new IOException( e );
+					}
+				}
+			}
+			super.rename( source, dest );
+		}
+	}
+}
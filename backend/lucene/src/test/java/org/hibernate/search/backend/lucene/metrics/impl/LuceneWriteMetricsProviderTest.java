@@ -0,0 +1,197 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.metrics.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.hibernate.search.backend.lucene.metrics.LuceneWriteMetricsMBean;
+import org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetrics;
+import org.hibernate.search.backend.lucene.metrics.spi.LuceneWriteMetricsFactory;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+
+import org.junit.Test;
+
+public class LuceneWriteMetricsProviderTest {
+
+	private static final String BACKEND_NAME = "metricsTestBackend";
+	private static final String INDEX_NAME = "metricsTestIndex";
+
+	private final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+	@Test
+	public void disabled() {
+		try ( LuceneWriteMetricsProvider provider = new LuceneWriteMetricsProvider( BACKEND_NAME, false, null ) ) {
+			assertThat( provider.create( INDEX_NAME, Optional.empty(), Optional.empty() ) )
+					.isSameAs( NoOpLuceneWriteMetrics.get() );
+		}
+	}
+
+	@Test
+	public void statistics() {
+		SimpleLuceneWriteMetrics metrics = new SimpleLuceneWriteMetrics();
+		AtomicInteger queue0 = new AtomicInteger( 3 );
+		AtomicInteger queue1 = new AtomicInteger( 5 );
+		metrics.registerQueue( 0, queue0::get );
+		metrics.registerQueue( 1, queue1::get );
+
+		metrics.batchExecuted( 2, TimeUnit.MILLISECONDS.toNanos( 10 ) );
+		metrics.batchExecuted( 6, TimeUnit.MILLISECONDS.toNanos( 30 ) );
+		metrics.commitExecuted( TimeUnit.MILLISECONDS.toNanos( 4 ) );
+		metrics.mergeExecuted( 100, TimeUnit.MILLISECONDS.toNanos( 50 ) );
+
+		assertThat( metrics.getQueueDepths() ).containsExactly( 3, 5 );
+		assertThat( metrics.getTotalQueueDepth() ).isEqualTo( 8 );
+		queue1.set( 0 );
+		assertThat( metrics.getTotalQueueDepth() ).isEqualTo( 3 );
+
+		assertThat( metrics.getBatchCount() ).isEqualTo( 2L );
+		assertThat( metrics.getBatchedWorkCount() ).isEqualTo( 8L );
+		assertThat( metrics.getAverageBatchSize() ).isEqualTo( 4.0 );
+		assertThat( metrics.getMaxBatchSize() ).isEqualTo( 6L );
+		assertThat( metrics.getAverageBatchTimeMillis() ).isEqualTo( 20.0 );
+		assertThat( metrics.getCommitCount() ).isEqualTo( 1L );
+		assertThat( metrics.getMaxCommitTimeMillis() ).isEqualTo( 4.0 );
+		assertThat( metrics.getRefreshCount() ).isZero();
+		assertThat( metrics.getAverageRefreshTimeMillis() ).isZero();
+		assertThat( metrics.getMergeCount() ).isEqualTo( 1L );
+		assertThat( metrics.getMergedDocumentCount() ).isEqualTo( 100L );
+
+		metrics.reset();
+		assertThat( metrics.getBatchCount() ).isZero();
+		assertThat( metrics.getMaxBatchSize() ).isZero();
+		assertThat( metrics.getMergedDocumentCount() ).isZero();
+		// Queues are not affected by a reset
+		assertThat( metrics.getTotalQueueDepth() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void jmx() throws JMException {
+		ObjectName indexName = new ObjectName( LuceneWriteMetricsMBean.JMX_DOMAIN
+				+ ":type=WriteMetrics,backend=" + ObjectName.quote( BACKEND_NAME )
+				+ ",index=" + ObjectName.quote( INDEX_NAME ) );
+		ObjectName shardName = new ObjectName( indexName + ",shard=" + ObjectName.quote( "1" ) );
+
+		try ( LuceneWriteMetricsProvider provider = new LuceneWriteMetricsProvider( BACKEND_NAME, true, null ) ) {
+			LuceneWriteMetrics metrics = provider.create( INDEX_NAME, Optional.empty(), Optional.empty() );
+			LuceneWriteMetrics shardMetrics = provider.create( INDEX_NAME, Optional.empty(), Optional.of( "1" ) );
+			try {
+				assertThat( server.isRegistered( indexName ) ).isTrue();
+				assertThat( server.isRegistered( shardName ) ).isTrue();
+
+				metrics.registerQueue( 0, () -> 7 );
+				metrics.commitExecuted( TimeUnit.MILLISECONDS.toNanos( 1 ) );
+				assertThat( server.getAttribute( indexName, "TotalQueueDepth" ) ).isEqualTo( 7 );
+				assertThat( server.getAttribute( indexName, "CommitCount" ) ).isEqualTo( 1L );
+				assertThat( server.getAttribute( shardName, "CommitCount" ) ).isEqualTo( 0L );
+
+			}
+			finally {
+				metrics.close();
+				shardMetrics.close();
+			}
+			assertThat( server.isRegistered( indexName ) ).isFalse();
+			assertThat( server.isRegistered( shardName ) ).isFalse();
+		}
+	}
+
+	@Test
+	public void jmx_tenant() throws JMException {
+		ObjectName tenantName = new ObjectName( LuceneWriteMetricsMBean.JMX_DOMAIN
+				+ ":type=WriteMetrics,backend=" + ObjectName.quote( BACKEND_NAME )
+				+ ",index=" + ObjectName.quote( INDEX_NAME )
+				+ ",tenant=" + ObjectName.quote( "tenant_1" ) );
+		ObjectName tenantShardName = new ObjectName( tenantName + ",shard=" + ObjectName.quote( "1" ) );
+
+		try ( LuceneWriteMetricsProvider provider = new LuceneWriteMetricsProvider( BACKEND_NAME, true, null ) ) {
+			LuceneWriteMetrics metrics = provider.create( INDEX_NAME, Optional.of( "tenant_1" ), Optional.empty() );
+			LuceneWriteMetrics shardMetrics = provider.create( INDEX_NAME, Optional.of( "tenant_1" ), Optional.of( "1" ) );
+			try {
+				assertThat( server.isRegistered( tenantName ) ).isTrue();
+				assertThat( server.isRegistered( tenantShardName ) ).isTrue();
+			}
+			finally {
+				metrics.close();
+				shardMetrics.close();
+			}
+			assertThat( server.isRegistered( tenantName ) ).isFalse();
+			assertThat( server.isRegistered( tenantShardName ) ).isFalse();
+		}
+	}
+
+	@Test
+	public void jmx_reopenBeforeClose() throws JMException {
+		ObjectName tenantName = new ObjectName( LuceneWriteMetricsMBean.JMX_DOMAIN
+				+ ":type=WriteMetrics,backend=" + ObjectName.quote( BACKEND_NAME )
+				+ ",index=" + ObjectName.quote( INDEX_NAME )
+				+ ",tenant=" + ObjectName.quote( "tenant_1" ) );
+
+		try ( LuceneWriteMetricsProvider provider = new LuceneWriteMetricsProvider( BACKEND_NAME, true, null ) ) {
+			LuceneWriteMetrics previous = provider.create( INDEX_NAME, Optional.of( "tenant_1" ), Optional.empty() );
+			LuceneWriteMetrics reopened = null;
+			try {
+				// The index is opened again while its previous instance is still being closed:
+				// the new instance takes over the name
+				reopened = provider.create( INDEX_NAME, Optional.of( "tenant_1" ), Optional.empty() );
+				reopened.commitExecuted( 1L );
+				assertThat( server.getAttribute( tenantName, "CommitCount" ) ).isEqualTo( 1L );
+
+				// Closing the previous instance must not unregister the new one
+				previous.close();
+				assertThat( server.isRegistered( tenantName ) ).isTrue();
+				assertThat( server.getAttribute( tenantName, "CommitCount" ) ).isEqualTo( 1L );
+			}
+			finally {
+				previous.close();
+				if ( reopened != null ) {
+					reopened.close();
+				}
+			}
+			assertThat( server.isRegistered( tenantName ) ).isFalse();
+		}
+	}
+
+	@Test
+	public void customFactory_tenant() {
+		List<Optional<String>> shardIds = new ArrayList<>();
+		LuceneWriteMetricsFactory factory = (index, shardId) -> {
+			shardIds.add( shardId );
+			return NoOpLuceneWriteMetrics.get();
+		};
+		try ( LuceneWriteMetricsProvider provider =
+				new LuceneWriteMetricsProvider( BACKEND_NAME, false, BeanHolder.of( factory ) ) ) {
+			provider.create( INDEX_NAME, Optional.of( "tenant_1" ), Optional.empty() );
+			provider.create( INDEX_NAME, Optional.of( "tenant_1" ), Optional.of( "1" ) );
+			provider.create( INDEX_NAME, Optional.empty(), Optional.of( "1" ) );
+		}
+		// Custom factories get the tenant identifier as a prefix of the shard identifier
+		assertThat( shardIds ).containsExactly(
+				Optional.of( "tenant_1" ), Optional.of( "tenant_1/1" ), Optional.of( "1" ) );
+	}
+
+	@Test
+	public void customFactory() {
+		SimpleLuceneWriteMetrics custom = new SimpleLuceneWriteMetrics();
+		LuceneWriteMetricsFactory factory = (index, shardId) -> custom;
+		try ( LuceneWriteMetricsProvider provider =
+				new LuceneWriteMetricsProvider( BACKEND_NAME, false, BeanHolder.of( factory ) ) ) {
+			LuceneWriteMetrics metrics = provider.create( INDEX_NAME, Optional.empty(), Optional.empty() );
+			assertThat( metrics ).isSameAs( custom );
+			metrics.refreshExecuted( 1L );
+			assertThat( custom.getRefreshCount() ).isEqualTo( 1L );
+		}
+	}
+}
@@ -17,6 +17,7 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.backend.lucene.metrics.impl.NoOpLuceneWriteMetrics;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWorkExecutionContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
@@ -38,7 +39,7 @@ public class LuceneBatchedWorkProcessorTest extends EasyMockSupport {
 	private IndexWriterDelegator indexWriterDelegatorMock = createStrictMock( IndexWriterDelegator.class );
 
 	private LuceneBatchedWorkProcessor processor = new LuceneBatchedWorkProcessor(
-			indexEventContext, indexAccessorMock
+			indexEventContext, indexAccessorMock, NoOpLuceneWriteMetrics.get()
 	);
 
 	private List<IndexingWork<?>> workMocks = new ArrayList<>();
@@ -113,7 +114,7 @@ public void error_workExecute() throws IOException {
 	@Test
 	public void forceCommit() {
 		resetAll();
-		indexAccessorMock.commit();
+		indexAccessorMock.commitOrSyncTranslog();
 		replayAll();
 		processor.forceCommit();
 		verifyAll();
@@ -123,7 +124,7 @@ public void forceCommit() {
 	public void error_forceCommit() throws IOException {
 		RuntimeException commitException = new RuntimeException( "Some message" );
 		resetAll();
-		indexAccessorMock.commit();
+		indexAccessorMock.commitOrSyncTranslog();
 		expectLastCall().andThrow( commitException );
 		indexAccessorMock.cleanUpAfterFailure( commitException, "Commit after a set of index works" );
 		replayAll();
@@ -0,0 +1,164 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
+import org.hibernate.search.backend.lucene.metrics.impl.NoOpLuceneWriteMetrics;
+import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
+import org.hibernate.search.backend.lucene.work.impl.IndexingWorkExecutionContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.easymock.EasyMockSupport;
+
+public class WorkStealingBatchingExecutorTest extends EasyMockSupport {
+
+	private static final int QUEUE_COUNT = 4;
+	private static final int QUEUE_SIZE = 50;
+	private static final int KEY_COUNT = 20;
+	private static final int WORKS_PER_KEY = 20;
+
+	private final IndexAccessor indexAccessorMock = createNiceMock( IndexAccessor.class );
+	private final FailureHandler failureHandlerMock = createMock( FailureHandler.class );
+
+	private ExecutorService executorService;
+	private WorkStealingBatchingExecutor executor;
+
+	private final Map<String, List<Integer>> executedSequenceNumbers = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> concurrentExecutionsPerKey = new ConcurrentHashMap<>();
+	private final AtomicInteger concurrentExecutions = new AtomicInteger();
+	private final AtomicInteger maxConcurrentExecutions = new AtomicInteger();
+	private final AtomicInteger maxConcurrentExecutionsPerKey = new AtomicInteger();
+
+	@Before
+	public void start() {
+		replayAll();
+		executorService = Executors.newFixedThreadPool( QUEUE_COUNT );
+		executor = new WorkStealingBatchingExecutor(
+				"SomeName",
+				new LuceneBatchedWorkProcessor( EventContexts.fromIndexName( "SomeIndexName" ), indexAccessorMock,
+						NoOpLuceneWriteMetrics.get() ),
+				QUEUE_COUNT, QUEUE_SIZE, failureHandlerMock
+		);
+		executor.start( executorService );
+	}
+
+	@After
+	public void stop() throws InterruptedException {
+		executor.stop();
+		executorService.shutdownNow();
+		executorService.awaitTermination( 10, TimeUnit.SECONDS );
+		verifyAll();
+	}
+
+	@Test
+	public void skewedWorks() throws InterruptedException, ExecutionException, TimeoutException {
+		// All works are routed to the same queue
+		List<String> keys = keysRoutedToQueue( 0 );
+
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int sequenceNumber = 0; sequenceNumber < WORKS_PER_KEY; sequenceNumber++ ) {
+			for ( String key : keys ) {
+				CompletableFuture<Void> future = new CompletableFuture<>();
+				executor.submit( new LuceneBatchedWork<>( new RecordingWork( key, sequenceNumber ), future ) );
+				futures.add( future );
+			}
+		}
+
+		executor.getCompletion().get( 30, TimeUnit.SECONDS );
+		assertThat( futures ).allMatch( CompletableFuture::isDone );
+
+		// Idle queues helped the busy one
+		assertThat( maxConcurrentExecutions.get() ).isGreaterThan( 1 );
+
+		// ... without executing works relative to the same document concurrently or out of order
+		assertThat( maxConcurrentExecutionsPerKey.get() ).isEqualTo( 1 );
+		assertThat( executedSequenceNumbers ).hasSize( KEY_COUNT );
+		List<Integer> expectedSequenceNumbers = new ArrayList<>();
+		for ( int i = 0; i < WORKS_PER_KEY; i++ ) {
+			expectedSequenceNumbers.add( i );
+		}
+		for ( List<Integer> sequenceNumbers : executedSequenceNumbers.values() ) {
+			assertThat( sequenceNumbers ).containsExactlyElementsOf( expectedSequenceNumbers );
+		}
+	}
+
+	private static List<String> keysRoutedToQueue(int queueIndex) {
+		Integer[] queueIndexes = new Integer[QUEUE_COUNT];
+		for ( int i = 0; i < QUEUE_COUNT; i++ ) {
+			queueIndexes[i] = i;
+		}
+		List<String> keys = new ArrayList<>();
+		for ( int i = 0; keys.size() < KEY_COUNT; i++ ) {
+			String key = "document_" + i;
+			if ( SimpleHashFunction.pick( queueIndexes, key ) == queueIndex ) {
+				keys.add( key );
+			}
+		}
+		return keys;
+	}
+
+	private class RecordingWork implements IndexingWork<Void> {
+		private final String key;
+		private final int sequenceNumber;
+
+		private RecordingWork(String key, int sequenceNumber) {
+			this.key = key;
+			this.sequenceNumber = sequenceNumber;
+		}
+
+		@Override
+		public Void execute(IndexingWorkExecutionContext context) {
+			AtomicInteger keyExecutions = concurrentExecutionsPerKey.computeIfAbsent( key, ignored -> new AtomicInteger() );
+			maxConcurrentExecutionsPerKey.accumulateAndGet( keyExecutions.incrementAndGet(), Math::max );
+			maxConcurrentExecutions.accumulateAndGet( concurrentExecutions.incrementAndGet(), Math::max );
+			try {
+				Thread.sleep( 1 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			finally {
+				executedSequenceNumbers.computeIfAbsent( key, ignored -> Collections.synchronizedList( new ArrayList<>() ) )
+						.add( sequenceNumber );
+				concurrentExecutions.decrementAndGet();
+				keyExecutions.decrementAndGet();
+			}
+			return null;
+		}
+
+		@Override
+		public Object getInfo() {
+			return key + "#" + sequenceNumber;
+		}
+
+		@Override
+		public String getQueuingKey() {
+			return key;
+		}
+	}
+}
@@ -118,6 +118,13 @@ public void submit(BatchedWork<? super P> work) throws InterruptedException {
 		processingTask.ensureScheduled();
 	}
 
+	/**
+	 * @return The number of works currently waiting in the queue of this executor.
+	 */
+	public int getQueueSize() {
+		return workQueue.size();
+	}
+
 	/**
 	 * @return A future that completes when all works submitted to the executor so far are completely executed.
 	 * Works submitted to the executor after entering this method may delay the wait.
@@ -309,4 +309,30 @@ void configurationPropertyTrackingUnusedProperties(Set<String> propertyKeys, Str
 			value = "The background failure handler threw an exception while handling a previous failure."
 					+ " The failure may not have been reported.")
 	void failureInFailureHandler(@Cause Throwable t);
+
+	@Message(id = ID_OFFSET_2 + 70,
+			value = "Invalid slow query log sampling rate: '%1$s'. The sampling rate must be between 0 and 1, inclusive.")
+	SearchException invalidSlowQueryLogSamplingRate(double samplingRate);
+
+	@Message(id = ID_OFFSET_2 + 71,
+			value = "Invalid slow query log maximum query length: '%1$s'. The maximum length must be strictly positive.")
+	SearchException invalidSlowQueryLogMaxQueryLength(int maxQueryLength);
+
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = ID_OFFSET_2 + 72,
+			value = "Slow search query: execution took %1$sms, exceeding the threshold of %2$sms."
+					+ " Targeted indexes: %3$s. Total hit count: %4$s. Projection: %5$s. Query: %6$s")
+	void slowQueryWarn(long executionTimeMs, long thresholdMs, Collection<String> indexNames,
+			String hitCount, Object projection, String query);
+
+	@LogMessage(level = Logger.Level.INFO)
+	@Message(id = ID_OFFSET_2 + 73,
+			value = "Slow search query: execution took %1$sms, exceeding the threshold of %2$sms."
+					+ " Targeted indexes: %3$s. Total hit count: %4$s. Projection: %5$s. Query: %6$s")
+	void slowQueryInfo(long executionTimeMs, long thresholdMs, Collection<String> indexNames,
+			String hitCount, Object projection, String query);
+
+	@Message(id = ID_OFFSET_2 + 74,
+			value = "Invalid slow query log threshold: '%1$s'. Thresholds must be positive or zero.")
+	SearchException invalidSlowQueryLogThreshold(long thresholdMs);
 }
@@ -69,6 +69,9 @@ public interface EngineEventContextMessages {
 	@Message(value = "shard '%1$s'")
 	String shard(String shardId);
 
+	@Message(value = "tenant '%1$s'")
+	String tenant(String tenantId);
+
 	@Message(value = "schema validation")
 	String schemaValidation();
 
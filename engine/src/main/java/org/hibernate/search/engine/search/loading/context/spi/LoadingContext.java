@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.search.loading.context.spi;
 
+import java.util.concurrent.Executor;
+
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
 
 /**
@@ -19,4 +21,13 @@
 
 	ProjectionHitMapper<R, E> getProjectionHitMapper();
 
+	/**
+	 * @return The executor to load data with when a query is executed asynchronously.
+	 * Defaults to loading data in the thread that completed query execution,
+	 * which is only appropriate if loading is cheap and non-blocking.
+	 */
+	default Executor getLoadingExecutor() {
+		return Runnable::run;
+	}
+
 }
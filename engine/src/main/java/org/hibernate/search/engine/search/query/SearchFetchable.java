@@ -8,6 +8,7 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.util.common.SearchException;
@@ -140,4 +141,69 @@
 	 */
 	List<H> fetchAllHits();
 
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} of the {@link SearchResult},
+	 * limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult},
+	 * or completed exceptionally if something goes wrong, see {@link #fetch(Integer)}.
+	 */
+	CompletionStage<SearchResult<H>> fetchAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} of the {@link SearchResult},
+	 * skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * The calling thread is not blocked while the query executes.
+	 * Data is loaded from the mapper (e.g. entities are loaded from the database)
+	 * once query execution completes, in a thread chosen by the mapper.
+	 * Mapper resources used for loading (e.g. the Hibernate ORM session) must not be used
+	 * until the returned {@link CompletionStage} completes.
+	 * The mapper may refuse to load asynchronously, in which case this method throws an exception
+	 * (e.g. the Hibernate ORM mapper does when the session is joined to a JTA transaction).
+	 *
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult},
+	 * or completed exceptionally if something goes wrong, see {@link #fetch(Integer, Integer)}.
+	 */
+	CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} of the hits as a {@link List},
+	 * limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the query hits,
+	 * or completed exceptionally if something goes wrong, see {@link #fetchHits(Integer)}.
+	 */
+	CompletionStage<List<H>> fetchHitsAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} of the hits as a {@link List},
+	 * skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param offset The number of hits to skip. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the query hits,
+	 * or completed exceptionally if something goes wrong, see {@link #fetchHits(Integer, Integer)}.
+	 */
+	CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} of the total hit count.
+	 *
+	 * @return A {@link CompletionStage} that will be completed with the total number of matching entities,
+	 * ignoring pagination settings,
+	 * or completed exceptionally if something goes wrong, see {@link #fetchTotalHitCount()}.
+	 */
+	CompletionStage<Long> fetchTotalHitCountAsync();
+
 }
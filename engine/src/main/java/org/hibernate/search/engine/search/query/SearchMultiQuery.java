@@ -0,0 +1,58 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.SearchTimeoutException;
+
+/**
+ * A group of search queries, to be executed together
+ * in as few round-trips to the backends as possible.
+ * <p>
+ * Queries targeting the same backend are executed together when the backend supports it,
+ * e.g. through a single multi-search request for Elasticsearch
+ * or a single index reader acquisition for Lucene.
+ * Other queries are executed one after the other.
+ */
+public interface SearchMultiQuery {
+
+	/**
+	 * Add a query to this multi-query, limiting its results to {@code limit} hits.
+	 *
+	 * @param query The query to add.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return {@code this}, for method chaining.
+	 */
+	SearchMultiQuery add(SearchQuery<?> query, Integer limit);
+
+	/**
+	 * Add a query to this multi-query, skipping {@code offset} hits and limiting its results to {@code limit} hits.
+	 *
+	 * @param query The query to add.
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return {@code this}, for method chaining.
+	 */
+	SearchMultiQuery add(SearchQuery<?> query, Integer offset, Integer limit);
+
+	/**
+	 * Execute all added queries and return their results.
+	 *
+	 * @return The {@link SearchResult} of each query, in the order queries were added.
+	 * @throws SearchException If something goes wrong while executing one of the queries.
+	 * @throws SearchTimeoutException If a
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#failAfter(long, TimeUnit) failure timeout was set}
+	 * on one of the queries and was reached while executing that query.
+	 * @throws RuntimeException If something goes wrong while loading entities. The exact type depends on the mapper,
+	 * e.g. HibernateException/PersistenceException for the Hibernate ORM mapper.
+	 */
+	List<SearchResult<?>> fetch();
+
+}
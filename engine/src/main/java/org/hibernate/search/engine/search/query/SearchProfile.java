@@ -0,0 +1,26 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * The time spent in each phase of the execution of a search query.
+ * <p>
+ * Only available when the query was executed with
+ * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#profile() profiling enabled}.
+ */
+public interface SearchProfile {
+
+	/**
+	 * @return The time spent in each phase of the query execution, in execution order.
+	 * Phase names are backend-specific: refer to the documentation of each backend.
+	 */
+	Map<String, Duration> getPhaseDurations();
+
+}
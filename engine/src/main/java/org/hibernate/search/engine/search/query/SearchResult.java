@@ -8,6 +8,7 @@
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 
@@ -21,6 +22,14 @@
 	 */
 	long getTotalHitCount();
 
+	/**
+	 * @return {@code true} if the {@link #getTotalHitCount() total hit count} is exact,
+	 * {@code false} if it is only a lower bound because the query
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#totalHitCountThreshold(long) stopped counting hits}
+	 * after reaching a given threshold.
+	 */
+	boolean isTotalHitCountExact();
+
 	/**
 	 * @return The hits as a {@link List} containing one element for each matched entity.
 	 */
@@ -45,4 +54,11 @@
 	 */
 	boolean isTimedOut();
 
+	/**
+	 * @return The time spent in each phase of the query execution,
+	 * or an empty optional if the query was not executed with
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#profile() profiling enabled}.
+	 */
+	Optional<SearchProfile> getProfile();
+
 }
@@ -92,6 +92,40 @@
 	 */
 	S failAfter(long timeout, TimeUnit timeUnit);
 
+	/**
+	 * Stop counting matching documents after a given threshold has been reached.
+	 * <p>
+	 * By default, the {@link SearchResult#getTotalHitCount() total hit count} is exact,
+	 * which requires visiting every single matching document.
+	 * Setting a threshold allows the backend to skip non-competitive documents
+	 * once that many hits have been counted,
+	 * which can dramatically speed up queries matching many documents.
+	 * <p>
+	 * When the threshold is reached, {@link SearchResult#getTotalHitCount()} only returns a lower bound
+	 * and {@link SearchResult#isTotalHitCountExact()} returns {@code false}.
+	 * <p>
+	 * The threshold is handled on a best effort basis:
+	 * some queries (e.g. queries with aggregations) may still return an exact hit count.
+	 *
+	 * @param totalHitCountThreshold The number of hits after which the total hit count
+	 * is allowed to be a lower bound. Must be positive or zero.
+	 * @return {@code this}, for method chaining.
+	 */
+	S totalHitCountThreshold(long totalHitCountThreshold);
+
+	/**
+	 * Measure the time spent in each phase of the query execution.
+	 * <p>
+	 * When profiling is enabled, {@link SearchResult#getProfile()} returns
+	 * the duration of each phase of the query execution, which helps finding out what makes a query slow.
+	 * Phases are backend-specific: refer to the documentation of each backend.
+	 * <p>
+	 * Profiling adds some overhead to the query execution and should not be enabled for every query.
+	 *
+	 * @return {@code this}, for method chaining.
+	 */
+	S profile();
+
 	/**
 	 * Configure entity loading for this query.
 	 * @param loadingOptionsContributor A consumer that will alter the loading options passed in parameter.
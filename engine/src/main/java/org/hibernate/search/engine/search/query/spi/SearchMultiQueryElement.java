@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+/**
+ * A query added to a multi-query, along with its pagination settings.
+ */
+public final class SearchMultiQueryElement {
+
+	private final SearchQueryImplementor<?> query;
+	private final Integer offset;
+	private final Integer limit;
+
+	public SearchMultiQueryElement(SearchQueryImplementor<?> query, Integer offset, Integer limit) {
+		this.query = query;
+		this.offset = offset;
+		this.limit = limit;
+	}
+
+	public SearchQueryImplementor<?> getQuery() {
+		return query;
+	}
+
+	public Integer getOffset() {
+		return offset;
+	}
+
+	public Integer getLimit() {
+		return limit;
+	}
+
+}
@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.List;
+
+import org.hibernate.search.engine.search.query.SearchResult;
+
+/**
+ * A component able to execute multiple queries together.
+ * <p>
+ * Implementations are expected to be shared by all the queries they can execute,
+ * so that callers can group queries by executor.
+ */
+public interface SearchMultiQueryExecutor {
+
+	/**
+	 * @param elements The queries to execute, along with their pagination settings.
+	 * Every query is guaranteed to have returned this executor from {@link SearchQueryImplementor#getMultiQueryExecutor()}.
+	 * @return The result of each query, in the same order as {@code elements}.
+	 */
+	List<SearchResult<?>> fetch(List<SearchMultiQueryElement> elements);
+
+}
@@ -26,6 +26,10 @@
 
 	void failAfter(long timeout, TimeUnit timeUnit);
 
+	void totalHitCountThreshold(long totalHitCountThreshold);
+
+	void profile();
+
 	SearchQuery<H> build();
 
 }
@@ -21,4 +21,13 @@
 public interface SearchQueryImplementor<H> extends SearchQuery<H> {
 
 	void failAfter(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * @return The executor able to execute this query along with other queries
+	 * in as few round-trips to the backend as possible,
+	 * or {@code null} if this query must be executed on its own.
+	 */
+	default SearchMultiQueryExecutor getMultiQueryExecutor() {
+		return null;
+	}
 }
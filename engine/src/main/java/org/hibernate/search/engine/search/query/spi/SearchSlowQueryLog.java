@@ -0,0 +1,143 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Logs search queries whose execution took longer than configurable thresholds.
+ * <p>
+ * Queries exceeding the warn threshold are logged at the WARN level,
+ * queries exceeding only the info threshold are logged at the INFO level,
+ * both in the {@link DefaultLogCategories#SLOW_QUERY} category.
+ * Only a sample of slow queries is logged if a sampling rate lower than 1 is set,
+ * and rendered queries are truncated to a maximum length.
+ */
+public final class SearchSlowQueryLog {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+	private static final Log slowQueryLog = LoggerFactory.make( Log.class, DefaultLogCategories.SLOW_QUERY );
+
+	private static final String TRUNCATION_SUFFIX = "...";
+
+	private static final SearchSlowQueryLog DISABLED = new SearchSlowQueryLog( null, null, 1.0, Integer.MAX_VALUE );
+
+	public static SearchSlowQueryLog disabled() {
+		return DISABLED;
+	}
+
+	private final Long warnThresholdMs;
+	private final Long infoThresholdMs;
+	private final double samplingRate;
+	private final int maxQueryLength;
+
+	/**
+	 * @param warnThresholdMs The execution time, in milliseconds, above which queries are logged at the WARN level,
+	 * or {@code null} to never log queries at the WARN level.
+	 * @param infoThresholdMs The execution time, in milliseconds, above which queries are logged at the INFO level,
+	 * or {@code null} to never log queries at the INFO level.
+	 * @param samplingRate The proportion of slow queries that should actually be logged, between 0 and 1.
+	 * @param maxQueryLength The maximum length of the rendered query in logs; longer queries are truncated.
+	 */
+	public SearchSlowQueryLog(Long warnThresholdMs, Long infoThresholdMs, double samplingRate, int maxQueryLength) {
+		checkThreshold( warnThresholdMs );
+		checkThreshold( infoThresholdMs );
+		if ( !( samplingRate >= 0.0 && samplingRate <= 1.0 ) ) {
+			throw log.invalidSlowQueryLogSamplingRate( samplingRate );
+		}
+		if ( maxQueryLength <= 0 ) {
+			throw log.invalidSlowQueryLogMaxQueryLength( maxQueryLength );
+		}
+		this.warnThresholdMs = warnThresholdMs;
+		this.infoThresholdMs = infoThresholdMs;
+		this.samplingRate = samplingRate;
+		this.maxQueryLength = maxQueryLength;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "warnThresholdMs=" + warnThresholdMs
+				+ ", infoThresholdMs=" + infoThresholdMs
+				+ ", samplingRate=" + samplingRate
+				+ ", maxQueryLength=" + maxQueryLength
+				+ "]";
+	}
+
+	/**
+	 * @return {@code true} if at least one threshold is set, {@code false} otherwise.
+	 * Callers can skip measuring execution time if this returns {@code false}.
+	 */
+	public boolean isEnabled() {
+		return warnThresholdMs != null || infoThresholdMs != null;
+	}
+
+	/**
+	 * Logs the given query if its execution time exceeds one of the thresholds.
+	 *
+	 * @param executionTime The time it took to execute the query.
+	 * @param indexNames The names of the targeted indexes.
+	 * @param query The query; only rendered with {@link Object#toString()} if it is actually logged.
+	 * @param hitCount The total hit count.
+	 * @param hitCountExact Whether the total hit count is exact or a lower bound.
+	 * @param projection The projection; only rendered with {@link Object#toString()} if it is actually logged.
+	 */
+	public void onQueryExecuted(Duration executionTime, Collection<String> indexNames, Object query,
+			long hitCount, boolean hitCountExact, Object projection) {
+		long executionTimeMs = executionTime.toMillis();
+		Logger.Level level;
+		if ( warnThresholdMs != null && executionTimeMs >= warnThresholdMs ) {
+			level = Logger.Level.WARN;
+		}
+		else if ( infoThresholdMs != null && executionTimeMs >= infoThresholdMs ) {
+			level = Logger.Level.INFO;
+		}
+		else {
+			return;
+		}
+		if ( !slowQueryLog.isEnabled( level ) ) {
+			return;
+		}
+		if ( samplingRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= samplingRate ) {
+			return;
+		}
+
+		String renderedHitCount = hitCountExact ? String.valueOf( hitCount ) : ">= " + hitCount;
+		String renderedQuery = truncate( String.valueOf( query ) );
+		if ( level == Logger.Level.WARN ) {
+			slowQueryLog.slowQueryWarn( executionTimeMs, warnThresholdMs, indexNames,
+					renderedHitCount, projection, renderedQuery );
+		}
+		else {
+			slowQueryLog.slowQueryInfo( executionTimeMs, infoThresholdMs, indexNames,
+					renderedHitCount, projection, renderedQuery );
+		}
+	}
+
+	private static void checkThreshold(Long thresholdMs) {
+		if ( thresholdMs != null && thresholdMs < 0L ) {
+			throw log.invalidSlowQueryLogThreshold( thresholdMs );
+		}
+	}
+
+	private String truncate(String renderedQuery) {
+		if ( renderedQuery.length() <= maxQueryLength ) {
+			return renderedQuery;
+		}
+		return renderedQuery.substring( 0, maxQueryLength ) + TRUNCATION_SUFFIX;
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.search.query.SearchMultiQuery;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.util.common.impl.Contracts;
+
+/**
+ * A simple implementation of {@link SearchMultiQuery},
+ * grouping queries by {@link SearchQueryImplementor#getMultiQueryExecutor() executor}.
+ */
+public final class SimpleSearchMultiQuery implements SearchMultiQuery {
+
+	private final List<SearchQuery<?>> queries = new ArrayList<>();
+	private final List<Integer> offsets = new ArrayList<>();
+	private final List<Integer> limits = new ArrayList<>();
+
+	@Override
+	public SearchMultiQuery add(SearchQuery<?> query, Integer limit) {
+		return add( query, null, limit );
+	}
+
+	@Override
+	public SearchMultiQuery add(SearchQuery<?> query, Integer offset, Integer limit) {
+		Contracts.assertNotNull( query, "query" );
+		queries.add( query );
+		offsets.add( offset );
+		limits.add( limit );
+		return this;
+	}
+
+	@Override
+	public List<SearchResult<?>> fetch() {
+		SearchResult<?>[] results = new SearchResult<?>[queries.size()];
+
+		// Use a LinkedHashMap for deterministic iteration
+		Map<SearchMultiQueryExecutor, List<Integer>> indicesByExecutor = new LinkedHashMap<>();
+		for ( int i = 0; i < queries.size(); i++ ) {
+			SearchQuery<?> query = queries.get( i );
+			SearchMultiQueryExecutor executor = query instanceof SearchQueryImplementor
+					? ( (SearchQueryImplementor<?>) query ).getMultiQueryExecutor()
+					: null;
+			if ( executor == null ) {
+				// This query cannot be executed along with others
+				results[i] = query.fetch( offsets.get( i ), limits.get( i ) );
+			}
+			else {
+				indicesByExecutor.computeIfAbsent( executor, ignored -> new ArrayList<>() ).add( i );
+			}
+		}
+
+		for ( Map.Entry<SearchMultiQueryExecutor, List<Integer>> entry : indicesByExecutor.entrySet() ) {
+			List<Integer> indices = entry.getValue();
+			List<SearchMultiQueryElement> group = new ArrayList<>( indices.size() );
+			for ( Integer index : indices ) {
+				group.add( new SearchMultiQueryElement( (SearchQueryImplementor<?>) queries.get( index ),
+						offsets.get( index ), limits.get( index ) ) );
+			}
+			List<SearchResult<?>> groupResults = entry.getKey().fetch( group );
+			for ( int j = 0; j < indices.size(); j++ ) {
+				results[indices.get( j )] = groupResults.get( j );
+			}
+		}
+
+		return Arrays.asList( results );
+	}
+
+}
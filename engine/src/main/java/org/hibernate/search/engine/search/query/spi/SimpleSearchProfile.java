@@ -0,0 +1,77 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.engine.search.query.SearchProfile;
+
+public final class SimpleSearchProfile implements SearchProfile {
+
+	private final Map<String, Duration> phaseDurations;
+
+	private SimpleSearchProfile(Builder builder) {
+		this.phaseDurations = Collections.unmodifiableMap( new LinkedHashMap<>( builder.phaseDurations ) );
+	}
+
+	@Override
+	public Map<String, Duration> getPhaseDurations() {
+		return phaseDurations;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + phaseDurations + "]";
+	}
+
+	/**
+	 * Records the duration of phases as a query gets executed.
+	 * <p>
+	 * <strong>WARNING:</strong> this class is not thread-safe.
+	 */
+	public static final class Builder {
+
+		private final Map<String, Duration> phaseDurations = new LinkedHashMap<>();
+
+		private long phaseStartNanos;
+
+		/**
+		 * Starts the timer for the next phase.
+		 */
+		public void startPhase() {
+			phaseStartNanos = System.nanoTime();
+		}
+
+		/**
+		 * Records the time elapsed since the last call to {@link #startPhase()} or {@link #endPhase(String)},
+		 * and starts the timer for the next phase.
+		 *
+		 * @param name The name of the phase that just ended.
+		 */
+		public void endPhase(String name) {
+			long now = System.nanoTime();
+			addPhase( name, Duration.ofNanos( now - phaseStartNanos ) );
+			phaseStartNanos = now;
+		}
+
+		/**
+		 * @param name The name of a phase.
+		 * @param duration The time spent in that phase.
+		 * Added to the time already recorded if the phase was already recorded.
+		 */
+		public void addPhase(String name, Duration duration) {
+			phaseDurations.merge( name, duration, Duration::plus );
+		}
+
+		public SimpleSearchProfile build() {
+			return new SimpleSearchProfile( this );
+		}
+	}
+}
@@ -10,10 +10,12 @@
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.StringJoiner;
 
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchProfile;
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -22,18 +24,33 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final long hitCount;
+	private final boolean hitCountExact;
 	private final List<H> hits;
 	private final Map<AggregationKey<?>, ?> aggregationResults;
 	private final Duration took;
 	private final boolean timedOut;
+	private final SearchProfile profile;
 
 	public SimpleSearchResult(long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
 			Duration took, Boolean timedOut) {
+		this( hitCount, true, hits, aggregationResults, took, timedOut );
+	}
+
+	public SimpleSearchResult(long hitCount, boolean hitCountExact, List<H> hits,
+			Map<AggregationKey<?>, ?> aggregationResults, Duration took, Boolean timedOut) {
+		this( hitCount, hitCountExact, hits, aggregationResults, took, timedOut, null );
+	}
+
+	public SimpleSearchResult(long hitCount, boolean hitCountExact, List<H> hits,
+			Map<AggregationKey<?>, ?> aggregationResults, Duration took, Boolean timedOut,
+			SearchProfile profile) {
 		this.hitCount = hitCount;
+		this.hitCountExact = hitCountExact;
 		this.hits = hits;
 		this.aggregationResults = aggregationResults;
 		this.took = took;
 		this.timedOut = ( timedOut != null ) && timedOut;
+		this.profile = profile;
 	}
 
 	@Override
@@ -41,6 +58,11 @@ public long getTotalHitCount() {
 		return hitCount;
 	}
 
+	@Override
+	public boolean isTotalHitCountExact() {
+		return hitCountExact;
+	}
+
 	@Override
 	public List<H> getHits() {
 		return hits;
@@ -66,14 +88,21 @@ public boolean isTimedOut() {
 		return timedOut;
 	}
 
+	@Override
+	public Optional<SearchProfile> getProfile() {
+		return Optional.ofNullable( profile );
+	}
+
 	@Override
 	public String toString() {
 		return new StringJoiner( ", ", SimpleSearchResult.class.getSimpleName() + "[", "]" )
 				.add( "hitCount=" + hitCount )
+				.add( "hitCountExact=" + hitCountExact )
 				.add( "hits=" + hits )
 				.add( "aggregationResults=" + aggregationResults )
 				.add( "took=" + took )
 				.add( "timedOut=" + timedOut )
+				.add( "profile=" + profile )
 				.toString();
 	}
 }
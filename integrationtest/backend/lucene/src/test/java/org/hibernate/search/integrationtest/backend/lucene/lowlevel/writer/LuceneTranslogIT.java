@@ -0,0 +1,274 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.awaitility.Awaitility;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+/**
+ * Checks that changes recorded in the translog survive a crash
+ * even though they were not committed.
+ * <p>
+ * A crash is simulated by copying the index directory while Hibernate Search is still running,
+ * then starting Hibernate Search on the copy.
+ */
+public class LuceneTranslogIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	// Long enough that no commit happens during the test, unless forced.
+	private static final int COMMIT_INTERVAL = 3_600_000;
+	private static final int TRANSLOG_SYNC_INTERVAL = 10;
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void crashRecovery() throws IOException {
+		Path beforeCrashRoot = temporaryFolder.newFolder( "before-crash" ).toPath();
+		Path afterCrashRoot = temporaryFolder.newFolder( "after-crash" ).toPath();
+
+		setup( beforeCrashRoot, true, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+
+		index( "1", "text 1", DocumentCommitStrategy.FORCE );
+		index( "2", "text 2", DocumentCommitStrategy.FORCE );
+		delete( "1", DocumentCommitStrategy.FORCE );
+
+		// The forced commits only synced the translog: the changes were not committed to the index.
+		assertThat( countDocsOnDisk( beforeCrashRoot ) ).isEqualTo( 0 );
+
+		simulateCrash( beforeCrashRoot, afterCrashRoot );
+
+		setup( afterCrashRoot, true, StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY );
+
+		// The changes were replayed and committed on startup.
+		assertThat( countDocsOnDisk( afterCrashRoot ) ).isEqualTo( 1 );
+		SearchResultAssert.assertThat( indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, "2" );
+	}
+
+	@Test
+	public void crashRecovery_notForced() throws IOException {
+		Path beforeCrashRoot = temporaryFolder.newFolder( "before-crash" ).toPath();
+		Path afterCrashRoot = temporaryFolder.newFolder( "after-crash" ).toPath();
+
+		setup( beforeCrashRoot, true, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+
+		// Changes that do not force a commit are written to the translog at the end of the batch,
+		// and synced to disk periodically.
+		index( "1", "text 1", DocumentCommitStrategy.NONE );
+		// The batch, and thus the write to the translog file, may end after the work completed.
+		// Translog files start with a 16-byte header.
+		Awaitility.await().untilAsserted( () -> assertThat( translogSize( beforeCrashRoot ) ).isGreaterThan( 16L ) );
+
+		assertThat( countDocsOnDisk( beforeCrashRoot ) ).isEqualTo( 0 );
+
+		simulateCrash( beforeCrashRoot, afterCrashRoot );
+
+		setup( afterCrashRoot, true, StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY );
+
+		SearchResultAssert.assertThat( indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+	}
+
+	@Test
+	public void crashRecovery_analysisCache() throws IOException {
+		Path beforeCrashRoot = temporaryFolder.newFolder( "before-crash" ).toPath();
+		Path afterCrashRoot = temporaryFolder.newFolder( "after-crash" ).toPath();
+
+		setup( beforeCrashRoot, true, 10, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+
+		// Analyzed values go through the analysis cache before they are recorded in the translog.
+		index( "1", "some text", DocumentCommitStrategy.FORCE );
+		index( "2", "some text", DocumentCommitStrategy.FORCE );
+
+		// Pre-analyzed values must not prevent the translog from recording changes.
+		assertThat( countDocsOnDisk( beforeCrashRoot ) ).isEqualTo( 0 );
+
+		simulateCrash( beforeCrashRoot, afterCrashRoot );
+
+		setup( afterCrashRoot, true, 10, StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY );
+
+		SearchResultAssert.assertThat( indexManager.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text" ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, "1", "2" );
+	}
+
+	@Test
+	public void crashRecovery_translogDisabled() throws IOException {
+		Path beforeCrashRoot = temporaryFolder.newFolder( "before-crash" ).toPath();
+		Path afterCrashRoot = temporaryFolder.newFolder( "after-crash" ).toPath();
+
+		setup( beforeCrashRoot, false, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+
+		index( "1", "text 1", DocumentCommitStrategy.NONE );
+
+		simulateCrash( beforeCrashRoot, afterCrashRoot );
+
+		setup( afterCrashRoot, false, StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY );
+
+		// Without a translog, changes that were not committed are lost.
+		SearchResultAssert.assertThat( indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery() )
+				.hasNoHits();
+	}
+
+	@Test
+	public void cleanShutdown() throws IOException {
+		Path root = temporaryFolder.newFolder( "root" ).toPath();
+
+		setup( root, true, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY );
+
+		index( "1", "text 1", DocumentCommitStrategy.FORCE );
+		assertThat( translogFileCount( root ) ).isEqualTo( 1 );
+
+		setupHelper.cleanUp();
+
+		// Changes were committed on shutdown, so the translog is no longer necessary.
+		assertThat( countDocsOnDisk( root ) ).isEqualTo( 1 );
+		assertThat( translogFileCount( root ) ).isEqualTo( 0 );
+	}
+
+	private void setup(Path root, boolean translogEnabled, StubMappingSchemaManagementStrategy schemaManagementStrategy) {
+		setup( root, translogEnabled, 0, schemaManagementStrategy );
+	}
+
+	private void setup(Path root, boolean translogEnabled, int analysisCacheSize,
+			StubMappingSchemaManagementStrategy schemaManagementStrategy) {
+		setupHelper.start()
+				.withSchemaManagement( schemaManagementStrategy )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withBackendProperty( LuceneBackendSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneBackendSettings.DIRECTORY_ROOT, root.toAbsolutePath().toString() )
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, COMMIT_INTERVAL )
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_TRANSLOG_ENABLED, translogEnabled )
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_TRANSLOG_SYNC_INTERVAL, TRANSLOG_SYNC_INTERVAL )
+				.withIndexDefaultsProperty( LuceneIndexSettings.INDEXING_ANALYSIS_CACHE_SIZE, analysisCacheSize )
+				.setup();
+	}
+
+	private void index(String id, String value, DocumentCommitStrategy commitStrategy) {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan(
+				new StubBackendSessionContext(), commitStrategy, DocumentRefreshStrategy.NONE
+		);
+		plan.add( referenceProvider( id ), document -> {
+			document.addValue( indexMapping.string, value );
+			document.addValue( indexMapping.text, value );
+		} );
+		plan.execute().join();
+	}
+
+	private void delete(String id, DocumentCommitStrategy commitStrategy) {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan(
+				new StubBackendSessionContext(), commitStrategy, DocumentRefreshStrategy.NONE
+		);
+		plan.delete( referenceProvider( id ) );
+		plan.execute().join();
+	}
+
+	/**
+	 * Copies the files of the index as they are on disk right now,
+	 * which is what the next start will see after a crash.
+	 */
+	private static void simulateCrash(Path sourceRoot, Path targetRoot) throws IOException {
+		Path source = sourceRoot.resolve( INDEX_NAME );
+		Path target = Files.createDirectories( targetRoot.resolve( INDEX_NAME ) );
+		try ( Stream<Path> files = Files.list( source ) ) {
+			for ( Path file : (Iterable<Path>) files::iterator ) {
+				if ( !IndexWriter.WRITE_LOCK_NAME.equals( file.getFileName().toString() ) ) {
+					Files.copy( file, target.resolve( file.getFileName() ) );
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return The number of documents that are committed to the index on disk,
+	 * bypassing Hibernate Search, its index writer and its index readers.
+	 */
+	private static int countDocsOnDisk(Path root) throws IOException {
+		try ( Directory directory = FSDirectory.open( root.resolve( INDEX_NAME ) );
+				DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			return reader.numDocs();
+		}
+	}
+
+	private static long translogFileCount(Path root) throws IOException {
+		try ( Stream<Path> files = Files.list( root.resolve( INDEX_NAME ) ) ) {
+			return files.filter( file -> file.getFileName().toString().endsWith( ".tlog" ) ).count();
+		}
+	}
+
+	private static long translogSize(Path root) throws IOException {
+		long size = 0L;
+		try ( Stream<Path> files = Files.list( root.resolve( INDEX_NAME ) ) ) {
+			for ( Path file : (Iterable<Path>) files::iterator ) {
+				if ( file.getFileName().toString().endsWith( ".tlog" ) ) {
+					size += Files.size( file );
+				}
+			}
+		}
+		return size;
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+		final IndexFieldReference<String> text;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+			text = root.field( "text", f -> f.asString()
+					.analyzer( DefaultAnalysisDefinitions.ANALYZER_STANDARD_ENGLISH.name ) )
+					.toReference();
+		}
+	}
+}
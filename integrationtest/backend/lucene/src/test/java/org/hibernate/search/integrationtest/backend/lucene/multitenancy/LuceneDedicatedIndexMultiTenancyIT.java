@@ -0,0 +1,282 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.multitenancy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.awaitility.Awaitility;
+
+/**
+ * Checks that the "dedicated_index" multi-tenancy strategy gives each tenant its own index,
+ * opened lazily and closed when idle.
+ */
+public class LuceneDedicatedIndexMultiTenancyIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String TENANT_1 = "tenant_1";
+	private static final String TENANT_2 = "tenant_2";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final StubBackendSessionContext tenant1SessionContext = new StubBackendSessionContext( TENANT_1 );
+	private final StubBackendSessionContext tenant2SessionContext = new StubBackendSessionContext( TENANT_2 );
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void isolation() {
+		setup( Function.identity() );
+
+		index( tenant1SessionContext, DOCUMENT_1, "text 1" );
+		index( tenant1SessionContext, DOCUMENT_2, "text 2" );
+		index( tenant2SessionContext, DOCUMENT_1, "text 3" );
+
+		assertMatchAll( tenant1SessionContext, DOCUMENT_1, DOCUMENT_2 );
+		assertMatchAll( tenant2SessionContext, DOCUMENT_1 );
+
+		// Updates and deletes only affect the tenant of the session
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan( tenant2SessionContext );
+		plan.update( referenceProvider( DOCUMENT_1 ), document -> {
+			document.addValue( indexMapping.string, "updated" );
+		} );
+		plan.execute().join();
+		SearchResultAssert.assertThat( indexManager.createScope().query( tenant1SessionContext )
+				.where( f -> f.match().field( "string" ).matching( "updated" ) )
+				.toQuery() )
+				.hasNoHits();
+
+		plan = indexManager.createIndexingPlan( tenant1SessionContext );
+		plan.delete( referenceProvider( DOCUMENT_1 ) );
+		plan.execute().join();
+		assertMatchAll( tenant1SessionContext, DOCUMENT_2 );
+		assertMatchAll( tenant2SessionContext, DOCUMENT_1 );
+
+		// Purges only affect the tenant of the session
+		indexManager.createWorkspace( tenant1SessionContext ).purge( Collections.emptySet() ).join();
+		indexManager.createWorkspace( tenant1SessionContext ).refresh().join();
+		assertNoHits( tenant1SessionContext );
+		assertMatchAll( tenant2SessionContext, DOCUMENT_1 );
+	}
+
+	@Test
+	public void lazyOpening() {
+		setup( Function.identity() );
+
+		Path indexDirectory = temporaryFolder.getRoot().toPath().resolve( INDEX_NAME );
+
+		// No tenant was accessed yet: nothing to open
+		assertThat( shardCount() ).isEqualTo( 0 );
+		assertThat( indexDirectory.resolve( TENANT_1 ) ).doesNotExist();
+
+		index( tenant1SessionContext, DOCUMENT_1, "text 1" );
+
+		assertThat( shardCount() ).isEqualTo( 1 );
+		assertThat( indexDirectory.resolve( TENANT_1 ) ).isDirectory();
+		assertThat( indexDirectory.resolve( TENANT_2 ) ).doesNotExist();
+
+		// Searching creates the (empty) index if necessary
+		assertNoHits( tenant2SessionContext );
+
+		assertThat( shardCount() ).isEqualTo( 2 );
+		assertThat( indexDirectory.resolve( TENANT_2 ) ).isDirectory();
+	}
+
+	@Test
+	public void idleClosing() {
+		setup( c -> c.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_TENANT_IDLE_TIMEOUT, 200 ) );
+
+		index( tenant1SessionContext, DOCUMENT_1, "text 1" );
+		assertThat( shardCount() ).isEqualTo( 1 );
+
+		Awaitility.await().atMost( 10, TimeUnit.SECONDS )
+				.until( () -> shardCount() == 0 );
+
+		// The index is re-opened on next access, with its content intact
+		assertMatchAll( tenant1SessionContext, DOCUMENT_1 );
+		assertThat( shardCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void accessDuringIdleClosing() throws InterruptedException {
+		setup( c -> c.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_TENANT_IDLE_TIMEOUT, 20 ) );
+
+		index( tenant1SessionContext, DOCUMENT_1, "text 1" );
+
+		// Accesses will regularly happen while the index is being closed because it was idle:
+		// they must wait for the index to be closed before re-opening it.
+		for ( int i = 0; i < 100; i++ ) {
+			Thread.sleep( 15 + i % 4 * 5 );
+			assertMatchAll( tenant1SessionContext, DOCUMENT_1 );
+		}
+	}
+
+	@Test
+	public void schemaManagement_idleTenants() throws IOException {
+		setup( c -> c.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_TENANT_IDLE_TIMEOUT, 200 )
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY ) );
+
+		index( tenant1SessionContext, DOCUMENT_1, "text 1" );
+		index( tenant2SessionContext, DOCUMENT_1, "text 1" );
+		Awaitility.await().atMost( 10, TimeUnit.SECONDS )
+				.until( () -> shardCount() == 0 );
+
+		// Explicit schema management affects tenant indexes that were closed because they were idle
+		indexManager.getSchemaManager().dropAndCreate().join();
+		assertNoHits( tenant1SessionContext );
+		assertNoHits( tenant2SessionContext );
+
+		index( tenant1SessionContext, DOCUMENT_1, "text 1" );
+		Awaitility.await().atMost( 10, TimeUnit.SECONDS )
+				.until( () -> shardCount() == 0 );
+
+		// So does schema management on shutdown
+		setupHelper.cleanUp();
+		setup( c -> c.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY ) );
+		assertNoHits( tenant1SessionContext );
+	}
+
+	@Test
+	public void schemaManagement_tenantsNotAccessedSinceStartup() throws IOException {
+		setup( c -> c.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY ) );
+
+		index( tenant1SessionContext, DOCUMENT_1, "text 1" );
+		index( tenant2SessionContext, DOCUMENT_1, "text 1" );
+
+		// On restart, the tenant indexes exist on disk, but were never accessed:
+		// schema management on startup must affect them nonetheless.
+		setupHelper.cleanUp();
+		setup( c -> c.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY ) );
+		assertThat( shardCount() ).isEqualTo( 2 );
+
+		assertNoHits( tenant1SessionContext );
+		assertNoHits( tenant2SessionContext );
+	}
+
+	@Test
+	public void sharding() {
+		setup( c -> c.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, 3 ) );
+
+		for ( int i = 0; i < 20; i++ ) {
+			index( tenant1SessionContext, String.valueOf( i ), "text " + i );
+		}
+		index( tenant2SessionContext, DOCUMENT_1, "text 1" );
+
+		assertThat( shardCount() ).isEqualTo( 6 );
+		Path tenantDirectory = temporaryFolder.getRoot().toPath().resolve( INDEX_NAME ).resolve( TENANT_1 );
+		assertThat( tenantDirectory.resolve( "0" ) ).isDirectory();
+		assertThat( tenantDirectory.resolve( "1" ) ).isDirectory();
+		assertThat( tenantDirectory.resolve( "2" ) ).isDirectory();
+
+		SearchResultAssert.assertThat( matchAllQuery( tenant1SessionContext ) )
+				.hasTotalHitCount( 20 );
+		assertMatchAll( tenant2SessionContext, DOCUMENT_1 );
+	}
+
+	@Test
+	public void invalidTenantId() {
+		setup( Function.identity() );
+
+		assertThatThrownBy( () -> indexManager.createIndexingPlan( new StubBackendSessionContext( "../tenant" ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll(
+						"Invalid tenant identifier: '../tenant'",
+						"tenant identifiers are used as directory names"
+				);
+
+		assertThat( temporaryFolder.getRoot().toPath().resolve( "tenant" ) ).doesNotExist();
+	}
+
+	private void setup(Function<SearchSetupHelper.SetupContext, SearchSetupHelper.SetupContext> additionalConfiguration) {
+		additionalConfiguration.apply(
+				setupHelper.start()
+						.withIndex(
+								INDEX_NAME,
+								ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+								indexManager -> this.indexManager = indexManager
+						)
+						.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_STRATEGY, "dedicated_index" )
+						.withBackendProperty(
+								LuceneBackendSettings.DIRECTORY_ROOT,
+								temporaryFolder.getRoot().getAbsolutePath()
+						)
+						.withMultiTenancy()
+		)
+				.setup();
+	}
+
+	private void index(StubBackendSessionContext sessionContext, String id, String value) {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan( sessionContext );
+		plan.add( referenceProvider( id ), document -> {
+			document.addValue( indexMapping.string, value );
+		} );
+		plan.execute().join();
+	}
+
+	private void assertMatchAll(StubBackendSessionContext sessionContext, String firstId, String... otherIds) {
+		SearchResultAssert.assertThat( matchAllQuery( sessionContext ) )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, firstId, otherIds );
+	}
+
+	private void assertNoHits(StubBackendSessionContext sessionContext) {
+		SearchResultAssert.assertThat( matchAllQuery( sessionContext ) ).hasNoHits();
+	}
+
+	private SearchQuery<DocumentReference> matchAllQuery(StubBackendSessionContext sessionContext) {
+		return indexManager.createScope().query( sessionContext )
+				.where( f -> f.matchAll() )
+				.toQuery();
+	}
+
+	private int shardCount() {
+		return indexManager.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests().size();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that field projections on sortable fields, which may be served from doc values,
+ * return the same values as projections served from stored fields.
+ */
+public class LuceneDocValuesFieldProjectionIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String DOCUMENT_3 = "3";
+	private static final String EMPTY = "empty";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void integer() {
+		assertProjection( "integer", Integer.class, 1, 2, 3, null );
+	}
+
+	@Test
+	public void doubleField() {
+		assertProjection( "double", Double.class, 1.5, -0.25, Double.MAX_VALUE, null );
+	}
+
+	@Test
+	public void localDate() {
+		assertProjection( "localDate", LocalDate.class,
+				LocalDate.of( 2019, 1, 1 ), LocalDate.of( 1970, 1, 1 ), LocalDate.of( 1815, 6, 18 ), null );
+	}
+
+	@Test
+	public void keyword() {
+		assertProjection( "keyword", String.class, "Alpha", "bravo", "Charlie", null );
+	}
+
+	@Test
+	public void normalized() {
+		// Doc values hold the normalized value: the original value must be returned nevertheless.
+		assertProjection( "normalized", String.class, "Alpha", "bravo", "Charlie", null );
+	}
+
+	@Test
+	public void multiValued() {
+		assertProjection( "multiValued", Integer.class, 1, 2, 3, null );
+	}
+
+	@Test
+	public void nested() {
+		assertProjection( "nested.integer", Integer.class, 1, 2, 3, null );
+	}
+
+	@Test
+	public void multipleProjectionsOnSameField() {
+		StubMappingScope scope = indexManager.createScope();
+		SearchQuery<List<?>> query = scope.query()
+				.select( f -> f.composite( f.field( "integer", Integer.class ), f.field( "integer", Integer.class ) ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "sort" ) )
+				.toQuery();
+		assertThat( query ).hasHitsExactOrder(
+				Arrays.asList( 1, 1 ),
+				Arrays.asList( 2, 2 ),
+				Arrays.asList( 3, 3 ),
+				Arrays.asList( null, null )
+		);
+	}
+
+	@Test
+	public void offset() {
+		StubMappingScope scope = indexManager.createScope();
+		SearchQuery<Integer> query = scope.query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "sort" ) )
+				.toQuery();
+		assertThat( query.fetchHits( 1, 2 ) ).hasHitsExactOrder( 2, 3 );
+	}
+
+	@SafeVarargs
+	private final <T> void assertProjection(String fieldPath, Class<T> type, T... expectedValues) {
+		StubMappingScope scope = indexManager.createScope();
+		SearchQuery<T> query = scope.query()
+				.select( f -> f.field( fieldPath, type ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "sort" ) )
+				.toQuery();
+		assertThat( query ).hasHitsExactOrder( expectedValues );
+	}
+
+	private void initData() {
+		// Index documents in two batches so that they end up in different segments.
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		plan.add( referenceProvider( DOCUMENT_1 ), document -> {
+			document.addValue( indexMapping.sort, 1 );
+			document.addValue( indexMapping.integer, 1 );
+			document.addValue( indexMapping.doubleField, 1.5 );
+			document.addValue( indexMapping.localDate, LocalDate.of( 2019, 1, 1 ) );
+			document.addValue( indexMapping.keyword, "Alpha" );
+			document.addValue( indexMapping.normalized, "Alpha" );
+			document.addValue( indexMapping.multiValued, 1 );
+			document.addValue( indexMapping.multiValued, 42 );
+			DocumentElement nested = document.addObject( indexMapping.nested.self );
+			nested.addValue( indexMapping.nested.integer, 1 );
+		} );
+		plan.add( referenceProvider( DOCUMENT_2 ), document -> {
+			document.addValue( indexMapping.sort, 2 );
+			document.addValue( indexMapping.integer, 2 );
+			document.addValue( indexMapping.doubleField, -0.25 );
+			document.addValue( indexMapping.localDate, LocalDate.of( 1970, 1, 1 ) );
+			document.addValue( indexMapping.keyword, "bravo" );
+			document.addValue( indexMapping.normalized, "bravo" );
+			document.addValue( indexMapping.multiValued, 2 );
+			DocumentElement nested = document.addObject( indexMapping.nested.self );
+			nested.addValue( indexMapping.nested.integer, 2 );
+		} );
+		plan.execute().join();
+		indexManager.createWorkspace().refresh().join();
+
+		plan = indexManager.createIndexingPlan();
+		plan.add( referenceProvider( DOCUMENT_3 ), document -> {
+			document.addValue( indexMapping.sort, 3 );
+			document.addValue( indexMapping.integer, 3 );
+			document.addValue( indexMapping.doubleField, Double.MAX_VALUE );
+			document.addValue( indexMapping.localDate, LocalDate.of( 1815, 6, 18 ) );
+			document.addValue( indexMapping.keyword, "Charlie" );
+			document.addValue( indexMapping.normalized, "Charlie" );
+			document.addValue( indexMapping.multiValued, 3 );
+			DocumentElement nested = document.addObject( indexMapping.nested.self );
+			nested.addValue( indexMapping.nested.integer, 3 );
+		} );
+		plan.add( referenceProvider( EMPTY ), document -> {
+			document.addValue( indexMapping.sort, 4 );
+		} );
+		plan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> sort;
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<Double> doubleField;
+		final IndexFieldReference<LocalDate> localDate;
+		final IndexFieldReference<String> keyword;
+		final IndexFieldReference<String> normalized;
+		final IndexFieldReference<Integer> multiValued;
+		final NestedMapping nested;
+
+		IndexMapping(IndexSchemaElement root) {
+			sort = root.field( "sort", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			doubleField = root.field( "double", f -> f.asDouble().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			localDate = root.field( "localDate", f -> f.asLocalDate().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			keyword = root.field( "keyword", f -> f.asString().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			normalized = root.field( "normalized", f -> f.asString()
+					.normalizer( DefaultAnalysisDefinitions.NORMALIZER_LOWERCASE.name )
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			multiValued = root.field( "multiValued", f -> f.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.multiValued()
+					.toReference();
+			nested = new NestedMapping( root.objectField( "nested", ObjectFieldStorage.NESTED ) );
+		}
+	}
+
+	private static class NestedMapping {
+		final IndexObjectFieldReference self;
+		final IndexFieldReference<Integer> integer;
+
+		NestedMapping(IndexSchemaObjectField objectField) {
+			self = objectField.toReference();
+			integer = objectField.field( "integer", f -> f.asInteger().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
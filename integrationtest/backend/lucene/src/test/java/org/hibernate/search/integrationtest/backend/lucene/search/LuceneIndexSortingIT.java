@@ -0,0 +1,238 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Sort;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks that index sorting is applied to segments
+ * and allows queries sorted the same way to terminate early.
+ */
+public class LuceneIndexSortingIT {
+
+	private static final String INDEX_NAME = "IndexName";
+	private static final int BATCH_COUNT = 5;
+	private static final int BATCH_SIZE = 200;
+	private static final int DOCUMENT_COUNT = BATCH_COUNT * BATCH_SIZE;
+	private static final int PAGE_SIZE = 20;
+	private static final LocalDate FIRST_DATE = LocalDate.of( 2000, 1, 1 );
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void segmentsAreSorted() throws IOException {
+		setup( "desc" );
+
+		List<Sort> segmentSorts = LuceneIndexContentUtils.readIndex( setupHelper, INDEX_NAME, reader -> {
+			List<Sort> sorts = new ArrayList<>();
+			for ( LeafReaderContext leaf : reader.leaves() ) {
+				sorts.add( leaf.reader().getMetaData().getSort() );
+			}
+			return sorts;
+		} );
+
+		Assertions.assertThat( segmentSorts ).isNotEmpty();
+		Assertions.assertThat( segmentSorts ).allSatisfy( sort -> {
+			Assertions.assertThat( sort ).isNotNull();
+			Assertions.assertThat( sort.getSort() ).hasSize( 1 );
+			Assertions.assertThat( sort.getSort()[0].getField() ).isEqualTo( "date" );
+			Assertions.assertThat( sort.getSort()[0].getReverse() ).isTrue();
+		} );
+	}
+
+	@Test
+	public void sameOrder_totalHitCountThreshold_earlyTermination() {
+		setup( "desc" );
+
+		SearchResult<LocalDate> result = indexManager.createScope().query()
+				.select( f -> f.field( "date", LocalDate.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "date" ).desc() )
+				.totalHitCountThreshold( PAGE_SIZE )
+				.fetch( PAGE_SIZE );
+
+		Assertions.assertThat( result.getHits() ).containsExactlyElementsOf( expectedDates( DOCUMENT_COUNT - 1, -1 ) );
+		// Collection stopped early in each segment: the count is only a lower bound.
+		Assertions.assertThat( result.isTotalHitCountExact() ).isFalse();
+		Assertions.assertThat( result.getTotalHitCount() ).isBetween( (long) PAGE_SIZE, (long) DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void sameOrder_withFilter() {
+		setup( "desc" );
+
+		SearchResult<LocalDate> result = indexManager.createScope().query()
+				.select( f -> f.field( "date", LocalDate.class ) )
+				.where( f -> f.match().field( "even" ).matching( true ) )
+				.sort( f -> f.field( "date" ).desc() )
+				.totalHitCountThreshold( PAGE_SIZE )
+				.fetch( PAGE_SIZE );
+
+		Assertions.assertThat( result.getHits() ).containsExactlyElementsOf( expectedDates( DOCUMENT_COUNT - 2, -2 ) );
+		Assertions.assertThat( result.isTotalHitCountExact() ).isFalse();
+	}
+
+	@Test
+	public void sameOrder_noTotalHitCountThreshold() {
+		setup( "desc" );
+
+		SearchResult<LocalDate> result = indexManager.createScope().query()
+				.select( f -> f.field( "date", LocalDate.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "date" ).desc() )
+				.fetch( PAGE_SIZE );
+
+		Assertions.assertThat( result.getHits() ).containsExactlyElementsOf( expectedDates( DOCUMENT_COUNT - 1, -1 ) );
+		Assertions.assertThat( result.isTotalHitCountExact() ).isTrue();
+		Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void oppositeOrder() {
+		setup( "desc" );
+
+		SearchResult<LocalDate> result = indexManager.createScope().query()
+				.select( f -> f.field( "date", LocalDate.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "date" ).asc() )
+				.totalHitCountThreshold( PAGE_SIZE )
+				.fetch( PAGE_SIZE );
+
+		Assertions.assertThat( result.getHits() ).containsExactlyElementsOf( expectedDates( 0, 1 ) );
+		// The sort does not match the index sort: all documents are visited.
+		Assertions.assertThat( result.isTotalHitCountExact() ).isTrue();
+		Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void defaultOrder() {
+		setup( null );
+
+		SearchResult<LocalDate> result = indexManager.createScope().query()
+				.select( f -> f.field( "date", LocalDate.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "date" ) )
+				.totalHitCountThreshold( PAGE_SIZE )
+				.fetch( PAGE_SIZE );
+
+		Assertions.assertThat( result.getHits() ).containsExactlyElementsOf( expectedDates( 0, 1 ) );
+		Assertions.assertThat( result.isTotalHitCountExact() ).isFalse();
+	}
+
+	@Test
+	public void invalidOrder() {
+		assertThatThrownBy( () -> setup( "sideways" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid index sort order: 'sideways'", "asc", "desc" );
+	}
+
+	@Test
+	public void unknownField() {
+		assertThatThrownBy( () -> startSetup( "unknown", null ).setup() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unknown field 'unknown' for index sorting" );
+	}
+
+	@Test
+	public void nonSortableField() {
+		assertThatThrownBy( () -> startSetup( "even", null ).setup() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Field 'even' cannot be used for index sorting" );
+	}
+
+	private void setup(String order) {
+		startSetup( "date", order ).setup();
+		initData();
+	}
+
+	private SearchSetupHelper.SetupContext startSetup(String field, String order) {
+		SearchSetupHelper.SetupContext setupContext = setupHelper.start()
+				.withIndexDefaultsProperty( LuceneIndexSettings.INDEX_SORTING_FIELD, field );
+		if ( order != null ) {
+			setupContext = setupContext.withIndexDefaultsProperty( LuceneIndexSettings.INDEX_SORTING_ORDER, order );
+		}
+		return setupContext.withIndex(
+				INDEX_NAME,
+				ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+				indexManager -> this.indexManager = indexManager
+		);
+	}
+
+	private void initData() {
+		// Index documents in several batches, in an order unrelated to the date,
+		// so that the index contains multiple segments that need sorting.
+		for ( int batch = 0; batch < BATCH_COUNT; batch++ ) {
+			IndexIndexer indexer = indexManager.createIndexer( DocumentCommitStrategy.NONE );
+			List<CompletableFuture<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < BATCH_SIZE; i++ ) {
+				int documentNumber = i * BATCH_COUNT + batch;
+				futures.add( indexer.add( referenceProvider( docId( documentNumber ) ), document -> {
+					document.addValue( indexMapping.date, FIRST_DATE.plusDays( documentNumber ) );
+					document.addValue( indexMapping.even, documentNumber % 2 == 0 );
+				} ) );
+			}
+			CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+			indexManager.createWorkspace().flush().join();
+		}
+		indexManager.createWorkspace().refresh().join();
+	}
+
+	private static List<LocalDate> expectedDates(int firstDocumentNumber, int step) {
+		List<LocalDate> dates = new ArrayList<>();
+		for ( int i = 0; i < PAGE_SIZE; i++ ) {
+			dates.add( FIRST_DATE.plusDays( firstDocumentNumber + i * step ) );
+		}
+		return dates;
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<LocalDate> date;
+		final IndexFieldReference<Boolean> even;
+
+		IndexMapping(IndexSchemaElement root) {
+			date = root.field( "date", f -> f.asLocalDate().sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			even = root.field( "even", f -> f.asBoolean() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that nested predicates and sorts work regardless of the configuration of the nested document cache.
+ */
+public class LuceneSearchNestedCacheIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void defaultMaxSize() {
+		setup( Function.identity() );
+
+		// Execute the queries twice, so that the second execution relies on the cache
+		for ( int i = 0; i < 2; i++ ) {
+			checkNestedPredicate();
+			checkNestedSort();
+		}
+	}
+
+	@Test
+	public void disabled() {
+		setup( c -> c.withBackendProperty( LuceneBackendSettings.SEARCH_NESTED_CACHE_MAX_SIZE, 0L ) );
+
+		for ( int i = 0; i < 2; i++ ) {
+			checkNestedPredicate();
+			checkNestedSort();
+		}
+	}
+
+	@Test
+	public void invalidMaxSize() {
+		assertThatThrownBy( () -> setup( c -> c.withBackendProperty(
+				LuceneBackendSettings.SEARCH_NESTED_CACHE_MAX_SIZE, -1L ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll(
+						"Unable to convert configuration property '",
+						LuceneBackendSettings.SEARCH_NESTED_CACHE_MAX_SIZE,
+						"Invalid maximum size for the nested document cache: '-1'"
+				);
+	}
+
+	private void checkNestedPredicate() {
+		SearchResultAssert.assertThat( indexManager.createScope().query()
+				.where( f -> f.nested().objectField( "nested" )
+						.nest( f.match().field( "nested.text" ).matching( "b" ) ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1 );
+	}
+
+	private void checkNestedSort() {
+		SearchResultAssert.assertThat( indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "nested.number" ).asc() )
+				.toQuery() )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2 );
+		SearchResultAssert.assertThat( indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "nested.number" ).desc() )
+				.toQuery() )
+				.hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_2, DOCUMENT_1 );
+	}
+
+	private void setup(Function<SearchSetupHelper.SetupContext, SearchSetupHelper.SetupContext> configuration) {
+		configuration.apply( setupHelper.start() )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	private void initData() {
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+		plan.add( referenceProvider( DOCUMENT_1 ), document -> {
+			addNested( document, "a", 2 );
+			addNested( document, "b", 1 );
+		} );
+		plan.add( referenceProvider( DOCUMENT_2 ), document -> {
+			addNested( document, "c", 3 );
+		} );
+		plan.execute().join();
+	}
+
+	private void addNested(DocumentElement document, String text, int number) {
+		DocumentElement nested = document.addObject( indexMapping.nested );
+		nested.addValue( indexMapping.nestedText, text );
+		nested.addValue( indexMapping.nestedNumber, number );
+	}
+
+	private static class IndexMapping {
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<String> nestedText;
+		final IndexFieldReference<Integer> nestedNumber;
+
+		IndexMapping(IndexSchemaElement root) {
+			IndexSchemaObjectField nestedField = root.objectField( "nested", ObjectFieldStorage.NESTED )
+					.multiValued();
+			nested = nestedField.toReference();
+			nestedText = nestedField.field( "text", f -> f.asString() ).toReference();
+			nestedNumber = nestedField.field( "number", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,261 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.search.query.LucenePinnedSearchContext;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that pinned search contexts paginate consistently, even with concurrent writes,
+ * and that they are released as expected.
+ */
+public class LuceneSearchPinnedContextIT {
+
+	private static final String INDEX_NAME = "IndexName";
+	private static final int DOCUMENT_COUNT = 100;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void fetchNext_fieldSort() {
+		setup( c -> c );
+
+		LuceneSearchQuery<DocumentReference> query = indexManager.createScope().query()
+				.extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).desc() )
+				.toQuery();
+
+		assertThat( fetchAllWithFetchNext( query, 30 ) ).isEqualTo( ids( query.fetchAllHits() ) );
+	}
+
+	@Test
+	public void fetchNext_scoreSort() {
+		setup( c -> c );
+
+		// All documents have the same score: this checks ties are handled correctly.
+		LuceneSearchQuery<DocumentReference> query = indexManager.createScope().query()
+				.extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		List<String> ids = fetchAllWithFetchNext( query, 30 );
+		assertThat( ids ).isEqualTo( ids( query.fetchAllHits() ) );
+		assertThat( ids ).hasSize( DOCUMENT_COUNT ).doesNotHaveDuplicates();
+	}
+
+	@Test
+	public void fetchNext_afterFetchWithOffset() {
+		setup( c -> c );
+
+		LuceneSearchQuery<DocumentReference> query = indexManager.createScope().query()
+				.extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.toQuery();
+
+		try ( LucenePinnedSearchContext<DocumentReference> context = query.openPinnedContext() ) {
+			assertThat( ids( context.fetch( 10, 5 ).getHits() ) )
+					.containsExactly( docId( 10 ), docId( 11 ), docId( 12 ), docId( 13 ), docId( 14 ) );
+			assertThat( ids( context.fetchNext( 3 ).getHits() ) )
+					.containsExactly( docId( 15 ), docId( 16 ), docId( 17 ) );
+		}
+	}
+
+	@Test
+	public void consistentWithConcurrentWrites() {
+		setup( c -> c );
+
+		LuceneSearchQuery<DocumentReference> query = indexManager.createScope().query()
+				.extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.toQuery();
+
+		try ( LucenePinnedSearchContext<DocumentReference> context = query.openPinnedContext() ) {
+			LuceneSearchResult<DocumentReference> firstPage = context.fetchNext( 10 );
+			assertThat( firstPage.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+
+			// Add documents that would be sorted first, and delete documents of the next page
+			IndexIndexingPlan<?> plan = indexManager.createIndexingPlan();
+			for ( int i = 0; i < 10; i++ ) {
+				int value = -1 - i;
+				plan.add( referenceProvider( "new_" + i ), document -> {
+					document.addValue( indexMapping.integer, value );
+				} );
+				plan.delete( referenceProvider( docId( 10 + i ) ) );
+			}
+			plan.execute().join();
+
+			// Queries outside of the pinned context see the changes
+			assertThat( query.fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+			assertThat( ids( query.fetchHits( 1 ) ) ).containsExactly( "new_9" );
+
+			// The pinned context does not
+			LuceneSearchResult<DocumentReference> secondPage = context.fetchNext( 10 );
+			assertThat( secondPage.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+			assertThat( ids( secondPage.getHits() ) ).containsExactly(
+					docId( 10 ), docId( 11 ), docId( 12 ), docId( 13 ), docId( 14 ),
+					docId( 15 ), docId( 16 ), docId( 17 ), docId( 18 ), docId( 19 )
+			);
+			assertThat( ids( context.fetch( 0, 1 ).getHits() ) ).containsExactly( docId( 0 ) );
+		}
+	}
+
+	@Test
+	public void closed() {
+		setup( c -> c );
+
+		LuceneSearchQuery<DocumentReference> query = indexManager.createScope().query()
+				.extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		LucenePinnedSearchContext<DocumentReference> context = query.openPinnedContext();
+		context.fetchNext( 10 );
+		context.close();
+
+		assertThatThrownBy( () -> context.fetchNext( 10 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to use the pinned search context: the context was closed or has expired" );
+
+		// Closing twice is fine
+		context.close();
+	}
+
+	@Test
+	public void expired() throws InterruptedException {
+		setup( c -> c );
+
+		LuceneSearchQuery<DocumentReference> query = indexManager.createScope().query()
+				.extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		try ( LucenePinnedSearchContext<DocumentReference> context = query.openPinnedContext( Duration.ofMillis( 1 ) ) ) {
+			Thread.sleep( 50 );
+
+			assertThatThrownBy( () -> context.fetchNext( 10 ) )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContaining( "Unable to use the pinned search context: the context was closed or has expired" )
+					.hasMessageContaining( "Its keep-alive was 1ms" );
+		}
+	}
+
+	@Test
+	public void maxCount() {
+		setup( c -> c.withBackendProperty( LuceneBackendSettings.SEARCH_PINNED_CONTEXT_MAX_COUNT, 2 ) );
+
+		LuceneSearchQuery<DocumentReference> query = indexManager.createScope().query()
+				.extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		try ( LucenePinnedSearchContext<DocumentReference> context1 = query.openPinnedContext();
+				LucenePinnedSearchContext<DocumentReference> context2 = query.openPinnedContext() ) {
+			assertThatThrownBy( () -> query.openPinnedContext() )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContainingAll(
+							"Unable to open a pinned search context: 2 pinned search contexts are already open",
+							LuceneBackendSettings.SEARCH_PINNED_CONTEXT_MAX_COUNT
+					);
+
+			context1.close();
+
+			// Closing a context frees a slot
+			try ( LucenePinnedSearchContext<DocumentReference> context3 = query.openPinnedContext() ) {
+				assertThat( context3.fetchNext( 10 ).getHits() ).hasSize( 10 );
+			}
+		}
+	}
+
+	private static List<String> fetchAllWithFetchNext(LuceneSearchQuery<DocumentReference> query, int pageSize) {
+		List<String> ids = new ArrayList<>();
+		try ( LucenePinnedSearchContext<DocumentReference> context = query.openPinnedContext() ) {
+			List<DocumentReference> page;
+			do {
+				page = context.fetchNext( pageSize ).getHits();
+				ids.addAll( ids( page ) );
+			}
+			while ( !page.isEmpty() );
+		}
+		return ids;
+	}
+
+	private static List<String> ids(List<DocumentReference> hits) {
+		return hits.stream().map( DocumentReference::getId ).collect( Collectors.toList() );
+	}
+
+	private void setup(Function<SearchSetupHelper.SetupContext, SearchSetupHelper.SetupContext> configuration) {
+		configuration.apply( setupHelper.start() )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	private void initData() {
+		IndexIndexer indexer = indexManager.createIndexer( DocumentCommitStrategy.NONE );
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			futures.add( indexer.add( referenceProvider( docId( i ) ), document -> {
+				document.addValue( indexMapping.integer, value );
+			} ) );
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+		indexManager.createWorkspace().refresh().join();
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchProfile;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks the phases reported by the Lucene backend when profiling a query.
+ */
+public class LuceneSearchProfileIT {
+
+	private static final String INDEX_NAME = "IndexName";
+	private static final int DOCUMENT_COUNT = 100;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void phases() {
+		SearchResult<DocumentReference> result = indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.profile()
+				.fetch( 10 );
+
+		Assertions.assertThat( result.getHits() ).hasSize( 10 );
+		Assertions.assertThat( result.getProfile().map( SearchProfile::getPhaseDurations ).get().keySet() )
+				.containsExactly( "index_reader_acquisition", "query_rewrite", "collection",
+						"top_docs_collection", "hit_extraction", "loading" );
+	}
+
+	@Test
+	public void phases_aggregation() {
+		AggregationKey<Map<Integer, Long>> aggregationKey = AggregationKey.of( "terms" );
+		SearchResult<DocumentReference> result = indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.aggregation( aggregationKey, f -> f.terms().field( "integer", Integer.class ) )
+				.profile()
+				.fetch( 10 );
+
+		Assertions.assertThat( result.getAggregation( aggregationKey ) ).hasSize( 10 );
+		Assertions.assertThat( result.getProfile().map( SearchProfile::getPhaseDurations ).get().keySet() )
+				.containsExactly( "index_reader_acquisition", "query_rewrite", "collection",
+						"top_docs_collection", "hit_extraction", "aggregation_extraction", "loading" );
+	}
+
+	@Test
+	public void noProfile() {
+		SearchResult<DocumentReference> result = indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.fetch( 10 );
+
+		Assertions.assertThat( result.getProfile() ).isEmpty();
+	}
+
+	private void initData() {
+		IndexIndexer indexer = indexManager.createIndexer( DocumentCommitStrategy.NONE );
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int intValue = i % 10;
+			futures.add( indexer.add( referenceProvider( docId( i ) ), document -> {
+				document.addValue( indexMapping.integer, intValue );
+			} ) );
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+		indexManager.createWorkspace().refresh().join();
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
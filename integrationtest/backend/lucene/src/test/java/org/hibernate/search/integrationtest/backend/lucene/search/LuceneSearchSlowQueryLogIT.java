@@ -0,0 +1,183 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.rule.ExpectedLog4jLog;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that the Lucene backend logs slow queries according to the slow query log configuration.
+ */
+public class LuceneSearchSlowQueryLogIT {
+
+	private static final String INDEX_NAME = "IndexName";
+	private static final int DOCUMENT_COUNT = 100;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public ExpectedLog4jLog logged = ExpectedLog4jLog.create();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void warnThreshold() {
+		setup( c -> c.withBackendProperty( LuceneBackendSettings.QUERY_SLOW_LOG_WARN_THRESHOLD, 0L ) );
+
+		logged.expectMessage( "Slow search query", "[" + INDEX_NAME + "]",
+				"Total hit count: " + DOCUMENT_COUNT, "Query: +*:*" )
+				.once();
+
+		indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.fetch( 10 );
+	}
+
+	@Test
+	public void infoThreshold() {
+		setup( c -> c.withBackendProperty( LuceneBackendSettings.QUERY_SLOW_LOG_INFO_THRESHOLD, 0L ) );
+
+		logged.expectMessage( "Slow search query", "[" + INDEX_NAME + "]" ).once();
+
+		indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.fetch( 10 );
+	}
+
+	@Test
+	public void belowThreshold() {
+		setup( c -> c.withBackendProperty( LuceneBackendSettings.QUERY_SLOW_LOG_WARN_THRESHOLD, 1_000_000L )
+				.withBackendProperty( LuceneBackendSettings.QUERY_SLOW_LOG_INFO_THRESHOLD, 1_000_000L ) );
+
+		logged.expectMessage( "Slow search query" ).never();
+
+		indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.fetch( 10 );
+	}
+
+	@Test
+	public void disabledByDefault() {
+		setup( Function.identity() );
+
+		logged.expectMessage( "Slow search query" ).never();
+
+		indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.fetch( 10 );
+	}
+
+	@Test
+	public void samplingRate() {
+		setup( c -> c.withBackendProperty( LuceneBackendSettings.QUERY_SLOW_LOG_WARN_THRESHOLD, 0L )
+				.withBackendProperty( LuceneBackendSettings.QUERY_SLOW_LOG_SAMPLING_RATE, "0" ) );
+
+		logged.expectMessage( "Slow search query" ).never();
+
+		for ( int i = 0; i < 10; i++ ) {
+			indexManager.createScope().query()
+					.where( f -> f.matchAll() )
+					.fetch( 10 );
+		}
+	}
+
+	@Test
+	public void maxQueryLength() {
+		setup( c -> c.withBackendProperty( LuceneBackendSettings.QUERY_SLOW_LOG_WARN_THRESHOLD, 0L )
+				.withBackendProperty( LuceneBackendSettings.QUERY_SLOW_LOG_MAX_QUERY_LENGTH, 10 ) );
+
+		logged.expectMessage( "Slow search query", "..." ).once();
+		logged.expectMessage( "Slow search query", "term2" ).never();
+
+		indexManager.createScope().query()
+				.where( f -> f.bool()
+						.must( f.match().field( "text" ).matching( "term1" ) )
+						.must( f.match().field( "text" ).matching( "term2" ) ) )
+				.fetch( 10 );
+	}
+
+	@Test
+	public void invalidSamplingRate() {
+		assertThatThrownBy( () -> setup( c -> c.withBackendProperty(
+				LuceneBackendSettings.QUERY_SLOW_LOG_SAMPLING_RATE, "1.5" ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid slow query log sampling rate: '1.5'" );
+	}
+
+	@Test
+	public void invalidWarnThreshold() {
+		assertThatThrownBy( () -> setup( c -> c.withBackendProperty(
+				LuceneBackendSettings.QUERY_SLOW_LOG_WARN_THRESHOLD, -1L ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid slow query log threshold: '-1'" );
+	}
+
+	@Test
+	public void invalidInfoThreshold() {
+		assertThatThrownBy( () -> setup( c -> c.withBackendProperty(
+				LuceneBackendSettings.QUERY_SLOW_LOG_INFO_THRESHOLD, -1L ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid slow query log threshold: '-1'" );
+	}
+
+	private void setup(Function<SearchSetupHelper.SetupContext, SearchSetupHelper.SetupContext> configuration) {
+		configuration.apply( setupHelper.start() )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	private void initData() {
+		IndexIndexer indexer = indexManager.createIndexer( DocumentCommitStrategy.NONE );
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			futures.add( indexer.add( referenceProvider( docId( i ) ), document -> {
+				document.addValue( indexMapping.text, "term1 term2" );
+			} ) );
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ).join();
+		indexManager.createWorkspace().refresh().join();
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> text;
+
+		IndexMapping(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() ).toReference();
+		}
+	}
+}
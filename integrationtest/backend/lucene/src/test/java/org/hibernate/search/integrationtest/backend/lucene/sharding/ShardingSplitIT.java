@@ -0,0 +1,388 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.sharding;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProviderInitializationContext;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.NoLockFactory;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Checks that the shards of an index using hash sharding can be split
+ * while documents are being indexed and searched.
+ */
+public class ShardingSplitIT {
+
+	private static final String INDEX_NAME = "IndexName";
+	private static final int INITIAL_SHARD_COUNT = 2;
+	private static final int SHARD_COUNT_AFTER_SPLIT = 6;
+	private static final int DOCUMENT_COUNT = 300;
+	private static final String ROUTING_KEY = "someRoutingKey";
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Test
+	public void split() {
+		setup( "local-heap", null, INITIAL_SHARD_COUNT, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+		initData();
+
+		// Keep indexing while the split is in progress
+		CompletableFuture<?> splitFuture = luceneIndexManager().splitShards( SHARD_COUNT_AFTER_SPLIT );
+		int changeCount = 0;
+		while ( !splitFuture.isDone() ) {
+			int i = changeCount++ % DOCUMENT_COUNT;
+			IndexIndexingPlan<?> plan = createPlan();
+			if ( i % 3 == 0 ) {
+				// Delete, then add again with the same content
+				plan.delete( referenceProvider( docId( i ), routingKey( i ) ) );
+				plan.execute().join();
+				plan = createPlan();
+				plan.add( referenceProvider( docId( i ), routingKey( i ) ), document -> contribute( document, i ) );
+			}
+			else {
+				plan.update( referenceProvider( docId( i ), routingKey( i ) ), document -> contribute( document, i ) );
+			}
+			plan.execute().join();
+		}
+		splitFuture.join();
+
+		Assertions.assertThat( indexManager.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() )
+				.hasSize( SHARD_COUNT_AFTER_SPLIT );
+		indexManager.createWorkspace().refresh().join();
+		checkData();
+
+		// Indexing still works after the split, and does not create duplicates
+		IndexIndexingPlan<?> plan = createPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int intValue = i;
+			plan.update( referenceProvider( docId( i ), routingKey( i ) ), document -> contribute( document, intValue ) );
+		}
+		plan.execute().join();
+		indexManager.createWorkspace().refresh().join();
+		checkData();
+	}
+
+	@Test
+	public void restart() throws IOException {
+		String root = temporaryFolder.getRoot().getAbsolutePath();
+		setup( "local-filesystem", root, INITIAL_SHARD_COUNT,
+				StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY );
+		initData();
+
+		luceneIndexManager().splitShards( SHARD_COUNT_AFTER_SPLIT ).join();
+		setupHelper.cleanUp();
+
+		setup( "local-filesystem", root, SHARD_COUNT_AFTER_SPLIT,
+				StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY );
+		checkData();
+
+		// Routing still works after a restart
+		IndexIndexingPlan<?> plan = createPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int intValue = i;
+			plan.update( referenceProvider( docId( i ), routingKey( i ) ), document -> contribute( document, intValue ) );
+		}
+		plan.execute().join();
+		indexManager.createWorkspace().refresh().join();
+		checkData();
+	}
+
+	@Test
+	public void restart_numberOfShardsNotUpdated() throws IOException {
+		String root = temporaryFolder.getRoot().getAbsolutePath();
+		setup( "local-filesystem", root, INITIAL_SHARD_COUNT,
+				StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY );
+		initData();
+
+		luceneIndexManager().splitShards( SHARD_COUNT_AFTER_SPLIT ).join();
+		setupHelper.cleanUp();
+
+		Assertions.assertThatThrownBy( () -> setup( "local-filesystem", root, INITIAL_SHARD_COUNT,
+				StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll(
+						"The shards of this index were split into " + SHARD_COUNT_AFTER_SPLIT + " shards",
+						"the configured number of shards is " + INITIAL_SHARD_COUNT,
+						LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS
+				);
+	}
+
+	@Test
+	public void deleteMovedDocumentsFailure_restart() throws IOException {
+		setup( FailingDeletionDirectoryProvider.class.getName(), null, INITIAL_SHARD_COUNT,
+				StubMappingSchemaManagementStrategy.DROP_AND_CREATE_ON_STARTUP_ONLY );
+		initData();
+
+		FailingDeletionDirectoryProvider.failDeletions = true;
+		CompletableFuture<?> splitFuture = luceneIndexManager().splitShards( SHARD_COUNT_AFTER_SPLIT );
+		Assertions.assertThatThrownBy( splitFuture::join )
+				.hasCauseInstanceOf( SearchException.class )
+				.hasMessageContainingAll(
+						"Unable to delete documents moved to other shards by a shard split from the original shards",
+						"The deletion will be attempted again on the next start of this index"
+				);
+
+		// The new shards are used, but moved documents are still present in the original shards.
+		Assertions.assertThat( indexManager.unwrapForTests( LuceneIndexManagerImpl.class ).getShardsForTests() )
+				.hasSize( SHARD_COUNT_AFTER_SPLIT );
+		Assertions.assertThat( indexManager.createScope().query().where( f -> f.matchAll() ).fetchTotalHitCount() )
+				.isGreaterThan( DOCUMENT_COUNT );
+
+		// Restart while deletions still fail, so that the deletion is not committed on shutdown either,
+		// as if the JVM had stopped.
+		try {
+			setupHelper.cleanUp();
+		}
+		catch (SearchException e) {
+			// Closing the index may fail too, if the index writer tries to commit the deletion on close.
+		}
+		FailingDeletionDirectoryProvider.failDeletions = false;
+
+		// The moved documents are deleted on startup.
+		setup( FailingDeletionDirectoryProvider.class.getName(), null, SHARD_COUNT_AFTER_SPLIT,
+				StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY );
+		checkData();
+	}
+
+	@Test
+	public void managementOperationDuringSplit() {
+		setup( "local-heap", null, INITIAL_SHARD_COUNT, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+		initData();
+
+		CompletableFuture<?> splitFuture = luceneIndexManager().splitShards( SHARD_COUNT_AFTER_SPLIT );
+		Assertions.assertThatThrownBy( () -> indexManager.createWorkspace().refresh() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to purge, flush, refresh or merge this index: its shards are being split" );
+		Assertions.assertThatThrownBy( () -> indexManager.createWorkspace().purge( Collections.emptySet() ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "its shards are being split" );
+		splitFuture.join();
+
+		// Management operations work again after the split
+		indexManager.createWorkspace().refresh().join();
+		checkData();
+	}
+
+	@Test
+	public void invalidNumberOfShards() {
+		setup( "local-heap", null, INITIAL_SHARD_COUNT, StubMappingSchemaManagementStrategy.DROP_AND_CREATE_AND_DROP );
+
+		Assertions.assertThatThrownBy( () -> luceneIndexManager().splitShards( INITIAL_SHARD_COUNT + 1 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll(
+						"Invalid target number of shards for a split: '" + ( INITIAL_SHARD_COUNT + 1 ) + "'",
+						"must be a multiple of the current number of shards, '" + INITIAL_SHARD_COUNT + "'"
+				);
+		Assertions.assertThatThrownBy( () -> luceneIndexManager().splitShards( INITIAL_SHARD_COUNT ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid target number of shards for a split" );
+	}
+
+	private void setup(String directoryType, String root, int shardCount,
+			StubMappingSchemaManagementStrategy schemaManagementStrategy) {
+		SearchSetupHelper.SetupContext setupContext = setupHelper.start()
+				.withSchemaManagement( schemaManagementStrategy )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withBackendProperty( LuceneBackendSettings.DIRECTORY_TYPE, directoryType )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, shardCount );
+		if ( root != null ) {
+			setupContext = setupContext.withBackendProperty( LuceneBackendSettings.DIRECTORY_ROOT, root );
+		}
+		setupContext.setup();
+	}
+
+	private LuceneIndexManager luceneIndexManager() {
+		return indexManager.unwrapForTests( LuceneIndexManager.class );
+	}
+
+	private IndexIndexingPlan<?> createPlan() {
+		return indexManager.createIndexingPlan(
+				new StubBackendSessionContext(), DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+		);
+	}
+
+	private void initData() {
+		IndexIndexingPlan<?> plan = createPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int intValue = i;
+			plan.add( referenceProvider( docId( i ), routingKey( i ) ), document -> contribute( document, intValue ) );
+		}
+		plan.execute().join();
+		indexManager.createWorkspace().refresh().join();
+		checkData();
+	}
+
+	private void contribute(DocumentElement document, int i) {
+		document.addValue( indexMapping.integer, i );
+		DocumentElement nested = document.addObject( indexMapping.nested );
+		nested.addValue( indexMapping.nestedInteger, i );
+		nested = document.addObject( indexMapping.nested );
+		nested.addValue( indexMapping.nestedInteger, -i );
+	}
+
+	private void checkData() {
+		// Every document is found exactly once
+		assertThat( indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.fetchAll() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsAnyOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+
+		// Nested documents were moved along with their root document
+		Assertions.assertThat( indexManager.createScope().query()
+				.where( f -> f.nested().objectField( "nested" )
+						.nest( f.range().field( "nested.integer" ).lessThan( 0 ) ) )
+				.fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT - 1 );
+
+		// Documents with a routing key are found in the shard they are routed to
+		List<String> expectedRoutedIds = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			if ( routingKey( i ) != null ) {
+				expectedRoutedIds.add( docId( i ) );
+			}
+		}
+		Assertions.assertThat( indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.routing( ROUTING_KEY )
+				.fetchAllHits() )
+				.extracting( DocumentReference::getId )
+				.containsAll( expectedRoutedIds );
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static String routingKey(int i) {
+		return i % 10 == 0 ? ROUTING_KEY : null;
+	}
+
+	/**
+	 * Keeps directories in memory across restarts,
+	 * and fails to write deletions when {@link #failDeletions} is set.
+	 */
+	public static class FailingDeletionDirectoryProvider implements DirectoryProvider {
+
+		static volatile boolean failDeletions = false;
+
+		private static final Map<String, Directory> directories = new ConcurrentHashMap<>();
+
+		@Override
+		public void initialize(DirectoryProviderInitializationContext context) {
+		}
+
+		@Override
+		public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
+			String name = context.getIndexName() + "/" + context.getShardId().orElse( "" );
+			return new DirectoryHolder() {
+				@Override
+				public void start() {
+				}
+
+				@Override
+				public void close() {
+					// Keep the directory for the next start.
+				}
+
+				@Override
+				public Directory get() {
+					return directories.computeIfAbsent( name, ignored -> new FailingDeletionDirectory() );
+				}
+			};
+		}
+	}
+
+	private static class FailingDeletionDirectory extends FilterDirectory {
+		FailingDeletionDirectory() {
+			// Locks would not be released if a writer fails to close.
+			super( new ByteBuffersDirectory( NoLockFactory.INSTANCE ) );
+		}
+
+		@Override
+		public IndexOutput createOutput(String name, IOContext context) throws IOException {
+			// Deletions are written to ".liv" files
+			if ( FailingDeletionDirectoryProvider.failDeletions && name.endsWith( ".liv" ) ) {
+				throw new IOException( "Simulated failure while writing deletions to '" + name + "'" );
+			}
+			return super.createOutput( name, context );
+		}
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<Integer> nestedInteger;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger() ).toReference();
+			IndexSchemaObjectField nestedField = root.objectField( "nested", ObjectFieldStorage.NESTED )
+					.multiValued();
+			nested = nestedField.toReference();
+			nestedInteger = nestedField.field( "integer", f -> f.asInteger() ).toReference();
+		}
+	}
+}
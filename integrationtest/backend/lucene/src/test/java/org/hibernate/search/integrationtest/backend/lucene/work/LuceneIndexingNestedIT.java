@@ -72,9 +72,9 @@ public void update_byTerm() throws IOException {
 	}
 
 	@Test
-	public void update_byQuery() throws IOException {
-		// Multitenancy enabled, which means the backend will use
-		// indexWriter.deleteDocuments(Query) then indexWriter.addDocument for updates
+	public void update_byTerm_multiTenancy() throws IOException {
+		// Multitenancy enabled, which means the backend will use indexWriter.updateDocuments(Term, Iterable) for updates,
+		// with a term combining the tenant ID and the document ID
 		setup( MultiTenancyStrategyName.DISCRIMINATOR );
 
 		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan( sessionContext );
@@ -103,8 +103,9 @@ public void delete_byTerm() throws IOException {
 	}
 
 	@Test
-	public void delete_byQuery() throws IOException {
-		// Multitenancy enabled, which means the backend will use indexWriter.deleteDocuments(Query) for deletion
+	public void delete_byTerm_multiTenancy() throws IOException {
+		// Multitenancy enabled, which means the backend will use indexWriter.deleteDocuments(Term) for deletion,
+		// with a term combining the tenant ID and the document ID
 		setup( MultiTenancyStrategyName.DISCRIMINATOR );
 
 		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan( sessionContext );
@@ -115,6 +116,40 @@ public void delete_byQuery() throws IOException {
 		assertThat( countWithField( "nestedObject.field1" ) ).isEqualTo( 0 );
 	}
 
+	@Test
+	public void updateAndDelete_byTerm_multiTenancy_otherTenant() throws IOException {
+		setup( MultiTenancyStrategyName.DISCRIMINATOR );
+
+		// Same document ID, different tenant
+		StubBackendSessionContext otherSessionContext = new StubBackendSessionContext( "someOtherTenantId" );
+		IndexIndexingPlan<?> plan = indexManager.createIndexingPlan( otherSessionContext );
+		plan.add( referenceProvider( "1" ), document -> {
+			DocumentElement nested = document.addObject( indexMapping.nestedObject.self );
+			nested.addValue( indexMapping.nestedObject.field1, "value" );
+		} );
+		plan.execute().join();
+		assertThat( countWithField( "nestedObject.field1" ) ).isEqualTo( 2 );
+
+		plan = indexManager.createIndexingPlan( sessionContext );
+		plan.update( referenceProvider( "1" ), document -> {
+			DocumentElement nested = document.addObject( indexMapping.nestedObject.self );
+			nested.addValue( indexMapping.nestedObject.field2, "value" );
+		} );
+		plan.execute().join();
+
+		// The document of the other tenant must not be affected
+		assertThat( countWithField( "nestedObject.field1" ) ).isEqualTo( 1 );
+		assertThat( countWithField( "nestedObject.field2" ) ).isEqualTo( 1 );
+
+		plan = indexManager.createIndexingPlan( otherSessionContext );
+		plan.delete( referenceProvider( "1" ) );
+		plan.execute().join();
+
+		// The document of the first tenant must not be affected
+		assertThat( countWithField( "nestedObject.field1" ) ).isEqualTo( 0 );
+		assertThat( countWithField( "nestedObject.field2" ) ).isEqualTo( 1 );
+	}
+
 	@Test
 	public void purge() throws IOException {
 		setup( MultiTenancyStrategyName.NONE );
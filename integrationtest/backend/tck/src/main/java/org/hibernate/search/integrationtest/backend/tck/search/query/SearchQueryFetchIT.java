@@ -16,6 +16,7 @@
 import java.util.Locale;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
@@ -25,6 +26,8 @@
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchMultiQuery;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
@@ -131,6 +134,22 @@ public void fetch_offset_limit() {
 				.hasNoHits();
 	}
 
+	@Test
+	public void profile() {
+		SearchResult<DocumentReference> result = matchAllQuery().fetch( 1 );
+		Assertions.assertThat( result.getProfile() ).isEmpty();
+
+		result = matchAllQuery().profile().fetch( 1 );
+		assertThat( result )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ) );
+		Assertions.assertThat( result.getProfile() ).hasValueSatisfying( profile -> {
+			Assertions.assertThat( profile.getPhaseDurations() ).isNotEmpty();
+			Assertions.assertThat( profile.getPhaseDurations().values() )
+					.allSatisfy( duration -> Assertions.assertThat( duration.isNegative() ).isFalse() );
+		} );
+	}
+
 	@Test
 	public void fetchAllHits() {
 		assertThat( matchAllQuery().fetchAllHits() )
@@ -198,6 +217,71 @@ public void fetchTotalHitCount() {
 		Assertions.assertThat( matchFirstHalfQuery().fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT / 2 );
 	}
 
+	@Test
+	public void fetchAsync() {
+		assertThat( matchAllQuery().fetchAsync( 1, 2 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 1 ), docId( 2 ) );
+
+		assertThat( matchFirstHalfQuery().fetchAsync( null ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT / 2; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+	}
+
+	@Test
+	public void fetchHitsAsync() {
+		assertThat( matchAllQuery().fetchHitsAsync( 1, 2 ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 1 ), docId( 2 ) );
+
+		assertThat( matchAllQuery().fetchHitsAsync( 1 ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ) );
+	}
+
+	@Test
+	public void fetchTotalHitCountAsync() {
+		Assertions.assertThat( matchAllQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT );
+
+		Assertions.assertThat( matchFirstHalfQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT / 2 );
+	}
+
+	@Test
+	public void fetchAsync_overlapping() {
+		checkOverlappingAsyncFetches( matchAllQuery().toQuery() );
+		checkOverlappingAsyncFetches( matchAllQuery().truncateAfter( 1, TimeUnit.HOURS ).toQuery() );
+		checkOverlappingAsyncFetches( matchAllQuery().failAfter( 1, TimeUnit.HOURS ).toQuery() );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void multiQuery() {
+		List<SearchResult<?>> results = new SimpleSearchMultiQuery()
+				.add( matchAllQuery().toQuery(), 1, 2 )
+				.add( matchOneQuery( 4 ).toQuery(), null )
+				.add( matchFirstHalfQuery().toQuery(), 3 )
+				.add( matchNoneQuery().toQuery(), null )
+				.fetch();
+
+		Assertions.assertThat( results ).hasSize( 4 );
+		assertThat( (SearchResult<DocumentReference>) results.get( 0 ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 1 ), docId( 2 ) );
+		assertThat( (SearchResult<DocumentReference>) results.get( 1 ) )
+				.hasTotalHitCount( 1 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 4 ) );
+		assertThat( (SearchResult<DocumentReference>) results.get( 2 ) )
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ), docId( 1 ), docId( 2 ) );
+		assertThat( (SearchResult<DocumentReference>) results.get( 3 ) )
+				.hasTotalHitCount( 0 )
+				.hasNoHits();
+	}
+
 	@Test
 	public void fetchSingleHit() {
 		Optional<DocumentReference> result = matchOneQuery( 4 ).fetchSingleHit();
@@ -258,6 +342,71 @@ public void maxResults_zero() {
 				.hasNoHits();
 	}
 
+	@Test
+	public void totalHitCountThreshold() {
+		int threshold = DOCUMENT_COUNT / 4;
+		SearchResult<DocumentReference> result = matchAllQueryWithoutSort()
+				.totalHitCountThreshold( threshold )
+				.fetch( 5 );
+
+		Assertions.assertThat( result.getHits() ).hasSize( 5 );
+		if ( result.isTotalHitCountExact() ) {
+			Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		}
+		else {
+			// The backend stopped counting: we only get a lower bound
+			Assertions.assertThat( result.getTotalHitCount() ).isBetween( (long) threshold, (long) DOCUMENT_COUNT );
+		}
+	}
+
+	@Test
+	public void totalHitCountThreshold_greaterThanHitCount() {
+		SearchResult<DocumentReference> result = matchAllQueryWithoutSort()
+				.totalHitCountThreshold( DOCUMENT_COUNT * 2 )
+				.fetch( 5 );
+
+		assertThat( result ).hasTotalHitCount( DOCUMENT_COUNT );
+		Assertions.assertThat( result.isTotalHitCountExact() ).isTrue();
+	}
+
+	@Test
+	public void totalHitCountThreshold_default() {
+		SearchResult<DocumentReference> result = matchAllQueryWithoutSort().fetch( 5 );
+
+		assertThat( result ).hasTotalHitCount( DOCUMENT_COUNT );
+		Assertions.assertThat( result.isTotalHitCountExact() ).isTrue();
+	}
+
+	@Test
+	public void totalHitCountThreshold_negative() {
+		Assertions.assertThatThrownBy( () -> matchAllQueryWithoutSort().totalHitCountThreshold( -1 ) )
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "'totalHitCountThreshold'" );
+	}
+
+	private SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> matchAllQueryWithoutSort() {
+		StubMappingScope scope = indexManager.createScope();
+		return scope.query()
+				.where( f -> f.matchAll() );
+	}
+
+	private void checkOverlappingAsyncFetches(SearchQuery<DocumentReference> query) {
+		// Executions of the same query running concurrently must not affect each other
+		List<CompletableFuture<List<DocumentReference>>> hitsFutures = new ArrayList<>();
+		List<CompletableFuture<Long>> countFutures = new ArrayList<>();
+		for ( int i = 0; i < 20; i++ ) {
+			hitsFutures.add( query.fetchHitsAsync( 1, 2 ).toCompletableFuture() );
+			countFutures.add( query.fetchTotalHitCountAsync().toCompletableFuture() );
+		}
+		for ( CompletableFuture<List<DocumentReference>> future : hitsFutures ) {
+			assertThat( future.join() )
+					.hasDocRefHitsExactOrder( INDEX_NAME, docId( 1 ), docId( 2 ) );
+		}
+		for ( CompletableFuture<Long> future : countFutures ) {
+			Assertions.assertThat( future.join() ).isEqualTo( DOCUMENT_COUNT );
+		}
+	}
+
 	private SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> matchAllQuery() {
 		StubMappingScope scope = indexManager.createScope();
 		return scope.query()
@@ -0,0 +1,211 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that entities reindexed because an entity they contain was modified
+ * are loaded in batches when they are still uninitialized proxies.
+ */
+public class AutomaticIndexingLoadingBatchSizeIT {
+
+	private static final int ENTITY_COUNT = 10;
+	private static final int BATCH_SIZE = 4;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	@Test
+	public void batchLoading() {
+		SessionFactory sessionFactory = setup();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+				ContainingEntity containing = new ContainingEntity();
+				containing.setId( i );
+				ContainedEntity contained = new ContainedEntity();
+				contained.setId( i );
+				contained.setText( "initial" );
+				contained.setContaining( containing );
+				containing.getContained().add( contained );
+				session.persist( containing );
+				session.persist( contained );
+			}
+
+			BackendMock.DocumentWorkCallListContext expectations = backendMock.expectWorks( ContainingEntity.INDEX );
+			for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+				expectations.add( String.valueOf( i ), b -> b
+						.objectField( "contained", b2 -> b2.field( "text", "initial" ) ) );
+			}
+			expectations.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+
+		List<String> containingEntityLoadingStatements = new ArrayList<>();
+		try ( Session session = sessionFactory.withOptions()
+				.statementInspector( sql -> {
+					if ( sql.toLowerCase( Locale.ROOT ).contains( " from " + ContainingEntity.NAME + " " ) ) {
+						containingEntityLoadingStatements.add( sql );
+					}
+					return sql;
+				} )
+				.openSession() ) {
+			Transaction tx = session.beginTransaction();
+			// The containing side of the association is lazy: containing entities are loaded as proxies
+			List<ContainedEntity> containedEntities = session.createQuery(
+					"select c from " + ContainedEntity.NAME + " c order by c.id", ContainedEntity.class )
+					.getResultList();
+			for ( ContainedEntity contained : containedEntities ) {
+				contained.setText( "updated" );
+			}
+			assertThat( containingEntityLoadingStatements ).isEmpty();
+
+			BackendMock.DocumentWorkCallListContext expectations = backendMock.expectWorks( ContainingEntity.INDEX );
+			for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+				expectations.update( String.valueOf( i ), b -> b
+						.objectField( "contained", b2 -> b2.field( "text", "updated" ) ) );
+			}
+			expectations.processedThenExecuted();
+			tx.commit();
+		}
+		backendMock.verifyExpectationsMet();
+
+		// 10 containing entities loaded in batches of 4: 3 statements instead of 10
+		assertThat( containingEntityLoadingStatements )
+				.hasSize( ( ENTITY_COUNT + BATCH_SIZE - 1 ) / BATCH_SIZE );
+	}
+
+	@Test
+	public void invalidBatchSize() {
+		assertThatThrownBy( () -> ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_LOADING_BATCH_SIZE, 0 )
+				.setup( ContainingEntity.class, ContainedEntity.class ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll(
+						"Unable to convert configuration property '"
+								+ HibernateOrmMapperSettings.AUTOMATIC_INDEXING_LOADING_BATCH_SIZE + "'",
+						"'0'",
+						"The batch size must be strictly positive"
+				);
+	}
+
+	private SessionFactory setup() {
+		backendMock.expectSchema( ContainingEntity.INDEX, b -> b
+				.objectField( "contained", b2 -> b2
+						.multiValued( true )
+						.field( "text", String.class )
+				)
+		);
+
+		SessionFactory sessionFactory = ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_LOADING_BATCH_SIZE, BATCH_SIZE )
+				.setup( ContainingEntity.class, ContainedEntity.class );
+		backendMock.verifyExpectationsMet();
+		return sessionFactory;
+	}
+
+	@Entity(name = ContainingEntity.NAME)
+	@Indexed(index = ContainingEntity.INDEX)
+	public static class ContainingEntity {
+
+		static final String NAME = "containing";
+		static final String INDEX = "containing";
+
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "containing")
+		@IndexedEmbedded
+		private List<ContainedEntity> contained = new ArrayList<>();
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public List<ContainedEntity> getContained() {
+			return contained;
+		}
+
+		public void setContained(List<ContainedEntity> contained) {
+			this.contained = contained;
+		}
+	}
+
+	@Entity(name = ContainedEntity.NAME)
+	public static class ContainedEntity {
+
+		static final String NAME = "contained";
+
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private ContainingEntity containing;
+
+		@Basic
+		@GenericField
+		private String text;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public ContainingEntity getContaining() {
+			return containing;
+		}
+
+		public void setContaining(ContainingEntity containing) {
+			this.containing = containing;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+}
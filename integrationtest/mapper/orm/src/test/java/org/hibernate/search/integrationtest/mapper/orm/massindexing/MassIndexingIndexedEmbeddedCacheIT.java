@@ -0,0 +1,186 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Fail.fail;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test mass indexing of entities embedding the same entity through {@link IndexedEmbedded},
+ * with and without {@link MassIndexer#cacheIndexedEmbedded(boolean) caching}.
+ */
+public class MassIndexingIndexedEmbeddedCacheIT {
+
+	private static final int BOOK_COUNT = 6;
+	private static final String PUBLISHER_NAME = "Penguin";
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( Book.INDEX );
+
+		sessionFactory = ormSetupHelper.start()
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY, AutomaticIndexingStrategyName.NONE )
+				.setup( Book.class, Publisher.class );
+
+		backendMock.verifyExpectationsMet();
+
+		initData();
+		Publisher.nameReadCount.set( 0 );
+	}
+
+	@Test
+	public void cacheEnabled() {
+		massIndex( true );
+
+		// All books are loaded in the same batch, so the publisher is only processed once
+		assertThat( Publisher.nameReadCount ).hasValue( 1 );
+	}
+
+	@Test
+	public void cacheDisabled() {
+		massIndex( false );
+
+		assertThat( Publisher.nameReadCount ).hasValue( BOOK_COUNT );
+	}
+
+	private void massIndex(boolean cacheIndexedEmbedded) {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer()
+					.batchSizeToLoadObjects( BOOK_COUNT )
+					.threadsToLoadObjects( 1 )
+					.cacheIndexedEmbedded( cacheIndexedEmbedded );
+
+			BackendMock.DocumentWorkCallListContext expectations = backendMock.expectWorksAnyOrder(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			);
+			for ( int i = 0; i < BOOK_COUNT; i++ ) {
+				int id = i;
+				expectations.add( String.valueOf( id ), b -> b
+						.field( "title", title( id ) )
+						.objectField( "publisher", b2 -> b2
+								.field( "name", PUBLISHER_NAME )
+						)
+				);
+			}
+			expectations.processedThenExecuted();
+
+			backendMock.expectIndexScaleWorks( Book.INDEX, session.getTenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	private void initData() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			Publisher publisher = new Publisher( 1, PUBLISHER_NAME );
+			session.persist( publisher );
+			for ( int i = 0; i < BOOK_COUNT; i++ ) {
+				session.persist( new Book( i, title( i ), publisher ) );
+			}
+		} );
+	}
+
+	private static String title(int id) {
+		return "Title " + id;
+	}
+
+	@Entity
+	@Table(name = "book")
+	@Indexed(index = Book.INDEX)
+	public static class Book {
+		public static final String INDEX = "Book";
+
+		@Id
+		@DocumentId
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		@ManyToOne
+		@IndexedEmbedded
+		private Publisher publisher;
+
+		protected Book() {
+		}
+
+		public Book(Integer id, String title, Publisher publisher) {
+			this.id = id;
+			this.title = title;
+			this.publisher = publisher;
+		}
+	}
+
+	@Entity
+	@Table(name = "publisher")
+	public static class Publisher {
+		static final AtomicInteger nameReadCount = new AtomicInteger();
+
+		@Id
+		private Integer id;
+
+		private String name;
+
+		protected Publisher() {
+		}
+
+		public Publisher(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@GenericField
+		public String getName() {
+			nameReadCount.incrementAndGet();
+			return name;
+		}
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendUtils.reference;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.transaction.TransactionManager;
+
+import org.assertj.core.api.Assertions;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.rule.StubSearchWorkBehavior;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+import org.hibernate.testing.jta.JtaAwareConnectionProviderImpl;
+import org.hibernate.testing.jta.TestingJtaPlatformImpl;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test asynchronous execution of search queries,
+ * in particular entity loading within JDBC and JTA transactions.
+ */
+public class SearchQueryAsyncIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	@Test
+	public void fetchAsync_jdbcTransaction() {
+		SessionFactory sessionFactory = setupWithJdbcTransactions();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			SearchQuery<IndexedEntity> query = Search.session( session ).search( IndexedEntity.class )
+					.where( f -> f.matchAll() )
+					.toQuery();
+
+			expectSearch();
+
+			// Entities are loaded in another thread, using the connection of the current JDBC transaction
+			List<IndexedEntity> hits = query.fetchHitsAsync( null ).toCompletableFuture().join();
+			backendMock.verifyExpectationsMet();
+			Assertions.assertThat( hits )
+					.allSatisfy( entity -> Assertions.assertThat( Hibernate.isInitialized( entity ) ).isTrue() )
+					.containsExactly(
+							session.load( IndexedEntity.class, 1 ),
+							session.load( IndexedEntity.class, 2 )
+					);
+		} );
+	}
+
+	@Test
+	public void fetchAsync_jtaTransaction() throws Exception {
+		SessionFactory sessionFactory = setupWithJtaTransactions();
+
+		TransactionManager transactionManager = TestingJtaPlatformImpl.transactionManager();
+		transactionManager.begin();
+		try {
+			OrmUtils.withinSession( sessionFactory, session -> {
+				SearchQuery<IndexedEntity> query = Search.session( session ).search( IndexedEntity.class )
+						.where( f -> f.matchAll() )
+						.toQuery();
+
+				// Loading in another thread would happen outside of the JTA transaction
+				Assertions.assertThatThrownBy( () -> query.fetchAsync( null ) )
+						.isInstanceOf( SearchException.class )
+						.hasMessageContainingAll(
+								"Cannot execute a query asynchronously",
+								"session is joined to a JTA transaction"
+						);
+				Assertions.assertThatThrownBy( () -> query.fetchHitsAsync( null ) )
+						.isInstanceOf( SearchException.class )
+						.hasMessageContaining( "Cannot execute a query asynchronously" );
+
+				// Counting does not involve loading
+				backendMock.expectCount( Arrays.asList( IndexedEntity.NAME ), 2L );
+				Assertions.assertThat( query.fetchTotalHitCountAsync().toCompletableFuture().join() )
+						.isEqualTo( 2L );
+				backendMock.verifyExpectationsMet();
+
+				// Blocking execution loads in the current thread, within the JTA transaction
+				expectSearch();
+				Assertions.assertThat( query.fetchAllHits() ).containsExactly(
+						session.load( IndexedEntity.class, 1 ),
+						session.load( IndexedEntity.class, 2 )
+				);
+				backendMock.verifyExpectationsMet();
+			} );
+		}
+		finally {
+			transactionManager.rollback();
+		}
+	}
+
+	@Test
+	public void fetchAsync_jtaWithoutTransaction() {
+		SessionFactory sessionFactory = setupWithJtaTransactions();
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchQuery<IndexedEntity> query = Search.session( session ).search( IndexedEntity.class )
+					.where( f -> f.matchAll() )
+					.toQuery();
+
+			expectSearch();
+
+			// No JTA transaction is in progress: nothing would be loaded outside of it
+			List<IndexedEntity> hits = query.fetchHitsAsync( null ).toCompletableFuture().join();
+			backendMock.verifyExpectationsMet();
+			Assertions.assertThat( hits ).containsExactly(
+					session.load( IndexedEntity.class, 1 ),
+					session.load( IndexedEntity.class, 2 )
+			);
+		} );
+	}
+
+	private SessionFactory setupWithJdbcTransactions() {
+		backendMock.expectAnySchema( IndexedEntity.NAME );
+		SessionFactory sessionFactory = ormSetupHelper.start()
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		initData( sessionFactory );
+		return sessionFactory;
+	}
+
+	private SessionFactory setupWithJtaTransactions() {
+		backendMock.expectAnySchema( IndexedEntity.NAME );
+		SessionFactory sessionFactory = ormSetupHelper.start()
+				.withProperty( AvailableSettings.TRANSACTION_COORDINATOR_STRATEGY, "jta" )
+				.withProperty( AvailableSettings.JTA_PLATFORM, TestingJtaPlatformImpl.INSTANCE )
+				.withProperty( AvailableSettings.CONNECTION_PROVIDER, JtaAwareConnectionProviderImpl.class.getName() )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		initData( sessionFactory );
+		return sessionFactory;
+	}
+
+	private void initData(SessionFactory sessionFactory) {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "text1" ) );
+			session.persist( new IndexedEntity( 2, "text2" ) );
+
+			backendMock.expectWorks( IndexedEntity.NAME )
+					.add( "1", b -> b.field( "text", "text1" ) )
+					.add( "2", b -> b.field( "text", "text2" ) )
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	private void expectSearch() {
+		backendMock.expectSearchObjects(
+				Arrays.asList( IndexedEntity.NAME ),
+				b -> { },
+				StubSearchWorkBehavior.of(
+						2L,
+						reference( IndexedEntity.NAME, "1" ),
+						reference( IndexedEntity.NAME, "2" )
+				)
+		);
+	}
+
+	@Entity(name = IndexedEntity.NAME)
+	@Indexed(index = IndexedEntity.NAME)
+	public static class IndexedEntity {
+
+		public static final String NAME = "indexed";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String text;
+
+		protected IndexedEntity() {
+		}
+
+		IndexedEntity(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+	}
+}
@@ -22,6 +22,7 @@
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.SoftAssertions;
 
+import org.hibernate.Hibernate;
 import org.hibernate.SessionFactory;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.aggregation.SearchAggregation;
@@ -30,6 +31,7 @@
 import org.hibernate.search.engine.search.sort.SearchSort;
 import org.hibernate.search.mapper.orm.Search;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.EntityReferenceImpl;
 import org.hibernate.search.mapper.orm.mapping.SearchMapping;
@@ -287,6 +289,85 @@ public void selectEntity() {
 		} );
 	}
 
+	@Test
+	public void fetchAsync() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+
+			SearchQuery<Book> query = searchSession.search( Book.class )
+					.where( f -> f.matchAll() )
+					.toQuery();
+
+			backendMock.expectSearchObjects(
+					Arrays.asList( Book.NAME ),
+					b -> { },
+					StubSearchWorkBehavior.of(
+							3L,
+							reference( Book.NAME, "1" ),
+							reference( Book.NAME, "2" ),
+							reference( Book.NAME, "3" )
+					)
+			);
+
+			// The session must not be used until the returned future completes
+			SearchResult<Book> result = query.fetchAsync( null ).toCompletableFuture().join();
+			Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( 3L );
+			Assertions.assertThat( result.getHits() )
+					.allSatisfy( book -> Assertions.assertThat( Hibernate.isInitialized( book ) ).isTrue() )
+					.containsExactly(
+							session.load( Book.class, 1 ),
+							session.load( Book.class, 2 ),
+							session.load( Book.class, 3 )
+					);
+		} );
+	}
+
+	@Test
+	public void multiSearch() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+
+			SearchQuery<Book> bookQuery = searchSession.search( Book.class )
+					.where( f -> f.matchAll() )
+					.toQuery();
+			SearchQuery<Author> authorQuery = searchSession.search( Author.class )
+					.where( f -> f.matchAll() )
+					.toQuery();
+
+			backendMock.expectSearchObjects(
+					Arrays.asList( Book.NAME ),
+					b -> b
+							.offset( 1 )
+							.limit( 2 ),
+					StubSearchWorkBehavior.of(
+							3L,
+							reference( Book.NAME, "2" ),
+							reference( Book.NAME, "3" )
+					)
+			);
+			backendMock.expectSearchObjects(
+					Arrays.asList( Author.NAME ),
+					b -> b
+							.limit( 1 ),
+					StubSearchWorkBehavior.of(
+							3L,
+							reference( Author.NAME, "1" )
+					)
+			);
+
+			List<SearchResult<?>> results = searchSession.multiSearch()
+					.add( bookQuery, 1, 2 )
+					.add( authorQuery, 1 )
+					.fetch();
+			Assertions.assertThat( results ).extracting( "hits" ).containsExactly(
+					Arrays.asList( session.load( Book.class, 2 ), session.load( Book.class, 3 ) ),
+					Arrays.asList( session.load( Author.class, 1 ) )
+			);
+			Assertions.assertThat( results ).extracting( "totalHitCount" )
+					.containsExactly( 3L, 3L );
+		} );
+	}
+
 	@Test
 	public void select_searchProjection_single() {
 		OrmUtils.withinSession( sessionFactory, session -> {
@@ -397,6 +397,59 @@ public void search() {
 	}
 
 
+	@Test
+	public void multiSearch() {
+		try ( SearchSession session = mapping.createSession() ) {
+			SearchQuery<EntityReference> referenceQuery = session.search( IndexedEntity.class )
+					.selectEntityReference()
+					.where( f -> f.matchAll() )
+					.toQuery();
+			SearchQuery<String> projectionQuery = session.search( IndexedEntity.class )
+					.select( f -> f.field( "myTextField", String.class ) )
+					.where( f -> f.matchAll() )
+					.toQuery();
+
+			backendMock.expectSearchReferences(
+					Arrays.asList( IndexedEntity.INDEX ),
+					b -> b
+							.offset( 3 )
+							.limit( 2 ),
+					StubSearchWorkBehavior.of(
+							6L,
+							reference( IndexedEntity.INDEX, "0" ),
+							reference( IndexedEntity.INDEX, "1" )
+					)
+			);
+			backendMock.expectSearchProjection(
+					Arrays.asList( IndexedEntity.INDEX ),
+					b -> b
+							.limit( 1 ),
+					StubSearchWorkBehavior.of(
+							2L,
+							"text1"
+					)
+			);
+
+			List<SearchResult<?>> results = session.multiSearch()
+					.add( referenceQuery, 3, 2 )
+					.add( projectionQuery, 1 )
+					.fetch();
+			assertThat( results ).extracting( "hits" )
+					.containsExactly(
+							Arrays.asList(
+									EntityReferenceImpl.withDefaultName( IndexedEntity.class, 0 ),
+									EntityReferenceImpl.withDefaultName( IndexedEntity.class, 1 )
+							),
+							Arrays.asList( "text1" )
+					);
+			assertThat( results ).extracting( "totalHitCount" )
+					.containsExactly( 6L, 2L );
+
+			backendMock.verifyExpectationsMet();
+		}
+	}
+
+
 	@Test
 	public void search_singleElementProjection() {
 		try ( SearchSession session = mapping.createSession() ) {
@@ -56,7 +56,7 @@ public abstract class AbstractMassIndexingBenchmarks extends AbstractBackendBenc
 	@Setup(Level.Iteration)
 	public void prepareIteration(DatasetHolder datasetHolder) {
 		index = getIndexPartition().getIndex();
-		StubBackendSessionContext sessionContext = new StubBackendSessionContext();
+		StubBackendSessionContext sessionContext = index.createSessionContext();
 		indexer = index.getIndexManager()
 				.createIndexer( sessionContext, commitStrategy );
 		dataset = datasetHolder.getDataset();
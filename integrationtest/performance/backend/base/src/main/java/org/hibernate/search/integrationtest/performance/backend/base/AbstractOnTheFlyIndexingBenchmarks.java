@@ -117,9 +117,9 @@ public void prepareIteration(DatasetHolder datasetHolder) {
 	@Benchmark
 	@Threads(10 * AbstractBackendHolder.INDEX_COUNT)
 	public void indexingPlan(WriteCounters counters) {
-		StubBackendSessionContext sessionContext = new StubBackendSessionContext();
 		PerThreadIndexPartition partition = getIndexPartition();
 		MappedIndex index = partition.getIndex();
+		StubBackendSessionContext sessionContext = index.createSessionContext();
 		IndexIndexingPlan<?> indexingPlan = index.getIndexManager()
 				.createIndexingPlan( sessionContext, getCommitStrategyParam(), refreshStrategy );
 
@@ -169,9 +169,10 @@ public void concurrentIndexingPlan(WriteCounters counters) {
 	@Group("concurrentReadWrite")
 	public void concurrentQuery(QueryParams params, Blackhole blackhole) {
 		PerThreadIndexPartition partition = getIndexPartition();
-		StubMappingIndexManager indexManager = partition.getIndex().getIndexManager();
+		MappedIndex index = partition.getIndex();
+		StubMappingIndexManager indexManager = index.getIndexManager();
 
-		SearchResult<DocumentReference> results = indexManager.createScope().query()
+		SearchResult<DocumentReference> results = indexManager.createScope().query( index.createSessionContext() )
 				.where( f -> f.matchAll() )
 				.sort( f -> f.field( MappedIndex.SHORT_TEXT_FIELD_NAME ) )
 				.fetch( params.getQueryMaxResults() );
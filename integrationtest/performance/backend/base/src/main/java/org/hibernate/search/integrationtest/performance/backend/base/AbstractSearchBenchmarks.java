@@ -0,0 +1,173 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.SearchMappedIndex;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Abstract class for JMH benchmarks related to search queries.
+ * <p>
+ * Each thread executes queries against a single index,
+ * which was populated with the initial documents of the dataset.
+ * Indexes are mapped with {@link SearchMappedIndex},
+ * through backend holders dedicated to search benchmarks.
+ * <p>
+ * Run with {@code -prof gc} to get the allocation rate per query in addition to the throughput.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public abstract class AbstractSearchBenchmarks extends AbstractBackendBenchmarks {
+
+	private static final AggregationKey<Map<String, Long>> TERMS_AGGREGATION_KEY = AggregationKey.of( "terms" );
+	private static final AggregationKey<Map<Range<Long>, Long>> RANGE_AGGREGATION_KEY = AggregationKey.of( "range" );
+
+	/**
+	 * The text to match against the long text field.
+	 */
+	@Param({ "hibernate search text" })
+	private String matchText;
+
+	/**
+	 * The phrase to match against the long text field.
+	 */
+	@Param({ "long text" })
+	private String phraseText;
+
+	/**
+	 * The offset to use when fetching deep pages.
+	 */
+	@Param({ "5000" })
+	private int largeOffset;
+
+	@Benchmark
+	public void match(QueryParams params, Blackhole blackhole) {
+		SearchResult<?> result = createScope().query()
+				.where( f -> f.match().field( MappedIndex.LONG_TEXT_FIELD_NAME ).matching( matchText ) )
+				.fetch( params.getQueryMaxResults() );
+		consume( blackhole, result );
+	}
+
+	@Benchmark
+	public void phrase(QueryParams params, Blackhole blackhole) {
+		SearchResult<?> result = createScope().query()
+				.where( f -> f.phrase().field( MappedIndex.LONG_TEXT_FIELD_NAME ).matching( phraseText ) )
+				.fetch( params.getQueryMaxResults() );
+		consume( blackhole, result );
+	}
+
+	@Benchmark
+	public void range(QueryParams params, Blackhole blackhole) {
+		SearchResult<?> result = createScope().query()
+				.where( f -> f.range().field( MappedIndex.NUMERIC_FIELD_NAME ).between( 0L, 100L ) )
+				.fetch( params.getQueryMaxResults() );
+		consume( blackhole, result );
+	}
+
+	@Benchmark
+	public void sortByText(QueryParams params, Blackhole blackhole) {
+		SearchResult<?> result = createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.SHORT_TEXT_FIELD_NAME ) )
+				.fetch( params.getQueryMaxResults() );
+		consume( blackhole, result );
+	}
+
+	@Benchmark
+	public void sortByNumericThenScore(QueryParams params, Blackhole blackhole) {
+		SearchResult<?> result = createScope().query()
+				.where( f -> f.match().field( MappedIndex.LONG_TEXT_FIELD_NAME ).matching( matchText ) )
+				.sort( f -> f.field( MappedIndex.NUMERIC_FIELD_NAME ).desc().then().score() )
+				.fetch( params.getQueryMaxResults() );
+		consume( blackhole, result );
+	}
+
+	@Benchmark
+	public void termsAggregation(QueryParams params, Blackhole blackhole) {
+		SearchResult<?> result = createScope().query()
+				.where( f -> f.matchAll() )
+				.aggregation( TERMS_AGGREGATION_KEY, f -> f.terms()
+						.field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class ) )
+				.fetch( params.getQueryMaxResults() );
+		consume( blackhole, result );
+		blackhole.consume( result.getAggregation( TERMS_AGGREGATION_KEY ) );
+	}
+
+	@Benchmark
+	public void rangeAggregation(QueryParams params, Blackhole blackhole) {
+		SearchResult<?> result = createScope().query()
+				.where( f -> f.matchAll() )
+				.aggregation( RANGE_AGGREGATION_KEY, f -> f.range()
+						.field( MappedIndex.NUMERIC_FIELD_NAME, Long.class )
+						.range( Range.lessThan( 100L ) )
+						.range( Range.canonical( 100L, 1000L ) )
+						.range( Range.atLeast( 1000L ) ) )
+				.fetch( params.getQueryMaxResults() );
+		consume( blackhole, result );
+		blackhole.consume( result.getAggregation( RANGE_AGGREGATION_KEY ) );
+	}
+
+	@Benchmark
+	public void fieldProjections(QueryParams params, Blackhole blackhole) {
+		SearchResult<List<?>> result = createScope().query()
+				.select( f -> f.composite(
+						f.field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class ),
+						f.field( MappedIndex.NUMERIC_FIELD_NAME, Long.class ),
+						f.score()
+				) )
+				.where( f -> f.match().field( MappedIndex.LONG_TEXT_FIELD_NAME ).matching( matchText ) )
+				.fetch( params.getQueryMaxResults() );
+		consume( blackhole, result );
+	}
+
+	@Benchmark
+	public void nested(QueryParams params, Blackhole blackhole) {
+		SearchResult<?> result = createScope().query()
+				.where( f -> f.nested().objectField( SearchMappedIndex.NESTED_FIELD_NAME )
+						.nest( f.bool()
+								.must( f.exists().field( SearchMappedIndex.NESTED_SHORT_TEXT_FIELD_NAME ) )
+								.must( f.range().field( SearchMappedIndex.NESTED_NUMERIC_FIELD_NAME ).atLeast( 100L ) )
+						) )
+				.fetch( params.getQueryMaxResults() );
+		consume( blackhole, result );
+	}
+
+	@Benchmark
+	public void largeOffset(QueryParams params, Blackhole blackhole) {
+		SearchResult<?> result = createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.SHORT_TEXT_FIELD_NAME ) )
+				.fetch( largeOffset, params.getQueryMaxResults() );
+		consume( blackhole, result );
+	}
+
+	private StubMappingScope createScope() {
+		return getIndexPartition().getIndex().getIndexManager().createScope();
+	}
+
+	private static void consume(Blackhole blackhole, SearchResult<?> result) {
+		blackhole.consume( result.getTotalHitCount() );
+		for ( Object hit : result.getHits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+}
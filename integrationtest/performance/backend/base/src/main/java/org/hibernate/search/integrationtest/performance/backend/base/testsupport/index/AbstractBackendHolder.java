@@ -69,13 +69,14 @@ public void startHibernateSearch(TemporaryFileHolder temporaryFileHolder) throws
 		SearchIntegrationBuilder integrationBuilder =
 				SearchIntegration.builder( propertySource, unusedPropertyChecker );
 
-		StubMappingInitiator initiator = new StubMappingInitiator( false );
+		String tenantId = getTenantId();
+		StubMappingInitiator initiator = new StubMappingInitiator( tenantId != null );
 		StubMappingKey mappingKey = new StubMappingKey();
 		integrationBuilder.addMappingInitiator( mappingKey, initiator );
 
 		indexes = new ArrayList<>();
 		for ( int i = 0; i < INDEX_COUNT; ++i ) {
-			MappedIndex index = new MappedIndex();
+			MappedIndex index = createIndex( tenantId );
 			indexes.add( index );
 			initiator.add(
 					"type_" + i, BACKEND_NAME, "index_" + i,
@@ -135,6 +136,22 @@ protected final Map<String, String> stringToMap(String settings) {
 		return map;
 	}
 
+	/**
+	 * @param tenantId The tenant ID to use when indexing and searching, or {@code null}.
+	 * @return A new index, to be added to the mapping.
+	 */
+	protected MappedIndex createIndex(String tenantId) {
+		return new MappedIndex( tenantId );
+	}
+
+	/**
+	 * @return The tenant ID to use when indexing and searching,
+	 * or {@code null} (the default) to disable multi-tenancy.
+	 */
+	protected String getTenantId() {
+		return null;
+	}
+
 	protected abstract ConfigurationPropertySource getDefaultBackendProperties(TemporaryFileHolder temporaryFileHolder)
 			throws IOException;
 
@@ -65,7 +65,7 @@ public void intializeIndexes(List<MappedIndex> indexes) {
 	}
 
 	public void addToIndex(MappedIndex index, LongStream idStream) {
-		StubBackendSessionContext sessionContext = new StubBackendSessionContext();
+		StubBackendSessionContext sessionContext = index.createSessionContext();
 
 		log( index, "Adding documents to index..." );
 
@@ -73,7 +73,7 @@ public void addToIndex(MappedIndex index, LongStream idStream) {
 				.createWorkspace( DetachedBackendSessionContext.of( sessionContext ) );
 
 		IndexIndexer indexer = index.getIndexManager()
-				.createIndexer( new StubBackendSessionContext(), DocumentCommitStrategy.NONE );
+				.createIndexer( sessionContext, DocumentCommitStrategy.NONE );
 		List<CompletableFuture<?>> futures = new ArrayList<>();
 		idStream.forEach( id -> {
 			CompletableFuture<?> future = indexer.add(
@@ -90,7 +90,7 @@ public void addToIndex(MappedIndex index, LongStream idStream) {
 
 	private void initializeIndex(MappedIndex index, LongStream idStream) {
 		log( index, "Starting index initialization..." );
-		StubBackendSessionContext sessionContext = new StubBackendSessionContext();
+		StubBackendSessionContext sessionContext = index.createSessionContext();
 
 		log( index, "Purging..." );
 		IndexWorkspace workspace = index.getIndexManager()
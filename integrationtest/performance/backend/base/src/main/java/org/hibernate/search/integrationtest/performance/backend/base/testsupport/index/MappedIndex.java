@@ -9,9 +9,11 @@
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexedEntityBindingContext;
 import org.hibernate.search.integrationtest.performance.backend.base.testsupport.analysis.Analyzers;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
 
 import org.openjdk.jmh.annotations.CompilerControl;
@@ -23,22 +25,33 @@ public class MappedIndex {
 	public static final String LONG_TEXT_FIELD_NAME = "longText";
 	public static final String NUMERIC_FIELD_NAME = "numeric";
 
+	private final String tenantId;
+
 	private IndexFieldReference<String> shortTextField;
 	private IndexFieldReference<String> longTextField;
 	private IndexFieldReference<Long> numericField;
 
 	private StubMappingIndexManager indexManager;
 
+	public MappedIndex(String tenantId) {
+		this.tenantId = tenantId;
+	}
+
 	public void bind(IndexedEntityBindingContext context) {
 		IndexSchemaElement root = context.getSchemaElement();
 		shortTextField = root.field(
 				SHORT_TEXT_FIELD_NAME,
-				f -> f.asString().normalizer( Analyzers.NORMALIZER_ENGLISH ).sortable( Sortable.YES )
+				f -> f.asString().normalizer( Analyzers.NORMALIZER_ENGLISH )
+						.projectable( Projectable.YES ).sortable( Sortable.YES )
 		)
 				.toReference();
 		longTextField = root.field( LONG_TEXT_FIELD_NAME, f -> f.asString().analyzer( Analyzers.ANALYZER_ENGLISH ) )
 				.toReference();
-		numericField = root.field( NUMERIC_FIELD_NAME, f -> f.asLong() ).toReference();
+		numericField = root.field(
+				NUMERIC_FIELD_NAME,
+				f -> f.asLong().projectable( Projectable.YES ).sortable( Sortable.YES )
+		)
+				.toReference();
 	}
 
 	public void setIndexManager(StubMappingIndexManager indexManager) {
@@ -49,6 +62,10 @@ public StubMappingIndexManager getIndexManager() {
 		return indexManager;
 	}
 
+	public StubBackendSessionContext createSessionContext() {
+		return new StubBackendSessionContext( tenantId );
+	}
+
 	public void populate(DocumentElement documentElement, String shortText, String longText, long numeric) {
 		documentElement.addValue( shortTextField, shortText );
 		documentElement.addValue( longTextField, longText );
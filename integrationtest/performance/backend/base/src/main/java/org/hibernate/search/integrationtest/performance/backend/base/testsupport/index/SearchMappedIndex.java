@@ -0,0 +1,89 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base.testsupport.index;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.document.model.dsl.ObjectFieldStorage;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.mapper.mapping.building.spi.IndexedEntityBindingContext;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.analysis.Analyzers;
+
+import org.openjdk.jmh.annotations.CompilerControl;
+
+/**
+ * A variant of {@link MappedIndex} for search benchmarks,
+ * with aggregable fields and nested documents.
+ * <p>
+ * Kept separate from {@link MappedIndex} so that these features
+ * do not affect what indexing benchmarks measure.
+ */
+@CompilerControl(CompilerControl.Mode.INLINE)
+public class SearchMappedIndex extends MappedIndex {
+
+	public static final String NESTED_FIELD_NAME = "nested";
+	public static final String NESTED_SHORT_TEXT_FIELD_NAME = NESTED_FIELD_NAME + "." + SHORT_TEXT_FIELD_NAME;
+	public static final String NESTED_NUMERIC_FIELD_NAME = NESTED_FIELD_NAME + "." + NUMERIC_FIELD_NAME;
+
+	private IndexFieldReference<String> shortTextField;
+	private IndexFieldReference<String> longTextField;
+	private IndexFieldReference<Long> numericField;
+	private IndexObjectFieldReference nestedField;
+	private IndexFieldReference<String> nestedShortTextField;
+	private IndexFieldReference<Long> nestedNumericField;
+
+	public SearchMappedIndex(String tenantId) {
+		super( tenantId );
+	}
+
+	@Override
+	public void bind(IndexedEntityBindingContext context) {
+		IndexSchemaElement root = context.getSchemaElement();
+		shortTextField = root.field(
+				SHORT_TEXT_FIELD_NAME,
+				f -> f.asString().normalizer( Analyzers.NORMALIZER_ENGLISH )
+						.projectable( Projectable.YES ).sortable( Sortable.YES ).aggregable( Aggregable.YES )
+		)
+				.toReference();
+		longTextField = root.field( LONG_TEXT_FIELD_NAME, f -> f.asString().analyzer( Analyzers.ANALYZER_ENGLISH ) )
+				.toReference();
+		numericField = root.field(
+				NUMERIC_FIELD_NAME,
+				f -> f.asLong().projectable( Projectable.YES ).sortable( Sortable.YES ).aggregable( Aggregable.YES )
+		)
+				.toReference();
+
+		IndexSchemaObjectField nested = root.objectField( NESTED_FIELD_NAME, ObjectFieldStorage.NESTED )
+				.multiValued();
+		nestedShortTextField = nested.field(
+				SHORT_TEXT_FIELD_NAME,
+				f -> f.asString().normalizer( Analyzers.NORMALIZER_ENGLISH )
+		)
+				.toReference();
+		nestedNumericField = nested.field( NUMERIC_FIELD_NAME, f -> f.asLong() ).toReference();
+		nestedField = nested.toReference();
+	}
+
+	@Override
+	public void populate(DocumentElement documentElement, String shortText, String longText, long numeric) {
+		documentElement.addValue( shortTextField, shortText );
+		documentElement.addValue( longTextField, longText );
+		documentElement.addValue( numericField, numeric );
+		// Two nested documents per root document, so that nested queries have something to join
+		for ( long i = 0; i < 2; i++ ) {
+			DocumentElement nestedElement = documentElement.addObject( nestedField );
+			nestedElement.addValue( nestedShortTextField, shortText );
+			nestedElement.addValue( nestedNumericField, numeric + i );
+		}
+	}
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene.testsupport;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.hibernate.search.backend.lucene.analysis.impl.AnalyzedValueCache;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.custom.CustomAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilterFactory;
+import org.apache.lucene.analysis.snowball.SnowballPorterFilterFactory;
+import org.apache.lucene.analysis.standard.StandardTokenizerFactory;
+import org.apache.lucene.analysis.tokenattributes.TermToBytesRefAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexableField;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the analysis of text fields when documents are reindexed,
+ * with and without the analyzed value cache.
+ * <p>
+ * Each invocation builds one document with many analyzed fields,
+ * only some of which changed since the document was last indexed,
+ * then consumes the token stream of each field the same way the index writer does.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public class LuceneAnalysisBenchmarks {
+
+	private static final String[] WORDS = {
+			"search", "indexing", "analysis", "tokens", "Hibernate", "Lucene", "documents", "fields",
+			"queries", "running", "jumped", "café", "naïve", "performance", "engineering", "caches"
+	};
+
+	/**
+	 * The number of analyzed fields in each document.
+	 */
+	@Param({ "30" })
+	private int analyzedFieldCount;
+
+	/**
+	 * The percentage of fields whose value changes every time a document is reindexed.
+	 */
+	@Param({ "10" })
+	private int changedFieldPercentage;
+
+	/**
+	 * The maximum size of the analyzed value cache; {@code 0} disables the cache.
+	 */
+	@Param({ "0", "10000" })
+	private int analysisCacheSize;
+
+	private final Random random = new Random( 1569349872133L );
+
+	private Analyzer analyzer;
+	private AnalyzedValueCache analyzedValueCache;
+	private String[] fieldNames;
+	private String[] values;
+	private int changedFieldCount;
+
+	@Setup(Level.Trial)
+	public void setupTrial() throws IOException {
+		analyzer = CustomAnalyzer.builder()
+				.withTokenizer( StandardTokenizerFactory.class )
+				.addTokenFilter( LowerCaseFilterFactory.class )
+				.addTokenFilter( SnowballPorterFilterFactory.class, "language", "English" )
+				.addTokenFilter( ASCIIFoldingFilterFactory.class )
+				.build();
+		analyzedValueCache = analysisCacheSize > 0
+				? new AnalyzedValueCache( analyzer, analysisCacheSize,
+						LuceneIndexSettings.Defaults.INDEXING_ANALYSIS_CACHE_MAX_MEMORY )
+				: null;
+		fieldNames = new String[analyzedFieldCount];
+		values = new String[analyzedFieldCount];
+		for ( int i = 0; i < analyzedFieldCount; i++ ) {
+			fieldNames[i] = "text" + i;
+			values[i] = randomText();
+		}
+		changedFieldCount = Math.max( 1, analyzedFieldCount * changedFieldPercentage / 100 );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		analyzer.close();
+	}
+
+	@Benchmark
+	public void reindex(Blackhole blackhole) throws IOException {
+		for ( int i = 0; i < changedFieldCount; i++ ) {
+			values[random.nextInt( analyzedFieldCount )] = randomText();
+		}
+
+		Document document = new Document();
+		for ( int i = 0; i < analyzedFieldCount; i++ ) {
+			document.add( new TextField( fieldNames[i], values[i], Field.Store.NO ) );
+		}
+		if ( analyzedValueCache != null ) {
+			analyzedValueCache.preAnalyze( document );
+		}
+
+		for ( IndexableField field : document ) {
+			try ( TokenStream stream = field.tokenStream( analyzer, null ) ) {
+				TermToBytesRefAttribute termAttribute = stream.addAttribute( TermToBytesRefAttribute.class );
+				stream.reset();
+				while ( stream.incrementToken() ) {
+					blackhole.consume( termAttribute.getBytesRef() );
+				}
+				stream.end();
+			}
+		}
+	}
+
+	private String randomText() {
+		StringBuilder builder = new StringBuilder();
+		int wordCount = 20 + random.nextInt( 30 );
+		for ( int i = 0; i < wordCount; i++ ) {
+			if ( i > 0 ) {
+				builder.append( ' ' );
+			}
+			builder.append( WORDS[random.nextInt( WORDS.length )] );
+		}
+		return builder.toString();
+	}
+
+}
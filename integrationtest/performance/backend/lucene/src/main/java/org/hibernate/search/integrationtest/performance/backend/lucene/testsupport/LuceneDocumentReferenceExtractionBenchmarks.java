@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene.testsupport;
+
+import java.util.List;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.performance.backend.base.AbstractBackendBenchmarks;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.IndexInitializer;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * Benchmarks the extraction of document references from the top hits of a query,
+ * which happens for every hit when loading entities.
+ * <p>
+ * The query targets all indexes, so that document references have to be built for multiple types.
+ * Run with {@code -prof gc} to get the allocation rate per operation;
+ * divide it by the number of hits to get the allocation per hit.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public class LuceneDocumentReferenceExtractionBenchmarks extends AbstractBackendBenchmarks {
+
+	/**
+	 * The number of hits to fetch in each query.
+	 */
+	@Param({ "1000" })
+	private int pageSize;
+
+	private StubMappingScope scope;
+
+	@Setup(Level.Trial)
+	public void setupTrial(LuceneBackendHolder backendHolder, IndexInitializer indexInitializer,
+			ThreadParams threadParams) {
+		doSetupTrial( backendHolder, indexInitializer, threadParams );
+		List<MappedIndex> indexes = backendHolder.getIndexes();
+		StubMappingIndexManager[] others = new StubMappingIndexManager[indexes.size() - 1];
+		for ( int i = 1; i < indexes.size(); i++ ) {
+			others[i - 1] = indexes.get( i ).getIndexManager();
+		}
+		scope = indexes.get( 0 ).getIndexManager().createScope( others );
+	}
+
+	@Benchmark
+	public void documentReferences(Blackhole blackhole) {
+		SearchResult<DocumentReference> result = scope.query()
+				.where( f -> f.matchAll() )
+				.fetch( pageSize );
+		for ( DocumentReference hit : result.getHits() ) {
+			blackhole.consume( hit.getTypeName() );
+			blackhole.consume( hit.getId() );
+		}
+	}
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene.testsupport;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.filesystem.TemporaryFileHolder;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A backend holder with the discriminator multi-tenancy strategy enabled,
+ * indexing and searching as a single tenant.
+ */
+@State(Scope.Benchmark)
+public class LuceneMultiTenancyBackendHolder extends LuceneBackendHolder {
+
+	private static final String TENANT_ID = "tenant1";
+
+	@Override
+	protected String getTenantId() {
+		return TENANT_ID;
+	}
+
+	@Override
+	protected ConfigurationPropertySource getDefaultBackendProperties(TemporaryFileHolder temporaryFileHolder)
+			throws IOException {
+		return super.getDefaultBackendProperties( temporaryFileHolder )
+				.withOverride( ConfigurationPropertySource.fromMap( Collections.singletonMap(
+						LuceneBackendSettings.MULTI_TENANCY_STRATEGY, MultiTenancyStrategyName.DISCRIMINATOR
+				) ) );
+	}
+}
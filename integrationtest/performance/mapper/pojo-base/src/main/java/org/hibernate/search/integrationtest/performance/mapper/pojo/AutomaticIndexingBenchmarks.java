@@ -0,0 +1,119 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.pojo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.integrationtest.performance.mapper.pojo.testsupport.MappingHolder;
+import org.hibernate.search.integrationtest.performance.mapper.pojo.testsupport.model.Author;
+import org.hibernate.search.integrationtest.performance.mapper.pojo.testsupport.model.Book;
+import org.hibernate.search.mapper.javabean.mapping.SearchMapping;
+import org.hibernate.search.mapper.javabean.session.SearchSession;
+import org.hibernate.search.mapper.javabean.work.SearchIndexingPlan;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks for automatic indexing in the POJO mapper,
+ * and in particular for the implicit reindexing resolvers.
+ * <p>
+ * Each invocation reports changes in a few contained entities (authors)
+ * that are embedded in many indexed entities (books),
+ * and executes the resulting indexing plan.
+ * Depending on the reported dirty paths, dirty checking will
+ * either prune the whole reindexing resolution,
+ * or trigger the reindexing of every containing entity.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public class AutomaticIndexingBenchmarks {
+
+	/**
+	 * The dirty paths to report, as a space-separated list of paths.
+	 * <p>
+	 * An empty string means no dirty paths are reported,
+	 * i.e. every property must be considered dirty.
+	 */
+	@Param({ "email website phoneNumber biography agentName", "agentName name", "" })
+	private String dirtyPaths;
+
+	/**
+	 * The number of authors to update in each indexing plan.
+	 */
+	@Param({ "20" })
+	private int authorsPerPlan;
+
+	/**
+	 * The number of books written by each author.
+	 */
+	@Param({ "50" })
+	private int booksPerAuthor;
+
+	private SearchMapping mapping;
+	private String[] dirtyPathArray;
+	private List<Author> authors;
+
+	@Setup(Level.Trial)
+	public void setup(MappingHolder mappingHolder) {
+		mapping = mappingHolder.getMapping();
+		dirtyPathArray = dirtyPaths.isEmpty() ? null : dirtyPaths.split( " " );
+
+		authors = new ArrayList<>();
+		int bookId = 0;
+		for ( int authorId = 0; authorId < authorsPerPlan; ++authorId ) {
+			Author author = new Author( authorId, "Author " + authorId, 1900 + authorId, "Nationality " + authorId % 5 );
+			authors.add( author );
+			for ( int i = 0; i < booksPerAuthor; ++i ) {
+				Book book = new Book( bookId, "Title " + bookId, "Summary of book " + bookId, 2000 + i );
+				++bookId;
+				book.getAuthors().add( author );
+				author.getBooks().add( book );
+			}
+		}
+
+		try ( SearchSession session = createSession() ) {
+			SearchIndexingPlan indexingPlan = session.indexingPlan();
+			for ( Author author : authors ) {
+				for ( Book book : author.getBooks() ) {
+					indexingPlan.add( book );
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public void updateContained() {
+		try ( SearchSession session = createSession() ) {
+			SearchIndexingPlan indexingPlan = session.indexingPlan();
+			for ( Author author : authors ) {
+				if ( dirtyPathArray == null ) {
+					indexingPlan.addOrUpdate( author );
+				}
+				else {
+					indexingPlan.addOrUpdate( author, dirtyPathArray );
+				}
+			}
+		}
+	}
+
+	private SearchSession createSession() {
+		return mapping.createSessionWithOptions()
+				.commitStrategy( DocumentCommitStrategy.NONE )
+				.refreshStrategy( DocumentRefreshStrategy.NONE )
+				.build();
+	}
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.pojo.testsupport;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.cfg.BackendSettings;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.integrationtest.performance.mapper.pojo.testsupport.model.Author;
+import org.hibernate.search.integrationtest.performance.mapper.pojo.testsupport.model.Book;
+import org.hibernate.search.mapper.javabean.mapping.CloseableSearchMapping;
+import org.hibernate.search.mapper.javabean.mapping.SearchMapping;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Holds a JavaBean mapping relying on a Lucene backend with in-memory indexes,
+ * so that benchmarks focus on the work performed by the mapper.
+ */
+@State(Scope.Benchmark)
+public class MappingHolder {
+
+	private static final String BACKEND_NAME = "testedBackend";
+
+	private CloseableSearchMapping mapping;
+
+	@Setup(Level.Trial)
+	public void startHibernateSearch() {
+		String backendPrefix = EngineSettings.BACKENDS + "." + BACKEND_NAME + ".";
+		mapping = SearchMapping.builder( MethodHandles.lookup() )
+				.setProperty( EngineSettings.DEFAULT_BACKEND, BACKEND_NAME )
+				.setProperty( backendPrefix + BackendSettings.TYPE, LuceneBackendSettings.TYPE_NAME )
+				.setProperty( backendPrefix + LuceneBackendSettings.DIRECTORY_TYPE, "local-heap" )
+				.addEntityType( Book.class, Book.NAME )
+				.addEntityType( Author.class, Author.NAME )
+				.build();
+	}
+
+	@TearDown(Level.Trial)
+	public void stopHibernateSearch() {
+		if ( mapping != null ) {
+			mapping.close();
+		}
+	}
+
+	public SearchMapping getMapping() {
+		return mapping;
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.pojo.testsupport.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.AssociationInverseSide;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.ObjectPath;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.PropertyValue;
+
+@Indexed(index = Book.NAME)
+public class Book {
+
+	public static final String NAME = "Book";
+
+	private Integer id;
+	private String title;
+	private String summary;
+	private Integer publicationYear;
+	private String publisherName;
+	private List<Author> authors = new ArrayList<>();
+
+	public Book() {
+	}
+
+	public Book(Integer id, String title, String summary, Integer publicationYear) {
+		this.id = id;
+		this.title = title;
+		this.summary = summary;
+		this.publicationYear = publicationYear;
+	}
+
+	@DocumentId
+	public Integer getId() {
+		return id;
+	}
+
+	public void setId(Integer id) {
+		this.id = id;
+	}
+
+	@KeywordField
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	@KeywordField
+	public String getSummary() {
+		return summary;
+	}
+
+	public void setSummary(String summary) {
+		this.summary = summary;
+	}
+
+	@GenericField
+	public Integer getPublicationYear() {
+		return publicationYear;
+	}
+
+	public void setPublicationYear(Integer publicationYear) {
+		this.publicationYear = publicationYear;
+	}
+
+	public String getPublisherName() {
+		return publisherName;
+	}
+
+	public void setPublisherName(String publisherName) {
+		this.publisherName = publisherName;
+	}
+
+	@IndexedEmbedded(includePaths = { "name", "birthYear", "nationality" })
+	@AssociationInverseSide(inversePath = @ObjectPath(@PropertyValue(propertyName = "books")))
+	public List<Author> getAuthors() {
+		return authors;
+	}
+
+	public void setAuthors(List<Author> authors) {
+		this.authors = authors;
+	}
+}
@@ -9,6 +9,7 @@
 import java.util.Collection;
 import java.util.Collections;
 
+import org.hibernate.search.engine.search.query.SearchMultiQuery;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.mapper.javabean.common.EntityReference;
 import org.hibernate.search.mapper.javabean.scope.SearchScope;
@@ -58,6 +59,15 @@ public interface SearchSession extends AutoCloseable {
 	 */
 	SearchQuerySelectStep<?, EntityReference, ?, ?, ?, ?> search(SearchScope scope);
 
+	/**
+	 * Initiate the building of a multi-query,
+	 * i.e. a group of search queries executed together in as few round-trips to the backends as possible.
+	 *
+	 * @return A new, empty {@link SearchMultiQuery}.
+	 * @see SearchMultiQuery
+	 */
+	SearchMultiQuery multiSearch();
+
 	/**
 	 * Create a {@link SearchScope} limited to the given type.
 	 *
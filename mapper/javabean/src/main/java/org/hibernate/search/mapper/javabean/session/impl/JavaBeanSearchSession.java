@@ -12,6 +12,8 @@
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.search.query.SearchMultiQuery;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchMultiQuery;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.engine.backend.common.spi.DocumentReferenceConverter;
 import org.hibernate.search.mapper.javabean.common.EntityReference;
@@ -78,6 +80,11 @@ public PojoRuntimeIntrospector getRuntimeIntrospector() {
 		return search( (SearchScopeImpl) scope );
 	}
 
+	@Override
+	public SearchMultiQuery multiSearch() {
+		return new SimpleSearchMultiQuery();
+	}
+
 	@Override
 	public SearchScopeImpl scope(Collection<? extends Class<?>> types) {
 		return mappingContext.createScope( types );
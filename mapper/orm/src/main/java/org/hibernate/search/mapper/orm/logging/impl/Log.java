@@ -266,4 +266,15 @@ SearchException invalidEntitySuperType(String entityName,
 	@Message(id = ID_OFFSET_2 + 32, value = "Invalid schema management strategy name: '%1$s'."
 			+ " Valid names are: %2$s.")
 	SearchException invalidSchemaManagementStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 33,
+			value = "Invalid batch size for the loading of entities during automatic indexing: '%1$s'."
+					+ " The batch size must be strictly positive.")
+	SearchException invalidAutomaticIndexingLoadingBatchSize(int batchSize);
+
+	@Message(id = ID_OFFSET_2 + 34,
+			value = "Cannot execute a query asynchronously while the Hibernate ORM session is joined to a JTA transaction:"
+					+ " entities would be loaded in another thread, outside of that transaction."
+					+ " Use the blocking methods (fetch, fetchHits, ...) instead, or only fetch the total hit count asynchronously.")
+	SearchException asyncLoadingWithJtaTransaction();
 }
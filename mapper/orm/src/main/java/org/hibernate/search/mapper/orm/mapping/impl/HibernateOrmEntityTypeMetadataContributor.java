@@ -9,7 +9,7 @@
 import java.util.Optional;
 
 import org.hibernate.mapping.PersistentClass;
-import org.hibernate.search.mapper.orm.model.impl.HibernateOrmPathFilterFactory;
+import org.hibernate.search.mapper.orm.model.impl.HibernateOrmPathsDefinition;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoMappingCollectorTypeNode;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoTypeMetadataContributor;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.building.spi.PojoAdditionalMetadataCollectorTypeNode;
@@ -36,7 +36,7 @@ public void contributeAdditionalMetadata(PojoAdditionalMetadataCollectorTypeNode
 		}
 		collector.markAsEntity(
 				persistentClass.getJpaEntityName(),
-				new HibernateOrmPathFilterFactory( persistentClass )
+				new HibernateOrmPathsDefinition( persistentClass )
 		)
 				.entityIdPropertyName( identifierPropertyNameOptional.orElse( null ) );
 	}
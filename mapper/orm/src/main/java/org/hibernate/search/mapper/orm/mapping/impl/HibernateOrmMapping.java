@@ -12,6 +12,8 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 
@@ -74,6 +76,12 @@ public class HibernateOrmMapping extends AbstractPojoMappingImplementor<Hibernat
 					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_LOADING_BATCH_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_LOADING_BATCH_SIZE )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_LOADING_BATCH_SIZE )
+					.build();
+
 	private static final ConfigurationProperty<EntityLoadingCacheLookupStrategy> QUERY_LOADING_CACHE_LOOKUP_STRATEGY =
 			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.QUERY_LOADING_CACHE_LOOKUP_STRATEGY )
 					.as( EntityLoadingCacheLookupStrategy.class, EntityLoadingCacheLookupStrategy::of )
@@ -102,6 +110,16 @@ public static MappingImplementor<HibernateOrmMapping> create(
 		try {
 			log.defaultAutomaticIndexingSynchronizationStrategy( synchronizationStrategyHolder.get() );
 
+			int automaticIndexingLoadingBatchSize = AUTOMATIC_INDEXING_LOADING_BATCH_SIZE.getAndTransform(
+					propertySource,
+					batchSize -> {
+						if ( batchSize <= 0 ) {
+							throw log.invalidAutomaticIndexingLoadingBatchSize( batchSize );
+						}
+						return batchSize;
+					}
+			);
+
 			EntityLoadingCacheLookupStrategy cacheLookupStrategy =
 					QUERY_LOADING_CACHE_LOOKUP_STRATEGY.get( propertySource );
 
@@ -112,7 +130,7 @@ public static MappingImplementor<HibernateOrmMapping> create(
 
 			return new HibernateOrmMapping(
 					mappingDelegate, typeContextContainer, sessionFactory,
-					synchronizationStrategyHolder,
+					synchronizationStrategyHolder, automaticIndexingLoadingBatchSize,
 					cacheLookupStrategy, fetchSize,
 					schemaManagementListener
 			);
@@ -127,15 +145,19 @@ public static MappingImplementor<HibernateOrmMapping> create(
 	private final SessionFactoryImplementor sessionFactory;
 	private final HibernateOrmTypeContextContainer typeContextContainer;
 	private final BeanHolder<? extends AutomaticIndexingSynchronizationStrategy> defaultSynchronizationStrategyHolder;
+	private final int automaticIndexingLoadingBatchSize;
 	private final EntityLoadingCacheLookupStrategy cacheLookupStrategy;
 	private final int fetchSize;
 
 	private final SchemaManagementListener schemaManagementListener;
 
+	private ThreadPoolExecutor asyncLoadingExecutor;
+
 	private HibernateOrmMapping(PojoMappingDelegate mappingDelegate,
 			HibernateOrmTypeContextContainer typeContextContainer,
 			SessionFactoryImplementor sessionFactory,
 			BeanHolder<? extends AutomaticIndexingSynchronizationStrategy> defaultSynchronizationStrategyHolder,
+			int automaticIndexingLoadingBatchSize,
 			EntityLoadingCacheLookupStrategy cacheLookupStrategy,
 			int fetchSize,
 			SchemaManagementListener schemaManagementListener) {
@@ -143,6 +165,7 @@ private HibernateOrmMapping(PojoMappingDelegate mappingDelegate,
 		this.typeContextContainer = typeContextContainer;
 		this.sessionFactory = sessionFactory;
 		this.defaultSynchronizationStrategyHolder = defaultSynchronizationStrategyHolder;
+		this.automaticIndexingLoadingBatchSize = automaticIndexingLoadingBatchSize;
 		this.cacheLookupStrategy = cacheLookupStrategy;
 		this.fetchSize = fetchSize;
 		this.schemaManagementListener = schemaManagementListener;
@@ -150,6 +173,11 @@ private HibernateOrmMapping(PojoMappingDelegate mappingDelegate,
 
 	@Override
 	public CompletableFuture<?> start(MappingStartContext context) {
+		// Threads are only created when first needed, i.e. when a query is executed asynchronously.
+		asyncLoadingExecutor = getThreadPoolProvider().newFixedThreadPool(
+				Runtime.getRuntime().availableProcessors(), "Hibernate Search - Async query entity loading"
+		);
+
 		Optional<SearchScopeImpl<Object>> scope = createAllScope();
 		if ( !scope.isPresent() ) {
 			// No indexed type
@@ -172,6 +200,9 @@ public CompletableFuture<?> preStop(MappingPreStopContext context) {
 
 	@Override
 	protected void doStop() {
+		if ( asyncLoadingExecutor != null ) {
+			asyncLoadingExecutor.shutdownNow();
+		}
 		defaultSynchronizationStrategyHolder.close();
 	}
 
@@ -225,6 +256,11 @@ public int getFetchSize() {
 		return fetchSize;
 	}
 
+	@Override
+	public Executor getAsyncLoadingExecutor() {
+		return asyncLoadingExecutor;
+	}
+
 	@Override
 	public SessionFactoryImplementor getSessionFactory() {
 		return sessionFactory;
@@ -298,7 +334,8 @@ public HibernateOrmSearchSession.Builder createSessionBuilder(
 		return new HibernateOrmSearchSession.Builder(
 				this, typeContextContainer,
 				sessionImplementor,
-				defaultSynchronizationStrategyHolder.get()
+				defaultSynchronizationStrategyHolder.get(),
+				automaticIndexingLoadingBatchSize
 		);
 	}
 
@@ -55,6 +55,19 @@ public interface MassIndexer {
 	 */
 	MassIndexer cacheMode(CacheMode cacheMode);
 
+	/**
+	 * Caches the document content contributed by {@code @IndexedEmbedded} entities within each batch of loaded entities,
+	 * so that an entity embedded in multiple indexed entities is only processed once per batch.
+	 * <p>
+	 * Useful when many indexed entities embed the same few entities,
+	 * e.g. books embedding their publisher.
+	 * <p>
+	 * Defaults to {@code false}.
+	 * @param enable {@code true} to enable the cache, {@code false} to disable it.
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer cacheIndexedEmbedded(boolean enable);
+
 	/**
 	 * Merges each index into a single segment after indexing.
 	 * <p>
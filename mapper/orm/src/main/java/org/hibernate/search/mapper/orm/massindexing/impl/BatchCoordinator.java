@@ -44,6 +44,7 @@ public class BatchCoordinator extends FailureHandledRunnable {
 	private final int typesToIndexInParallel;
 	private final int documentBuilderThreads;
 	private final CacheMode cacheMode;
+	private final boolean cacheIndexedEmbedded;
 	private final int objectLoadingBatchSize;
 	private final boolean mergeSegmentsOnFinish;
 	private final boolean dropAndCreateSchemaOnStart;
@@ -59,7 +60,7 @@ public class BatchCoordinator extends FailureHandledRunnable {
 			MassIndexingNotifier notifier,
 			Set<HibernateOrmMassIndexingIndexedTypeContext<?>> rootEntityTypes,
 			PojoScopeSchemaManager scopeSchemaManager, PojoScopeWorkspace scopeWorkspace,
-			int typesToIndexInParallel, int documentBuilderThreads, CacheMode cacheMode,
+			int typesToIndexInParallel, int documentBuilderThreads, CacheMode cacheMode, boolean cacheIndexedEmbedded,
 			int objectLoadingBatchSize, long objectsLimit, boolean mergeSegmentsOnFinish,
 			boolean dropAndCreateSchemaOnStart, boolean purgeAtStart, boolean mergeSegmentsAfterPurge,
 			int idFetchSize, Integer transactionTimeout) {
@@ -75,6 +76,7 @@ public class BatchCoordinator extends FailureHandledRunnable {
 		this.typesToIndexInParallel = typesToIndexInParallel;
 		this.documentBuilderThreads = documentBuilderThreads;
 		this.cacheMode = cacheMode;
+		this.cacheIndexedEmbedded = cacheIndexedEmbedded;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
 		this.mergeSegmentsOnFinish = mergeSegmentsOnFinish;
 		this.dropAndCreateSchemaOnStart = dropAndCreateSchemaOnStart;
@@ -157,7 +159,7 @@ private void doBatchWork() throws InterruptedException {
 		return new BatchIndexingWorkspace<>(
 				mappingContext, sessionContext, getNotifier(),
 				type, idAttributeOfType,
-				documentBuilderThreads, cacheMode,
+				documentBuilderThreads, cacheMode, cacheIndexedEmbedded,
 				objectLoadingBatchSize,
 				objectsLimit, idFetchSize, transactionTimeout
 		);
@@ -47,6 +47,7 @@
 
 	// loading options
 	private final CacheMode cacheMode;
+	private final boolean cacheIndexedEmbedded;
 	private final int objectLoadingBatchSize;
 
 	private final long objectsLimit;
@@ -61,7 +62,7 @@
 			DetachedBackendSessionContext sessionContext,
 			MassIndexingNotifier notifier,
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
-			int objectLoadingThreads, CacheMode cacheMode, int objectLoadingBatchSize,
+			int objectLoadingThreads, CacheMode cacheMode, boolean cacheIndexedEmbedded, int objectLoadingBatchSize,
 			long objectsLimit,
 			int idFetchSize, Integer transactionTimeout) {
 		super( notifier );
@@ -78,6 +79,7 @@
 
 		//loading options:
 		this.cacheMode = cacheMode;
+		this.cacheIndexedEmbedded = cacheIndexedEmbedded;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
 
 		//pipelining queues:
@@ -158,7 +160,7 @@ private void startIndexing() {
 				getNotifier(),
 				type, idAttributeOfType,
 				primaryKeyStream,
-				cacheMode,
+				cacheMode, cacheIndexedEmbedded,
 				transactionTimeout
 		);
 		final ThreadPoolExecutor indexingExecutor = mappingContext.getThreadPoolProvider().newFixedThreadPool(
@@ -54,6 +54,7 @@
 
 	private final ProducerConsumerQueue<List<I>> source;
 	private final CacheMode cacheMode;
+	private final boolean cacheIndexedEmbedded;
 	private final Integer transactionTimeout;
 
 	/**
@@ -66,7 +67,7 @@
 			MassIndexingNotifier notifier,
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
 			ProducerConsumerQueue<List<I>> fromIdentifierListToEntities,
-			CacheMode cacheMode,
+			CacheMode cacheMode, boolean cacheIndexedEmbedded,
 			Integer transactionTimeout
 			) {
 		this.mappingContext = mappingContext;
@@ -74,6 +75,7 @@
 		this.notifier = notifier;
 		this.source = fromIdentifierListToEntities;
 		this.cacheMode = cacheMode;
+		this.cacheIndexedEmbedded = cacheIndexedEmbedded;
 		this.type = type;
 		this.idAttributeOfType = idAttributeOfType;
 		this.transactionTimeout = transactionTimeout;
@@ -109,6 +111,9 @@ public void run() {
 	private void loadAllFromQueue(SessionImplementor session) throws SystemException, NotSupportedException {
 		// The search session will be closed automatically with the ORM session
 		PojoIndexer indexer = mappingContext.createIndexer( session );
+		if ( cacheIndexedEmbedded ) {
+			indexer.enableEmbeddedCache();
+		}
 		try {
 			List<I> idList;
 			do {
@@ -157,6 +162,8 @@ private void loadList(List<I> listIds, SessionImplementor session, PojoIndexer i
 			session.clear();
 		}
 		finally {
+			// Cached content is keyed by entity identity, which does not survive clearing the session
+			indexer.clearEmbeddedCache();
 			// it's read-only, so no need to commit
 			rollbackTransaction( session );
 		}
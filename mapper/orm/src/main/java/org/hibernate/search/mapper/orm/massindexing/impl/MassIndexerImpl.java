@@ -53,6 +53,7 @@ public class MassIndexerImpl implements MassIndexer {
 	private int objectLoadingBatchSize = 10;
 	private long objectsLimit = 0; //means no limit at all
 	private CacheMode cacheMode = CacheMode.IGNORE;
+	private boolean cacheIndexedEmbedded = false;
 	private boolean mergeSegmentsOnFinish = false;
 	private boolean dropAndCreateSchemaOnStart = false;
 	private boolean purgeAtStart = true;
@@ -123,6 +124,12 @@ public MassIndexer cacheMode(CacheMode cacheMode) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer cacheIndexedEmbedded(boolean enable) {
+		this.cacheIndexedEmbedded = enable;
+		return this;
+	}
+
 	@Override
 	public MassIndexer threadsToLoadObjects(int numberOfThreads) {
 		if ( numberOfThreads < 1 ) {
@@ -210,7 +217,7 @@ protected BatchCoordinator createCoordinator() {
 				notifier,
 				rootEntityTypes, scopeSchemaManager, scopeWorkspace,
 				typesToIndexInParallel, documentBuilderThreads,
-				cacheMode, objectLoadingBatchSize, objectsLimit,
+				cacheMode, cacheIndexedEmbedded, objectLoadingBatchSize, objectsLimit,
 				mergeSegmentsOnFinish, dropAndCreateSchemaOnStart, purgeAtStart, mergeSegmentsAfterPurge,
 				idFetchSize, idLoadingTransactionTimeout
 		);
@@ -27,19 +27,16 @@
 import org.hibernate.search.mapper.pojo.extractor.builtin.BuiltinContainerExtractors;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPathPropertyNode;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
-import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
-import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
-import org.hibernate.search.mapper.pojo.model.path.spi.StringSetPojoPathFilter;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathsDefinition;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.SearchException;
-import org.hibernate.search.util.common.impl.CollectionHelper;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
- * A {@link PojoPathFilterFactory} suitable for use with Hibernate ORM,
+ * A {@link PojoPathsDefinition} suitable for use with Hibernate ORM,
  * in particular with its event system.
  * <p>
- * Paths passed to this factory are assigned a string representation as follows:
+ * Paths passed to this definition are assigned a string representation as follows:
  * <ul>
  *     <li>
  *         If the whole path does not contain any multi-valued {@link Value}
@@ -143,24 +140,21 @@
  *     </li>
  * </ul>
  */
-public class HibernateOrmPathFilterFactory implements PojoPathFilterFactory<Set<String>> {
+public class HibernateOrmPathsDefinition implements PojoPathsDefinition {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final PersistentClass persistentClass;
 
-	public HibernateOrmPathFilterFactory(PersistentClass persistentClass) {
+	public HibernateOrmPathsDefinition(PersistentClass persistentClass) {
 		this.persistentClass = persistentClass;
 	}
 
 	@Override
-	public PojoPathFilter<Set<String>> create(Set<PojoModelPathValueNode> paths) {
-		// Use a LinkedHashSet for deterministic iteration
-		Set<String> pathsAsStrings = CollectionHelper.newLinkedHashSet( paths.size() );
-		for ( PojoModelPathValueNode path : paths ) {
-			addDirtyPathStringRepresentations( pathsAsStrings, path );
+	public void interpretPaths(Set<String> target, Set<PojoModelPathValueNode> source) {
+		for ( PojoModelPathValueNode path : source ) {
+			addDirtyPathStringRepresentations( target, path );
 		}
-		return new StringSetPojoPathFilter( pathsAsStrings );
 	}
 
 	private void addDirtyPathStringRepresentations(Set<String> pathsAsStrings, PojoModelPathValueNode path) {
@@ -212,7 +206,7 @@ private Optional<Value> resolveValueNode(Set<String> pathsAsStrings, PojoModelPa
 		if ( extractorPath.isDefault() ) {
 			throw new AssertionFailure(
 					"Expected a non-default extractor path as per the "
-					+ PojoPathFilterFactory.class.getSimpleName() + " contract"
+					+ PojoPathsDefinition.class.getSimpleName() + " contract"
 			);
 		}
 
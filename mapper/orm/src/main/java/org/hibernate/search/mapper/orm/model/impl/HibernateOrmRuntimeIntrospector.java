@@ -6,6 +6,13 @@
  */
 package org.hibernate.search.mapper.orm.model.impl;
 
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.proxy.HibernateProxy;
 import org.hibernate.proxy.LazyInitializer;
@@ -20,11 +27,13 @@ public class HibernateOrmRuntimeIntrospector implements PojoRuntimeIntrospector
 
 	private final HibernateOrmRuntimeIntrospectorTypeContextProvider typeContextProvider;
 	private final SessionImplementor sessionImplementor;
+	private final int initializationBatchSize;
 
 	public HibernateOrmRuntimeIntrospector(HibernateOrmRuntimeIntrospectorTypeContextProvider typeContextProvider,
-			SessionImplementor sessionImplementor) {
+			SessionImplementor sessionImplementor, int initializationBatchSize) {
 		this.typeContextProvider = typeContextProvider;
 		this.sessionImplementor = sessionImplementor;
+		this.initializationBatchSize = initializationBatchSize;
 	}
 
 	@Override
@@ -60,4 +69,31 @@ public Object unproxy(Object value) {
 		return value;
 	}
 
+	@Override
+	public void initialize(Collection<?> entities) {
+		// Use a LinkedHashMap for deterministic iteration
+		Map<String, List<Serializable>> uninitializedIdsByEntityName = new LinkedHashMap<>();
+		for ( Object entity : entities ) {
+			if ( !( entity instanceof HibernateProxy ) ) {
+				continue;
+			}
+			LazyInitializer lazyInitializer = ( (HibernateProxy) entity ).getHibernateLazyInitializer();
+			if ( !lazyInitializer.isUninitialized() || lazyInitializer.getSession() != sessionImplementor ) {
+				// Proxies from other sessions will be reassociated one by one in unproxy()
+				continue;
+			}
+			uninitializedIdsByEntityName.computeIfAbsent( lazyInitializer.getEntityName(), ignored -> new ArrayList<>() )
+					.add( lazyInitializer.getIdentifier() );
+		}
+		for ( Map.Entry<String, List<Serializable>> entry : uninitializedIdsByEntityName.entrySet() ) {
+			/*
+			 * Loading the entities puts them in the persistence context,
+			 * so the proxies will be initialized without hitting the database in unproxy().
+			 */
+			sessionImplementor.byMultipleIds( entry.getKey() )
+					.withBatchSize( initializationBatchSize )
+					.multiLoad( entry.getValue() );
+		}
+	}
+
 }
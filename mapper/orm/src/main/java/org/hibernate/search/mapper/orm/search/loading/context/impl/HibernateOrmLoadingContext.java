@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
@@ -35,12 +36,16 @@
 
 	private final MutableEntityLoadingOptions loadingOptions;
 
+	private final Executor loadingExecutor;
+
 	private HibernateOrmLoadingContext(SessionImplementor sessionImplementor,
 			ProjectionHitMapper<EntityReference, E> projectionHitMapper,
-			MutableEntityLoadingOptions loadingOptions) {
+			MutableEntityLoadingOptions loadingOptions,
+			Executor loadingExecutor) {
 		this.sessionImplementor = sessionImplementor;
 		this.projectionHitMapper = projectionHitMapper;
 		this.loadingOptions = loadingOptions;
+		this.loadingExecutor = loadingExecutor;
 	}
 
 	@Override
@@ -55,6 +60,26 @@ public ProjectionHitMapper<EntityReference, E> getProjectionHitMapper() {
 		return projectionHitMapper;
 	}
 
+	@Override
+	public Executor getLoadingExecutor() {
+		/*
+		 * A JTA transaction is bound to the thread that started it:
+		 * loading in another thread would happen outside of the transaction,
+		 * without the connection enlisted in that transaction.
+		 */
+		if ( sessionImplementor.getTransactionCoordinator().getTransactionCoordinatorBuilder().isJta()
+				&& sessionImplementor.isTransactionInProgress() ) {
+			throw log.asyncLoadingWithJtaTransaction();
+		}
+		/*
+		 * Loading entities involves blocking database accesses:
+		 * don't load in backend threads, use a dedicated thread pool.
+		 * The session is not accessed concurrently, since users are not supposed to use it
+		 * until loading completes.
+		 */
+		return loadingExecutor;
+	}
+
 	public SessionImplementor getSessionImplementor() {
 		return sessionImplementor;
 	}
@@ -65,6 +90,7 @@ public MutableEntityLoadingOptions getLoadingOptions() {
 
 	public static final class Builder<E>
 			implements LoadingContextBuilder<EntityReference, E, SearchLoadingOptionsStep>, SearchLoadingOptionsStep {
+		private final HibernateOrmLoadingMappingContext mappingContext;
 		private final HibernateOrmLoadingSessionContext sessionContext;
 		private final EntityLoaderBuilder<E> entityLoaderBuilder;
 		private final MutableEntityLoadingOptions loadingOptions;
@@ -72,6 +98,7 @@ public MutableEntityLoadingOptions getLoadingOptions() {
 		public Builder(HibernateOrmLoadingMappingContext mappingContext,
 				HibernateOrmLoadingSessionContext sessionContext,
 				Set<HibernateOrmScopeIndexedTypeContext<? extends E>> indexedTypeContexts) {
+			this.mappingContext = mappingContext;
 			this.sessionContext = sessionContext;
 			this.entityLoaderBuilder = new EntityLoaderBuilder<>( mappingContext, sessionContext, indexedTypeContexts );
 			this.loadingOptions = new MutableEntityLoadingOptions( mappingContext );
@@ -103,7 +130,8 @@ public LoadingContext<EntityReference, E> build() {
 			return new HibernateOrmLoadingContext<>(
 					sessionContext.getSession(),
 					projectionHitMapper,
-					loadingOptions
+					loadingOptions,
+					mappingContext.getAsyncLoadingExecutor()
 			);
 		}
 	}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.orm.search.loading.impl;
 
+import java.util.concurrent.Executor;
+
 import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
 
 public interface HibernateOrmLoadingMappingContext {
@@ -14,4 +16,6 @@ public interface HibernateOrmLoadingMappingContext {
 
 	int getFetchSize();
 
+	Executor getAsyncLoadingExecutor();
+
 }
@@ -14,6 +14,7 @@
 import javax.persistence.EntityManager;
 
 import org.hibernate.Session;
+import org.hibernate.search.engine.search.query.SearchMultiQuery;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.mapper.orm.automaticindexing.session.AutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.schema.management.SearchSchemaManager;
@@ -63,6 +64,15 @@ default <T> HibernateOrmSearchQuerySelectStep<T> search(Class<T> type) {
 	 */
 	<T> HibernateOrmSearchQuerySelectStep<T> search(SearchScope<T> scope);
 
+	/**
+	 * Initiate the building of a multi-query,
+	 * i.e. a group of search queries executed together in as few round-trips to the backends as possible.
+	 *
+	 * @return A new, empty {@link SearchMultiQuery}.
+	 * @see SearchMultiQuery
+	 */
+	SearchMultiQuery multiSearch();
+
 	/**
 	 * Create a {@link SearchSchemaManager} for all indexes.
 	 *
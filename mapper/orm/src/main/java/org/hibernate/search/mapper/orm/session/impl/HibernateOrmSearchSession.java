@@ -24,6 +24,8 @@
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.common.spi.DocumentReferenceConverter;
+import org.hibernate.search.engine.search.query.SearchMultiQuery;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchMultiQuery;
 import org.hibernate.search.mapper.orm.automaticindexing.session.impl.ConfiguredAutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.EntityReferenceImpl;
@@ -144,6 +146,11 @@ private <T> HibernateOrmSearchQuerySelectStep<T> search(SearchScopeImpl<T> scope
 		return scope.search( this );
 	}
 
+	@Override
+	public SearchMultiQuery multiSearch() {
+		return new SimpleSearchMultiQuery();
+	}
+
 	@Override
 	public SearchSchemaManager schemaManager(Collection<? extends Class<?>> types) {
 		return scope( types ).schemaManager();
@@ -376,19 +383,23 @@ public static class Builder {
 		private final HibernateOrmSessionTypeContextProvider typeContextProvider;
 		private final SessionImplementor sessionImplementor;
 		private final AutomaticIndexingSynchronizationStrategy automaticIndexingSynchronizationStrategy;
+		private final int automaticIndexingLoadingBatchSize;
 
 		public Builder(HibernateOrmSearchSessionMappingContext mappingContext,
 				HibernateOrmSessionTypeContextProvider typeContextProvider,
 				SessionImplementor sessionImplementor,
-				AutomaticIndexingSynchronizationStrategy automaticIndexingSynchronizationStrategy) {
+				AutomaticIndexingSynchronizationStrategy automaticIndexingSynchronizationStrategy,
+				int automaticIndexingLoadingBatchSize) {
 			this.mappingContext = mappingContext;
 			this.typeContextProvider = typeContextProvider;
 			this.sessionImplementor = sessionImplementor;
 			this.automaticIndexingSynchronizationStrategy = automaticIndexingSynchronizationStrategy;
+			this.automaticIndexingLoadingBatchSize = automaticIndexingLoadingBatchSize;
 		}
 
 		private HibernateOrmRuntimeIntrospector buildRuntimeIntrospector() {
-			return new HibernateOrmRuntimeIntrospector( typeContextProvider, sessionImplementor );
+			return new HibernateOrmRuntimeIntrospector( typeContextProvider, sessionImplementor,
+					automaticIndexingLoadingBatchSize );
 		}
 
 		public HibernateOrmSearchSession build() {
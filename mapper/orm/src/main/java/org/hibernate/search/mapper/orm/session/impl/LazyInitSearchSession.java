@@ -13,6 +13,7 @@
 
 import org.hibernate.Session;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.search.query.SearchMultiQuery;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.orm.schema.management.SearchSchemaManager;
 import org.hibernate.search.mapper.orm.scope.SearchScope;
@@ -50,6 +51,11 @@ public <T> HibernateOrmSearchQuerySelectStep<T> search(SearchScope<T> scope) {
 		return getDelegate().search( scope );
 	}
 
+	@Override
+	public SearchMultiQuery multiSearch() {
+		return getDelegate().multiSearch();
+	}
+
 	@Override
 	public SearchSchemaManager schemaManager(Collection<? extends Class<?>> types) {
 		return getDelegate().schemaManager( types );
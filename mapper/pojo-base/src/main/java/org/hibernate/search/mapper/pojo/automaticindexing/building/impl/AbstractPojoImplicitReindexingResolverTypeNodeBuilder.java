@@ -87,16 +87,16 @@ final <S> Optional<PojoImplicitReindexingResolverNode<T, S>> doBuild(PojoPathFil
 			Set<PojoModelPathValueNode> allPotentialDirtyPaths) {
 		checkFrozen();
 
-		Collection<PojoImplicitReindexingResolverNode<? super U, S>> immutableNestedNodes = new ArrayList<>();
-		markingNodeBuilder.build( pathFilterFactory, allPotentialDirtyPaths )
-				.ifPresent( immutableNestedNodes::add );
+		Optional<PojoImplicitReindexingResolverNode<U, S>> markingNode =
+				markingNodeBuilder.build( pathFilterFactory, allPotentialDirtyPaths );
+		Collection<PojoImplicitReindexingResolverNode<? super U, S>> immutablePropertyNodes = new ArrayList<>();
 		propertyNodeBuilders.values().stream()
 				.map( builder -> builder.build( pathFilterFactory, allPotentialDirtyPaths ) )
 				.filter( Optional::isPresent )
 				.map( Optional::get )
-				.forEach( immutableNestedNodes::add );
+				.forEach( immutablePropertyNodes::add );
 
-		if ( immutableNestedNodes.isEmpty() ) {
+		if ( !markingNode.isPresent() && immutablePropertyNodes.isEmpty() ) {
 			/*
 			 * If this resolver doesn't delegate to anything, it won't resolve to anything,
 			 * thus it is useless and we don't need to build it
@@ -104,12 +104,13 @@ final <S> Optional<PojoImplicitReindexingResolverNode<T, S>> doBuild(PojoPathFil
 			return Optional.empty();
 		}
 		else {
-			return Optional.of( doBuild( immutableNestedNodes ) );
+			return Optional.of( doBuild( markingNode, immutablePropertyNodes ) );
 		}
 	}
 
 	abstract <S> PojoImplicitReindexingResolverNode<T, S> doBuild(
-			Collection<PojoImplicitReindexingResolverNode<? super U, S>> immutableNestedNodes);
+			Optional<PojoImplicitReindexingResolverNode<U, S>> markingNode,
+			Collection<PojoImplicitReindexingResolverNode<? super U, S>> immutablePropertyNodes);
 
 	private PojoImplicitReindexingResolverPropertyNodeBuilder<U, ?> getOrCreatePropertyBuilder(String propertyName) {
 		return propertyNodeBuilders.computeIfAbsent( propertyName, this::createPropertyBuilder );
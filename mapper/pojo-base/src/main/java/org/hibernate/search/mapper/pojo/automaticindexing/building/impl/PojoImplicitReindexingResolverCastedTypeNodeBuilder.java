@@ -6,7 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.automaticindexing.building.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Optional;
 
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverNode;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverCastedTypeNode;
@@ -22,7 +24,12 @@
 
 	@Override
 	<S> PojoImplicitReindexingResolverNode<T, S> doBuild(
-			Collection<PojoImplicitReindexingResolverNode<? super U, S>> immutableNestedNodes) {
+			Optional<PojoImplicitReindexingResolverNode<U, S>> markingNode,
+			Collection<PojoImplicitReindexingResolverNode<? super U, S>> immutablePropertyNodes) {
+		// Casting requires the actual type of the input: the marking node is handled like other nested nodes.
+		Collection<PojoImplicitReindexingResolverNode<? super U, S>> immutableNestedNodes = new ArrayList<>();
+		markingNode.ifPresent( immutableNestedNodes::add );
+		immutableNestedNodes.addAll( immutablePropertyNodes );
 		return new PojoImplicitReindexingResolverCastedTypeNode<>(
 				getTypeModel().getRawType().getCaster(), immutableNestedNodes
 		);
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.pojo.automaticindexing.building.impl;
 
 import java.util.Collection;
+import java.util.Optional;
 
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverNode;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverOriginalTypeNode;
@@ -22,9 +23,10 @@
 
 	@Override
 	<S> PojoImplicitReindexingResolverNode<T, S> doBuild(
-			Collection<PojoImplicitReindexingResolverNode<? super T, S>> immutableNestedNodes) {
+			Optional<PojoImplicitReindexingResolverNode<T, S>> markingNode,
+			Collection<PojoImplicitReindexingResolverNode<? super T, S>> immutablePropertyNodes) {
 		return new PojoImplicitReindexingResolverOriginalTypeNode<>(
-				immutableNestedNodes
+				markingNode.orElse( null ), immutablePropertyNodes
 		);
 	}
 }
@@ -18,23 +18,31 @@
  * This node may delegate to a {@link PojoImplicitReindexingResolverMarkingNode marking node}
  * to mark the input as "to reindex" as well as delegate  to
  * {@link PojoImplicitReindexingResolverPropertyNode property nodes} for deeper resolution.
+ * <p>
+ * Only property nodes require the input to be unproxied:
+ * proxies are marked as "to reindex" as-is, so that they can be initialized in batches later.
  *
  * @param <T> The type of "dirty" objects received as input.
  * @param <S> The expected type of the object describing the "dirtiness state".
  */
 public class PojoImplicitReindexingResolverOriginalTypeNode<T, S> extends PojoImplicitReindexingResolverNode<T, S> {
 
-	private final Collection<PojoImplicitReindexingResolverNode<? super T, S>> nestedNodes;
+	// Null if this node doesn't mark its input as "to reindex"
+	private final PojoImplicitReindexingResolverNode<? super T, S> markingNode;
+	private final Collection<PojoImplicitReindexingResolverNode<? super T, S>> propertyNodes;
 
 	public PojoImplicitReindexingResolverOriginalTypeNode(
-			Collection<PojoImplicitReindexingResolverNode<? super T, S>> nestedNodes) {
-		this.nestedNodes = nestedNodes;
+			PojoImplicitReindexingResolverNode<? super T, S> markingNode,
+			Collection<PojoImplicitReindexingResolverNode<? super T, S>> propertyNodes) {
+		this.markingNode = markingNode;
+		this.propertyNodes = propertyNodes;
 	}
 
 	@Override
 	public void close() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
-			closer.pushAll( PojoImplicitReindexingResolverNode::close, nestedNodes );
+			closer.push( PojoImplicitReindexingResolverNode::close, markingNode );
+			closer.pushAll( PojoImplicitReindexingResolverNode::close, propertyNodes );
 		}
 	}
 
@@ -42,7 +50,10 @@ public void close() {
 	public void appendTo(ToStringTreeBuilder builder) {
 		builder.attribute( "class", getClass().getSimpleName() );
 		builder.startList( "nestedNodes" );
-		for ( PojoImplicitReindexingResolverNode<?, ?> node : nestedNodes ) {
+		if ( markingNode != null ) {
+			builder.value( markingNode );
+		}
+		for ( PojoImplicitReindexingResolverNode<?, ?> node : propertyNodes ) {
 			builder.value( node );
 		}
 		builder.endList();
@@ -52,8 +63,14 @@ public void appendTo(ToStringTreeBuilder builder) {
 	@SuppressWarnings("unchecked") // As long as T is not a proxy-specific interface, it will also be implemented by the unproxified object
 	public void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			PojoRuntimeIntrospector runtimeIntrospector, T dirty, S dirtinessState) {
+		if ( markingNode != null ) {
+			markingNode.resolveEntitiesToReindex( collector, runtimeIntrospector, dirty, dirtinessState );
+		}
+		if ( propertyNodes.isEmpty() ) {
+			return;
+		}
 		dirty = (T) runtimeIntrospector.unproxy( dirty );
-		for ( PojoImplicitReindexingResolverNode<? super T, S> node : nestedNodes ) {
+		for ( PojoImplicitReindexingResolverNode<? super T, S> node : propertyNodes ) {
 			node.resolveEntitiesToReindex( collector, runtimeIntrospector, dirty, dirtinessState );
 		}
 	}
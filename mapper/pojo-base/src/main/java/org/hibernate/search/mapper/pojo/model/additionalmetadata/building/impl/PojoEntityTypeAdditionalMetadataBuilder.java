@@ -8,12 +8,11 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Optional;
-import java.util.Set;
 
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.building.spi.PojoAdditionalMetadataCollectorEntityTypeNode;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoEntityTypeAdditionalMetadata;
-import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathsDefinition;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -23,15 +22,15 @@ class PojoEntityTypeAdditionalMetadataBuilder implements PojoAdditionalMetadataC
 
 	private final PojoTypeAdditionalMetadataBuilder rootBuilder;
 	private final String entityName;
-	private final PojoPathFilterFactory<Set<String>> pathFilterFactory;
+	private final PojoPathsDefinition pathsDefinition;
 	private String entityIdPropertyName;
 
 	PojoEntityTypeAdditionalMetadataBuilder(PojoTypeAdditionalMetadataBuilder rootBuilder,
 			String entityName,
-			PojoPathFilterFactory<Set<String>> pathFilterFactory) {
+			PojoPathsDefinition pathsDefinition) {
 		this.rootBuilder = rootBuilder;
 		this.entityName = entityName;
-		this.pathFilterFactory = pathFilterFactory;
+		this.pathsDefinition = pathsDefinition;
 	}
 
 	@Override
@@ -58,7 +57,7 @@ public void entityIdPropertyName(String propertyName) {
 	public PojoEntityTypeAdditionalMetadata build() {
 		return new PojoEntityTypeAdditionalMetadata(
 				entityName,
-				pathFilterFactory,
+				pathsDefinition,
 				Optional.ofNullable( entityIdPropertyName )
 		);
 	}
@@ -6,21 +6,26 @@
  */
 package org.hibernate.search.mapper.pojo.model.additionalmetadata.impl;
 
+import java.util.BitSet;
 import java.util.Optional;
-import java.util.Set;
 
+import org.hibernate.search.mapper.pojo.model.path.impl.BitSetPojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.model.path.impl.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathsDefinition;
 
 public class PojoEntityTypeAdditionalMetadata {
 	private final String entityName;
-	private final PojoPathFilterFactory<Set<String>> pathFilterFactory;
+	private final PojoPathOrdinals pathOrdinals;
+	private final PojoPathFilterFactory<BitSet> pathFilterFactory;
 	private final Optional<String> entityIdPropertyName;
 
 	public PojoEntityTypeAdditionalMetadata(String entityName,
-			PojoPathFilterFactory<Set<String>> pathFilterFactory,
+			PojoPathsDefinition pathsDefinition,
 			Optional<String> entityIdPropertyName) {
 		this.entityName = entityName;
-		this.pathFilterFactory = pathFilterFactory;
+		this.pathOrdinals = new PojoPathOrdinals();
+		this.pathFilterFactory = new BitSetPojoPathFilterFactory( pathsDefinition, pathOrdinals );
 		this.entityIdPropertyName = entityIdPropertyName;
 	}
 
@@ -28,10 +33,18 @@ public String getEntityName() {
 		return entityName;
 	}
 
+	/**
+	 * @return The path ordinals for this type,
+	 * populated as path filters are created by {@link #getPathFilterFactory() the path filter factory}.
+	 */
+	public PojoPathOrdinals getPathOrdinals() {
+		return pathOrdinals;
+	}
+
 	/**
 	 * @return A path filter factory for this type.
 	 */
-	public PojoPathFilterFactory<Set<String>> getPathFilterFactory() {
+	public PojoPathFilterFactory<BitSet> getPathFilterFactory() {
 		return pathFilterFactory;
 	}
 
@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.impl;
+
+import java.util.BitSet;
+
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
+
+/**
+ * A filter expecting a set of path ordinals, as assigned by {@link PojoPathOrdinals}.
+ * <p>
+ * Testing a set of paths is a single bitwise operation.
+ */
+public final class BitSetPojoPathFilter implements PojoPathFilter<BitSet> {
+
+	private final PojoPathOrdinals ordinals;
+	private final BitSet acceptedPaths;
+
+	BitSetPojoPathFilter(PojoPathOrdinals ordinals, BitSet acceptedPaths) {
+		this.ordinals = ordinals;
+		this.acceptedPaths = acceptedPaths;
+	}
+
+	@Override
+	public boolean test(BitSet paths) {
+		// Return true if the sets have at least one path in common
+		return acceptedPaths.intersects( paths );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + ordinals.toPaths( acceptedPaths ) + "]";
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.impl;
+
+import java.util.BitSet;
+import java.util.Set;
+
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathsDefinition;
+import org.hibernate.search.util.common.impl.CollectionHelper;
+
+/**
+ * A factory for {@link BitSetPojoPathFilter} instances,
+ * relying on a {@link PojoPathsDefinition} to interpret paths
+ * and on {@link PojoPathOrdinals} to turn them into bitsets.
+ */
+public final class BitSetPojoPathFilterFactory implements PojoPathFilterFactory<BitSet> {
+
+	private final PojoPathsDefinition pathsDefinition;
+	private final PojoPathOrdinals ordinals;
+
+	public BitSetPojoPathFilterFactory(PojoPathsDefinition pathsDefinition, PojoPathOrdinals ordinals) {
+		this.pathsDefinition = pathsDefinition;
+		this.ordinals = ordinals;
+	}
+
+	@Override
+	public PojoPathFilter<BitSet> create(Set<PojoModelPathValueNode> paths) {
+		// Use a LinkedHashSet for deterministic ordinal assignment
+		Set<String> pathsAsStrings = CollectionHelper.newLinkedHashSet( paths.size() );
+		pathsDefinition.interpretPaths( pathsAsStrings, paths );
+		BitSet acceptedPaths = new BitSet();
+		for ( String path : pathsAsStrings ) {
+			acceptedPaths.set( ordinals.toOrdinal( path ) );
+		}
+		return new BitSetPojoPathFilter( ordinals, acceptedPaths );
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.impl;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A registry of ordinals assigned to the string representation of paths of a given entity type.
+ * <p>
+ * Ordinals are assigned at bootstrap, when path filters are created.
+ * Afterwards, this object is only read from, and can safely be shared between threads.
+ */
+public final class PojoPathOrdinals {
+
+	private final Map<String, Integer> ordinalByPath = new HashMap<>();
+	private final List<String> pathByOrdinal = new ArrayList<>();
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + pathByOrdinal + "]";
+	}
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal of this path, assigned by this call if no ordinal was assigned yet.
+	 */
+	public int toOrdinal(String path) {
+		Integer ordinal = ordinalByPath.get( path );
+		if ( ordinal == null ) {
+			ordinal = pathByOrdinal.size();
+			pathByOrdinal.add( path );
+			ordinalByPath.put( path, ordinal );
+		}
+		return ordinal;
+	}
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal of this path, or {@code null} if no ordinal was assigned,
+	 * which means no path filter will ever accept this path.
+	 */
+	public Integer toExistingOrdinal(String path) {
+		return ordinalByPath.get( path );
+	}
+
+	/**
+	 * @param ordinal An ordinal assigned by this object.
+	 * @return The string representation of the path with that ordinal.
+	 */
+	public String toPath(int ordinal) {
+		return pathByOrdinal.get( ordinal );
+	}
+
+	/**
+	 * @param ordinals A set of ordinals assigned by this object.
+	 * @return The string representation of the paths with those ordinals.
+	 */
+	public List<String> toPaths(BitSet ordinals) {
+		List<String> result = new ArrayList<>( ordinals.cardinality() );
+		for ( int i = ordinals.nextSetBit( 0 ); i >= 0; i = ordinals.nextSetBit( i + 1 ) ) {
+			result.add( toPath( i ) );
+		}
+		return result;
+	}
+
+}
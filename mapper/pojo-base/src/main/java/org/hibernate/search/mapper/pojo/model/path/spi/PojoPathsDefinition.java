@@ -0,0 +1,35 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.Set;
+
+import org.hibernate.search.mapper.pojo.extractor.mapping.programmatic.ContainerExtractorPath;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
+
+/**
+ * A definition of the string representation of paths for a given entity type,
+ * i.e. the representation used when reporting dirty paths to the indexing plan.
+ * <p>
+ * String representations are only used at bootstrap:
+ * Hibernate Search assigns an ordinal to each string representation
+ * and relies on bitsets of ordinals at runtime,
+ * so that dirty checking boils down to bitwise operations.
+ */
+public interface PojoPathsDefinition {
+
+	/**
+	 * @param target The set to which the string representations of the given paths should be added.
+	 * @param source The set of paths to interpret.
+	 * The set must be non-null and non-empty, and the elements must be non-null.
+	 * Container value extractor paths must be completely resolved:
+	 * {@link ContainerExtractorPath#defaultExtractors()} is an invalid value
+	 * that must never appear in the given paths.
+	 */
+	void interpretPaths(Set<String> target, Set<PojoModelPathValueNode> source);
+
+}
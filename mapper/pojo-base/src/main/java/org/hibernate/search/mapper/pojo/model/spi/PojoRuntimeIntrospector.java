@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.pojo.model.spi;
 
+import java.util.Collection;
+
 /**
  * A Pojo introspector used at runtime.
  */
@@ -28,6 +30,21 @@ public interface PojoRuntimeIntrospector {
 	 */
 	Object unproxy(Object value);
 
+	/**
+	 * Initialize the given entities if they are proxies,
+	 * loading as many of them as possible in each round-trip to the underlying datastore.
+	 * <p>
+	 * Called before reindexing entities because entities they contain were modified,
+	 * so that a large number of proxies is not initialized one by one when building documents.
+	 * <p>
+	 * The default implementation does nothing, assuming entities are never proxified.
+	 *
+	 * @param entities Instances or proxies of entities.
+	 */
+	default void initialize(Collection<?> entities) {
+		// Nothing to do by default
+	}
+
 	/**
 	 * @return A simple {@link PojoRuntimeIntrospector} that relies on the object's class to return entity types,
 	 * and assumes objects are not proxyfied.
@@ -30,6 +30,7 @@
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPathValueNode;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorIndexedEmbeddedNode;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorValueBridgeNode;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
@@ -157,6 +158,7 @@ private Collection<PojoIndexingProcessor<? super V>> doBuild(
 					.map( builder -> builder.build( valueDependencyCollector.type() ) )
 					.filter( Optional::isPresent )
 					.map( Optional::get )
+					.map( PojoIndexingProcessorIndexedEmbeddedNode::new )
 					.forEach( immutableNestedNodes::add );
 
 			if ( !immutableNestedNodes.isEmpty() ) {
@@ -7,7 +7,6 @@
 package org.hibernate.search.mapper.pojo.processing.impl;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
-import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
 import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
 
 class NoOpPojoIndexingProcessor extends PojoIndexingProcessor<Object> {
@@ -20,7 +19,7 @@ public static <T> PojoIndexingProcessor<T> get() {
 	}
 
 	@Override
-	public void process(DocumentElement target, Object source, PojoIndexingProcessorSessionContext sessionContext) {
+	public void process(DocumentElement target, Object source, PojoIndexingProcessorRootContext context) {
 		// No-op
 	}
 
@@ -7,7 +7,6 @@
 package org.hibernate.search.mapper.pojo.processing.impl;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
-import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
 import org.hibernate.search.util.common.impl.ToStringTreeAppendable;
 import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
 
@@ -27,7 +26,7 @@ public String toString() {
 	public void close() {
 	}
 
-	public abstract void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext);
+	public abstract void process(DocumentElement target, T source, PojoIndexingProcessorRootContext context);
 
 	public static <T> PojoIndexingProcessor<T> noOp() {
 		return NoOpPojoIndexingProcessor.get();
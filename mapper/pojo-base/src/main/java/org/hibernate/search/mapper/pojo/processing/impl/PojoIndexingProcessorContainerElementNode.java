@@ -11,7 +11,6 @@
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.mapper.pojo.extractor.impl.ContainerExtractorHolder;
-import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
 
@@ -53,15 +52,15 @@ public void appendTo(ToStringTreeBuilder builder) {
 	}
 
 	@Override
-	public final void process(DocumentElement target, C source, PojoIndexingProcessorSessionContext sessionContext) {
+	public final void process(DocumentElement target, C source, PojoIndexingProcessorRootContext context) {
 		try ( Stream<V> stream = extractorHolder.get().extract( source ) ) {
-			stream.forEach( sourceItem -> processItem( target, sourceItem, sessionContext ) );
+			stream.forEach( sourceItem -> processItem( target, sourceItem, context ) );
 		}
 	}
 
-	private void processItem(DocumentElement target, V sourceItem, PojoIndexingProcessorSessionContext sessionContext) {
+	private void processItem(DocumentElement target, V sourceItem, PojoIndexingProcessorRootContext context) {
 		for ( PojoIndexingProcessor<? super V> nestedNode : nestedNodes ) {
-			nestedNode.process( target, sourceItem, sessionContext );
+			nestedNode.process( target, sourceItem, context );
 		}
 	}
 
@@ -0,0 +1,51 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * A cache for the document content contributed by {@code @IndexedEmbedded} entities,
+ * so that an entity embedded in multiple root entities through the same embedding path
+ * only gets processed once.
+ * <p>
+ * Entries are keyed by the embedding node and by the <em>identity</em> of the embedded entity,
+ * and are never invalidated:
+ * the cache must be {@link #clear() cleared} as soon as embedded entities may have changed,
+ * or may no longer be referenced by root entities.
+ * <p>
+ * Not thread-safe.
+ */
+public final class PojoIndexingProcessorEmbeddedCache {
+
+	private final Map<PojoIndexingProcessor<?>, Map<Object, PojoIndexingProcessorRecordedDocumentElement>> contributions =
+			new HashMap<>();
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[embeddingNodes=" + contributions.size() + "]";
+	}
+
+	public void clear() {
+		contributions.clear();
+	}
+
+	PojoIndexingProcessorRecordedDocumentElement get(PojoIndexingProcessor<?> embeddingNode, Object embedded) {
+		Map<Object, PojoIndexingProcessorRecordedDocumentElement> nodeContributions =
+				contributions.get( embeddingNode );
+		return nodeContributions == null ? null : nodeContributions.get( embedded );
+	}
+
+	void put(PojoIndexingProcessor<?> embeddingNode, Object embedded,
+			PojoIndexingProcessorRecordedDocumentElement contribution) {
+		contributions.computeIfAbsent( embeddingNode, ignored -> new IdentityHashMap<>() )
+				.put( embedded, contribution );
+	}
+
+}
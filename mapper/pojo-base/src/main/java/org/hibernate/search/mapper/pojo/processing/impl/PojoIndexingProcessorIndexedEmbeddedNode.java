@@ -0,0 +1,53 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
+
+/**
+ * A node inside a {@link PojoIndexingProcessor} responsible for applying the processor of an {@code @IndexedEmbedded},
+ * or replaying its contributions from the {@link PojoIndexingProcessorEmbeddedCache} if the cache is enabled.
+ *
+ * @param <T> The processed type
+ */
+public class PojoIndexingProcessorIndexedEmbeddedNode<T> extends PojoIndexingProcessor<T> {
+
+	private final PojoIndexingProcessor<T> delegate;
+
+	public PojoIndexingProcessorIndexedEmbeddedNode(PojoIndexingProcessor<T> delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+
+	@Override
+	public void appendTo(ToStringTreeBuilder builder) {
+		builder.attribute( "class", getClass().getSimpleName() );
+		builder.attribute( "delegate", delegate );
+	}
+
+	@Override
+	public final void process(DocumentElement target, T source, PojoIndexingProcessorRootContext context) {
+		PojoIndexingProcessorEmbeddedCache cache = context.getEmbeddedCache();
+		if ( cache == null || source == null ) {
+			delegate.process( target, source, context );
+			return;
+		}
+		PojoIndexingProcessorRecordedDocumentElement contribution = cache.get( this, source );
+		if ( contribution == null ) {
+			contribution = new PojoIndexingProcessorRecordedDocumentElement();
+			delegate.process( contribution, source, context );
+			cache.put( this, source, contribution );
+		}
+		contribution.replayTo( target );
+	}
+
+}
@@ -11,7 +11,6 @@
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.mapper.pojo.bridge.PropertyBridge;
-import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
 import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
@@ -63,13 +62,13 @@ public void appendTo(ToStringTreeBuilder builder) {
 	}
 
 	@Override
-	public final void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext) {
+	public final void process(DocumentElement target, T source, PojoIndexingProcessorRootContext context) {
 		P propertyValue = handle.get( source );
 		for ( BeanHolder<? extends PropertyBridge> bridgeHolder : propertyBridgeHolders ) {
-			bridgeHolder.get().write( target, propertyValue, sessionContext.getPropertyBridgeWriteContext() );
+			bridgeHolder.get().write( target, propertyValue, context.getSessionContext().getPropertyBridgeWriteContext() );
 		}
 		for ( PojoIndexingProcessor<? super P> nestedNode : nestedNodes ) {
-			nestedNode.process( target, propertyValue, sessionContext );
+			nestedNode.process( target, propertyValue, context );
 		}
 	}
 }
@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+
+/**
+ * A {@link DocumentElement} that records contributed content,
+ * so that it can be replayed later on any number of other document elements.
+ */
+final class PojoIndexingProcessorRecordedDocumentElement implements DocumentElement {
+
+	private final List<Consumer<DocumentElement>> contributions = new ArrayList<>();
+
+	@Override
+	public <F> void addValue(IndexFieldReference<F> fieldReference, F value) {
+		contributions.add( target -> target.addValue( fieldReference, value ) );
+	}
+
+	@Override
+	public DocumentElement addObject(IndexObjectFieldReference fieldReference) {
+		PojoIndexingProcessorRecordedDocumentElement object = new PojoIndexingProcessorRecordedDocumentElement();
+		contributions.add( target -> object.replayTo( target.addObject( fieldReference ) ) );
+		return object;
+	}
+
+	@Override
+	public void addNullObject(IndexObjectFieldReference fieldReference) {
+		contributions.add( target -> target.addNullObject( fieldReference ) );
+	}
+
+	void replayTo(DocumentElement target) {
+		for ( Consumer<DocumentElement> contribution : contributions ) {
+			contribution.accept( target );
+		}
+	}
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
+
+/**
+ * Information and operations available to all nodes of a {@link PojoIndexingProcessor}
+ * while processing a root entity.
+ */
+public final class PojoIndexingProcessorRootContext {
+
+	private final PojoIndexingProcessorSessionContext sessionContext;
+	private final PojoIndexingProcessorEmbeddedCache embeddedCache;
+
+	/**
+	 * @param sessionContext The session context.
+	 * @param embeddedCache A cache for the contributions of {@code @IndexedEmbedded} entities,
+	 * or {@code null} to disable caching.
+	 */
+	public PojoIndexingProcessorRootContext(PojoIndexingProcessorSessionContext sessionContext,
+			PojoIndexingProcessorEmbeddedCache embeddedCache) {
+		this.sessionContext = sessionContext;
+		this.embeddedCache = embeddedCache;
+	}
+
+	public PojoIndexingProcessorSessionContext getSessionContext() {
+		return sessionContext;
+	}
+
+	PojoIndexingProcessorEmbeddedCache getEmbeddedCache() {
+		return embeddedCache;
+	}
+
+}
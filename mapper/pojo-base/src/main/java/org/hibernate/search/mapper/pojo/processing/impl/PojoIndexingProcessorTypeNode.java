@@ -12,7 +12,6 @@
 import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.mapper.pojo.bridge.TypeBridge;
-import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
 
@@ -63,21 +62,21 @@ public void appendTo(ToStringTreeBuilder builder) {
 
 	@Override
 	@SuppressWarnings("unchecked") // As long as T is not a proxy-specific interface, it will also be implemented by the unproxified object
-	public final void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext) {
+	public final void process(DocumentElement target, T source, PojoIndexingProcessorRootContext context) {
 		if ( source == null ) {
 			return;
 		}
-		source = (T) sessionContext.getRuntimeIntrospector().unproxy( source );
+		source = (T) context.getSessionContext().getRuntimeIntrospector().unproxy( source );
 		DocumentElement parentObject = target;
 		for ( IndexObjectFieldReference objectFieldReference : parentIndexObjectReferences ) {
 			parentObject = parentObject.addObject( objectFieldReference );
 		}
 		for ( BeanHolder<? extends TypeBridge> bridgeHolder : bridgeHolders ) {
-			bridgeHolder.get().write( parentObject, source, sessionContext.getTypeBridgeWriteContext() );
+			bridgeHolder.get().write( parentObject, source, context.getSessionContext().getTypeBridgeWriteContext() );
 		}
 		for ( PojoIndexingProcessorPropertyNode<? super T, ?> propertyNode : propertyNodes ) {
 			// Recursion here
-			propertyNode.process( parentObject, source, sessionContext );
+			propertyNode.process( parentObject, source, context );
 		}
 	}
 
@@ -10,7 +10,6 @@
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
-import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
 
@@ -47,8 +46,8 @@ public void appendTo(ToStringTreeBuilder builder) {
 	}
 
 	@Override
-	public void process(DocumentElement target, V source, PojoIndexingProcessorSessionContext sessionContext) {
-		F indexFieldValue = bridgeHolder.get().toIndexedValue( source, sessionContext.getMappingContext().getValueBridgeToIndexedValueContext() );
+	public void process(DocumentElement target, V source, PojoIndexingProcessorRootContext context) {
+		F indexFieldValue = bridgeHolder.get().toIndexedValue( source, context.getSessionContext().getMappingContext().getValueBridgeToIndexedValueContext() );
 		target.addValue( indexFieldReference, indexFieldValue );
 	}
 
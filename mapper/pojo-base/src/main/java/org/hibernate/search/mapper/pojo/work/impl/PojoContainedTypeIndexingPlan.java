@@ -7,10 +7,9 @@
 package org.hibernate.search.mapper.pojo.work.impl;
 
 import java.lang.invoke.MethodHandles;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
@@ -87,7 +86,7 @@ private class ContainedEntityIndexingPlan {
 
 		private boolean shouldResolveToReindex;
 		private boolean considerAllDirty;
-		private Set<String> dirtyPaths;
+		private BitSet dirtyPaths;
 
 		void add(Supplier<E> entitySupplier) {
 			this.entitySupplier = entitySupplier;
@@ -154,9 +153,13 @@ private void doUpdate(Supplier<E> entitySupplier) {
 
 		private void addDirtyPath(String dirtyPath) {
 			if ( dirtyPaths == null ) {
-				dirtyPaths = new HashSet<>();
+				dirtyPaths = new BitSet();
 			}
-			dirtyPaths.add( dirtyPath );
+			Integer ordinal = typeContext.getPathOrdinals().toExistingOrdinal( dirtyPath );
+			if ( ordinal != null ) {
+				dirtyPaths.set( ordinal );
+			}
+			// Else no path filter accepts this path: it cannot trigger reindexing, so we can ignore it.
 		}
 	}
 
@@ -11,6 +11,8 @@
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorEmbeddedCache;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorRootContext;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
 
 /**
@@ -20,19 +22,26 @@
 
 	private final PojoIndexingProcessor<E> processor;
 
-	private final PojoWorkSessionContext<?> sessionContext;
+	private final PojoIndexingProcessorRootContext processorContext;
 
 	private final Supplier<E> entitySupplier;
 
+	/**
+	 * @param processor The processor for the entity type.
+	 * @param sessionContext The session context.
+	 * @param embeddedCache A cache for the contributions of {@code @IndexedEmbedded} entities,
+	 * or {@code null} to disable caching.
+	 * @param entitySupplier A supplier of the entity to index.
+	 */
 	public PojoDocumentContributor(PojoIndexingProcessor<E> processor, PojoWorkSessionContext<?> sessionContext,
-			Supplier<E> entitySupplier) {
+			PojoIndexingProcessorEmbeddedCache embeddedCache, Supplier<E> entitySupplier) {
 		this.processor = processor;
-		this.sessionContext = sessionContext;
+		this.processorContext = new PojoIndexingProcessorRootContext( sessionContext, embeddedCache );
 		this.entitySupplier = entitySupplier;
 	}
 
 	@Override
 	public void contribute(DocumentElement state) {
-		processor.process( state, entitySupplier.get(), sessionContext );
+		processor.process( state, entitySupplier.get(), processorContext );
 	}
 }
@@ -7,11 +7,10 @@
 package org.hibernate.search.mapper.pojo.work.impl;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
@@ -149,7 +148,7 @@ private class IndexedEntityIndexingPlan {
 		private boolean shouldResolveToReindex;
 		private boolean considerAllDirty;
 		private boolean updatedBecauseOfContained;
-		private Set<String> dirtyPaths;
+		private BitSet dirtyPaths;
 
 		private IndexedEntityIndexingPlan(I identifier) {
 			this.identifier = identifier;
@@ -239,14 +238,14 @@ void sendCommandsToDelegate() {
 							dirtyPaths ) ) {
 						delegate.update(
 								typeContext.toDocumentReferenceProvider( sessionContext, identifier, entitySupplier ),
-								typeContext.toDocumentContributor( entitySupplier, sessionContext )
+								typeContext.toDocumentContributor( entitySupplier, sessionContext, null )
 						);
 					}
 				}
 				else {
 					delegate.add(
 							typeContext.toDocumentReferenceProvider( sessionContext, identifier, entitySupplier ),
-							typeContext.toDocumentContributor( entitySupplier, sessionContext )
+							typeContext.toDocumentContributor( entitySupplier, sessionContext, null )
 					);
 				}
 			}
@@ -275,9 +274,13 @@ private void doUpdate(Supplier<E> entitySupplier) {
 
 		private void addDirtyPath(String dirtyPath) {
 			if ( dirtyPaths == null ) {
-				dirtyPaths = new HashSet<>();
+				dirtyPaths = new BitSet();
 			}
-			dirtyPaths.add( dirtyPath );
+			Integer ordinal = typeContext.getPathOrdinals().toExistingOrdinal( dirtyPath );
+			if ( ordinal != null ) {
+				dirtyPaths.set( ordinal );
+			}
+			// Else no path filter accepts this path: it cannot trigger reindexing, so we can ignore it.
 		}
 	}
 
@@ -14,6 +14,7 @@
 
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorEmbeddedCache;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -27,6 +28,8 @@ public class PojoIndexerImpl implements PojoIndexer {
 
 	private final Map<PojoRawTypeIdentifier<?>, PojoTypeIndexer<?, ?>> typeExecutors = new HashMap<>();
 
+	private PojoIndexingProcessorEmbeddedCache embeddedCache;
+
 	public PojoIndexerImpl(PojoWorkIndexedTypeContextProvider indexedTypeContextProvider,
 			PojoWorkSessionContext<?> sessionContext) {
 		this.indexedTypeContextProvider = indexedTypeContextProvider;
@@ -41,7 +44,21 @@ public CompletableFuture<?> add(PojoRawTypeIdentifier<?> typeIdentifier, Object
 			typeExecutors.put( typeIdentifier, typeExecutor );
 		}
 
-		return typeExecutor.add( providedId, entity );
+		return typeExecutor.add( providedId, entity, embeddedCache );
+	}
+
+	@Override
+	public void enableEmbeddedCache() {
+		if ( embeddedCache == null ) {
+			embeddedCache = new PojoIndexingProcessorEmbeddedCache();
+		}
+	}
+
+	@Override
+	public void clearEmbeddedCache() {
+		if ( embeddedCache != null ) {
+			embeddedCache.clear();
+		}
 	}
 
 	private PojoTypeIndexer<?, ?> createTypeIndexer(PojoRawTypeIdentifier<?> typeIdentifier) {
@@ -39,6 +39,8 @@
 	// Use a LinkedHashMap for deterministic iteration
 	private final Map<PojoRawTypeIdentifier<?>, PojoIndexedTypeIndexingPlan<?, ?, R>> indexedTypeDelegates = new LinkedHashMap<>();
 	private final Map<PojoRawTypeIdentifier<?>, PojoContainedTypeIndexingPlan<?>> containedTypeDelegates = new LinkedHashMap<>();
+	// Entities (or proxies) to reindex because of contained entities, to be initialized in batches before reindexing
+	private final List<Object> containingEntitiesToReindex = new ArrayList<>();
 
 	private boolean isProcessing = false;
 
@@ -94,18 +96,20 @@ public void process() {
 		isProcessing = true;
 		try {
 			for ( PojoContainedTypeIndexingPlan<?> delegate : containedTypeDelegates.values() ) {
-				delegate.resolveDirty( this::updateBecauseOfContained );
+				delegate.resolveDirty( containingEntitiesToReindex::add );
 			}
 			// We need to iterate on a "frozen snapshot" of the indexedTypeDelegates values because of HSEARCH-3857
 			List<PojoIndexedTypeIndexingPlan<?, ?, ?>> frozenIndexedTypeDelegates = new ArrayList<>( indexedTypeDelegates.values() );
 			for ( PojoIndexedTypeIndexingPlan<?, ?, ?> delegate : frozenIndexedTypeDelegates ) {
-				delegate.resolveDirty( this::updateBecauseOfContained );
+				delegate.resolveDirty( containingEntitiesToReindex::add );
 			}
+			updateContainingEntitiesToReindex();
 			for ( PojoIndexedTypeIndexingPlan<?, ?, ?> delegate : indexedTypeDelegates.values() ) {
 				delegate.process();
 			}
 		}
 		finally {
+			containingEntitiesToReindex.clear();
 			isProcessing = false;
 		}
 	}
@@ -203,6 +207,20 @@ private AbstractPojoTypeIndexingPlan createDelegate(PojoRawTypeIdentifier<?> typ
 		);
 	}
 
+	private void updateContainingEntitiesToReindex() {
+		if ( containingEntitiesToReindex.isEmpty() ) {
+			return;
+		}
+		/*
+		 * Containing entities may be uninitialized proxies:
+		 * initialize them all at once rather than one by one when unproxying them below.
+		 */
+		getIntrospector().initialize( containingEntitiesToReindex );
+		for ( Object containingEntity : containingEntitiesToReindex ) {
+			updateBecauseOfContained( getIntrospector().unproxy( containingEntity ) );
+		}
+	}
+
 	private void updateBecauseOfContained(Object containingEntity) {
 		// TODO ignore the event when containingEntity has provided IDs
 		PojoRawTypeIdentifier<?> typeIdentifier = getIntrospector().getEntityTypeIdentifier( containingEntity );
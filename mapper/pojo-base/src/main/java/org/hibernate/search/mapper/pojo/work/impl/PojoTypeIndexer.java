@@ -11,6 +11,7 @@
 
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentReferenceProvider;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorEmbeddedCache;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
 
 public class PojoTypeIndexer<I, E> {
@@ -27,13 +28,15 @@ public PojoTypeIndexer(PojoWorkIndexedTypeContext<I, E> typeContext,
 		this.delegate = delegate;
 	}
 
-	CompletableFuture<?> add(Object providedId, Object entity) {
+	CompletableFuture<?> add(Object providedId, Object entity, PojoIndexingProcessorEmbeddedCache embeddedCache) {
 		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
 		I identifier = typeContext.getIdentifierMapping().getIdentifier( providedId, entitySupplier );
 		DocumentReferenceProvider referenceProvider = typeContext.toDocumentReferenceProvider(
 				sessionContext,
 				identifier, entitySupplier
 		);
-		return delegate.add( referenceProvider, typeContext.toDocumentContributor( entitySupplier, sessionContext ) );
+		return delegate.add( referenceProvider, typeContext.toDocumentContributor(
+				entitySupplier, sessionContext, embeddedCache
+		) );
 	}
 }
@@ -31,4 +31,24 @@ public interface PojoIndexer {
 	 */
 	CompletableFuture<?> add(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity);
 
+	/**
+	 * Enable caching of the document content contributed by {@code @IndexedEmbedded} entities.
+	 * <p>
+	 * When caching is enabled, an entity embedded in multiple indexed entities through the same embedding path
+	 * is only processed once, and the resulting content is copied to the documents of other indexed entities.
+	 * <p>
+	 * Cached content is keyed by entity <em>identity</em> and is never invalidated automatically:
+	 * callers must {@link #clearEmbeddedCache() clear the cache}
+	 * as soon as embedded entities may have changed,
+	 * and should clear it regularly to release memory, e.g. after each batch of entities.
+	 */
+	void enableEmbeddedCache();
+
+	/**
+	 * Clear the cache enabled through {@link #enableEmbeddedCache()}.
+	 * <p>
+	 * Does nothing if the cache is not enabled.
+	 */
+	void clearEmbeddedCache();
+
 }
@@ -43,6 +43,12 @@ public static void assertPositiveOrZero(int number, String objectDescription) {
 		}
 	}
 
+	public static void assertPositiveOrZero(long number, String objectDescription) {
+		if ( number < 0 ) {
+			throw log.mustBePositiveOrZero( objectDescription );
+		}
+	}
+
 	public static void assertStrictlyPositive(int number, String objectDescription) {
 		if ( number <= 0 ) {
 			throw log.mustBeStrictlyPositive( objectDescription );
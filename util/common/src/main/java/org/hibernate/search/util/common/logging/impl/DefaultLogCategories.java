@@ -21,4 +21,9 @@ private DefaultLogCategories() {
 	 */
 	public static final LogCategory QUERY = new LogCategory( "org.hibernate.search.query" );
 
+	/**
+	 * Category for logging search queries that took longer than the configured slow query thresholds.
+	 */
+	public static final LogCategory SLOW_QUERY = new LogCategory( "org.hibernate.search.query.slow" );
+
 }
@@ -7,6 +7,8 @@
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
@@ -60,11 +62,22 @@ public SearchResult<H> fetch(Integer offset, Integer limit) {
 		);
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		// The stub backend executes works synchronously, and loads as part of the execution.
+		return CompletableFuture.supplyAsync( () -> fetch( offset, limit ), loadingContext.getLoadingExecutor() );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
 		return backend.getBehavior().executeCountWork( indexNames );
 	}
 
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return CompletableFuture.completedFuture( fetchTotalHitCount() );
+	}
+
 	@Override
 	public void failAfter(long timeout, TimeUnit timeUnit) {
 		workBuilder.failAfter( timeout, timeUnit );
@@ -32,6 +32,8 @@ public static Builder builder(ResultType resultType) {
 	private final TimeUnit truncateAfterTimeUnit;
 	private final Long failAfterTimeout;
 	private final TimeUnit failAfterTimeUnit;
+	private final Long totalHitCountThreshold;
+	private final boolean profile;
 
 	private StubSearchWork(Builder builder) {
 		this.resultType = builder.resultType;
@@ -42,6 +44,8 @@ private StubSearchWork(Builder builder) {
 		this.truncateAfterTimeUnit = builder.truncateAfterTimeUnit;
 		this.failAfterTimeout = builder.failAfterTimeout;
 		this.failAfterTimeUnit = builder.failAfterTimeUnit;
+		this.totalHitCountThreshold = builder.totalHitCountThreshold;
+		this.profile = builder.profile;
 	}
 
 	public ResultType getResultType() {
@@ -68,6 +72,14 @@ public TimeUnit getFailAfterTimeUnit() {
 		return failAfterTimeUnit;
 	}
 
+	public Long getTotalHitCountThreshold() {
+		return totalHitCountThreshold;
+	}
+
+	public boolean isProfile() {
+		return profile;
+	}
+
 	public Integer getOffset() {
 		return offset;
 	}
@@ -87,6 +99,8 @@ public String toString() {
 				.add( "truncateAfterTimeUnit=" + truncateAfterTimeUnit )
 				.add( "failAfterTimeout=" + failAfterTimeout )
 				.add( "failAfterTimeUnit=" + failAfterTimeUnit )
+				.add( "totalHitCountThreshold=" + totalHitCountThreshold )
+				.add( "profile=" + profile )
 				.toString();
 	}
 
@@ -98,6 +112,8 @@ public static class Builder {
 		private TimeUnit truncateAfterTimeUnit;
 		private Long failAfterTimeout;
 		private TimeUnit failAfterTimeUnit;
+		private Long totalHitCountThreshold;
+		private boolean profile;
 		private Integer offset;
 		private Integer limit;
 
@@ -122,6 +138,16 @@ public Builder failAfter(long timeout, TimeUnit timeUnit) {
 			return this;
 		}
 
+		public Builder totalHitCountThreshold(long totalHitCountThreshold) {
+			this.totalHitCountThreshold = totalHitCountThreshold;
+			return this;
+		}
+
+		public Builder profile() {
+			this.profile = true;
+			return this;
+		}
+
 		public Builder offset(Integer offset) {
 			this.offset = offset;
 			return this;